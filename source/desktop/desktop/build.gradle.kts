@@ -21,6 +21,14 @@ val e2eTest: SourceSet by sourceSets.creating {
 val e2eTestImplementation: Configuration by configurations.getting
 e2eTestImplementation.extendsFrom(configurations.testImplementation.get())
 
+val benchmark: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+val benchmarkImplementation: Configuration by configurations.getting
+benchmarkImplementation.extendsFrom(configurations.testImplementation.get())
+
 dependencies {
     implementation("org.geogebra:common")
     implementation("org.geogebra:common-jre")
@@ -118,4 +126,12 @@ tasks {
         testClassesDirs = e2eTest.output.classesDirs
         classpath = e2eTest.runtimeClasspath
     }
+
+    register<Test>("benchmark") {
+        description = "Run benchmarks"
+        testClassesDirs = benchmark.output.classesDirs
+        classpath = benchmark.runtimeClasspath
+        testLogging.showStandardStreams = true
+        outputs.upToDateWhen { false }
+    }
 }
@@ -0,0 +1,74 @@
+package org.geogebra.cas;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.geogebra.common.jre.cas.giac.CASgiacJre;
+import org.geogebra.common.jre.headless.LocalizationCommon;
+import org.geogebra.common.util.debug.Log;
+import org.geogebra.desktop.headless.AppDNoGui;
+import org.geogebra.desktop.main.AppD;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Throughput of independent Giac evaluations depending on the number of
+ * threads, each thread leasing its own context from the pool.
+ */
+public class GiacContextPoolBenchmark {
+
+	private static final int EVALUATIONS = 200;
+
+	private AppDNoGui app = new AppDNoGui(new LocalizationCommon(3), false);
+
+	@Test
+	public void throughputByThreadCount() throws Exception {
+		Assume.assumeFalse(AppD.MAC_OS);
+		CASgiacJre cas = (CASgiacJre) app.getKernel().getGeoGebraCAS()
+				.getCurrentCAS();
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		List<String> expected = null;
+		try {
+			for (int threads = 1; threads <= maxThreads; threads *= 2) {
+				cas.setContextPoolSize(threads);
+				cas.clearCache();
+				long start = System.nanoTime();
+				List<String> results = evaluate(cas, threads);
+				long elapsed = System.nanoTime() - start;
+				if (expected == null) {
+					expected = results;
+				}
+				assertEquals(expected, results);
+				Log.debug(threads + " threads: "
+						+ (EVALUATIONS * 1E9 / elapsed) + " evaluations/s");
+			}
+		} finally {
+			cas.setContextPoolSize(0);
+		}
+	}
+
+	private static List<String> evaluate(CASgiacJre cas, int threads)
+			throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<String>> futures = new ArrayList<>();
+			for (int i = 0; i < EVALUATIONS; i++) {
+				// distinct inputs, so that the results are not shared
+				final String input = "expand((x+" + i + ")^2)";
+				futures.add(executor.submit(() -> cas.evaluateCAS(input)));
+			}
+			List<String> results = new ArrayList<>();
+			for (Future<String> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -14,6 +14,7 @@ import javax.swing.KeyStroke;
 import org.geogebra.common.geogebra3D.euclidian3D.printer3D.FormatCollada;
 import org.geogebra.common.geogebra3D.euclidian3D.printer3D.FormatColladaHTML;
 import org.geogebra.common.geogebra3D.euclidian3D.printer3D.FormatSTL;
+import org.geogebra.common.geogebra3D.euclidian3D.printer3D.FormatSTLBinary;
 import org.geogebra.common.util.FileExtensions;
 import org.geogebra.common.util.debug.Log;
 import org.geogebra.desktop.export.AnimationExportDialogD;
@@ -47,6 +48,7 @@ class FileMenuD extends BaseMenu {
 	private AbstractAction exportPSTricksAction;
 	private AbstractAction exportAsymptoteAction;
 	private AbstractAction exportSTLaction;
+	private AbstractAction exportSTLBinaryAction;
 	private AbstractAction exportColladaAction;
 	private AbstractAction exportColladaHTMLAction;
 	/** load from MAT item */
@@ -151,6 +153,7 @@ class FileMenuD extends BaseMenu {
 		submenu.add(exportPgfAction);
 		submenu.add(exportAsymptoteAction);
 		submenu.add(exportSTLaction);
+		submenu.add(exportSTLBinaryAction);
 
 		if (app.is3D()) {
 			submenu.add(exportColladaAction);
@@ -486,6 +489,21 @@ class FileMenuD extends BaseMenu {
 			}
 		};
 
+		exportSTLBinaryAction = new AbstractAction(
+				"STL (binary)" + Unicode.ELLIPSIS, app.getEmptyIcon()) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				try {
+					app.setExport3D(new FormatSTLBinary());
+				} catch (Exception ex) {
+					ex.printStackTrace();
+					Log.debug("Problem exporting to STL");
+				}
+			}
+		};
+
 		if (app.is3D()) {
 			exportColladaAction = new AbstractAction("Collada" + Unicode.ELLIPSIS,
 					app.getEmptyIcon()) {
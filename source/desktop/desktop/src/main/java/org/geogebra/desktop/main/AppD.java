@@ -43,6 +43,7 @@ import java.awt.event.WindowEvent;
 import java.awt.event.WindowListener;
 import java.awt.image.BufferedImage;
 import java.awt.image.MemoryImageSource;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
@@ -54,7 +55,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.RandomAccessFile;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -102,6 +105,8 @@ import org.geogebra.common.GeoGebraConstants.Platform;
 import org.geogebra.common.awt.GDimension;
 import org.geogebra.common.awt.GFont;
 import org.geogebra.common.awt.MyImage;
+import org.geogebra.common.cas.AsynchronousCASExecutor;
+import org.geogebra.common.cas.giac.CASgiacB;
 import org.geogebra.common.euclidian.EuclidianConstants;
 import org.geogebra.common.euclidian.EuclidianController;
 import org.geogebra.common.euclidian.EuclidianCursor;
@@ -124,12 +129,15 @@ import org.geogebra.common.io.XMLParseException;
 import org.geogebra.common.io.layout.DockPanelData;
 import org.geogebra.common.io.layout.Perspective;
 import org.geogebra.common.javax.swing.GImageIcon;
+import org.geogebra.common.jre.cas.giac.AsynchronousCASExecutorJre;
+import org.geogebra.common.jre.cas.giac.PersistentCASCache;
 import org.geogebra.common.jre.factory.FormatFactoryJre;
 import org.geogebra.common.jre.gui.MyImageJre;
 import org.geogebra.common.jre.headless.AppDI;
 import org.geogebra.common.jre.kernel.commands.CommandDispatcher3DJre;
 import org.geogebra.common.jre.main.TemplateHelper;
 import org.geogebra.common.jre.util.Base64;
+import org.geogebra.common.kernel.CASGenericInterface;
 import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.Kernel;
 import org.geogebra.common.kernel.Macro;
@@ -159,6 +167,7 @@ import org.geogebra.common.util.GTimerListener;
 import org.geogebra.common.util.LowerCaseDictionary;
 import org.geogebra.common.util.ManualPage;
 import org.geogebra.common.util.NormalizerMinimal;
+import org.geogebra.common.util.StreamExport;
 import org.geogebra.common.util.StringUtil;
 import org.geogebra.common.util.Util;
 import org.geogebra.common.util.debug.Log;
@@ -269,6 +278,9 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 	 */
 	public static final int MAX_RECENT_FILES = 8;
 
+	/** size limit of the file set by --casCache */
+	private static final long CAS_CACHE_MAX_BYTES = 64L << 20;
+
 	// ==============================================================
 	// RESOURCE fields
 	// ==============================================================
@@ -617,6 +629,9 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 			StringUtil.setPrototypeIfNull(new StringUtilD());
 		}
 
+		AsynchronousCASExecutor.setPrototypeIfNull(
+				new AsynchronousCASExecutorJre(SwingUtilities::invokeLater));
+
 	}
 
 	private static void handleHelpVersionArgs(CommandLineArguments args) {
@@ -659,6 +674,10 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 					+ "  --silent\tCompletely mute logging\n"
 					+ "  --prover=OPTIONS\tSet options for the prover subsystem "
 							+ "(use --proverhelp for more information)\n"
+					+ "  --asyncCAS=BOOLEAN\tevaluate CAS commands like Limit "
+							+ "in the background\n"
+					+ "  --casCache=FILENAME\tkeep CAS results in a file "
+							+ "between sessions\n"
 			);
 
 			AppD.exit(0);
@@ -691,6 +710,18 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 							+ " in object captions ["
 							+ proverSettings.captionAlgebra
 							+ "] (Botana only)\n"
+							+ "      nativegroebner:BOOLEAN\ttry to compute Groebner bases"
+							+ " without the CAS first ["
+							+ proverSettings.nativeGroebner
+							+ "]\n"
+							+ "      parallel:BOOLEAN\tcheck test points and NDG"
+							+ " candidates on several threads ["
+							+ proverSettings.parallel
+							+ "]\n"
+							+ "      paralleltimeout:SECS\ttime budget of one parallel"
+							+ " check (in seconds, 0 for the prover timeout) ["
+							+ proverSettings.parallelTimeout
+							+ "]\n"
 							+ "  Example: --prover=engine:Botana,timeout:10,"
 							+ "fpnevercoll:true,usefixcoords:43\n");
 			AppD.exit(0);
@@ -917,6 +948,18 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 			proverSettings.captionAlgebra = Boolean.parseBoolean(str[1]);
 			return;
 		}
+		if ("nativegroebner".equalsIgnoreCase(str[0])) {
+			proverSettings.nativeGroebner = Boolean.parseBoolean(str[1]);
+			return;
+		}
+		if ("parallel".equalsIgnoreCase(str[0])) {
+			proverSettings.parallel = Boolean.parseBoolean(str[1]);
+			return;
+		}
+		if ("paralleltimeout".equalsIgnoreCase(str[0])) {
+			proverSettings.parallelTimeout = Integer.parseInt(str[1]);
+			return;
+		}
 		Log.warn("Prover option not recognized: ".concat(option));
 	}
 
@@ -969,6 +1012,39 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 				setProverOption(proverOption);
 			}
 		}
+
+		if (args.containsArg("asyncCAS")) {
+			getKernel().setAsynchronousCAS(
+					args.getBooleanValue("asyncCAS", false));
+		}
+
+		String casCache = args.getStringValue("casCache");
+		if (!StringUtil.empty(casCache)) {
+			setPersistentCASCache(new File(casCache));
+		}
+	}
+
+	/**
+	 * Keeps CAS results in a file, so that they survive restarts.
+	 *
+	 * @param file
+	 *            cache file
+	 */
+	public void setPersistentCASCache(File file) {
+		CASGenericInterface cas = getKernel().getGeoGebraCAS()
+				.getCurrentCAS();
+		if (!(cas instanceof CASgiacB)) {
+			Log.warn("CAS cache needs Giac");
+			return;
+		}
+		CASgiacB giac = (CASgiacB) cas;
+		try {
+			giac.setResultStore(new PersistentCASCache(file,
+					PersistentCASCache.getDefaultVersionKey(giac, getKernel()),
+					CAS_CACHE_MAX_BYTES));
+		} catch (IOException e) {
+			Log.warn("CAS cache not available: " + e.getMessage());
+		}
 	}
 
 	// **************************************************************************
@@ -4663,6 +4739,33 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 			Log.debug(e);
 		}
 	}
+
+	@Override
+	public boolean exportStreamToFile(String ext, StreamExport export,
+			boolean showDialog) {
+		File exportFile = getGuiManager().showSaveDialog(FileExtensions.get(ext),
+				null, ext + " " + loc.getMenu("Files"), true, false);
+		if (exportFile == null) {
+			return true;
+		}
+		Log.debug("Export to " + exportFile.getName());
+		try {
+			byte[] header;
+			try (OutputStream out = new BufferedOutputStream(
+					new FileOutputStream(exportFile))) {
+				header = export.write(out);
+			}
+			if (header != null) {
+				try (RandomAccessFile file = new RandomAccessFile(exportFile,
+						"rw")) {
+					file.write(header);
+				}
+			}
+		} catch (IOException e) {
+			Log.debug(e);
+		}
+		return true;
+	}
 	
 	@Override
 	public void handleImageExport(String base64image) {
@@ -0,0 +1,123 @@
+package org.geogebra.cas;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.geogebra.common.jre.cas.giac.CASgiacJre;
+import org.geogebra.common.jre.headless.LocalizationCommon;
+import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.kernel.arithmetic.ValidExpression;
+import org.geogebra.desktop.headless.AppDNoGui;
+import org.geogebra.desktop.main.AppD;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Independent Giac evaluations on several threads, each thread leasing its own
+ * context from the pool.
+ */
+public class GiacContextPoolTest {
+
+	private AppDNoGui app = new AppDNoGui(new LocalizationCommon(3), false);
+
+	@Test
+	public void pooledEvaluationsShouldMatchSingleContext() throws Exception {
+		CASgiacJre cas = getCAS();
+		List<String> expected = evaluate(cas, 1, 8);
+		cas.setContextPoolSize(2);
+		cas.clearCache();
+		try {
+			assertEquals(2, cas.getContextPoolSize());
+			assertEquals(expected, evaluate(cas, 2, 8));
+		} finally {
+			cas.setContextPoolSize(0);
+		}
+	}
+
+	@Test
+	public void geoGebraEvaluationsShouldRunConcurrently() throws Exception {
+		CASgiacJre cas = getCAS();
+		Kernel kernel = app.getKernel();
+		List<ValidExpression> inputs = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			inputs.add(kernel.getParser()
+					.parseGeoGebraExpression("Expand((x+" + i + ")^2)"));
+		}
+		List<String> expected = new ArrayList<>();
+		for (ValidExpression input : inputs) {
+			expected.add(cas.evaluateGeoGebraCAS(input, null,
+					StringTemplate.defaultTemplate, null, kernel));
+		}
+		cas.setContextPoolSize(2);
+		cas.clearCache();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			List<Future<String>> futures = new ArrayList<>();
+			for (ValidExpression input : inputs) {
+				futures.add(executor.submit(() -> cas.evaluateGeoGebraCAS(
+						input, null, StringTemplate.defaultTemplate, null,
+						kernel)));
+			}
+			List<String> results = new ArrayList<>();
+			for (Future<String> future : futures) {
+				results.add(future.get(10, TimeUnit.SECONDS));
+			}
+			assertEquals(expected, results);
+		} finally {
+			executor.shutdown();
+			cas.setContextPoolSize(0);
+		}
+	}
+
+	@Test
+	public void backgroundEvaluationShouldNotWaitForKernel() throws Exception {
+		CASgiacJre cas = getCAS();
+		String expected = cas.evaluateCAS("expand((x+1)^3)");
+		cas.clearCache();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			// as while the kernel evaluates a command
+			synchronized (cas) {
+				Future<String> background = executor.submit(
+						() -> cas.evaluateCASInBackground("expand((x+1)^3)"));
+				assertEquals(expected, background.get(10, TimeUnit.SECONDS));
+			}
+			// evaluations of the kernel are not affected
+			assertEquals(0, cas.getContextPoolSize());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private CASgiacJre getCAS() {
+		Assume.assumeFalse(AppD.MAC_OS);
+		return (CASgiacJre) app.getKernel().getGeoGebraCAS().getCurrentCAS();
+	}
+
+	private static List<String> evaluate(CASgiacJre cas, int threads,
+			int evaluations) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<String>> futures = new ArrayList<>();
+			for (int i = 0; i < evaluations; i++) {
+				// distinct inputs, so that the results are not shared
+				final String input = "expand((x+" + i + ")^2)";
+				futures.add(executor.submit(() -> cas.evaluateCAS(input)));
+			}
+			List<String> results = new ArrayList<>();
+			for (Future<String> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
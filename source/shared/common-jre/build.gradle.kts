@@ -11,6 +11,16 @@ plugins {
 group = "org.geogebra"
 description = "Common parts of GeoGebra that depends on JRE support."
 
+val benchmark: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+val benchmarkImplementation: Configuration by configurations.getting
+benchmarkImplementation.extendsFrom(configurations.testImplementation.get())
+val benchmarkRuntimeOnly: Configuration by configurations.getting
+benchmarkRuntimeOnly.extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
     api(project(":common"))
     api(libs.mozilla.rhino)
@@ -50,6 +60,16 @@ tasks.test {
     ignoreFailures = true
 }
 
+tasks.register<Test>("benchmark") {
+    description = "Run benchmarks"
+    group = "verification"
+    testClassesDirs = benchmark.output.classesDirs
+    classpath = benchmark.runtimeClasspath
+    useJUnitPlatform()
+    testLogging.showStandardStreams = true
+    outputs.upToDateWhen { false }
+}
+
 val jacocoSources by configurations.creating {
     extendsFrom(configurations.implementation.get())
     attributes {
@@ -0,0 +1,42 @@
+package org.geogebra.common.gui.view.spreadsheet;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.geos.GeoList;
+import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.geogebra.common.util.debug.Log;
+import org.junit.Test;
+
+public class StreamingDataImportBenchmark extends BaseUnitTest {
+
+	@Test
+	public void largeImport() {
+		int rows = 200000;
+		StringBuilder sb = new StringBuilder("x,y\n");
+		for (int i = 0; i < rows; i++) {
+			sb.append(i).append(',').append(i * 0.25).append('\n');
+		}
+		String csv = sb.toString();
+		List<Integer> progress = new ArrayList<>();
+		long start = System.nanoTime();
+		StreamingDataImport dataImport = new StreamingDataImport(csv.length(),
+				(count, fraction) -> progress.add(count));
+		for (int i = 0; i < csv.length(); i += 1 << 16) {
+			dataImport.append(
+					csv.substring(i, Math.min(csv.length(), i + (1 << 16))));
+		}
+		dataImport.finish();
+		List<GeoList> lists = dataImport.createLists(getConstruction());
+		double seconds = (System.nanoTime() - start) / 1E9;
+		Log.debug("Streaming import: " + Math.round(rows / seconds)
+				+ " rows/s");
+		assertEquals(rows, lists.get(1).size());
+		assertEquals(rows, (int) progress.get(progress.size() - 1));
+		GeoNumeric mean = add("Mean(y)");
+		assertEquals(0.25 * (rows - 1) / 2, mean.getDouble(), 1E-9);
+	}
+}
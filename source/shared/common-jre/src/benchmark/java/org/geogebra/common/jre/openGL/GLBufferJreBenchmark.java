@@ -0,0 +1,41 @@
+package org.geogebra.common.jre.openGL;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.FloatBuffer;
+
+import org.geogebra.common.geogebra3D.euclidian3D.openGL.ReusableFloatArray;
+import org.junit.Test;
+
+public class GLBufferJreBenchmark {
+
+	@Test
+	public void largeSurfaceMesh() {
+		int size = 1024;
+		ReusableFloatArray vertices = new ReusableFloatArray();
+		ReusableFloatArray normals = new ReusableFloatArray();
+		GLBufferJre vertexBuffer = new GLBufferJre();
+		GLBufferJre normalBuffer = new GLBufferJre();
+		long start = System.nanoTime();
+		for (int pass = 0; pass < 5; pass++) {
+			vertices.setLength(0);
+			normals.setLength(0);
+			for (int i = 0; i < size; i++) {
+				for (int j = 0; j < size; j++) {
+					double u = i / (double) size;
+					double v = j / (double) size;
+					vertices.addValues(u, v, Math.sin(u * v));
+					normals.addValues(0, 0, 1);
+				}
+			}
+			vertexBuffer.set(vertices, vertices.getLength());
+			normalBuffer.set(normals, normals.getLength());
+		}
+		System.out.println("5 x " + size * size + " vertices: " // NOPMD
+				+ (System.nanoTime() - start) / 1000000 + "ms");
+		FloatBuffer result = vertexBuffer.getBuffer();
+		assertEquals(3 * size * size, result.limit());
+		assertEquals((float) Math.sin(0.5 * 0.25),
+				result.get(3 * (size / 2 * size + size / 4) + 2), 1E-6);
+	}
+}
@@ -0,0 +1,35 @@
+package org.geogebra.common.kernel.algos;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.geos.GeoList;
+import org.geogebra.common.util.debug.Log;
+import org.junit.Test;
+
+public class ElementExpressionEvaluatorBenchmark extends BaseUnitTest {
+
+	@Test
+	public void sequenceOfNumbers() {
+		int size = 1000000;
+		long start = System.nanoTime();
+		GeoList numbers = add("Sequence(sin(i / 1000) * i, i, 1, " + size + ")");
+		double seconds = (System.nanoTime() - start) / 1E9;
+		Log.debug("Sequence of numbers: " + Math.round(size / seconds) + " elements/s");
+		assertThat(numbers.size(), is(size));
+		assertThat(numbers.get(size - 1).evaluateDouble(), closeTo(Math.sin(1000) * size, 1E-6));
+	}
+
+	@Test
+	public void sequenceOfPoints() {
+		int size = 100000;
+		long start = System.nanoTime();
+		GeoList points = add("Sequence((i, i / 2), i, 1, " + size + ")");
+		double seconds = (System.nanoTime() - start) / 1E9;
+		Log.debug("Sequence of points: " + Math.round(size / seconds) + " elements/s");
+		assertThat(points.size(), is(size));
+		assertThat(points.get(size - 1), hasValue("(100000, 50000)"));
+	}
+}
@@ -0,0 +1,48 @@
+package org.geogebra.common.kernel.prover.polynomial;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.util.debug.Log;
+import org.junit.Test;
+
+public class NativeGroebnerBenchmark extends BaseUnitTest {
+
+	@Test
+	public void centroidLocus() {
+		PVariable x = new PVariable(getKernel());
+		PVariable y = new PVariable(getKernel());
+		PVariable z = new PVariable(getKernel());
+		PVariable t = new PVariable(getKernel());
+		// A = (x, y) on the unit circle, B = (2, 0), C = (0, 2),
+		// centroid G = (z, t)
+		PPolynomial[] polys = {
+				PPolynomial.sqr(p(x)).add(PPolynomial.sqr(p(y)))
+						.subtract(c(1)),
+				c(3).multiply(p(z)).subtract(p(x)).subtract(c(2)),
+				c(3).multiply(p(t)).subtract(p(y)).subtract(c(2)) };
+		PPolynomial expected = c(9).multiply(PPolynomial.sqr(p(z)))
+				.add(c(9).multiply(PPolynomial.sqr(p(t))))
+				.subtract(c(12).multiply(p(z)))
+				.subtract(c(12).multiply(p(t))).add(c(7));
+		HashSet<PVariable> keep = new HashSet<>(Arrays.asList(z, t));
+		int runs = 100;
+		long start = System.nanoTime();
+		for (int i = 0; i < runs; i++) {
+			assertEquals(expected, NativeGroebner.eliminate(polys, keep));
+		}
+		Log.debug("Native elimination: "
+				+ (System.nanoTime() - start) / 1000 / runs + " us per run");
+	}
+
+	private static PPolynomial p(PVariable var) {
+		return new PPolynomial(var);
+	}
+
+	private static PPolynomial c(long coeff) {
+		return new PPolynomial(coeff);
+	}
+}
@@ -0,0 +1,59 @@
+package org.geogebra.common.jre.cas.giac;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.geogebra.common.cas.AsynchronousCASExecutor;
+import org.geogebra.common.util.debug.Log;
+
+/**
+ * Runs CAS evaluations of asynchronous commands on a single daemon thread (so
+ * they are evaluated in submission order) and hands the callbacks to the
+ * kernel thread, e.g. the Swing event dispatch thread.
+ */
+public class AsynchronousCASExecutorJre extends AsynchronousCASExecutor {
+
+	private final Executor kernelThread;
+	private final ExecutorService background = Executors
+			.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "Asynchronous CAS");
+				thread.setDaemon(true);
+				thread.setUncaughtExceptionHandler(
+						(failed, t) -> Log.error(t));
+				return thread;
+			});
+
+	/**
+	 * @param kernelThread
+	 *            executor of the thread that owns the kernel
+	 */
+	public AsynchronousCASExecutorJre(Executor kernelThread) {
+		this.kernelThread = kernelThread;
+	}
+
+	@Override
+	public boolean isAsynchronous() {
+		return true;
+	}
+
+	@Override
+	public void submit(final Runnable evaluation, final Runnable callback) {
+		background.execute(() -> {
+			try {
+				evaluation.run();
+			} finally {
+				// the command must not wait forever; a failure of the
+				// evaluation itself reaches the thread's exception handler
+				kernelThread.execute(callback);
+			}
+		});
+	}
+
+	/**
+	 * Stops the background thread after pending evaluations.
+	 */
+	public void shutdown() {
+		background.shutdown();
+	}
+}
@@ -0,0 +1,252 @@
+package org.geogebra.common.jre.cas.giac;
+
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.geogebra.common.cas.error.TimeoutException;
+import org.geogebra.common.util.debug.Log;
+
+/**
+ * Runs CAS evaluations on reusable worker threads. Evaluations are cancelled
+ * cooperatively by Giac (timeout checked every few steps, see ckevery); if an
+ * evaluation doesn't return within the timeout and a grace period, its worker
+ * is abandoned (it exits once the evaluation returns) and replaced by a new
+ * one. Threads are never stopped, since that could leave Giac in a corrupted
+ * state.
+ */
+public class CASExecutor {
+
+	/** time given to Giac to notice its own timeout */
+	public static final long GRACE_MILLIS = 500;
+
+	private final String name;
+	private final int size;
+	private final BlockingQueue<Task> queue = new LinkedBlockingQueue<>();
+	private final ArrayList<Worker> workers = new ArrayList<>();
+	private int createdWorkers = 0;
+
+	// metrics, guarded by this
+	private long evaluations = 0;
+	private long timeouts = 0;
+	private long totalQueueNanos = 0;
+	private long maxQueueNanos = 0;
+	private long totalEvaluationNanos = 0;
+	private long maxEvaluationNanos = 0;
+
+	/**
+	 * Callback for evaluations that timed out.
+	 */
+	public interface TimeoutHandler {
+		/**
+		 * Called on the waiting thread, while the abandoned worker may still
+		 * be evaluating.
+		 *
+		 * @param worker
+		 *            abandoned worker thread
+		 */
+		void onTimeout(Thread worker);
+	}
+
+	private static final class Task {
+		final Runnable runnable;
+		final long submitted = System.nanoTime();
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(1);
+		volatile long startedNanos;
+		volatile Worker worker;
+
+		Task(Runnable runnable) {
+			this.runnable = runnable;
+		}
+	}
+
+	private final class Worker extends Thread {
+		volatile boolean abandoned = false;
+
+		Worker(String name) {
+			super(name);
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			while (!abandoned) {
+				Task task;
+				try {
+					task = queue.take();
+				} catch (InterruptedException e) {
+					break;
+				}
+				task.worker = this;
+				task.startedNanos = System.nanoTime();
+				task.started.countDown();
+				try {
+					task.runnable.run();
+				} catch (Throwable t) {
+					Log.debug("problem from CAS worker: " + t);
+				} finally {
+					task.done.countDown();
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param name
+	 *            prefix for worker thread names
+	 * @param size
+	 *            number of workers
+	 */
+	public CASExecutor(String name, int size) {
+		this.name = name;
+		this.size = Math.max(1, size);
+	}
+
+	/**
+	 * Runs the task on a worker and waits for it.
+	 *
+	 * @param runnable
+	 *            evaluation, should handle its own exceptions
+	 * @param timeoutMillis
+	 *            timeout of the evaluation (not including time in queue)
+	 * @param handler
+	 *            called if the evaluation times out
+	 * @throws TimeoutException
+	 *             if the evaluation didn't start or finish in time
+	 * @throws InterruptedException
+	 *             if the calling thread was interrupted
+	 */
+	public void execute(Runnable runnable, long timeoutMillis,
+			TimeoutHandler handler)
+			throws TimeoutException, InterruptedException {
+		ensureWorkers();
+		Task task = new Task(runnable);
+		queue.add(task);
+		// workers busy with an evaluation are abandoned after the same time
+		if (!task.started.await(timeoutMillis + GRACE_MILLIS,
+				TimeUnit.MILLISECONDS) && queue.remove(task)) {
+			record(System.nanoTime() - task.submitted, 0, true);
+			throw new TimeoutException("No Giac worker available");
+		}
+		task.started.await();
+		boolean finished = task.done.await(timeoutMillis + GRACE_MILLIS,
+				TimeUnit.MILLISECONDS);
+		long now = System.nanoTime();
+		record(task.startedNanos - task.submitted,
+				(finished ? now : task.startedNanos) - task.startedNanos,
+				!finished);
+		if (!finished) {
+			Worker worker = task.worker;
+			abandon(worker);
+			if (handler != null) {
+				handler.onTimeout(worker);
+			}
+			throw new TimeoutException("Thread timeout from Giac");
+		}
+	}
+
+	private synchronized void ensureWorkers() {
+		while (workers.size() < size) {
+			createdWorkers++;
+			Worker worker = new Worker(name + " worker " + createdWorkers);
+			workers.add(worker);
+			worker.start();
+		}
+	}
+
+	private synchronized void abandon(Worker worker) {
+		worker.abandoned = true;
+		workers.remove(worker);
+		Log.debug("CAS worker abandoned after timeout: " + worker.getName());
+	}
+
+	private synchronized void record(long queueNanos, long evaluationNanos,
+			boolean timeout) {
+		evaluations++;
+		if (timeout) {
+			timeouts++;
+		} else {
+			totalEvaluationNanos += evaluationNanos;
+			maxEvaluationNanos = Math.max(maxEvaluationNanos, evaluationNanos);
+		}
+		totalQueueNanos += queueNanos;
+		maxQueueNanos = Math.max(maxQueueNanos, queueNanos);
+	}
+
+	/**
+	 * Stops idle workers; workers busy with an evaluation stop after it.
+	 */
+	public synchronized void shutdown() {
+		for (Worker worker : workers) {
+			worker.abandoned = true;
+			worker.interrupt();
+		}
+		workers.clear();
+	}
+
+	/**
+	 * @return number of evaluations, including timeouts
+	 */
+	public synchronized long getEvaluationCount() {
+		return evaluations;
+	}
+
+	/**
+	 * @return number of evaluations that timed out
+	 */
+	public synchronized long getTimeoutCount() {
+		return timeouts;
+	}
+
+	/**
+	 * @return number of worker threads created so far (more than the size
+	 *         only if some were abandoned after a timeout)
+	 */
+	public synchronized int getCreatedWorkerCount() {
+		return createdWorkers;
+	}
+
+	/**
+	 * @return average time between submitting and starting an evaluation
+	 */
+	public synchronized double getAverageQueueMillis() {
+		return evaluations == 0 ? 0 : totalQueueNanos / 1E6 / evaluations;
+	}
+
+	/**
+	 * @return maximal time between submitting and starting an evaluation
+	 */
+	public synchronized double getMaxQueueMillis() {
+		return maxQueueNanos / 1E6;
+	}
+
+	/**
+	 * @return average duration of evaluations that didn't time out
+	 */
+	public synchronized double getAverageEvaluationMillis() {
+		long finished = evaluations - timeouts;
+		return finished == 0 ? 0 : totalEvaluationNanos / 1E6 / finished;
+	}
+
+	/**
+	 * @return maximal duration of evaluations that didn't time out
+	 */
+	public synchronized double getMaxEvaluationMillis() {
+		return maxEvaluationNanos / 1E6;
+	}
+
+	/**
+	 * Resets all metrics
+	 */
+	public synchronized void resetMetrics() {
+		evaluations = 0;
+		timeouts = 0;
+		totalQueueNanos = 0;
+		maxQueueNanos = 0;
+		totalEvaluationNanos = 0;
+		maxEvaluationNanos = 0;
+	}
+}
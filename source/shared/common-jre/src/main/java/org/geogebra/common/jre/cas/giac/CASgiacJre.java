@@ -4,7 +4,9 @@ import org.geogebra.common.cas.CASparser;
 import org.geogebra.common.cas.error.TimeoutException;
 import org.geogebra.common.cas.giac.CASgiacB;
 import org.geogebra.common.cas.giac.binding.CASGiacBinding;
+import org.geogebra.common.cas.giac.binding.Context;
 import org.geogebra.common.jre.cas.giac.binding.CASGiacBindingJre;
+import org.geogebra.common.jre.cas.giac.binding.ContextPool;
 import org.geogebra.common.util.debug.Log;
 
 /**
@@ -24,58 +26,177 @@ public abstract class CASgiacJre extends CASgiacB {
         return new CASGiacBindingJre();
     }
 
+	private final Object poolLock = new Object();
+	private volatile ContextPool contextPool;
+	/** context of asynchronous commands, guarded by poolLock */
+	private ContextPool backgroundPool;
+	private CASExecutor casExecutor;
+	/** worker of asynchronous commands, guarded by poolLock */
+	private CASExecutor backgroundExecutor;
+
+	/**
+	 * Use a pool of Giac contexts: evaluations then run on the calling thread
+	 * (timeout is handled by Giac) and don't wait for each other, as long as
+	 * there is a free context. Translating GeoGebra input and parsing the
+	 * results use the shared parser and are serialized, the Giac evaluation
+	 * in between runs concurrently.
+	 *
+	 * May be called while evaluations run: they give their contexts back to
+	 * the replaced pool, which deletes them once all are back.
+	 *
+	 * @param size
+	 *            maximal number of contexts; 0 or 1 to use a single context
+	 */
+	public void setContextPoolSize(int size) {
+		ContextPool replaced;
+		synchronized (poolLock) {
+			replaced = contextPool;
+			contextPool = size > 1 ? new ContextPool(createBinding(), size)
+					: null;
+		}
+		if (replaced != null) {
+			replaced.retire();
+		}
+	}
+
+	/**
+	 * @return number of pooled contexts, 0 if pool is not used
+	 */
+	public int getContextPoolSize() {
+		ContextPool pool = contextPool;
+		return pool == null ? 0 : pool.getSize();
+	}
+
+	/**
+	 * Asynchronous commands use a context and a worker of their own: they
+	 * neither hold this object's lock (see {@link #callEvaluateFunction}) nor
+	 * change how the kernel's evaluations run.
+	 */
+	@Override
+	protected ContextLease acquireBackgroundContext() {
+		ContextPool pool;
+		synchronized (poolLock) {
+			if (backgroundPool == null) {
+				backgroundPool = new ContextPool(createBinding(), 1);
+			}
+			pool = backgroundPool;
+		}
+		return new PooledContextLease(pool, pool.lease());
+	}
+
+	@Override
+	protected boolean evaluatesConcurrently() {
+		return contextPool != null;
+	}
+
+	@Override
+	protected ContextLease acquireContext() {
+		ContextPool pool = contextPool;
+		return pool == null ? super.acquireContext()
+				: new PooledContextLease(pool, pool.lease());
+	}
+
+	private static final class PooledContextLease extends ContextLease {
+		private final ContextPool pool;
+
+		PooledContextLease(ContextPool pool, Context context) {
+			super(context);
+			this.pool = pool;
+		}
+
+		@Override
+		public void release() {
+			pool.release(getContext());
+		}
+	}
+
 	/**
 	 * synchronized needed in case CAS called from a thread eg Input Bar preview
 	 * eg sin(x)&gt;0
 	 */
     @Override
-	synchronized protected void callEvaluateFunction(Runnable evaluateFunction)
+	synchronized protected void callEvaluateFunction(
+			final Runnable evaluateFunction, final EvaluationResult evalResult)
 			throws Throwable {
         if (useThread()) {
-            // send expression to CAS
-            Thread thread = new EvaluateThread(evaluateFunction);
-
-            thread.start();
-            thread.join(timeoutMillis);
-            thread.interrupt();
-            // thread.interrupt() doesn't seem to stop it, so add this for
-            // good measure:
-            stopThread(thread);
-            // in fact, stop will do nothing (never implemented)
-            // Log.debug("giac: after interrupt/stop");
-
-            // if we haven't got a result, CAS took too long to return
-            // eg Solve[sin(5/4 pi+x)-cos(x-3/4 pi)=sqrt(6) *
-            // cos(x)-sqrt(2)]
-            if (threadResult == null) {
-                Log.debug("Thread timeout from Giac");
-                throw new TimeoutException("Thread timeout from Giac");
-            }
+			// send expression to CAS, on a reusable worker thread
+			getCASExecutor().execute(guard(evaluateFunction, evalResult),
+					timeoutMillis, worker -> {
+				// the abandoned worker keeps the old context until Giac
+				// returns, next evaluations use a new one
+				createContext();
+			});
+			checkThreadTimeout(evalResult);
         } else {
             evaluateFunction.run();
         }
     }
 
-    protected abstract boolean useThread();
+	@Override
+	protected void callBackgroundFunction(Runnable evaluateFunction,
+			EvaluationResult evalResult) throws Throwable {
+		if (!useThread()) {
+			evaluateFunction.run();
+			return;
+		}
+		getBackgroundExecutor().execute(guard(evaluateFunction, evalResult),
+				timeoutMillis, worker -> {
+			// the abandoned worker gives its context back to the old pool
+			// when Giac returns, which deletes it then
+			ContextPool abandoned;
+			synchronized (poolLock) {
+				abandoned = backgroundPool;
+				backgroundPool = null;
+			}
+			if (abandoned != null) {
+				abandoned.retire();
+			}
+		});
+		checkThreadTimeout(evalResult);
+	}
 
-    protected abstract void stopThread(Thread thread);
+	private static Runnable guard(Runnable evaluateFunction,
+			EvaluationResult evalResult) {
+		return () -> {
+			try {
+				evaluateFunction.run();
+			} catch (Throwable t) {
+				Log.debug("problem from JNI Giac: " + t.toString());
+				// force error in GeoGebra
+				evalResult.set(FORCE_ERROR);
+			}
+		};
+	}
 
-    class EvaluateThread extends Thread {
-        private Runnable evaluateFunction;
+	private static void checkThreadTimeout(EvaluationResult evalResult) {
+		// if we haven't got a result, CAS took too long to return
+		// eg Solve[sin(5/4 pi+x)-cos(x-3/4 pi)=sqrt(6) *
+		// cos(x)-sqrt(2)]
+		if (evalResult.get() == null) {
+			Log.debug("Thread timeout from Giac");
+			throw new TimeoutException("Thread timeout from Giac");
+		}
+	}
 
-        public EvaluateThread(Runnable evaluateFunction) {
-            this.evaluateFunction = evaluateFunction;
-        }
+	/**
+	 * @return executor for evaluations on a separate thread (also provides
+	 *         queueing and evaluation latency metrics)
+	 */
+	public synchronized CASExecutor getCASExecutor() {
+		if (casExecutor == null) {
+			casExecutor = new CASExecutor("Giac", 1);
+		}
+		return casExecutor;
+	}
 
-        @Override
-        public void run() {
-            try {
-                evaluateFunction.run();
-            } catch (Throwable t) {
-                Log.debug("problem from JNI Giac: " + t.toString());
-                // force error in GeoGebra
-				threadResult = FORCE_ERROR;
-            }
-        }
-    }
+	private CASExecutor getBackgroundExecutor() {
+		synchronized (poolLock) {
+			if (backgroundExecutor == null) {
+				backgroundExecutor = new CASExecutor("Giac background", 1);
+			}
+			return backgroundExecutor;
+		}
+	}
+
+    protected abstract boolean useThread();
 }
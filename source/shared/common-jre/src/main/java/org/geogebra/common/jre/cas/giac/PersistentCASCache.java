@@ -0,0 +1,309 @@
+package org.geogebra.common.jre.cas.giac;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.geogebra.common.GeoGebraConstants;
+import org.geogebra.common.cas.giac.CASResultStore;
+import org.geogebra.common.cas.giac.CASgiac;
+import org.geogebra.common.cas.giac.CASgiacB;
+import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.main.settings.CASSettings;
+import org.geogebra.common.util.StringUtil;
+import org.geogebra.common.util.debug.Log;
+
+/**
+ * CAS results cache stored in an append-only log file, so that results survive
+ * restarts. Records are keyed by a hash of the Giac input; the file header
+ * contains a version key (Giac version, CAS settings) and the file is cleared
+ * when it doesn't match. Only the record offsets are kept in memory. When the
+ * file exceeds its size limit, it is compacted: overwritten records are dropped
+ * and only the most recent records are kept.
+ */
+public class PersistentCASCache implements CASResultStore, Closeable {
+
+	private static final String MAGIC = "GeoGebra CAS cache 1";
+	private static final int DIGEST_LENGTH = 16;
+
+	private final File file;
+	private final String versionKey;
+	private final long maxBytes;
+	private RandomAccessFile raf;
+	/** digest to offset of the value length, in write order */
+	private final LinkedHashMap<Digest, Long> index = new LinkedHashMap<>();
+	private int hits = 0;
+	private int misses = 0;
+
+	private static final class Digest {
+		final byte[] bytes;
+		private final int hash;
+
+		Digest(byte[] bytes) {
+			this.bytes = bytes;
+			this.hash = Arrays.hashCode(bytes);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Digest && Arrays.equals(bytes, ((Digest) o).bytes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/**
+	 * @param file
+	 *            cache file, created if needed
+	 * @param versionKey
+	 *            key for Giac version and CAS settings; results stored with
+	 *            another key are dropped
+	 * @param maxBytes
+	 *            size limit of the file
+	 * @throws IOException
+	 *             if the file can't be read or created
+	 */
+	public PersistentCASCache(File file, String versionKey, long maxBytes)
+			throws IOException {
+		this.file = file;
+		this.versionKey = versionKey;
+		this.maxBytes = maxBytes;
+		open();
+	}
+
+	/**
+	 * Version key for the Giac library and the settings used with it: the
+	 * cache is dropped when GeoGebra (Giac definitions of custom functions)
+	 * or Giac is updated, or when the CAS settings, rounding or the seed for
+	 * numeric solving change.
+	 *
+	 * @param cas
+	 *            Giac connector the cache is used with
+	 * @param kernel
+	 *            kernel, for CAS settings and rounding
+	 * @return version key for current GeoGebra and Giac versions and settings
+	 * @throws IOException
+	 *             if Giac doesn't report its version, so that results of
+	 *             different Giac versions can't be told apart
+	 */
+	public static String getDefaultVersionKey(CASgiacB cas, Kernel kernel)
+			throws IOException {
+		String giacVersion = cas.getGiacVersion();
+		if (StringUtil.empty(giacVersion)) {
+			throw new IOException("Giac version not available");
+		}
+		CASSettings settings = kernel.getApplication().getSettings()
+				.getCasSettings();
+		return GeoGebraConstants.VERSION_STRING + " " + giacVersion
+				+ ", timeout " + settings.getTimeoutMilliseconds()
+				+ ", roots " + settings.getShowExpAsRoots()
+				+ ", rounding " + (kernel.useSignificantFigures
+						? kernel.getPrintFigures() + "sf"
+						: kernel.getPrintDecimals() + "dp")
+				+ ", seed " + CASgiac.FSOLVE_SEED;
+	}
+
+	private void open() throws IOException {
+		raf = new RandomAccessFile(file, "rw");
+		index.clear();
+		try {
+			if (raf.length() == 0 || !MAGIC.equals(raf.readUTF())
+					|| !versionKey.equals(raf.readUTF())) {
+				reset();
+				return;
+			}
+		} catch (IOException e) {
+			reset();
+			return;
+		}
+		long validLength = raf.getFilePointer();
+		byte[] digest = new byte[DIGEST_LENGTH];
+		try {
+			while (validLength < raf.length()) {
+				raf.readFully(digest);
+				long valueOffset = raf.getFilePointer();
+				int length = raf.readInt();
+				if (length < 0 || raf.getFilePointer() + length > raf.length()) {
+					break;
+				}
+				raf.seek(raf.getFilePointer() + length);
+				Digest key = new Digest(digest.clone());
+				index.remove(key);
+				index.put(key, valueOffset);
+				validLength = raf.getFilePointer();
+			}
+		} catch (EOFException e) {
+			// incomplete last record
+		}
+		// drop incomplete record, e.g. after a crash
+		raf.setLength(validLength);
+	}
+
+	private void reset() throws IOException {
+		index.clear();
+		raf.setLength(0);
+		raf.seek(0);
+		raf.writeUTF(MAGIC);
+		raf.writeUTF(versionKey);
+	}
+
+	@Override
+	public synchronized String get(String input) {
+		Long offset = index.get(digest(input));
+		if (offset == null || raf == null) {
+			misses++;
+			return null;
+		}
+		try {
+			raf.seek(offset);
+			byte[] value = new byte[raf.readInt()];
+			raf.readFully(value);
+			hits++;
+			return new String(value, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			Log.debug(e);
+			misses++;
+			return null;
+		}
+	}
+
+	@Override
+	public synchronized void put(String input, String result) {
+		if (raf == null) {
+			return;
+		}
+		Digest key = digest(input);
+		try {
+			byte[] value = result.getBytes(StandardCharsets.UTF_8);
+			long offset = raf.length();
+			raf.seek(offset);
+			raf.write(record(key, value));
+			index.remove(key);
+			index.put(key, offset + DIGEST_LENGTH);
+			if (raf.length() > maxBytes) {
+				compact();
+			}
+		} catch (IOException e) {
+			Log.debug(e);
+		}
+	}
+
+	private static byte[] record(Digest key, byte[] value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+				DIGEST_LENGTH + 4 + value.length);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.write(key.bytes);
+		out.writeInt(value.length);
+		out.write(value);
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Rewrites the file with the latest value of each key; if needed, only the
+	 * most recent records filling half of the size limit are kept.
+	 *
+	 * @throws IOException
+	 *             if the file can't be written
+	 */
+	public synchronized void compact() throws IOException {
+		ArrayList<Map.Entry<Digest, Long>> entries = new ArrayList<>(
+				index.entrySet());
+		long size = 0;
+		int first = entries.size();
+		// newest records first, until half of the limit
+		while (first > 0) {
+			raf.seek(entries.get(first - 1).getValue());
+			long recordSize = DIGEST_LENGTH + 4 + raf.readInt();
+			if (size + recordSize > maxBytes / 2) {
+				break;
+			}
+			size += recordSize;
+			first--;
+		}
+		File tmp = new File(file.getPath() + ".tmp");
+		try (RandomAccessFile out = new RandomAccessFile(tmp, "rw")) {
+			out.setLength(0);
+			out.writeUTF(MAGIC);
+			out.writeUTF(versionKey);
+			for (int i = first; i < entries.size(); i++) {
+				raf.seek(entries.get(i).getValue());
+				byte[] value = new byte[raf.readInt()];
+				raf.readFully(value);
+				out.write(record(entries.get(i).getKey(), value));
+			}
+		}
+		raf.close();
+		raf = null;
+		Files.move(tmp.toPath(), file.toPath(),
+				StandardCopyOption.REPLACE_EXISTING);
+		open();
+	}
+
+	/**
+	 * Removes all records.
+	 *
+	 * @throws IOException
+	 *             if the file can't be written
+	 */
+	public synchronized void clear() throws IOException {
+		if (raf != null) {
+			reset();
+		}
+	}
+
+	/**
+	 * @return number of stored results
+	 */
+	public synchronized int size() {
+		return index.size();
+	}
+
+	/**
+	 * @return number of results found
+	 */
+	public synchronized int getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return number of results not found
+	 */
+	public synchronized int getMisses() {
+		return misses;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (raf != null) {
+			raf.close();
+			raf = null;
+		}
+	}
+
+	private static Digest digest(String input) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			byte[] hash = md.digest(input.getBytes(StandardCharsets.UTF_8));
+			return new Digest(Arrays.copyOf(hash, DIGEST_LENGTH));
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is required on every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+}
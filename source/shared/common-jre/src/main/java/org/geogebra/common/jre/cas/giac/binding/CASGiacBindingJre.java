@@ -15,4 +15,9 @@ public class CASGiacBindingJre implements CASGiacBinding {
     public Gen createGen(String string, Context context) {
         return new GenImpl(string, context);
     }
+
+	@Override
+	public void deleteContext(Context context) {
+		Util.convert(context).delete();
+	}
 }
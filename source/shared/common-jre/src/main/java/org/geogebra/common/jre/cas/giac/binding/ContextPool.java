@@ -0,0 +1,116 @@
+package org.geogebra.common.jre.cas.giac.binding;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.geogebra.common.cas.error.TimeoutException;
+import org.geogebra.common.cas.giac.binding.CASGiacBinding;
+import org.geogebra.common.cas.giac.binding.Context;
+
+/**
+ * Pool of Giac contexts, so that independent evaluations can run concurrently.
+ * Contexts are created lazily up to the pool size; when all of them are leased,
+ * {@link #lease()} waits for one to be released. A pool that is not needed
+ * anymore is retired: its contexts are deleted as soon as none is leased.
+ */
+public class ContextPool {
+
+	private final CASGiacBinding binding;
+	private final int size;
+	/** most recently released first, guarded by this */
+	private final ArrayDeque<Context> idle = new ArrayDeque<>();
+	/** live contexts of this pool, guarded by this */
+	private final Set<Context> contexts = new HashSet<>();
+	private int created;
+	private boolean retired;
+
+	/**
+	 * @param binding
+	 *            binding used to create and delete contexts
+	 * @param size
+	 *            maximal number of contexts
+	 */
+	public ContextPool(CASGiacBinding binding, int size) {
+		this.binding = binding;
+		this.size = Math.max(1, size);
+	}
+
+	/**
+	 * @return maximal number of contexts
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return number of contexts created so far
+	 */
+	public synchronized int getCreatedCount() {
+		return created;
+	}
+
+	/**
+	 * @return number of contexts that were not deleted yet
+	 */
+	public synchronized int getLiveCount() {
+		return contexts.size();
+	}
+
+	/**
+	 * @return context not used by any other evaluation; has to be given back
+	 *         with {@link #release(Context)}
+	 */
+	public synchronized Context lease() {
+		while (idle.isEmpty() && contexts.size() >= size) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new TimeoutException("Interrupted while waiting for Giac");
+			}
+		}
+		Context context = idle.poll();
+		if (context == null) {
+			context = binding.createContext();
+			contexts.add(context);
+			created++;
+		}
+		return context;
+	}
+
+	/**
+	 * @param context
+	 *            leased context; contexts not created by this pool (e.g. leased
+	 *            before the pool was set up) are ignored
+	 */
+	public synchronized void release(Context context) {
+		if (!contexts.contains(context) || idle.contains(context)) {
+			return;
+		}
+		idle.push(context);
+		notify();
+		if (retired && idle.size() == contexts.size()) {
+			deleteIdle();
+		}
+	}
+
+	/**
+	 * Deletes the contexts once all of them are released; evaluations that
+	 * still lease from this pool get new contexts, deleted after them.
+	 */
+	public synchronized void retire() {
+		retired = true;
+		if (idle.size() == contexts.size()) {
+			deleteIdle();
+		}
+	}
+
+	private void deleteIdle() {
+		for (Context context : idle) {
+			contexts.remove(context);
+			binding.deleteContext(context);
+		}
+		idle.clear();
+	}
+}
@@ -0,0 +1,63 @@
+package org.geogebra.common.jre.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.geogebra.common.util.ParallelExecutor;
+
+/**
+ * Parallel executor backed by the common fork-join pool.
+ */
+public class ParallelExecutorJre extends ParallelExecutor {
+
+	private final ForkJoinPool pool;
+
+	/**
+	 * Executor using the common fork-join pool.
+	 */
+	public ParallelExecutorJre() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param pool pool to run the chunks in
+	 */
+	public ParallelExecutorJre(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	@Override
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	@Override
+	public void forEachChunk(int count, int minChunkSize, ChunkTask task) {
+		int chunks = getChunkCount(count, minChunkSize);
+		if (chunks <= 1) {
+			if (count > 0) {
+				task.run(0, 0, count);
+			}
+			return;
+		}
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+		for (int chunk = 0; chunk < chunks; chunk++) {
+			final int index = chunk;
+			final int from = (int) ((long) count * chunk / chunks);
+			final int to = (int) ((long) count * (chunk + 1) / chunks);
+			tasks.add(ForkJoinTask.adapt(() -> task.run(index, from, to)));
+		}
+		if (ForkJoinTask.inForkJoinPool()) {
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			for (ForkJoinTask<?> forkJoinTask : tasks) {
+				pool.execute(forkJoinTask);
+			}
+			for (ForkJoinTask<?> forkJoinTask : tasks) {
+				forkJoinTask.join();
+			}
+		}
+	}
+}
@@ -3,6 +3,7 @@ package org.geogebra.common.jre.util;
 import java.io.UnsupportedEncodingException;
 
 import org.geogebra.common.factories.UtilFactory;
+import org.geogebra.common.util.ParallelExecutor;
 import org.geogebra.common.util.Reflection;
 import org.geogebra.common.util.URLEncoder;
 import org.geogebra.regexp.server.JavaRegExpFactory;
@@ -12,6 +13,7 @@ public abstract class UtilFactoryJre extends UtilFactory  {
 
 	public UtilFactoryJre() {
 		setupRegexFactory();
+		setupParallelExecutor();
 	}
 
 	/**
@@ -21,6 +23,13 @@ public abstract class UtilFactoryJre extends UtilFactory  {
 		RegExpFactory.setPrototypeIfNull(new JavaRegExpFactory());
 	}
 
+	/**
+	 * Set multi-threaded executor prototype for data-parallel computations.
+	 */
+	public static void setupParallelExecutor() {
+		ParallelExecutor.setPrototypeIfNull(new ParallelExecutorJre());
+	}
+
 	@Override
 	public Reflection newReflection(Class clazz) {
 		return new ReflectionJre(clazz);
@@ -0,0 +1,121 @@
+package org.geogebra.common.cas;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.AsynchronousCommand;
+import org.geogebra.common.kernel.Kernel;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsynchronousCASTest extends BaseUnitTest {
+
+	private final List<Runnable> queue = new ArrayList<>();
+	private GeoGebraCAS cas;
+	private MockCASGiac giac;
+
+	private class TestCommand implements AsynchronousCommand {
+		String input;
+		boolean caching;
+		final List<String> outputs = new ArrayList<>();
+		final List<Throwable> exceptions = new ArrayList<>();
+
+		@Override
+		public void handleCASoutput(String output, int requestID) {
+			outputs.add(output);
+		}
+
+		@Override
+		public void handleException(Throwable exception, int requestID) {
+			exceptions.add(exception);
+		}
+
+		@Override
+		public boolean useCaching() {
+			return caching;
+		}
+
+		@Override
+		public String getCasInput() {
+			return input;
+		}
+
+		@Override
+		public Kernel getKernel() {
+			return AsynchronousCASTest.this.getKernel();
+		}
+	}
+
+	@Before
+	public void setupCAS() {
+		giac = new MockCASGiac(getApp());
+		cas = (GeoGebraCAS) getKernel().getGeoGebraCAS();
+		cas.setAsynchronousExecutor(new AsynchronousCASExecutor() {
+			@Override
+			public boolean isAsynchronous() {
+				return true;
+			}
+
+			@Override
+			public void submit(Runnable evaluation, Runnable callback) {
+				queue.add(evaluation);
+				queue.add(callback);
+			}
+		});
+	}
+
+	private void runQueue() {
+		while (!queue.isEmpty()) {
+			queue.remove(0).run();
+		}
+	}
+
+	@Test
+	public void resultShouldArriveAfterSubmit() {
+		TestCommand command = new TestCommand();
+		command.input = "1+1";
+		// background evaluation, then conversion in the callback
+		giac.memorize("2");
+		giac.memorize("2");
+		cas.evaluateGeoGebraCASAsync(command, null);
+		assertTrue(command.outputs.isEmpty());
+		assertEquals(1, cas.getPendingAsyncRequestCount());
+		runQueue();
+		assertEquals(1, command.outputs.size());
+		assertEquals("2", command.outputs.get(0));
+		assertEquals(0, cas.getPendingAsyncRequestCount());
+	}
+
+	@Test
+	public void staleRequestShouldBeDropped() {
+		TestCommand command = new TestCommand();
+		command.input = "1+1";
+		cas.evaluateGeoGebraCASAsync(command, null);
+		command.input = "2+2";
+		// only the newest request is evaluated
+		giac.memorizeWithCheck("4", input -> !input.contains("1+1"));
+		giac.memorize("4");
+		cas.evaluateGeoGebraCASAsync(command, null);
+		runQueue();
+		assertEquals(1, command.outputs.size());
+		assertEquals("4", command.outputs.get(0));
+		assertTrue(command.exceptions.isEmpty());
+	}
+
+	@Test
+	public void cachedResultShouldBeDeliveredImmediately() {
+		TestCommand command = new TestCommand();
+		command.input = "3+3";
+		command.caching = true;
+		getKernel().putToCasCache("3+3", "6");
+		cas.evaluateGeoGebraCASAsync(command, null);
+		assertTrue(queue.isEmpty());
+		assertEquals(1, command.outputs.size());
+		assertEquals("6", command.outputs.get(0));
+		assertEquals(0, cas.getPendingAsyncRequestCount());
+	}
+}
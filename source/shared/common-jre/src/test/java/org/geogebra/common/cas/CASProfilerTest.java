@@ -0,0 +1,129 @@
+package org.geogebra.common.cas;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.cas.CASProfiler.InputTiming;
+import org.geogebra.common.cas.CASProfiler.SlowInput;
+import org.geogebra.common.cas.giac.CASgiac;
+import org.geogebra.common.kernel.StringTemplate;
+import org.junit.Test;
+
+public class CASProfilerTest extends BaseUnitTest {
+
+	private final CASProfiler profiler = new CASProfiler(3);
+
+	private void evaluate(String input, double millis) {
+		InputTiming timing = profiler.startInput();
+		timing.addEvaluation(input, millis);
+		timing.finish();
+	}
+
+	@Test
+	public void shouldKeepSlowestInputs() {
+		evaluate("a", 5);
+		evaluate("b", 50);
+		evaluate("c", 1);
+		InputTiming timeout = profiler.startInput();
+		timeout.addTimeout("d", 5000);
+		timeout.finish();
+		evaluate("e", 20);
+		List<SlowInput> slowest = profiler.getSlowestInputs();
+		assertEquals(3, slowest.size());
+		assertEquals("d", slowest.get(0).getInput());
+		assertTrue(slowest.get(0).isTimeout());
+		assertEquals("b", slowest.get(1).getInput());
+		assertFalse(slowest.get(1).isTimeout());
+		assertEquals("e", slowest.get(2).getInput());
+		assertEquals(4, profiler.getEvaluationCount());
+		assertEquals(1, profiler.getTimeoutCount());
+		assertEquals(76, profiler.getEvaluationMillis(), 1E-10);
+	}
+
+	@Test
+	public void slowInputShouldIncludeTranslationAndParsing() {
+		InputTiming timing = profiler.startInput();
+		timing.addTranslation(2);
+		timing.addEvaluation("x+1", 3);
+		timing.addParse(4);
+		timing.finish();
+		SlowInput slow = profiler.getSlowestInputs().get(0);
+		assertEquals(2, slow.getTranslationMillis(), 0);
+		assertEquals(3, slow.getEvaluationMillis(), 0);
+		assertEquals(4, slow.getParseMillis(), 0);
+		assertEquals(9, slow.getMillis(), 0);
+		assertTrue(profiler.getReport().contains(
+				"9.0 ms [translation 2.0, evaluation 3.0, parse 4.0]: x+1"));
+	}
+
+	@Test
+	public void resetShouldClearStatistics() {
+		profiler.addCacheLookup(true);
+		profiler.addCacheLookup(false);
+		InputTiming timing = profiler.startInput();
+		timing.addTranslation(2);
+		timing.addEvaluation("x+1", 3);
+		timing.finish();
+		assertTrue(profiler.getReport().contains("Cache hits: 1, misses: 1"));
+		profiler.reset();
+		assertEquals(0, profiler.getCacheHits());
+		assertEquals(0, profiler.getTranslationMillis(), 0);
+		assertEquals(0, profiler.getSlowestInputs().size());
+	}
+
+	@Test
+	public void evaluationShouldBeProfiledPerInput() throws Throwable {
+		CASgiac cas = new FixedResultCAS(
+				(CASparser) getKernel().getGeoGebraCAS().getCASparser());
+		CASProfiler casProfiler = cas.getProfiler();
+		String result = cas.evaluateGeoGebraCAS(
+				getKernel().getParser().parseGeoGebraExpression("x+1"), null,
+				StringTemplate.defaultTemplate, null, getKernel());
+		assertNotNull(result);
+		assertEquals(1, casProfiler.getTranslationCount());
+		assertEquals(1, casProfiler.getEvaluationCount());
+		assertEquals(1, casProfiler.getParseCount());
+		List<SlowInput> slowest = casProfiler.getSlowestInputs();
+		assertEquals(1, slowest.size());
+		assertTrue(slowest.get(0).getInput().contains("x+1"));
+		assertEquals(slowest.get(0).getTranslationMillis()
+				+ slowest.get(0).getEvaluationMillis()
+				+ slowest.get(0).getParseMillis(),
+				slowest.get(0).getMillis(), 1E-10);
+		casProfiler.reset();
+		assertEquals(0, casProfiler.getParseCount());
+		assertEquals(0, casProfiler.getSlowestInputs().size());
+	}
+
+	private static class FixedResultCAS extends CASgiac {
+
+		FixedResultCAS(CASparser casParser) {
+			super(casParser);
+		}
+
+		@Override
+		public String evaluateCAS(String exp) {
+			return "x^2+1";
+		}
+
+		@Override
+		public void clearResult() {
+			// no state
+		}
+
+		@Override
+		public boolean externalCAS() {
+			return false;
+		}
+
+		@Override
+		protected String evaluate(String exp, long timeoutMilliseconds) {
+			return "x^2+1";
+		}
+	}
+}
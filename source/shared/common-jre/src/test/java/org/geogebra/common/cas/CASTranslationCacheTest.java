@@ -0,0 +1,64 @@
+package org.geogebra.common.cas;
+
+import static org.junit.Assert.assertEquals;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.kernel.arithmetic.ValidExpression;
+import org.junit.Test;
+
+public class CASTranslationCacheTest extends BaseUnitTest {
+
+	private final CASTranslationCache cache = new CASTranslationCache(10);
+
+	private ValidExpression parse(String input) {
+		CASparser parser = (CASparser) getKernel().getGeoGebraCAS()
+				.getCASparser();
+		return parser.parseGeoGebraCASInput(input, null);
+	}
+
+	private void checkTranslation(String input) {
+		String expected = parse(input).wrap()
+				.getCASstring(StringTemplate.giacTemplate, false);
+		assertEquals(expected, cache.translate(parse(input).wrap(),
+				StringTemplate.giacTemplate));
+	}
+
+	@Test
+	public void sameShapeShouldUseTemplate() {
+		checkTranslation("Limit(1/x+2.5*x, x, 3)");
+		checkTranslation("Limit(1/x+7.75*x, x, 12)");
+		assertEquals(1, cache.getMisses());
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	public void differentKindsShouldNotShareTemplate() {
+		checkTranslation("Expand((x+2)^3)");
+		checkTranslation("Expand((x+2.5)^3)");
+		checkTranslation("Expand((x+5)^3)");
+		assertEquals(2, cache.getMisses());
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	public void listsAndEquationsShouldUseTemplate() {
+		checkTranslation("Factor({x^2-4, 3x+6})");
+		checkTranslation("Factor({x^2-9, 5x+15})");
+		checkTranslation("Substitute(y=3x+2, x, 7)");
+		checkTranslation("Substitute(y=4x+3, x, 11)");
+		assertEquals(2, cache.getMisses());
+		assertEquals(2, cache.getHits());
+	}
+
+	@Test
+	public void draggingShouldOnlyPrintNumbers() {
+		for (int i = 0; i < 20; i++) {
+			checkTranslation("Derivative(" + (2 + i / 10.0) + "x^3+sin("
+					+ (3 + i) + "x), x)");
+		}
+		// one template for integer and one for decimal first coefficient
+		assertEquals(2, cache.getMisses());
+		assertEquals(18, cache.getHits());
+	}
+}
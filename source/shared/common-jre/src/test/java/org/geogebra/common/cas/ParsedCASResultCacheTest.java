@@ -0,0 +1,68 @@
+package org.geogebra.common.cas;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.kernel.arithmetic.ExpressionNode;
+import org.geogebra.common.kernel.arithmetic.MyDouble;
+import org.geogebra.common.kernel.arithmetic.ValidExpression;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.plugin.Operation;
+import org.junit.Test;
+
+public class ParsedCASResultCacheTest extends BaseUnitTest {
+
+	private final ParsedCASResultCache cache = new ParsedCASResultCache(10);
+
+	private ValidExpression get(String giacOutput) throws Throwable {
+		return cache.get(giacOutput, getKernel().getParser()::parseGiac,
+				getKernel());
+	}
+
+	@Test
+	public void hitShouldReturnEqualCopy() throws Throwable {
+		ValidExpression first = get("x^2+3*x+[1,2]");
+		ValidExpression second = get("x^2+3*x+[1,2]");
+		assertNotSame(first, second);
+		assertEquals(first.toString(StringTemplate.giacTemplate),
+				second.toString(StringTemplate.giacTemplate));
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void modifiedResultShouldNotAffectCache() throws Throwable {
+		ExpressionNode first = get("2*a+1").wrap();
+		String expected = first.toString(StringTemplate.giacTemplate);
+		first.setRight(new MyDouble(getKernel(), 7));
+		first.setOperation(Operation.MINUS);
+		ValidExpression second = get("2*a+1");
+		assertEquals(expected, second.toString(StringTemplate.giacTemplate));
+		ValidExpression third = get("2*a+1");
+		assertEquals(expected, third.toString(StringTemplate.giacTemplate));
+	}
+
+	@Test
+	public void definingLabelShouldInvalidateResults() throws Throwable {
+		get("f(3)");
+		GeoElement f = add("f(x)=x^2");
+		ValidExpression after = get("f(3)");
+		assertTrue(after.any(ev -> ev == f));
+		// refers to f, not cached
+		assertTrue(get("f(3)").any(ev -> ev == f));
+		assertEquals(0, cache.getHits());
+	}
+
+	@Test
+	public void labelChangeShouldClearCache() throws Throwable {
+		get("x^2+3*x+[1,2]");
+		add("b=1");
+		get("x^2+3*x+[1,2]");
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+	}
+}
@@ -0,0 +1,65 @@
+package org.geogebra.common.cas.giac;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.cas.CASparser;
+import org.geogebra.common.cas.MockCASGiac;
+import org.geogebra.common.kernel.GeoGebraCasInterface;
+import org.geogebra.common.kernel.StringTemplate;
+import org.junit.Test;
+
+public class CASgiacBatchTest extends BaseUnitTest {
+
+	@Test
+	public void duplicatesShouldBeEvaluatedOnce() {
+		MockCASGiac giac = new MockCASGiac(getApp());
+		giac.memorizeWithCheck("2", "1+1"::equals);
+		giac.memorizeWithCheck("x^2", "x*x"::equals);
+		List<String> results = giac.evaluateCAS(
+				Arrays.asList("1+1", "x*x", "1+1"));
+		assertEquals(Arrays.asList("2", "x^2", "2"), results);
+	}
+
+	@Test
+	public void failedEvaluationShouldGiveNull() {
+		MockCASGiac giac = new MockCASGiac(getApp());
+		giac.memorize("2");
+		// no response memorized for second input
+		List<String> results = giac.evaluateCAS(Arrays.asList("1+1", "2+2"));
+		assertEquals(Arrays.asList("2", null), results);
+	}
+
+	@Test
+	public void batchShouldReturnResultsDirectly() {
+		MockCASGiac giac = new MockCASGiac(getApp());
+		giac.memorize("4");
+		giac.memorize(null);
+		List<String> results = getKernel().getGeoGebraCAS().evaluateGeoGebraCAS(
+				Arrays.asList("2+2", "x+x"), StringTemplate.defaultTemplate,
+				getKernel());
+		assertEquals(Arrays.asList("4", "?"), results);
+		// failure of the batch must not be reused
+		giac.memorize("2*x");
+		assertEquals("2x", evaluate("x+x"));
+	}
+
+	@Test
+	public void batchShouldNotChangeNumberOfVariables() {
+		new MockCASGiac(getApp()).memorize("{}");
+		GeoGebraCasInterface cas = getKernel().getGeoGebraCAS();
+		cas.evaluateGeoGebraCAS(Collections.singletonList(
+				"Solve({(x, y, z) = (1, 2, 3) + t*(1, 0, 0)}, {x, y})"),
+				StringTemplate.defaultTemplate, getKernel());
+		assertEquals(0, ((CASparser) cas.getCASparser()).getNrOfVars());
+	}
+
+	private String evaluate(String input) {
+		return getKernel().getGeoGebraCAS().evaluateGeoGebraCAS(input, null,
+				StringTemplate.defaultTemplate, getKernel());
+	}
+}
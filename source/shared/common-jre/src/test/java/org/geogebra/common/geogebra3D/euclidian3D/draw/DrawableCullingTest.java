@@ -0,0 +1,77 @@
+package org.geogebra.common.geogebra3D.euclidian3D.draw;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.geogebra.common.kernel.matrix.CoordMatrix4x4;
+import org.geogebra.common.kernel.matrix.Coords;
+import org.junit.Test;
+
+public class DrawableCullingTest {
+
+	private static final double[][] BOX = {{-5, 5}, {-5, 5}, {-5, 5}};
+
+	@Test
+	public void boxInsideOrCrossingIsNotCulled() {
+		assertFalse(DrawableCulling.isOutsideBox(new Coords(-1, -1, -1),
+				new Coords(1, 1, 1), BOX, 0));
+		assertFalse(DrawableCulling.isOutsideBox(new Coords(4, 4, 4),
+				new Coords(10, 10, 10), BOX, 0));
+	}
+
+	@Test
+	public void boxOutsideIsCulled() {
+		assertTrue(DrawableCulling.isOutsideBox(new Coords(6, -1, -1),
+				new Coords(7, 1, 1), BOX, 0));
+		assertTrue(DrawableCulling.isOutsideBox(new Coords(-1, -1, -9),
+				new Coords(1, 1, -6), BOX, 0));
+	}
+
+	@Test
+	public void marginKeepsBoxNearBorder() {
+		assertFalse(DrawableCulling.isOutsideBox(new Coords(5.5, -1, -1),
+				new Coords(7, 1, 1), BOX, 1));
+	}
+
+	@Test
+	public void screenCullingUsesProjectedCorners() {
+		CoordMatrix4x4 toScreen = CoordMatrix4x4.identity();
+		toScreen.set(1, 1, 50);
+		toScreen.set(2, 2, 50);
+		// x in [-300, -200] on screen: left of the screen
+		assertTrue(DrawableCulling.isOutsideScreen(new Coords(-6, 0, 0),
+				new Coords(-4, 1, 1), toScreen, -100, 100, -100, 100));
+		// crosses the screen
+		assertFalse(DrawableCulling.isOutsideScreen(new Coords(-6, 0, 0),
+				new Coords(4, 1, 1), toScreen, -100, 100, -100, 100));
+		// z doesn't matter for parallel projection
+		assertFalse(DrawableCulling.isOutsideScreen(new Coords(0, 0, 100),
+				new Coords(1, 1, 200), toScreen, -100, 100, -100, 100));
+	}
+
+	@Test
+	public void frustumCullingUsesPerspective() {
+		CoordMatrix4x4 toScreen = CoordMatrix4x4.identity();
+		toScreen.set(1, 1, 50);
+		toScreen.set(2, 2, 50);
+		Coords eye = new Coords(0, 0, 1000, 1);
+		// x in [-300, -200] on the screen plane: left of the screen
+		assertTrue(DrawableCulling.isOutsideFrustum(new Coords(-6, 0, 0),
+				new Coords(-4, 1, 0), toScreen, eye, -100, 100, -100, 100));
+		// x in [-150, -125] far from the eye is projected to [-75, -62.5]
+		assertFalse(DrawableCulling.isOutsideFrustum(new Coords(-3, 0, -1000),
+				new Coords(-2.5, 1, -1000), toScreen, eye, -100, 100, -100,
+				100));
+		assertTrue(DrawableCulling.isOutsideScreen(new Coords(-3, 0, -1000),
+				new Coords(-2.5, 1, -1000), toScreen, -100, 100, -100, 100));
+		// close to the eye, x in [-200, -150] is projected out of the screen
+		assertTrue(DrawableCulling.isOutsideFrustum(new Coords(-4, 0, 900),
+				new Coords(-3, 1, 900), toScreen, eye, -100, 100, -100, 100));
+		// behind the eye
+		assertTrue(DrawableCulling.isOutsideFrustum(new Coords(-1, -1, 1100),
+				new Coords(1, 1, 1200), toScreen, eye, -100, 100, -100, 100));
+		// crossing the eye plane in front of the screen
+		assertFalse(DrawableCulling.isOutsideFrustum(new Coords(-1, -1, 0),
+				new Coords(1, 1, 1200), toScreen, eye, -100, 100, -100, 100));
+	}
+}
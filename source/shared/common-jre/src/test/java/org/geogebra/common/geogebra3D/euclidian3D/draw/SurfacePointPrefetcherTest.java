@@ -0,0 +1,57 @@
+package org.geogebra.common.geogebra3D.euclidian3D.draw;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.geogebra.common.AppCommonFactory;
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.geogebra3D.kernel3D.geos.GeoSurfaceCartesian3D;
+import org.geogebra.common.jre.headless.AppCommon;
+import org.geogebra.common.kernel.arithmetic.FunctionNVar;
+import org.geogebra.common.kernel.arithmetic.FunctionVariable;
+import org.geogebra.common.kernel.matrix.Coords3;
+import org.geogebra.common.kernel.matrix.CoordsDouble3;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SurfacePointPrefetcherTest extends BaseUnitTest {
+
+	@Before
+	public void setUp() {
+		getApp().set3dConfig();
+	}
+
+	@Override
+	public AppCommon createAppCommon() {
+		return AppCommonFactory.create3D();
+	}
+
+	@Test
+	public void copiesShouldNotShareFunctionVariables() {
+		GeoSurfaceCartesian3D surface = add("Surface(u, v, u * v, u, 0, 1, v, 0, 1)");
+		GeoSurfaceCartesian3D copy = SurfacePointPrefetcher.independentCopy(surface);
+		FunctionVariable[] sourceVars = surface.getFunctions()[0].getFunctionVariables();
+		for (FunctionNVar function : copy.getFunctions()) {
+			for (FunctionVariable var : sourceVars) {
+				assertFalse(function.getExpression().any(value -> value == var));
+			}
+		}
+		Coords3 point = new CoordsDouble3();
+		copy.evaluatePoint(0.5, 0.25, point);
+		surface.evaluatePoint(1, 1, new CoordsDouble3());
+		assertEquals(0.125, point.getZd(), 1E-12);
+		Coords3 normal = new CoordsDouble3();
+		copy.evaluateNormal(point, 0.5, 0.25, normal);
+		assertEquals(-0.25, normal.getXd() / normal.getZd(), 1E-9);
+		assertEquals(-0.5, normal.getYd() / normal.getZd(), 1E-9);
+	}
+
+	@Test
+	public void randomSurfacesShouldNotBeEvaluatedInParallel() {
+		assertTrue(SurfacePointPrefetcher.isThreadSafe(
+				add("Surface(u, v, u * v, u, 0, 1, v, 0, 1)")));
+		assertFalse(SurfacePointPrefetcher.isThreadSafe(
+				add("Surface(u, v, random() * u, u, 0, 1, v, 0, 1)")));
+	}
+}
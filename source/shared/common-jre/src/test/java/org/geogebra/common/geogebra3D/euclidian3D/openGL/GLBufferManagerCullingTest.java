@@ -0,0 +1,101 @@
+package org.geogebra.common.geogebra3D.euclidian3D.openGL;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.geogebra.common.geogebra3D.euclidian3D.openGL.ManagerShaders.TypeElement;
+import org.geogebra.common.jre.openGL.GLFactoryJre;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GLBufferManagerCullingTest {
+
+	private GLBufferManager manager;
+
+	private static class GLBufferManagerTriangles extends GLBufferManager {
+
+		@Override
+		protected int calculateIndicesLength(int size, TypeElement type) {
+			return 3 * size;
+		}
+
+		@Override
+		protected void putIndices(int size, TypeElement type,
+				boolean reuseSegment) {
+			for (int i = 0; i < 3 * size; i++) {
+				putToIndices(i);
+			}
+		}
+
+		@Override
+		protected int getElementSizeStart() {
+			return 64;
+		}
+
+		@Override
+		protected int getIndicesSizeStart() {
+			return 64;
+		}
+	}
+
+	@Before
+	public void setup() {
+		GLFactory.setPrototypeIfNull(new GLFactoryJre());
+		manager = new GLBufferManagerTriangles();
+		for (int set = 0; set < 3; set++) {
+			addTriangles(set, set + 1);
+		}
+	}
+
+	private void addTriangles(int set, int triangles) {
+		ReusableFloatArray vertices = new ReusableFloatArray();
+		for (int i = 0; i < 3 * triangles; i++) {
+			vertices.addValues(i, set, 0);
+		}
+		ReusableFloatArray normal = new ReusableFloatArray();
+		normal.addValues(0, 0, 1);
+		manager.setCurrentIndex(set, 0);
+		manager.setVertexBuffer(vertices, vertices.getLength());
+		manager.setNormalBuffer(normal, 3);
+		manager.setTextureBuffer(null);
+		manager.setIndices(triangles, TypeElement.TRIANGLES);
+	}
+
+	@Test
+	public void culledSetsShouldBeSkipped() {
+		manager.setCulled(1, true);
+		assertTrue(manager.isCulled(1));
+		manager.updateVisibleIndices();
+		BufferPack pack = (BufferPack) manager.bufferPackList.get(0);
+		// sets 0 and 2 have 1 and 3 triangles
+		assertEquals(12, pack.visibleIndicesLength);
+		short[] indices = new short[12];
+		pack.visibleIndicesBuffer.setLimit(12);
+		pack.visibleIndicesBuffer.array(indices);
+		assertEquals(0, indices[0]);
+		assertEquals(2, indices[2]);
+		// set 1 uses elements 3 to 8
+		assertEquals(9, indices[3]);
+		assertEquals(17, indices[11]);
+	}
+
+	@Test
+	public void uncullingShouldRestoreAllIndices() {
+		manager.setCulled(1, true);
+		manager.updateVisibleIndices();
+		manager.setCulled(1, false);
+		assertFalse(manager.isCulled(1));
+		manager.setCulled(0, true);
+		manager.updateVisibleIndices();
+		BufferPack pack = (BufferPack) manager.bufferPackList.get(0);
+		assertEquals(15, pack.visibleIndicesLength);
+	}
+
+	@Test
+	public void removedSetsShouldNotStayCulled() {
+		manager.setCulled(2, true);
+		manager.remove(2, 1);
+		assertFalse(manager.isCulled(2));
+	}
+}
@@ -0,0 +1,190 @@
+package org.geogebra.common.geogebra3D.euclidian3D.printer3D;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.geogebra3D.euclidian3D.openGL.GLBuffer;
+import org.geogebra.common.geogebra3D.euclidian3D.openGL.GLBufferIndices;
+import org.geogebra.common.geogebra3D.euclidian3D.openGL.Manager;
+import org.geogebra.common.geogebra3D.euclidian3D.printer3D.ExportToPrinter3D.GeometryForExport;
+import org.geogebra.common.jre.openGL.GLBufferIndicesJre;
+import org.geogebra.common.jre.openGL.GLBufferJre;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.junit.Test;
+
+public class ExportToPrinter3DTest extends BaseUnitTest {
+
+	@Test
+	public void duplicateVerticesShouldBeMergedAcrossGeometries() {
+		GeoElement geo = add("A=(1,2,3)");
+		List<GeometryForExport> geometries = Arrays.asList(
+				new TestGeometry(new double[] {0, 0, 0, 1, 0, 0, 0, 1, 0},
+						0, 1, 2),
+				new TestGeometry(new double[] {1, 0, 0, 0, 1, 0, 1, 1, 0},
+						0, 1, 2));
+		ExportToPrinter3D exporter = new ExportToPrinter3D(null, null);
+		String collada = exporter.export(new FormatCollada(), 1,
+				() -> exportMerged(exporter, geo, geometries)).toString();
+
+		assertThat(collada,
+				containsString("A-mesh-positions-array\" count=\"12\""));
+		assertThat(collada, containsString("<p>0 1 2 1 2 3</p>"));
+	}
+
+	@Test
+	public void streamShouldBeWrittenDuringExport() throws IOException {
+		GeoElement geo = add("A=(1,2,3)");
+		List<GeometryForExport> geometries = Collections
+				.singletonList(largeGeometry());
+		ExportToPrinter3D exporter = new ExportToPrinter3D(null, null);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		AtomicInteger writtenDuringExport = new AtomicInteger();
+		byte[] header = exporter.export(new FormatCollada(), out, 1, () -> {
+			exportMerged(exporter, geo, geometries);
+			writtenDuringExport.set(out.size());
+		});
+
+		assertNull(header);
+		assertTrue(writtenDuringExport.get() >= ExportToPrinter3D.FLUSH_SIZE);
+		String expected = exporter.export(new FormatCollada(), 1,
+				() -> exportMerged(exporter, geo, geometries)).toString();
+		assertEquals(expected, out.toString(StandardCharsets.UTF_8.name()));
+	}
+
+	@Test(expected = IOException.class)
+	public void writeFailureShouldBeThrown() throws IOException {
+		GeoElement geo = add("A=(1,2,3)");
+		List<GeometryForExport> geometries = Collections
+				.singletonList(largeGeometry());
+		ExportToPrinter3D exporter = new ExportToPrinter3D(null, null);
+		OutputStream failing = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("disk full");
+			}
+		};
+		exporter.export(new FormatCollada(), failing, 1,
+				() -> exportMerged(exporter, geo, geometries));
+	}
+
+	@Test
+	public void binaryStlHeaderShouldBeReturned() throws IOException {
+		ExportToPrinter3D exporter = new ExportToPrinter3D(null, null);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		FormatSTLBinary format = new FormatSTLBinary();
+		byte[] header = exporter.export(format, out, 1, () -> format
+				.getTriangle(new StringBuilder(), 0, 0, 1, 0, 0, 0, 1, 0, 0,
+						0, 1, 0));
+
+		assertEquals(84 + 50, out.size());
+		assertEquals(1, header[80]);
+		byte[] written = Arrays.copyOf(out.toByteArray(), 80);
+		assertArrayEquals(Arrays.copyOf(header, 80), written);
+	}
+
+	private static void exportMerged(ExportToPrinter3D exporter,
+			GeoElement geo, List<GeometryForExport> geometries) {
+		exporter.exportMergedSurface(geo, geometries, "SURFACE", false, null,
+				1, false);
+	}
+
+	private static TestGeometry largeGeometry() {
+		int length = 10000;
+		double[] coords = new double[length * 3];
+		for (int i = 0; i < length; i++) {
+			coords[3 * i] = i;
+			coords[3 * i + 1] = i % 2;
+		}
+		int[] faces = new int[(length - 2) * 3];
+		for (int i = 0; i < length - 2; i++) {
+			faces[3 * i] = i;
+			faces[3 * i + 1] = i + 1;
+			faces[3 * i + 2] = i + 2;
+		}
+		return new TestGeometry(coords, faces);
+	}
+
+	private static class TestGeometry implements GeometryForExport {
+		private final GLBuffer vertices = new GLBufferJre();
+		private final GLBuffer normals = new GLBufferJre();
+		private final GLBufferIndices indices = new GLBufferIndicesJre();
+		private final int length;
+		private final int indicesLength;
+
+		TestGeometry(double[] coords, int... faces) {
+			length = coords.length / 3;
+			vertices.allocate(coords.length);
+			normals.allocate(coords.length);
+			for (double coord : coords) {
+				vertices.put(coord);
+			}
+			for (int i = 0; i < length; i++) {
+				normals.put(0);
+				normals.put(0);
+				normals.put(1);
+			}
+			vertices.setLimit(coords.length);
+			normals.setLimit(coords.length);
+			indicesLength = faces.length;
+			indices.allocate(indicesLength);
+			for (int face : faces) {
+				indices.put((short) face);
+			}
+			indices.setLimit(indicesLength);
+		}
+
+		@Override
+		public void initForExport() {
+			// buffers are always ready
+		}
+
+		@Override
+		public int getLengthForExport() {
+			return length;
+		}
+
+		@Override
+		public GLBuffer getVerticesForExport() {
+			return vertices;
+		}
+
+		@Override
+		public GLBuffer getNormalsForExport() {
+			return normals;
+		}
+
+		@Override
+		public GLBufferIndices getBufferIndices() {
+			return indices;
+		}
+
+		@Override
+		public int getIndicesLength() {
+			return indicesLength;
+		}
+
+		@Override
+		public int getElementsOffset() {
+			return 0;
+		}
+
+		@Override
+		public Manager.Type getType() {
+			return Manager.Type.TRIANGLES;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package org.geogebra.common.geogebra3D.euclidian3D.printer3D;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+public class FormatSTLBinaryTest {
+
+	@Test
+	public void trianglesShouldBeWrittenAfterHeaderAndCount()
+			throws IOException {
+		FormatSTLBinary format = new FormatSTLBinary();
+		StringBuilder sb = new StringBuilder();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		format.getScriptStart(sb);
+		writeTriangles(format, sb);
+		format.getScriptEnd(sb);
+		format.flush(sb, out);
+		assertEquals(2, format.getTrianglesCount());
+
+		ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray())
+				.order(ByteOrder.LITTLE_ENDIAN);
+		assertEquals(84 + 2 * 50, bytes.limit());
+		// count is only known at the end
+		assertEquals(0, bytes.getInt(80));
+		// normal of first triangle
+		assertEquals(1f, bytes.getFloat(84 + 8), 0);
+		// last vertex of second triangle
+		assertEquals(7f, bytes.getFloat(84 + 50 + 44), 0);
+		assertEquals(0, format.getPendingSize(sb));
+	}
+
+	@Test
+	public void headerToRewriteShouldHaveTrianglesCount() {
+		FormatSTLBinary format = new FormatSTLBinary();
+		StringBuilder sb = new StringBuilder();
+		format.getScriptStart(sb);
+		writeTriangles(format, sb);
+		format.getScriptEnd(sb);
+		int pendingSize = format.getPendingSize(sb);
+
+		ByteBuffer header = ByteBuffer.wrap(format.getHeaderToRewrite())
+				.order(ByteOrder.LITTLE_ENDIAN);
+		assertEquals(84, header.limit());
+		assertEquals(2, header.getInt(80));
+		assertEquals(pendingSize, format.getPendingSize(sb));
+	}
+
+	private static void writeTriangles(FormatSTLBinary format,
+			StringBuilder sb) {
+		format.getTriangle(sb, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0, 1, 0);
+		format.getTriangle(sb, 0, 0, 1, 1, 0, 0, 1, 1, 0, 0, 1, 7);
+	}
+}
@@ -0,0 +1,33 @@
+package org.geogebra.common.geogebra3D.euclidian3D.printer3D;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class VertexHashIndexTest {
+
+	@Test
+	public void duplicatesShouldGetSameIndex() {
+		VertexHashIndex index = new VertexHashIndex();
+		assertEquals(0, index.add(1, 2, 3, 0, 0, 1));
+		assertEquals(1, index.add(1, 2, 3, 0, 0, -1));
+		assertEquals(0, index.add(1, 2, 3, 0, 0, 1));
+		assertEquals(2, index.size());
+		assertEquals(-1f, index.get(1, 5), 0);
+	}
+
+	@Test
+	public void indexShouldGrow() {
+		VertexHashIndex index = new VertexHashIndex();
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, index.add(i, i % 7, 0, 0, 0, 1));
+		}
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, index.add(i, i % 7, 0, 0, 0, 1));
+		}
+		assertEquals(1000, index.size());
+		index.clear();
+		assertEquals(0, index.size());
+		assertEquals(0, index.add(5, 5, 0, 0, 0, 1));
+	}
+}
@@ -142,6 +142,24 @@ public class ProbabilityCalculatorViewTest extends BaseUnitTest {
 		return probCalc;
 	}
 
+	@Test
+	public void tabulatedProbabilitiesShouldFollowParameterValues() {
+		ProbabilityCalculatorView probCalc = new HeadlessProbabilityCalculatorView(getApp());
+		ProbabilityManager manager = new ProbabilityManager(getApp(), probCalc);
+		GeoNumeric trials = new GeoNumeric(getKernel().getConstruction(), 14);
+		GeoNumberValue[] params = new GeoNumeric[]{trials,
+				new GeoNumeric(getKernel().getConstruction(), 0.6)};
+		assertEquals(0.30755, manager.probability(7, params, BINOMIAL, true), 1E-5);
+		assertEquals(0.15741, manager.probability(7, params, BINOMIAL, false), 1E-5);
+		assertEquals(0.30755, manager.intervalProbability(0, 7, BINOMIAL, params,
+				PROB_INTERVAL), 1E-5);
+		trials.setValue(10);
+		assertEquals(0.83271, manager.probability(7, params, BINOMIAL, true), 1E-5);
+		assertEquals(0.5, manager.probability(0, new GeoNumberValue[]{
+				new GeoNumeric(getKernel().getConstruction(), 0),
+				new GeoNumeric(getKernel().getConstruction(), 1)}, Dist.NORMAL, true), 1E-10);
+	}
+
 	@Test
 	public void testXAxisIntervalForDiscreteDistShouldBeOne() {
 		ProbabilityCalculatorView probCalc = new HeadlessProbabilityCalculatorView(getApp());
@@ -5,6 +5,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.geogebra.common.BaseUnitTest;
 import org.geogebra.common.kernel.CircularDefinitionException;
@@ -102,6 +103,24 @@ public class RelativeCopyTest extends BaseUnitTest {
 		}
 	}
 
+	@Test
+	public void rangeFillShouldShiftReferencesOfEachCell() {
+		for (int row = 1; row <= 200; row++) {
+			add("A" + row + "=" + row);
+		}
+		add("B1=2*A1+$A$1");
+		add("C1=7");
+		RelativeCopy relativeCopy = newRelativeCopy();
+		relativeCopy.beginRangeFill();
+		assertTrue(relativeCopy.doDragCopy(1, 0, 2, 0,
+				1, 1, 2, 199));
+		relativeCopy.endRangeFill();
+		for (int row = 2; row <= 200; row++) {
+			assertThat(lookup("B" + row), hasValue(String.valueOf(2 * row + 1)));
+			assertThat(lookup("C" + row), hasValue("7"));
+		}
+	}
+
 	private RelativeCopy newRelativeCopy() {
 		return new RelativeCopy(getKernel(), TestErrorHandler.INSTANCE);
 	}
@@ -0,0 +1,110 @@
+package org.geogebra.common.gui.view.spreadsheet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.kernel.geos.GeoList;
+import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.junit.Test;
+
+public class StreamingDataImportTest extends BaseUnitTest {
+
+	@Test
+	public void shouldParseChunksSplitAnywhere() {
+		String csv = "x,\"label, quoted\"\r\n1,\"a \"\"b\"\"\"\r\n2.5,3\r\n\r\n-1e2,";
+		for (int split = 0; split <= csv.length(); split++) {
+			StreamingDataImport dataImport = new StreamingDataImport(-1, null);
+			dataImport.append(csv.substring(0, split));
+			dataImport.append(csv.substring(split));
+			dataImport.finish();
+			assertEquals(3, dataImport.getRowCount());
+			List<DataColumn> columns = dataImport.getColumns();
+			assertEquals("x", columns.get(0).getName());
+			assertEquals("label, quoted", columns.get(1).getName());
+			assertEquals(-100, columns.get(0).getValue(2), 0);
+			assertEquals("a \"b\"", columns.get(1).getText(0));
+			assertEquals(3, columns.get(1).getValue(1), 0);
+			assertTrue(columns.get(1).isEmpty(2));
+		}
+	}
+
+	@Test
+	public void shouldPadRaggedRows() {
+		StreamingDataImport dataImport = new StreamingDataImport(-1, null);
+		dataImport.append("1\t2\n3\n4\t5\t6\n");
+		dataImport.finish();
+		List<DataColumn> columns = dataImport.getColumns();
+		assertEquals(3, columns.size());
+		assertNull(columns.get(0).getName());
+		assertTrue(columns.get(1).isEmpty(1));
+		assertTrue(columns.get(2).isEmpty(0));
+		assertEquals(6, columns.get(2).getValue(2), 0);
+		double[] numbers = columns.get(2).getNumbers();
+		assertEquals(3, numbers.length);
+		assertEquals(Double.NaN, numbers[1], 0);
+		assertEquals(6, numbers[2], 0);
+	}
+
+	@Test
+	public void shouldParseNumbers() {
+		assertEquals(1234567, StreamingDataImport.parseNumber("1,234,567"), 0);
+		assertEquals(0.5, StreamingDataImport.parseNumber("0,5"), 0);
+		assertEquals(Double.NaN, StreamingDataImport.parseNumber("NaN"), 0);
+		assertEquals(Double.NaN, StreamingDataImport.parseNumber("1d"), 0);
+		assertEquals(Double.NaN, StreamingDataImport.parseNumber("1-2"), 0);
+	}
+
+	@Test
+	public void shouldCreateListsForAllColumns() {
+		StreamingDataImport dataImport = new StreamingDataImport(-1, null);
+		dataImport.append("height,name,1st\n1,a,4\n2,b,5\n3,c,6\n");
+		dataImport.finish();
+		List<GeoList> lists = dataImport.createLists(getConstruction());
+		assertEquals(3, lists.size());
+		assertEquals("height", lists.get(0).getLabelSimple());
+		assertEquals("name", lists.get(1).getLabelSimple());
+		assertEquals("b", lists.get(1).get(1)
+				.toValueString(StringTemplate.defaultTemplate));
+		assertFalse("1st".equals(lists.get(2).getLabelSimple()));
+		GeoNumeric mean = add("Mean(height)");
+		assertEquals(2, mean.getDouble(), DELTA);
+		add("SetValue(height, 3, 6)");
+		assertEquals(3, mean.getDouble(), DELTA);
+	}
+
+	@Test
+	public void emptyCellsShouldKeepRowsAligned() {
+		StreamingDataImport dataImport = new StreamingDataImport(-1, null);
+		dataImport.append("x,y\n1,2\n,4\n3,x\n");
+		dataImport.finish();
+		List<GeoList> lists = dataImport.createLists(getConstruction());
+		assertEquals(3, lists.get(0).size());
+		assertFalse(lists.get(0).get(1).isDefined());
+		assertEquals(3, ((GeoNumeric) lists.get(0).get(2)).getDouble(), 0);
+		assertEquals(3, lists.get(1).size());
+		assertTrue(lists.get(1).get(2).isGeoText());
+	}
+
+	@Test
+	public void shouldReportProgressWhenFinished() {
+		String csv = "x,y\n1,2\n3,4\n";
+		List<Double> fractions = new ArrayList<>();
+		List<Integer> progress = new ArrayList<>();
+		StreamingDataImport dataImport = new StreamingDataImport(csv.length(),
+				(count, fraction) -> {
+					progress.add(count);
+					fractions.add(fraction);
+				});
+		dataImport.append(csv);
+		dataImport.finish();
+		assertEquals(2, (int) progress.get(progress.size() - 1));
+		assertEquals(1, fractions.get(fractions.size() - 1), 0);
+	}
+}
@@ -0,0 +1,100 @@
+package org.geogebra.common.jre.cas.giac;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.geogebra.common.cas.error.TimeoutException;
+import org.junit.After;
+import org.junit.Test;
+
+public class CASExecutorTest {
+
+	private final CASExecutor executor = new CASExecutor("test", 1);
+
+	@After
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void workerShouldBeReused() throws InterruptedException {
+		AtomicReference<Thread> first = new AtomicReference<>();
+		AtomicReference<Thread> second = new AtomicReference<>();
+		executor.execute(() -> first.set(Thread.currentThread()), 1000, null);
+		executor.execute(() -> second.set(Thread.currentThread()), 1000, null);
+		assertSame(first.get(), second.get());
+		assertEquals(1, executor.getCreatedWorkerCount());
+		assertEquals(2, executor.getEvaluationCount());
+		assertEquals(0, executor.getTimeoutCount());
+	}
+
+	@Test
+	public void workerShouldBeReplacedAfterTimeout()
+			throws InterruptedException {
+		CountDownLatch stuck = new CountDownLatch(1);
+		AtomicReference<Thread> abandoned = new AtomicReference<>();
+		AtomicReference<Thread> running = new AtomicReference<>();
+		try {
+			executor.execute(() -> {
+				running.set(Thread.currentThread());
+				awaitQuietly(stuck);
+			}, 10, abandoned::set);
+			fail("timeout expected");
+		} catch (TimeoutException e) {
+			// expected
+		}
+		assertSame(running.get(), abandoned.get());
+		AtomicReference<Thread> next = new AtomicReference<>();
+		executor.execute(() -> next.set(Thread.currentThread()), 1000, null);
+		stuck.countDown();
+		assertEquals(2, executor.getCreatedWorkerCount());
+		assertEquals(1, executor.getTimeoutCount());
+		assertNotSame(running.get(), next.get());
+	}
+
+	@Test
+	public void waitingForBusyWorkerShouldTimeOut()
+			throws InterruptedException {
+		CountDownLatch stuck = new CountDownLatch(1);
+		CountDownLatch running = new CountDownLatch(1);
+		Thread other = new Thread(() -> {
+			try {
+				executor.execute(() -> {
+					running.countDown();
+					awaitQuietly(stuck);
+				}, 60000, null);
+			} catch (InterruptedException e) {
+				// stop waiting
+			}
+		});
+		other.start();
+		running.await();
+		AtomicReference<Thread> never = new AtomicReference<>();
+		try {
+			executor.execute(() -> never.set(Thread.currentThread()), 10, null);
+			fail("timeout expected");
+		} catch (TimeoutException e) {
+			// expected
+		}
+		stuck.countDown();
+		other.join();
+		assertEquals(1, executor.getCreatedWorkerCount());
+		assertEquals(1, executor.getTimeoutCount());
+		executor.execute(() -> { }, 1000, null);
+		assertNull(never.get());
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			// stop waiting
+		}
+	}
+}
@@ -0,0 +1,182 @@
+package org.geogebra.common.jre.cas.giac;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.GeoGebraConstants;
+import org.geogebra.common.cas.CASparser;
+import org.geogebra.common.cas.giac.CASgiacB;
+import org.geogebra.common.cas.giac.binding.CASGiacBinding;
+import org.geogebra.common.cas.giac.binding.Context;
+import org.geogebra.common.cas.giac.binding.Gen;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PersistentCASCacheTest extends BaseUnitTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void resultsShouldSurviveReopening() throws IOException {
+		File file = folder.newFile("cas.cache");
+		try (PersistentCASCache cache = new PersistentCASCache(file, "v1",
+				1 << 20)) {
+			cache.put("evalfa(factor(x^2-1))", "(x-1)*(x+1)");
+			cache.put("evalfa(2+2)", "3");
+			cache.put("evalfa(2+2)", "4");
+		}
+		try (PersistentCASCache cache = new PersistentCASCache(file, "v1",
+				1 << 20)) {
+			assertEquals("(x-1)*(x+1)", cache.get("evalfa(factor(x^2-1))"));
+			assertEquals("4", cache.get("evalfa(2+2)"));
+			assertNull(cache.get("evalfa(2+3)"));
+			assertEquals(2, cache.size());
+		}
+	}
+
+	@Test
+	public void otherVersionShouldClearCache() throws IOException {
+		File file = folder.newFile("cas.cache");
+		try (PersistentCASCache cache = new PersistentCASCache(file, "v1",
+				1 << 20)) {
+			cache.put("evalfa(2+2)", "4");
+		}
+		try (PersistentCASCache cache = new PersistentCASCache(file, "v2",
+				1 << 20)) {
+			assertNull(cache.get("evalfa(2+2)"));
+			assertEquals(0, cache.size());
+		}
+	}
+
+	@Test
+	public void incompleteRecordShouldBeDropped() throws IOException {
+		File file = folder.newFile("cas.cache");
+		try (PersistentCASCache cache = new PersistentCASCache(file, "v1",
+				1 << 20)) {
+			cache.put("a", "1");
+			cache.put("b", "2");
+		}
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(raf.length() - 1);
+		}
+		try (PersistentCASCache cache = new PersistentCASCache(file, "v1",
+				1 << 20)) {
+			assertEquals("1", cache.get("a"));
+			assertNull(cache.get("b"));
+			cache.put("c", "3");
+			assertEquals("3", cache.get("c"));
+		}
+	}
+
+	@Test
+	public void compactionShouldKeepRecentResults() throws IOException {
+		File file = folder.newFile("cas.cache");
+		int maxBytes = 4096;
+		try (PersistentCASCache cache = new PersistentCASCache(file, "v1",
+				maxBytes)) {
+			for (int i = 0; i < 1000; i++) {
+				cache.put("input" + i, "result" + i);
+				assertTrue(file.length() <= maxBytes);
+			}
+			assertEquals("result999", cache.get("input999"));
+			assertNull(cache.get("input0"));
+		}
+	}
+
+	@Test
+	public void giacVersionShouldBeUnquoted() {
+		assertEquals("1.9.0-1", newGiac("\"1.9.0-1\"").getGiacVersion());
+	}
+
+	@Test
+	public void failedVersionQueryShouldBeRepeated() {
+		VersionGiac giac = newGiac(null);
+		assertEquals("", giac.getGiacVersion());
+		giac.version = "1.9.0-1";
+		assertEquals("1.9.0-1", giac.getGiacVersion());
+	}
+
+	@Test
+	public void versionKeyShouldContainVersionsAndSettings() throws IOException {
+		VersionGiac giac = newGiac("1.9.0-1");
+		String key = PersistentCASCache.getDefaultVersionKey(giac, getKernel());
+		assertTrue(key.startsWith(GeoGebraConstants.VERSION_STRING + " 1.9.0-1"));
+		getKernel().setPrintDecimals(5);
+		assertNotEquals(key,
+				PersistentCASCache.getDefaultVersionKey(giac, getKernel()));
+		key = PersistentCASCache.getDefaultVersionKey(giac, getKernel());
+		getApp().getSettings().getCasSettings().setTimeoutMilliseconds(1000);
+		assertNotEquals(key,
+				PersistentCASCache.getDefaultVersionKey(giac, getKernel()));
+	}
+
+	@Test(expected = IOException.class)
+	public void versionKeyShouldNeedGiacVersion() throws IOException {
+		PersistentCASCache.getDefaultVersionKey(newGiac(null), getKernel());
+	}
+
+	private VersionGiac newGiac(String version) {
+		VersionGiac giac = new VersionGiac(
+				(CASparser) getKernel().getGeoGebraCAS().getCASparser());
+		giac.version = version;
+		return giac;
+	}
+
+	/**
+	 * Giac connector that only knows its version; null version means that
+	 * the library is not available.
+	 */
+	private static class VersionGiac extends CASgiacB {
+		private String version;
+
+		VersionGiac(CASparser parser) {
+			super(parser);
+		}
+
+		@Override
+		protected CASGiacBinding createBinding() {
+			final String reported = version;
+			return new CASGiacBinding() {
+				@Override
+				public Context createContext() {
+					return new Context() {
+						// no native context
+					};
+				}
+
+				@Override
+				public Gen createGen(String string, Context context) {
+					if (reported == null) {
+						throw new IllegalStateException("no Giac");
+					}
+					return new Gen() {
+						@Override
+						public Gen eval(int level, Context context1) {
+							return this;
+						}
+
+						@Override
+						public String print(Context context1) {
+							return reported;
+						}
+					};
+				}
+			};
+		}
+
+		@Override
+		protected void callEvaluateFunction(Runnable evaluateFunction,
+				EvaluationResult evalResult) {
+			evaluateFunction.run();
+		}
+	}
+}
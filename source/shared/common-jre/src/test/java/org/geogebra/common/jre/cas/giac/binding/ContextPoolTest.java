@@ -0,0 +1,109 @@
+package org.geogebra.common.jre.cas.giac.binding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.geogebra.common.cas.giac.binding.CASGiacBinding;
+import org.geogebra.common.cas.giac.binding.Context;
+import org.geogebra.common.cas.giac.binding.Gen;
+import org.junit.Test;
+
+public class ContextPoolTest {
+
+	private static class FakeBinding implements CASGiacBinding {
+
+		private final List<Context> deleted = new ArrayList<>();
+
+		@Override
+		public Context createContext() {
+			return new Context() {
+				// no native context
+			};
+		}
+
+		@Override
+		public Gen createGen(String string, Context context) {
+			return null;
+		}
+
+		@Override
+		public void deleteContext(Context context) {
+			deleted.add(context);
+		}
+	}
+
+	@Test
+	public void contextsShouldBeCreatedLazily() {
+		ContextPool pool = new ContextPool(new FakeBinding(), 3);
+		Context first = pool.lease();
+		pool.release(first);
+		assertSame(first, pool.lease());
+		Context second = pool.lease();
+		assertNotSame(first, second);
+		assertEquals(2, pool.getCreatedCount());
+	}
+
+	@Test
+	public void foreignContextShouldNotBeLeased() {
+		ContextPool pool = new ContextPool(new FakeBinding(), 1);
+		Context own = pool.lease();
+		pool.release(new FakeBinding().createContext());
+		pool.release(own);
+		assertSame(own, pool.lease());
+	}
+
+	@Test
+	public void leaseShouldWaitForRelease() throws InterruptedException {
+		final ContextPool pool = new ContextPool(new FakeBinding(), 1);
+		Context only = pool.lease();
+		final AtomicReference<Context> leased = new AtomicReference<>();
+		final CountDownLatch done = new CountDownLatch(1);
+		Thread thread = new Thread(() -> {
+			leased.set(pool.lease());
+			done.countDown();
+		});
+		thread.start();
+		assertEquals(1, done.getCount());
+		pool.release(only);
+		done.await(5, TimeUnit.SECONDS);
+		assertSame(only, leased.get());
+		assertEquals(1, pool.getCreatedCount());
+	}
+
+	@Test
+	public void retiredPoolShouldDeleteContextsOnceReleased() {
+		FakeBinding binding = new FakeBinding();
+		ContextPool pool = new ContextPool(binding, 2);
+		Context first = pool.lease();
+		Context second = pool.lease();
+		pool.release(first);
+		pool.retire();
+		// second is still used by an evaluation
+		assertEquals(0, binding.deleted.size());
+		pool.release(second);
+		assertEquals(Arrays.asList(first, second), binding.deleted);
+		assertEquals(0, pool.getLiveCount());
+	}
+
+	@Test
+	public void idleRetiredPoolShouldDeleteContexts() {
+		FakeBinding binding = new FakeBinding();
+		ContextPool pool = new ContextPool(binding, 2);
+		Context only = pool.lease();
+		pool.release(only);
+		pool.retire();
+		assertEquals(Collections.singletonList(only), binding.deleted);
+		// released twice by mistake
+		pool.release(only);
+		assertEquals(1, binding.deleted.size());
+	}
+}
@@ -0,0 +1,39 @@
+package org.geogebra.common.jre.openGL;
+
+import static org.junit.Assert.assertEquals;
+
+import org.geogebra.common.geogebra3D.euclidian3D.openGL.ReusableFloatArray;
+import org.junit.Test;
+
+public class GLBufferJreTest {
+
+	@Test
+	public void reusableArrayShouldGrowAndKeepValues() {
+		ReusableFloatArray array = new ReusableFloatArray(2);
+		for (int i = 0; i < 100; i++) {
+			array.addValues(i, i + 0.5, -i);
+		}
+		assertEquals(300, array.getLength());
+		assertEquals(42.5f, array.get(3 * 42 + 1), 0);
+		array.setLength(0);
+		array.addValue(7);
+		assertEquals(1, array.getLength());
+		assertEquals(7f, array.get(0), 0);
+	}
+
+	@Test
+	public void setShouldCopyValuesAtOffset() {
+		ReusableFloatArray array = new ReusableFloatArray();
+		array.addValues(1, 2, 3, 4);
+		GLBufferJre buffer = new GLBufferJre();
+		buffer.allocate(8);
+		buffer.setLimit(8);
+		buffer.set(array, 1, 4, 3);
+		float[] result = new float[8];
+		buffer.array(result);
+		assertEquals(0f, result[3], 0);
+		assertEquals(2f, result[4], 0);
+		assertEquals(4f, result[6], 0);
+		assertEquals(0f, result[7], 0);
+	}
+}
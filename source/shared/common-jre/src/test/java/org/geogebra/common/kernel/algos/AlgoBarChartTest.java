@@ -2,6 +2,7 @@ package org.geogebra.common.kernel.algos;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
 
 import org.geogebra.common.BaseUnitTest;
 import org.geogebra.common.kernel.geos.GeoNumeric;
@@ -14,4 +15,13 @@ public class AlgoBarChartTest extends BaseUnitTest {
 		GeoNumeric chart = addAvInput("BarChart({10, 11, 12, 13, 14}, {5, 8, 12, 0, 1})");
 		assertThat(chart.showInEuclidianView(), is(true));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void distributionBarChartShouldFollowParameters() {
+		addAvInput("p=0.5");
+		GeoNumeric chart = addAvInput("BinomialDist(4, p, true)");
+		assertThat(chart.getValue(), closeTo(3, 1E-12));
+		addAvInput("SetValue(p, 1)");
+		assertThat(chart.getValue(), closeTo(1, 1E-12));
+	}
+}
@@ -0,0 +1,96 @@
+package org.geogebra.common.kernel.algos;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.jre.util.ParallelExecutorJre;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoList;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ElementExpressionEvaluatorTest extends BaseUnitTest {
+
+	private static ForkJoinPool pool;
+
+	@BeforeClass
+	public static void setupPool() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void shutdownPool() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void numericExpressionsShouldBeEvaluatedInParallel() {
+		add("a = 2");
+		ElementExpressionEvaluator evaluator = evaluatorFor("Sequence(i^2 / 3 + a, i, 1, 3)");
+		assertThat(evaluator, notNullValue());
+		assertThat(evaluator.isWorthRunningInParallel(100), is(false));
+		assertThat(evaluator.isWorthRunningInParallel(10000), is(true));
+		double[] vars = new double[10000];
+		for (int i = 0; i < vars.length; i++) {
+			vars[i] = i + 1;
+		}
+		double[] values = evaluator.evaluateNumbers(vars.length, new double[][] {vars});
+		for (int i = 0; i < vars.length; i++) {
+			assertThat(values[i], closeTo(vars[i] * vars[i] / 3 + 2, 1E-9));
+		}
+	}
+
+	@Test
+	public void bodiesWithSideEffectsShouldBeComputedElementwise() {
+		add("f(x) = x^2");
+		assertThat(evaluatorFor("Sequence(random() + i, i, 1, 3)"), nullValue());
+		assertThat(evaluatorFor("Sequence(Integral(f, 0, i), i, 1, 3)"), nullValue());
+		assertThat(evaluatorFor("Sequence(f(i), i, 1, 3)"), nullValue());
+		assertThat(evaluatorFor("Sequence(Segment((0, 0), (i, i)), i, 1, 3)"), nullValue());
+	}
+
+	@Test
+	public void pointSequenceShouldReuseElements() {
+		add("a = 1");
+		GeoList seq = add("Sequence((i, a * i^2), i, 1, 3)");
+		assertThat(evaluatorFor("Sequence((i, a * i^2), i, 1, 3)").isPoint(), is(true));
+		GeoElement last = seq.get(2);
+		assertThat(last, hasValue("(3, 9)"));
+		add("SetValue(a, 2)");
+		assertThat(seq.get(2) == last, is(true));
+		assertThat(last, hasValue("(3, 18)"));
+	}
+
+	@Test
+	public void longSequenceShouldMatchElementwiseValues() {
+		add("a = 2");
+		GeoList seq = add("Sequence(i^2 / 3 + a, i, 1, 10000)");
+		assertThat(seq.size(), is(10000));
+		assertThat(seq.get(9999).evaluateDouble(), closeTo(1E8 / 3 + 2, 1E-6));
+		add("SetValue(a, 3)");
+		assertThat(seq.get(0).evaluateDouble(), closeTo(1 / 3.0 + 3, 1E-9));
+	}
+
+	@Test
+	public void longZipShouldMatchElementwiseValues() {
+		add("l1 = Sequence(k, k, 1, 5000)");
+		GeoList zip = add("Zip(x * y + n, x, l1, y, l1, n)");
+		assertThat(zip.size(), is(5000));
+		assertThat(zip.get(4999).evaluateDouble(), closeTo(5000.0 * 5000 + 5000, 1E-9));
+	}
+
+	private ElementExpressionEvaluator evaluatorFor(String sequence) {
+		GeoList list = add(sequence);
+		AlgoElement algo = list.getParentAlgorithm();
+		GeoElement body = algo.getInput(0);
+		return ElementExpressionEvaluator.create(body.getParentAlgorithm(), body,
+				new GeoElement[] {algo.getInput(1)}, new ParallelExecutorJre(pool));
+	}
+}
@@ -15,6 +15,7 @@ import org.geogebra.common.kernel.StringTemplate;
 import org.geogebra.common.kernel.geos.GeoBoolean;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoList;
+import org.geogebra.common.kernel.geos.GeoNumeric;
 import org.geogebra.common.kernel.geos.GeoText;
 import org.junit.Before;
 import org.junit.Test;
@@ -90,6 +91,38 @@ public class RandomCmdTest extends BaseUnitTest {
 		shouldBeStable("Sequence(RandomBetween(1,k),k,1,5)");
 	}
 
+	@Test
+	public void randomListShouldBeStable() {
+		shouldBeStable("RandomUniform(1,3,5)");
+		shouldBeStable("Random(1,6,10)");
+		shouldBeStable("Sequence(RandomBinomial(100,0.3),k,1,1000)");
+		shouldBeStable("Sequence(RandomPoisson(4),k,1,1000)");
+	}
+
+	@Test
+	public void sequenceOfRandomNumbersShouldBeSampledAtOnce() {
+		GeoList list = add("Sequence(RandomBinomial(10,0.5),k,1,10000)");
+		assertEquals(10000, list.size());
+		assertEquals(10, ((GeoNumeric) add("Max(" + list.getLabelSimple() + ")"))
+				.getValue(), 1E-12);
+		GeoList dice = add("Random(1,6,10000)");
+		assertEquals(10000, dice.size());
+		assertEquals(3.5, ((GeoNumeric) add("mean(" + dice.getLabelSimple() + ")"))
+				.getValue(), 0.1);
+	}
+
+	@Test
+	public void sampledSequenceShouldShrinkToEmpty() {
+		add("n=5");
+		GeoList list = add("Sequence(RandomBinomial(10,0.5),k,1,n)");
+		assertEquals(5, list.size());
+		// sampled numbers have no cached elements to make undefined
+		add("SetValue(n,0)");
+		assertEquals(0, list.size());
+		add("SetValue(n,3)");
+		assertEquals(3, list.size());
+	}
+
 	@Test
 	public void latexListElementsShouldStayLatex() {
 		addLatex("f", "\\log x");
@@ -0,0 +1,50 @@
+package org.geogebra.common.kernel.interval.samplers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.jre.util.ParallelExecutorJre;
+import org.geogebra.common.kernel.geos.GeoFunction;
+import org.geogebra.common.kernel.interval.Interval;
+import org.geogebra.common.kernel.interval.function.GeoFunctionConverter;
+import org.geogebra.common.kernel.interval.function.IntervalTuple;
+import org.geogebra.common.util.ParallelExecutor;
+import org.junit.Test;
+
+public class IntervalBatchEvaluatorTest extends BaseUnitTest {
+
+	@Test
+	public void testParallelEvaluationMatchesSerial() {
+		GeoFunction function = add("sin(x) / x + sqrt(abs(x))");
+		GeoFunctionConverter converter = new GeoFunctionConverter();
+		List<Interval> xs = new ArrayList<>();
+		int count = 10 * IntervalBatchEvaluator.MIN_CHUNK_SIZE + 17;
+		for (int i = 0; i < count; i++) {
+			xs.add(new Interval(-50 + 0.1 * i, -50 + 0.1 * (i + 1)));
+		}
+		IntervalBatchEvaluator serial = new IntervalBatchEvaluator(
+				() -> converter.convert(function), ParallelExecutor.serial());
+		IntervalBatchEvaluator parallel = new IntervalBatchEvaluator(
+				() -> converter.convert(function), new ParallelExecutorJre(new ForkJoinPool(4)));
+		List<IntervalTuple> expected = serial.evaluate(xs);
+		List<IntervalTuple> actual = parallel.evaluate(xs);
+		assertEquals(count, actual.size());
+		for (int i = 0; i < count; i++) {
+			assertEquals(expected.get(i).x(), actual.get(i).x());
+			assertEquals(expected.get(i).y(), actual.get(i).y());
+		}
+	}
+
+	@Test
+	public void testEmptyBatch() {
+		GeoFunction function = add("x^2");
+		IntervalBatchEvaluator evaluator = new IntervalBatchEvaluator(
+				() -> new GeoFunctionConverter().convert(function),
+				new ParallelExecutorJre());
+		assertEquals(0, evaluator.evaluate(new ArrayList<>()).size());
+	}
+}
@@ -0,0 +1,71 @@
+package org.geogebra.common.kernel.optimization;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.jre.util.ParallelExecutorJre;
+import org.geogebra.common.kernel.geos.GeoFunction;
+import org.geogebra.common.util.ParallelExecutor;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class FitRealFunctionTest extends BaseUnitTest {
+
+	private static ForkJoinPool pool;
+
+	@BeforeClass
+	public static void setupPool() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void shutdownPool() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void parallelEvaluationShouldMatchSerial() {
+		add("a = 1");
+		add("b = 2");
+		GeoFunction f = add("f(x) = a x^2 + b sin(x) + a");
+		FitRealFunction serial = new FitRealFunction(f.getFunction(),
+				ParallelExecutor.serial());
+		FitRealFunction parallel = new FitRealFunction(f.getFunction(),
+				new ParallelExecutorJre(pool));
+		double[] x = new double[8 * FitRealFunction.MIN_CHUNK_SIZE];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = i * 0.01;
+		}
+		double[] parameters = {3, -1};
+		assertArrayEquals(serial.values(x, parameters),
+				parallel.values(x, parameters), 0);
+		double[][] serialJacobian = serial.jacobian(x, parameters);
+		double[][] parallelJacobian = parallel.jacobian(x, parameters);
+		for (int i = 0; i < x.length; i++) {
+			assertArrayEquals(serialJacobian[i], parallelJacobian[i], 0);
+		}
+		// result function uses the parameters of the last evaluation
+		assertEquals(serial.value(2), parallel.value(2), 0);
+	}
+
+	@Test
+	public void functionsShouldBeEvaluatedSerially() {
+		add("a = 1");
+		add("g(x) = x^2");
+		GeoFunction f = add("f(x) = a g(x)");
+		FitRealFunction fit = new FitRealFunction(f.getFunction(),
+				new ParallelExecutorJre(pool));
+		double[] x = new double[4 * FitRealFunction.MIN_CHUNK_SIZE];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = i;
+		}
+		double[] values = fit.values(x, 2);
+		for (int i = 0; i < x.length; i++) {
+			assertEquals(2.0 * i * i, values[i], 0);
+		}
+	}
+}
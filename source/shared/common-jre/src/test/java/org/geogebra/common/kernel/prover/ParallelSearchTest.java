@@ -0,0 +1,84 @@
+package org.geogebra.common.kernel.prover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.geogebra.common.jre.util.ParallelExecutorJre;
+import org.geogebra.common.util.ParallelExecutor;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ParallelSearchTest {
+
+	private static ForkJoinPool pool;
+
+	@BeforeClass
+	public static void setup() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void shutdown() {
+		pool.shutdown();
+	}
+
+	private static ParallelSearch<Integer> parallel(long timeout) {
+		return new ParallelSearch<>(new ParallelExecutorJre(pool), timeout);
+	}
+
+	@Test
+	public void shouldReturnAnswerWithLowestIndex() {
+		checkLowestIndex(parallel(0));
+		checkLowestIndex(new ParallelSearch<>(ParallelExecutor.serial(), 0));
+	}
+
+	private static void checkLowestIndex(ParallelSearch<Integer> search) {
+		Integer answer = search.findFirst(1000,
+				index -> index % 97 == 13 ? index : null);
+		assertEquals(Integer.valueOf(13), answer);
+		assertFalse(search.isTimedOut());
+	}
+
+	@Test
+	public void shouldStopAfterFirstAnswerInSerialMode() {
+		AtomicInteger checked = new AtomicInteger();
+		ParallelSearch<Integer> search = new ParallelSearch<>(
+				ParallelExecutor.serial(), 0);
+		search.findFirst(1000, index -> {
+			checked.incrementAndGet();
+			return index == 5 ? index : null;
+		});
+		assertEquals(6, checked.get());
+	}
+
+	@Test
+	public void shouldReturnNullWithoutAnswer() {
+		ParallelSearch<Integer> search = parallel(0);
+		assertNull(search.findFirst(100, index -> null));
+		assertFalse(search.isTimedOut());
+		assertNull(search.findFirst(0, index -> 1));
+	}
+
+	@Test
+	public void shouldStopWhenBudgetIsUsedUp() {
+		ParallelSearch<Integer> search = parallel(50);
+		AtomicInteger checked = new AtomicInteger();
+		assertNull(search.findFirst(1000, index -> {
+			checked.incrementAndGet();
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				// ignore
+			}
+			return null;
+		}));
+		assertTrue(search.isTimedOut());
+		assertTrue(checked.get() < 1000);
+	}
+}
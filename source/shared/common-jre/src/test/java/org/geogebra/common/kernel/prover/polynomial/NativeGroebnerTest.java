@@ -0,0 +1,129 @@
+package org.geogebra.common.kernel.prover.polynomial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.util.ExtendedBoolean;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NativeGroebnerTest extends BaseUnitTest {
+
+	private PVariable x;
+	private PVariable y;
+	private PVariable z;
+	private PVariable t;
+
+	@Before
+	public void setupVariables() {
+		x = new PVariable(getKernel());
+		y = new PVariable(getKernel());
+		z = new PVariable(getKernel());
+		t = new PVariable(getKernel());
+	}
+
+	private static PPolynomial p(PVariable var) {
+		return new PPolynomial(var);
+	}
+
+	private static PPolynomial c(long coeff) {
+		return new PPolynomial(coeff);
+	}
+
+	private static HashSet<PVariable> keep(PVariable... vars) {
+		return new HashSet<>(Arrays.asList(vars));
+	}
+
+	private PPolynomial[] centroidSystem() {
+		// A = (x, y) on the unit circle, B = (2, 0), C = (0, 2),
+		// centroid G = (z, t)
+		return new PPolynomial[] {
+				PPolynomial.sqr(p(x)).add(PPolynomial.sqr(p(y)))
+						.subtract(c(1)),
+				c(3).multiply(p(z)).subtract(p(x)).subtract(c(2)),
+				c(3).multiply(p(t)).subtract(p(y)).subtract(c(2)) };
+	}
+
+	private PPolynomial centroidLocus() {
+		return c(9).multiply(PPolynomial.sqr(p(z)))
+				.add(c(9).multiply(PPolynomial.sqr(p(t))))
+				.subtract(c(12).multiply(p(z)))
+				.subtract(c(12).multiply(p(t))).add(c(7));
+	}
+
+	@Test
+	public void inconsistentSystemShouldNotBeSolvable() {
+		PPolynomial[] polys = { p(x).subtract(c(1)), p(x).subtract(c(2)) };
+		assertEquals(ExtendedBoolean.FALSE, NativeGroebner.solvable(polys));
+	}
+
+	@Test
+	public void circleAndLineShouldBeSolvable() {
+		PPolynomial[] polys = {
+				PPolynomial.sqr(p(x)).add(PPolynomial.sqr(p(y)))
+						.subtract(c(1)),
+				p(x).subtract(p(y)) };
+		assertEquals(ExtendedBoolean.TRUE, NativeGroebner.solvable(polys));
+	}
+
+	@Test
+	public void shouldEliminateParameter() {
+		// x = 2t, y = 3t
+		PPolynomial[] polys = { c(2).multiply(p(t)).subtract(p(x)),
+				c(3).multiply(p(t)).subtract(p(y)) };
+		PPolynomial expected = c(3).multiply(p(x))
+				.subtract(c(2).multiply(p(y)));
+		assertEquals(expected, NativeGroebner.eliminate(polys, keep(x, y)));
+	}
+
+	@Test
+	public void shouldComputeLocusOfMidpoint() {
+		// A = (x, y) on the circle with radius 2, M = (z, t) midpoint of OA
+		PPolynomial[] polys = {
+				PPolynomial.sqr(p(x)).add(PPolynomial.sqr(p(y)))
+						.subtract(c(4)),
+				c(2).multiply(p(z)).subtract(p(x)),
+				c(2).multiply(p(t)).subtract(p(y)) };
+		PPolynomial expected = PPolynomial.sqr(p(z))
+				.add(PPolynomial.sqr(p(t))).subtract(c(1));
+		assertEquals(expected, NativeGroebner.eliminate(polys, keep(z, t)));
+	}
+
+	@Test
+	public void nonPrincipalEliminationIdealShouldNotBeComputed() {
+		PPolynomial[] polys = { p(x).subtract(c(1)), p(y).subtract(c(2)),
+				p(z).subtract(p(x)) };
+		assertNull(NativeGroebner.eliminate(polys, keep(x, y)));
+	}
+
+	@Test
+	public void shouldDecideZeroEliminationIdeal() {
+		PPolynomial[] free = { p(x).subtract(p(y).multiply(p(z))) };
+		assertEquals(ExtendedBoolean.TRUE,
+				NativeGroebner.isEliminationIdealZero(free, keep(y, z)));
+		PPolynomial[] dependent = { p(x).subtract(p(z)),
+				p(y).subtract(p(z)) };
+		assertEquals(ExtendedBoolean.FALSE,
+				NativeGroebner.isEliminationIdealZero(dependent, keep(x, y)));
+	}
+
+	@Test
+	public void shouldComputeJacobianDeterminant() {
+		PPolynomial[] polys = { PPolynomial.sqr(p(x)).add(p(y)),
+				p(x).multiply(p(y)) };
+		PPolynomial expected = c(2).multiply(PPolynomial.sqr(p(x)))
+				.subtract(p(y));
+		assertEquals(expected, PPolynomial.jacobianDeterminant(polys,
+				new PVariable[] { x, y }));
+	}
+
+	@Test
+	public void shouldComputeLocusOfCentroid() {
+		assertEquals(centroidLocus(),
+				NativeGroebner.eliminate(centroidSystem(), keep(z, t)));
+	}
+}
@@ -16,6 +16,7 @@ import org.geogebra.common.kernel.LinearEquationRepresentable;
 import org.geogebra.common.kernel.StringTemplate;
 import org.geogebra.common.kernel.geos.DescriptionMode;
 import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoFunction;
 import org.geogebra.common.kernel.geos.GeoLine;
 import org.geogebra.common.properties.impl.objects.LinearEquationFormProperty;
 import org.geogebra.common.properties.impl.objects.delegate.NotApplicablePropertyException;
@@ -156,6 +157,18 @@ public class FitTests extends BaseUnitTest {
         assertEquals(DescriptionMode.DEFINITION_VALUE, fitPoly.getDescriptionMode());
     }
 
+    @Test
+    public void testFitPolyRegressionWithAppendedPoints() {
+        getApp().setGraphingConfig();
+        addAvInput("n = 5");
+        addAvInput("l = Sequence((k, k^4 - 2k), k, -5, n)");
+        GeoFunction fitPoly = (GeoFunction) addAvInput("FitPoly(l, 4)");
+        assertEquals(9980, fitPoly.value(10), 1E-6);
+        addAvInput("SetValue(n, 8)");
+        assertEquals(9980, fitPoly.value(10), 1E-6);
+        assertEquals(3, fitPoly.value(-1), 1E-6);
+    }
+
     @Test
     public void testFitPw() {
         getApp().setGraphingConfig();
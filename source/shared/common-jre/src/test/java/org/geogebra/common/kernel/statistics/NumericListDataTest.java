@@ -0,0 +1,97 @@
+package org.geogebra.common.kernel.statistics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.kernel.geos.GeoList;
+import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.junit.Test;
+
+public class NumericListDataTest extends BaseUnitTest {
+
+	@Test
+	public void shouldComputeDerivedData() {
+		NumericListData data = new NumericListData(new double[] { 3, 1, 2, 1 });
+		assertEquals(7, data.getSum(), DELTA);
+		assertEquals(15, data.getSumSquares(), DELTA);
+		assertEquals(6, data.getProduct(), DELTA);
+		assertArrayEquals(new double[] { 1, 1, 2, 3 }, data.getSorted(), DELTA);
+		assertArrayEquals(new double[] { 1, 2, 3 }, data.getUniqueValues(),
+				DELTA);
+		assertArrayEquals(new long[] { 2, 1, 1 }, data.getFrequencies());
+		assertArrayEquals(new double[] { 3, 1, 2, 1 }, data.getValues(), DELTA);
+	}
+
+	@Test
+	public void shouldDetectNonNumericElements() {
+		GeoList list = add("{1, \"a\", 2}");
+		assertFalse(list.getNumericData().isNumeric());
+	}
+
+	@Test
+	public void shouldShareDataUntilListChanges() {
+		GeoList list = add("l = {3, 1, 2}");
+		GeoNumeric median = add("Median(l)");
+		GeoNumeric mean = add("Mean(l)");
+		NumericListData data = list.getNumericData();
+		assertSame(data, list.getNumericData());
+
+		add("SetValue(l, 2, 10)");
+		assertNotSame(data, list.getNumericData());
+		assertEquals(3, median.getDouble(), DELTA);
+		assertEquals(5, mean.getDouble(), DELTA);
+	}
+
+	@Test
+	public void shouldUpdateStatisticsOfDependentList() {
+		add("a = 1");
+		add("l = {a, 2, 3, 4}");
+		GeoNumeric q1 = add("Q1(l)");
+		GeoNumeric sd = add("SD(l)");
+		GeoList frequency = add("Frequency(l)");
+		add("SetValue(a, 4)");
+		assertEquals(2.5, q1.getDouble(), DELTA);
+		assertEquals(Math.sqrt(0.6875), sd.getDouble(), 1E-12);
+		assertEquals("{1, 1, 2}",
+				frequency.toValueString(StringTemplate.defaultTemplate));
+	}
+
+	@Test
+	public void shouldUpdateStatisticsOfElements() {
+		add("a = 1");
+		add("b = 2");
+		GeoNumeric mean = add("Mean(a, b)");
+		add("SetValue(a, 5)");
+		assertEquals(3.5, mean.getDouble(), DELTA);
+	}
+
+	@Test
+	public void shouldUpdateDerivedDataAfterChangeOfOneElement() {
+		add("a = 5");
+		GeoList list = add("l = Join({a}, Sequence(k, k, 1, 99))");
+		GeoNumeric median = add("Median(l)");
+		GeoNumeric sd = add("SD(l)");
+		double[] sorted = list.getNumericData().getSorted();
+		RunningMoments moments = list.getNumericData().getMoments();
+
+		add("SetValue(a, 1000)");
+		NumericListData data = list.getNumericData();
+		assertSame(sorted, data.getSorted());
+		assertSame(moments, data.getMoments());
+		double[] expected = Arrays.copyOf(data.getValues(), data.size());
+		Arrays.sort(expected);
+		assertArrayEquals(expected, data.getSorted(), 0);
+		assertEquals(50.5, median.getDouble(), DELTA);
+		RunningMoments fresh = new RunningMoments(data.getValues(),
+				data.size());
+		assertEquals(Math.sqrt(fresh.getSumSquaredDeviations() / 100),
+				sd.getDouble(), 1E-12);
+	}
+}
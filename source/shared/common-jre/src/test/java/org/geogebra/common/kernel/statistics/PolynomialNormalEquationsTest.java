@@ -0,0 +1,26 @@
+package org.geogebra.common.kernel.statistics;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class PolynomialNormalEquationsTest {
+
+	@Test
+	public void shouldOnlyAddAppendedPoints() {
+		double[] x = { 1, 2, 3, 4, 5 };
+		double[] y = { 2, 3, 5, 7, 11 };
+		PolynomialNormalEquations sums = new PolynomialNormalEquations(2);
+		assertEquals(3, sums.update(x, y, 3));
+		assertEquals(2, sums.update(x, y, 5));
+		assertEquals(0, sums.update(x, y, 5));
+		assertEquals(55, sums.getPowerSum(2), 0);
+		assertEquals(979, sums.getPowerSum(4), 0);
+		assertEquals(28, sums.getMomentSum(0), 0);
+		assertEquals(208, sums.getSumY2(), 0);
+
+		y[1] = 4;
+		assertEquals(5, sums.update(x, y, 5));
+		assertEquals(29, sums.getMomentSum(0), 0);
+	}
+}
@@ -0,0 +1,111 @@
+package org.geogebra.common.kernel.statistics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RandomVariatesTest {
+
+	@Test
+	public void sameSeedShouldGiveSameValues() {
+		double[] first = new double[100];
+		double[] second = new double[100];
+		new RandomVariates(42).fillUniform(first, -1, 1);
+		new RandomVariates(42).fillUniform(second, -1, 1);
+		assertArrayEquals(first, second, 0);
+		for (double value : first) {
+			assertTrue(value >= -1 && value < 1);
+		}
+	}
+
+	@Test
+	public void splitShouldGiveReproducibleIndependentStream() {
+		RandomVariates parent = new RandomVariates(42);
+		double[] child = new double[10];
+		parent.split().fillUniform(child, 0, 1);
+		double[] rest = new double[10];
+		parent.fillUniform(rest, 0, 1);
+
+		RandomVariates parent2 = new RandomVariates(42);
+		double[] child2 = new double[10];
+		parent2.split().fillUniform(child2, 0, 1);
+		assertArrayEquals(child, child2, 0);
+		assertFalse(Arrays.equals(child, rest));
+	}
+
+	@Test
+	public void binomialShouldHaveCorrectMoments() {
+		double[] values = new double[100000];
+		new RandomVariates(1).fillBinomial(values, 1000, 0.3);
+		assertMoments(values, 300, 210);
+		new RandomVariates(2).fillBinomial(values, 5, 1);
+		assertMoments(values, 5, 0);
+	}
+
+	@Test
+	public void poissonShouldHaveCorrectMoments() {
+		double[] values = new double[100000];
+		new RandomVariates(1).fillPoisson(values, 4);
+		assertMoments(values, 4, 4);
+		new RandomVariates(2).fillPoisson(values, 2E7);
+		assertMoments(values, 2E7, 2E7);
+	}
+
+	@Test
+	public void normalShouldHaveCorrectMoments() {
+		double[] values = new double[100000];
+		new RandomVariates(1).fillNormal(values, 2, 3);
+		assertMoments(values, 2, 9);
+	}
+
+	@Test
+	public void integersShouldStayInRange() {
+		double[] values = new double[1000];
+		new RandomVariates(1).fillIntegers(values, 1, 6);
+		int[] counts = new int[7];
+		for (double value : values) {
+			counts[(int) value]++;
+		}
+		assertEquals(0, counts[0]);
+		for (int i = 1; i <= 6; i++) {
+			assertTrue(counts[i] > 100);
+		}
+	}
+
+	@Test
+	public void remainingIndicesShouldMatchRemovalFromList() {
+		RandomVariates random = new RandomVariates(3);
+		int n = 50;
+		List<Integer> list = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			list.add(i);
+		}
+		RemainingIndices remaining = new RemainingIndices(n);
+		for (int i = 0; i < n; i++) {
+			int k = (int) (random.nextDouble() * (n - i));
+			assertEquals((int) list.remove(k), remaining.remove(k));
+		}
+	}
+
+	private static void assertMoments(double[] values, double mean, double variance) {
+		double sum = 0;
+		for (double value : values) {
+			sum += value;
+		}
+		double actualMean = sum / values.length;
+		double squares = 0;
+		for (double value : values) {
+			squares += (value - actualMean) * (value - actualMean);
+		}
+		double tolerance = 5 * Math.sqrt(variance / values.length) + 1E-12;
+		assertEquals(mean, actualMean, tolerance);
+		assertEquals(variance, squares / values.length, 0.05 * variance);
+	}
+}
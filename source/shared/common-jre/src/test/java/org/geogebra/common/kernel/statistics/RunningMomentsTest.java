@@ -0,0 +1,77 @@
+package org.geogebra.common.kernel.statistics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class RunningMomentsTest {
+
+	@Test
+	public void shouldComputeMoments() {
+		RunningMoments moments = new RunningMoments(new double[] { 1, 2, 3, 4 },
+				4);
+		assertEquals(2.5, moments.getMean(), 0);
+		assertEquals(5, moments.getSumSquaredDeviations(), 0);
+		assertEquals(10, moments.getSum(), 0);
+		assertEquals(30, moments.getSumSquares(), 0);
+	}
+
+	@Test
+	public void shouldReplaceValues() {
+		RunningMoments moments = new RunningMoments(new double[] { 1, 2, 3, 4 },
+				4);
+		moments.replace(4, 8);
+		moments.remove(1);
+		// {2, 3, 8}
+		assertEquals(3, moments.getCount());
+		assertEquals(13d / 3, moments.getMean(), 1E-15);
+		assertEquals(62d / 3, moments.getSumSquaredDeviations(), 1E-13);
+		assertEquals(2, moments.getRemovals());
+	}
+
+	@Test
+	public void shouldBeAccurateForLargeMean() {
+		// sum(x^2) - sum(x)^2 / n gives 0 or negative values here
+		double[] values = { 1E9 + 4, 1E9 + 7, 1E9 + 13, 1E9 + 16 };
+		RunningMoments moments = new RunningMoments(values, 4);
+		assertEquals(90, moments.getSumSquaredDeviations(), 1E-6);
+	}
+
+	@Test
+	public void shouldCompensateSums() {
+		RunningMoments moments = new RunningMoments();
+		for (int i = 0; i < 10; i++) {
+			moments.add(0.1);
+		}
+		assertEquals(1, moments.getSum(), 0);
+	}
+
+	@Test
+	public void coMomentsShouldMatchAfterUpdates() {
+		Random random = new Random(42);
+		int size = 200;
+		double[] xs = new double[size];
+		double[] ys = new double[size];
+		for (int i = 0; i < size; i++) {
+			xs[i] = random.nextDouble();
+			ys[i] = 3 * xs[i] + random.nextGaussian();
+		}
+		RunningCoMoments moments = new RunningCoMoments();
+		moments.setValues(xs, ys, size);
+		for (int step = 0; step < 100; step++) {
+			int i = random.nextInt(size);
+			xs[i] = random.nextDouble();
+			ys[i] = 3 * xs[i] + random.nextGaussian();
+			moments.setValues(xs, ys, size);
+		}
+		RunningCoMoments fresh = new RunningCoMoments();
+		fresh.setValues(xs, ys, size);
+		assertEquals(fresh.getSxy(), moments.getSxy(), 1E-10);
+		assertEquals(fresh.getSumXY(), moments.getSumXY(), 1E-10);
+		assertEquals(fresh.getX().getSumSquaredDeviations(),
+				moments.getX().getSumSquaredDeviations(), 1E-10);
+		assertEquals(fresh.getY().getMean(), moments.getY().getMean(), 1E-12);
+	}
+}
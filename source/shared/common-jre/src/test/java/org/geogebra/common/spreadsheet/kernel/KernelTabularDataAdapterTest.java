@@ -1,12 +1,23 @@
 package org.geogebra.common.spreadsheet.kernel;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.gui.view.spreadsheet.StreamingDataImport;
+import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoNumeric;
 import org.geogebra.common.kernel.kernelND.GeoElementND;
+import org.geogebra.common.spreadsheet.core.SpreadsheetDimensions;
+import org.geogebra.common.spreadsheet.core.TabularDataChangeListener;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -47,4 +58,82 @@ public class KernelTabularDataAdapterTest extends BaseUnitTest {
 		tabularData.update(a1.toGeoElement());
 		assertTrue(a1.isEuclidianVisible());
 	}
+
+	@Test
+	public void plainValuesShouldBecomeElementsWhenReferenced() {
+		tabularData.setPlainContent(0, 0, 3);
+		tabularData.setPlainContent(1, 0, 4);
+		tabularData.setPlainContent(0, 1, "text");
+		assertNull(getConstruction().geoTableVarLookup("A1"));
+		assertEquals("3", tabularData.serializeContentAt(0, 0));
+		assertThat(((GeoElement) tabularData.renderableContentAt(0, 1))
+				.toValueString(StringTemplate.defaultTemplate), equalTo("text"));
+		assertNull(getConstruction().geoTableVarLookup("B1"));
+
+		GeoNumeric sum = add("Sum(A1:A2)");
+		assertEquals(7, sum.getDouble(), 0);
+		assertTrue(lookup("A2").isAuxiliaryObject());
+		add("SetValue(A1, 5)");
+		assertEquals(9, sum.getDouble(), 0);
+	}
+
+	@Test
+	public void plainValuesShouldBeSaved() {
+		tabularData.setPlainContent(2, 1, 42);
+		assertThat(getApp().getXML(),
+				containsString("<spreadsheetCell label=\"B3\" value=\"42.0\"/>"));
+		tabularData.setPlainContent(2, 1, "a<b");
+		assertThat(getApp().getXML(),
+				containsString("<spreadsheetCell label=\"B3\" text=\"a&lt;b\"/>"));
+	}
+
+	@Test
+	public void plainValuesShouldStayPlainAfterReload() {
+		tabularData.setPlainContent(0, 0, 3);
+		tabularData.setPlainContent(1, 0, "text");
+		add("B1=A1+1");
+		getApp().setXML(getApp().getXML(), true);
+		// A1 is referenced, A2 is not
+		assertEquals(4, ((GeoNumeric) lookup("B1")).getDouble(), 0);
+		assertNull(getConstruction().geoTableVarLookup("A2"));
+		assertEquals("text", tabularData.serializeContentAt(1, 0));
+	}
+
+	@Test
+	public void importedColumnShouldNotCreateElements() {
+		StreamingDataImport dataImport = new StreamingDataImport(-1, null);
+		StringBuilder csv = new StringBuilder("x\n");
+		for (int i = 0; i < 100000; i++) {
+			csv.append(i).append('\n');
+		}
+		dataImport.append(csv.toString());
+		dataImport.finish();
+		tabularData.importColumn(0, dataImport.getColumns().get(0));
+		assertThat(tabularData.numberOfRows(), equalTo(100001));
+		assertNull(getConstruction().geoTableVarLookup("A50000"));
+		assertEquals(49998, ((GeoNumeric) lookup("A50000")).getDouble(), 0);
+	}
+
+	@Test
+	public void batchUpdateShouldNotifyListenersOnce() {
+		List<String> changes = new ArrayList<>();
+		tabularData.addChangeListener(new TabularDataChangeListener() {
+			@Override
+			public void tabularDataDidChange(int row, int column) {
+				changes.add(row + "," + column);
+			}
+
+			@Override
+			public void tabularDataSizeDidChange(SpreadsheetDimensions dimensions) {
+				// not needed
+			}
+		});
+		getKernel().notifyBatchUpdate();
+		for (int row = 1; row <= 100; row++) {
+			add("A" + row + "=" + row);
+		}
+		assertTrue(changes.isEmpty());
+		getKernel().notifyEndBatchUpdate();
+		assertThat(changes.toString(), equalTo("[-1,-1]"));
+	}
 }
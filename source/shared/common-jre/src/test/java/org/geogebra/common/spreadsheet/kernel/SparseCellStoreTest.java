@@ -0,0 +1,53 @@
+package org.geogebra.common.spreadsheet.kernel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SparseCellStoreTest {
+
+	private final SparseCellStore store = new SparseCellStore();
+
+	@Test
+	public void shouldStoreNumbersAndTexts() {
+		store.setNumber(5, 1, 3.5);
+		store.setText(2, 1, "x");
+		store.setNumber(1000000, 1, 7);
+		assertEquals(3, store.size());
+		assertEquals(3.5, store.getNumber(5, 1), 0);
+		assertEquals("x", store.getText(2, 1));
+		assertNull(store.getText(5, 1));
+		assertFalse(store.contains(4, 1));
+		assertFalse(store.contains(5, 0));
+
+		store.setNumber(2, 1, 1);
+		assertNull(store.getText(2, 1));
+		assertEquals(3, store.size());
+		assertTrue(store.remove(5, 1));
+		assertFalse(store.remove(5, 1));
+		assertEquals(2, store.size());
+	}
+
+	@Test
+	public void shouldShiftRowsAndColumns() {
+		store.setNumber(0, 0, 1);
+		store.setNumber(1, 0, 2);
+		store.setNumber(2, 0, 3);
+		store.setNumber(1, 2, 4);
+		store.insertRowAt(1);
+		assertEquals(2, store.getNumber(2, 0), 0);
+		assertFalse(store.contains(1, 0));
+		assertEquals(4, store.getNumber(2, 2), 0);
+		store.deleteRowAt(0);
+		assertEquals(2, store.getNumber(1, 0), 0);
+		assertEquals(3, store.size());
+		store.deleteColumnAt(0);
+		assertEquals(4, store.getNumber(1, 1), 0);
+		assertEquals(1, store.size());
+		store.insertColumnAt(0);
+		assertEquals(4, store.getNumber(1, 2), 0);
+	}
+}
@@ -12,8 +12,6 @@ import org.geogebra.common.factories.CASFactory;
 import org.geogebra.common.jre.headless.AppCommon;
 import org.geogebra.common.kernel.CASGenericInterface;
 import org.geogebra.common.kernel.Kernel;
-import org.geogebra.common.kernel.StringTemplate;
-import org.geogebra.common.kernel.arithmetic.ValidExpression;
 
 /**
  * If the {@link Kernel}'s evaluation mode is symbolic ({@code SymbolicMode.SYMBOLIC_AV}) (e.g.
@@ -46,16 +44,11 @@ public final class MockCASGiac extends CASgiac {
 
 	@Override
 	public String evaluateCAS(String exp) {
-		return responses.remove(0).apply(exp);
-	}
-
-	@Override
-	protected String translateAndEvaluateCAS(ValidExpression exp, StringTemplate tpl) {
 		if (responses.isEmpty()) {
 			throw new IllegalStateException(
 					"No memorized response for " + exp + ". Previous interactions:\n " + log);
 		}
-		String result = responses.remove(0).apply(casParser.translateToCAS(exp, tpl, this));
+		String result = responses.remove(0).apply(exp);
 		log.add(exp + "->" + result + "\n");
 		return result;
 	}
@@ -0,0 +1,70 @@
+package org.geogebra.common.cas;
+
+/**
+ * Runs CAS evaluations of asynchronous commands in the background and passes
+ * the results back to the thread that owns the kernel. Platforms without
+ * threads (web) use the synchronous implementation; desktop registers one
+ * with a background thread.
+ */
+public abstract class AsynchronousCASExecutor {
+
+	private static volatile AsynchronousCASExecutor prototype;
+
+	private static final Object lock = new Object();
+
+	private static final AsynchronousCASExecutor SYNCHRONOUS = new AsynchronousCASExecutor() {
+		@Override
+		public boolean isAsynchronous() {
+			return false;
+		}
+
+		@Override
+		public void submit(Runnable evaluation, Runnable callback) {
+			evaluation.run();
+			callback.run();
+		}
+	};
+
+	/**
+	 * @return registered executor, or the synchronous one if none was
+	 *         registered
+	 */
+	public static AsynchronousCASExecutor getPrototype() {
+		AsynchronousCASExecutor executor = prototype;
+		return executor == null ? SYNCHRONOUS : executor;
+	}
+
+	/**
+	 * @param p
+	 *            prototype
+	 */
+	public static void setPrototypeIfNull(AsynchronousCASExecutor p) {
+		synchronized (lock) {
+			if (prototype == null) {
+				prototype = p;
+			}
+		}
+	}
+
+	/**
+	 * @return executor running both the evaluation and the callback on the
+	 *         calling thread
+	 */
+	public static AsynchronousCASExecutor synchronous() {
+		return SYNCHRONOUS;
+	}
+
+	/**
+	 * @return whether callbacks may run after {@link #submit} returned
+	 */
+	public abstract boolean isAsynchronous();
+
+	/**
+	 * @param evaluation
+	 *            CAS evaluation, must not access the construction; runs on a
+	 *            background thread, in submission order
+	 * @param callback
+	 *            runs on the kernel thread after the evaluation
+	 */
+	public abstract void submit(Runnable evaluation, Runnable callback);
+}
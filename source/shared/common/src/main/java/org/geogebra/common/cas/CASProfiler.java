@@ -0,0 +1,374 @@
+package org.geogebra.common.cas;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.geogebra.common.factories.UtilFactory;
+import org.geogebra.common.util.debug.Log;
+
+/**
+ * Collects timings of CAS evaluations (translation to Giac, evaluation,
+ * parsing of the result), cache hits and timeouts, and keeps a log of the
+ * slowest Giac inputs. Unlike {@link org.geogebra.common.util.debug.GeoGebraProfiler}
+ * it belongs to a CAS instance, so that apps sharing a JVM (e.g. on a CAS
+ * server) are measured separately.
+ */
+public class CASProfiler {
+
+	/** default size of the slow input log */
+	public static final int DEFAULT_SLOW_INPUTS = 20;
+
+	private static final Comparator<SlowInput> BY_MILLIS = (a, b) -> Double
+			.compare(a.getMillis(), b.getMillis());
+
+	private final int maxSlowInputs;
+	/** fastest of the slow inputs first */
+	private final PriorityQueue<SlowInput> slowest = new PriorityQueue<>(
+			DEFAULT_SLOW_INPUTS, BY_MILLIS);
+
+	private int translations;
+	private int evaluations;
+	private int parses;
+	private int cacheHits;
+	private int cacheMisses;
+	private int timeouts;
+	private double translationMillis;
+	private double evaluationMillis;
+	private double parseMillis;
+	private double maxEvaluationMillis;
+
+	/**
+	 * Giac input with the time it took to translate, evaluate and parse it.
+	 */
+	public static final class SlowInput {
+		private final String input;
+		private final double translationMillis;
+		private final double evaluationMillis;
+		private final double parseMillis;
+		private final boolean timeout;
+
+		SlowInput(String input, double translationMillis,
+				double evaluationMillis, double parseMillis, boolean timeout) {
+			this.input = input;
+			this.translationMillis = translationMillis;
+			this.evaluationMillis = evaluationMillis;
+			this.parseMillis = parseMillis;
+			this.timeout = timeout;
+		}
+
+		/**
+		 * @return Giac input
+		 */
+		public String getInput() {
+			return input;
+		}
+
+		/**
+		 * @return total time of translation, evaluation and parsing
+		 */
+		public double getMillis() {
+			return translationMillis + evaluationMillis + parseMillis;
+		}
+
+		/**
+		 * @return time to translate the input to Giac
+		 */
+		public double getTranslationMillis() {
+			return translationMillis;
+		}
+
+		/**
+		 * @return evaluation time
+		 */
+		public double getEvaluationMillis() {
+			return evaluationMillis;
+		}
+
+		/**
+		 * @return time to parse the result
+		 */
+		public double getParseMillis() {
+			return parseMillis;
+		}
+
+		/**
+		 * @return whether the evaluation timed out
+		 */
+		public boolean isTimeout() {
+			return timeout;
+		}
+
+	}
+
+	/**
+	 * Timings of a single CAS input. Every evaluation measures its own
+	 * timings, so evaluations running concurrently don't mix them up.
+	 */
+	public static final class InputTiming {
+		private final CASProfiler profiler;
+		private String input;
+		private double translationMillis;
+		private double evaluationMillis;
+		private double parseMillis;
+		private boolean timeout;
+
+		InputTiming(CASProfiler profiler) {
+			this.profiler = profiler;
+		}
+
+		/**
+		 * @param millis
+		 *            time to translate the input to Giac
+		 */
+		public void addTranslation(double millis) {
+			translationMillis += millis;
+			profiler.addTranslation(millis);
+		}
+
+		/**
+		 * @param giacInput
+		 *            Giac input
+		 * @param millis
+		 *            time to evaluate it (including cache lookup)
+		 */
+		public void addEvaluation(String giacInput, double millis) {
+			input = giacInput;
+			evaluationMillis += millis;
+			profiler.addEvaluation(millis);
+		}
+
+		/**
+		 * @param giacInput
+		 *            Giac input that timed out
+		 * @param millis
+		 *            time until the timeout was noticed
+		 */
+		public void addTimeout(String giacInput, double millis) {
+			input = giacInput;
+			evaluationMillis += millis;
+			timeout = true;
+			profiler.addTimeout();
+		}
+
+		/**
+		 * @param millis
+		 *            time to parse the Giac result
+		 */
+		public void addParse(double millis) {
+			parseMillis += millis;
+			profiler.addParse(millis);
+		}
+
+		/**
+		 * Adds the input to the slow input log of the profiler, if it was
+		 * evaluated.
+		 */
+		public void finish() {
+			if (input != null) {
+				profiler.addSlowInput(new SlowInput(input, translationMillis,
+						evaluationMillis, parseMillis, timeout));
+			}
+		}
+	}
+
+	/**
+	 * @param maxSlowInputs
+	 *            number of inputs kept in the slow input log
+	 */
+	public CASProfiler(int maxSlowInputs) {
+		this.maxSlowInputs = maxSlowInputs;
+	}
+
+	/**
+	 * @return current time in milliseconds, for measuring durations
+	 */
+	public static double now() {
+		return UtilFactory.getPrototype().getMillisecondTime();
+	}
+
+	/**
+	 * @return timing of a new input, to be finished after the result is
+	 *         parsed
+	 */
+	public InputTiming startInput() {
+		return new InputTiming(this);
+	}
+
+	private synchronized void addTranslation(double millis) {
+		translations++;
+		translationMillis += millis;
+	}
+
+	private synchronized void addEvaluation(double millis) {
+		evaluations++;
+		evaluationMillis += millis;
+		maxEvaluationMillis = Math.max(maxEvaluationMillis, millis);
+	}
+
+	private synchronized void addTimeout() {
+		timeouts++;
+	}
+
+	private synchronized void addParse(double millis) {
+		parses++;
+		parseMillis += millis;
+	}
+
+	/**
+	 * @param hit
+	 *            whether the result was found in the cache
+	 */
+	public synchronized void addCacheLookup(boolean hit) {
+		if (hit) {
+			cacheHits++;
+		} else {
+			cacheMisses++;
+		}
+	}
+
+	private synchronized void addSlowInput(SlowInput slowInput) {
+		if (maxSlowInputs <= 0) {
+			return;
+		}
+		if (slowest.size() < maxSlowInputs) {
+			slowest.add(slowInput);
+		} else if (slowest.peek().getMillis() < slowInput.getMillis()) {
+			slowest.poll();
+			slowest.add(slowInput);
+		}
+	}
+
+	/**
+	 * @return slowest inputs, slowest first
+	 */
+	public synchronized List<SlowInput> getSlowestInputs() {
+		ArrayList<SlowInput> list = new ArrayList<>(slowest);
+		Collections.sort(list, Collections.reverseOrder(BY_MILLIS));
+		return list;
+	}
+
+	/**
+	 * @return number of translations
+	 */
+	public synchronized int getTranslationCount() {
+		return translations;
+	}
+
+	/**
+	 * @return number of evaluations
+	 */
+	public synchronized int getEvaluationCount() {
+		return evaluations;
+	}
+
+	/**
+	 * @return number of parsed results
+	 */
+	public synchronized int getParseCount() {
+		return parses;
+	}
+
+	/**
+	 * @return number of results found in the cache
+	 */
+	public synchronized int getCacheHits() {
+		return cacheHits;
+	}
+
+	/**
+	 * @return number of results not found in the cache
+	 */
+	public synchronized int getCacheMisses() {
+		return cacheMisses;
+	}
+
+	/**
+	 * @return number of timeouts
+	 */
+	public synchronized int getTimeoutCount() {
+		return timeouts;
+	}
+
+	/**
+	 * @return total translation time
+	 */
+	public synchronized double getTranslationMillis() {
+		return translationMillis;
+	}
+
+	/**
+	 * @return total evaluation time
+	 */
+	public synchronized double getEvaluationMillis() {
+		return evaluationMillis;
+	}
+
+	/**
+	 * @return total parsing time
+	 */
+	public synchronized double getParseMillis() {
+		return parseMillis;
+	}
+
+	/**
+	 * Resets all statistics.
+	 */
+	public synchronized void reset() {
+		slowest.clear();
+		translations = 0;
+		evaluations = 0;
+		parses = 0;
+		cacheHits = 0;
+		cacheMisses = 0;
+		timeouts = 0;
+		translationMillis = 0;
+		evaluationMillis = 0;
+		parseMillis = 0;
+		maxEvaluationMillis = 0;
+	}
+
+	/**
+	 * @return statistics as text, one item per line
+	 */
+	public synchronized String getReport() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("Profile CAS:\n");
+		appendTimes(sb, "Translations", translations, translationMillis);
+		appendTimes(sb, "Evaluations", evaluations, evaluationMillis);
+		sb.append("Longest evaluation: ").append(maxEvaluationMillis)
+				.append(" ms\n");
+		appendTimes(sb, "Parsed results", parses, parseMillis);
+		sb.append("Cache hits: ").append(cacheHits).append(", misses: ")
+				.append(cacheMisses).append('\n');
+		sb.append("Timeouts: ").append(timeouts).append('\n');
+		sb.append("Slowest inputs:\n");
+		for (SlowInput slow : getSlowestInputs()) {
+			sb.append(slow.getMillis()).append(" ms");
+			if (slow.isTimeout()) {
+				sb.append(" (timeout)");
+			}
+			sb.append(" [translation ").append(slow.getTranslationMillis())
+					.append(", evaluation ").append(slow.getEvaluationMillis())
+					.append(", parse ").append(slow.getParseMillis()).append(']');
+			sb.append(": ").append(slow.getInput()).append('\n');
+		}
+		return sb.toString();
+	}
+
+	private static void appendTimes(StringBuilder sb, String name, int count,
+			double millis) {
+		sb.append(name).append(": ").append(count).append(" x ")
+				.append(count == 0 ? 0 : millis / count).append(" = ")
+				.append(millis).append(" ms\n");
+	}
+
+	/**
+	 * Display the statistics in the log
+	 */
+	public void printReport() {
+		Log.debug(getReport());
+	}
+}
@@ -0,0 +1,418 @@
+package org.geogebra.common.cas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.geogebra.common.factories.UtilFactory;
+import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.kernel.arithmetic.Command;
+import org.geogebra.common.kernel.arithmetic.Equation;
+import org.geogebra.common.kernel.arithmetic.ExpressionNode;
+import org.geogebra.common.kernel.arithmetic.ExpressionValue;
+import org.geogebra.common.kernel.arithmetic.FunctionVariable;
+import org.geogebra.common.kernel.arithmetic.MyBoolean;
+import org.geogebra.common.kernel.arithmetic.MyDouble;
+import org.geogebra.common.kernel.arithmetic.MyList;
+import org.geogebra.common.kernel.arithmetic.MySpecialDouble;
+import org.geogebra.common.kernel.arithmetic.variable.Variable;
+import org.geogebra.common.kernel.geos.GeoDummyVariable;
+import org.geogebra.common.util.DoubleUtil;
+import org.geogebra.common.util.MaxSizeHashMap;
+
+/**
+ * Memoizes translations of GeoGebra CAS expressions to Giac. Expressions that
+ * only differ in their numbers (e.g. while dragging a slider) share a
+ * translation template: the Giac string with a placeholder for each number, so
+ * that translating them again only needs to print the numbers.
+ * <p>
+ * Templates are only created for expressions made of operations, numbers,
+ * variables, lists, equations and commands whose translation has no side
+ * effects. A template is created by translating the expression with two sets
+ * of marker numbers (of the same kind as the original ones: sign, integer or
+ * not); it is only used if both translations agree and it reproduces the
+ * translation of the original expression.
+ */
+public class CASTranslationCache {
+
+	/** commands whose translation changes the arguments or parser state */
+	private static final HashSet<String> UNSAFE_COMMANDS = new HashSet<>(
+			Arrays.asList("Solve", "Solutions", "SolveODE", "Sum", "Product",
+					"Point", "Area", "Intersect", "Distance"));
+	/** marker numbers of different slots must not contain each other */
+	private static final double FIRST_MARKER = 1000003;
+	private static final double SECOND_MARKER = 3000017;
+	/** smaller non-integers may be printed in scientific notation */
+	private static final double MIN_DECIMAL = 1E-4;
+	private static final int MAX_TEMPLATES = 8;
+	private static final Template NO_TEMPLATE = new Template(null, null);
+
+	private final int maxSize;
+	private final IdentityHashMap<StringTemplate, MaxSizeHashMap<String, Template>> caches =
+			new IdentityHashMap<>();
+	private int hits = 0;
+	private int misses = 0;
+	private double translationMillis = 0;
+	private double templateMillis = 0;
+
+	/**
+	 * Translation with placeholders: literal parts and slot numbers,
+	 * alternating, starting and ending with a literal part.
+	 */
+	private static final class Template {
+		final String[] parts;
+		final int[] slots;
+
+		Template(String[] parts, int[] slots) {
+			this.parts = parts;
+			this.slots = slots;
+		}
+
+		String fill(String[] numbers) {
+			StringBuilder sb = new StringBuilder();
+			sb.append(parts[0]);
+			for (int i = 0; i < slots.length; i++) {
+				sb.append(numbers[slots[i]]);
+				sb.append(parts[i + 1]);
+			}
+			return sb.toString();
+		}
+
+		boolean sameAs(Template other) {
+			return Arrays.equals(parts, other.parts)
+					&& Arrays.equals(slots, other.slots);
+		}
+	}
+
+	/**
+	 * Structure of an expression (without the values of its numbers) and its
+	 * numbers.
+	 */
+	private static final class Shape {
+		final StringBuilder key = new StringBuilder();
+		final ArrayList<MyDouble> numbers = new ArrayList<>();
+		final IdentityHashMap<MyDouble, Integer> slots = new IdentityHashMap<>();
+
+		boolean add(ExpressionValue ev) {
+			if (ev instanceof ExpressionNode) {
+				ExpressionNode node = (ExpressionNode) ev;
+				if (node.isSecret()) {
+					return false;
+				}
+				key.append('(').append(node.getOperation().ordinal());
+				appendFlag(node.isLeaf());
+				appendFlag(node.hasBrackets());
+				appendFlag(node.isForcedVector());
+				appendFlag(node.isForcedPoint());
+				appendFlag(node.isForcedFunction());
+				appendFlag(node.isForceInequality());
+				appendFlag(node.isForceSurface());
+				appendFlag(node.isForceAngle());
+				if (!add(node.getLeft())) {
+					return false;
+				}
+				if (node.getRight() != null && !add(node.getRight())) {
+					return false;
+				}
+				key.append(')');
+				return true;
+			}
+			if (ev instanceof MySpecialDouble) {
+				key.append("S").append(
+						ev.toString(StringTemplate.maxPrecision)).append(';');
+				return true;
+			}
+			if (ev instanceof MyDouble && ev.getClass() == MyDouble.class) {
+				return addNumber((MyDouble) ev);
+			}
+			if (ev instanceof Command) {
+				Command command = (Command) ev;
+				String name = command.getName();
+				int args = command.getArgumentNumber();
+				if (UNSAFE_COMMANDS.contains(name)
+						|| ("Integral".equals(name) && args == 1)) {
+					return false;
+				}
+				key.append("C").append(name).append('.').append(args)
+						.append('[');
+				for (int i = 0; i < args; i++) {
+					if (!add(command.getArgument(i))) {
+						return false;
+					}
+				}
+				key.append(']');
+				return true;
+			}
+			if (ev instanceof MyList) {
+				MyList list = (MyList) ev;
+				key.append("L").append(list.size()).append('[');
+				for (int i = 0; i < list.size(); i++) {
+					if (!add(list.get(i))) {
+						return false;
+					}
+				}
+				key.append(']');
+				return true;
+			}
+			if (ev instanceof Equation) {
+				key.append("E");
+				return add(((Equation) ev).getLHS())
+						&& add(((Equation) ev).getRHS());
+			}
+			if (ev instanceof Variable) {
+				key.append("V").append(((Variable) ev).getName()).append(';');
+				return true;
+			}
+			if (ev instanceof FunctionVariable) {
+				key.append("F").append(((FunctionVariable) ev).getSetVarString())
+						.append(';');
+				return true;
+			}
+			if (ev instanceof GeoDummyVariable) {
+				key.append("D").append(((GeoDummyVariable) ev).getVarName())
+						.append(';');
+				return true;
+			}
+			if (ev instanceof MyBoolean) {
+				key.append(((MyBoolean) ev).getBoolean() ? "B1" : "B0");
+				return true;
+			}
+			// geos print their current value, other types are not supported
+			return false;
+		}
+
+		private void appendFlag(boolean flag) {
+			key.append(flag ? '1' : '0');
+		}
+
+		private boolean addNumber(MyDouble number) {
+			double value = number.getDouble();
+			if (number.getAngleDim() != 0 || Double.isNaN(value)
+					|| Double.isInfinite(value)) {
+				return false;
+			}
+			Integer slot = slots.get(number);
+			if (slot == null) {
+				if (value == 0 || value == 1 || value == -1
+						|| Math.abs(value) < MIN_DECIMAL
+						|| Math.abs(value) >= FIRST_MARKER) {
+					// printed or translated in a special way
+					key.append("N").append(value).append(';');
+					return true;
+				}
+				slot = numbers.size();
+				slots.put(number, slot);
+				numbers.add(number);
+			}
+			// markers have the same sign and integer kind as the number
+			key.append('#').append(slot).append(value < 0 ? '-' : '+')
+					.append(DoubleUtil.isInteger(value) ? 'i' : 'd').append(';');
+			return true;
+		}
+	}
+
+	/**
+	 * @param maxSize
+	 *            maximal number of templates per string template
+	 */
+	public CASTranslationCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @param node
+	 *            expression
+	 * @param tpl
+	 *            Giac template
+	 * @return translation of the expression
+	 */
+	public synchronized String translate(ExpressionNode node,
+			StringTemplate tpl) {
+		Shape shape = new Shape();
+		MaxSizeHashMap<String, Template> cache = getCache(tpl);
+		if (cache == null || !shape.add(node)) {
+			return translateDirectly(node, tpl, true);
+		}
+		String key = shape.key.toString();
+		Template template = cache.get(key);
+		if (template == NO_TEMPLATE) {
+			return translateDirectly(node, tpl, true);
+		}
+		if (template != null) {
+			double start = now();
+			String result = template.fill(print(shape.numbers, tpl));
+			hits++;
+			templateMillis += now() - start;
+			return result;
+		}
+		misses++;
+		String result = translateDirectly(node, tpl, true);
+		template = createTemplate(node, shape, tpl, result);
+		cache.put(key, template == null ? NO_TEMPLATE : template);
+		return result;
+	}
+
+	private String translateDirectly(ExpressionNode node, StringTemplate tpl,
+			boolean measure) {
+		double start = measure ? now() : 0;
+		String result = node.getCASstring(tpl, false);
+		if (measure) {
+			translationMillis += now() - start;
+		}
+		return result;
+	}
+
+	private MaxSizeHashMap<String, Template> getCache(StringTemplate tpl) {
+		MaxSizeHashMap<String, Template> cache = caches.get(tpl);
+		if (cache == null && caches.size() < MAX_TEMPLATES) {
+			cache = new MaxSizeHashMap<>(maxSize);
+			caches.put(tpl, cache);
+		}
+		return cache;
+	}
+
+	private Template createTemplate(ExpressionNode node, Shape shape,
+			StringTemplate tpl, String translation) {
+		int count = shape.numbers.size();
+		double[] values = new double[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = shape.numbers.get(i).getDouble();
+		}
+		try {
+			Template first = createTemplate(node, shape, tpl, values,
+					FIRST_MARKER);
+			Template second = createTemplate(node, shape, tpl, values,
+					SECOND_MARKER);
+			if (first == null || second == null || !first.sameAs(second)
+					|| !translation
+							.equals(first.fill(print(shape.numbers, tpl)))) {
+				return null;
+			}
+			return first;
+		} finally {
+			for (int i = 0; i < count; i++) {
+				shape.numbers.get(i).set(values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Translates the expression with marker numbers and replaces them by
+	 * placeholders; numbers are changed in place and restored by the caller.
+	 */
+	private Template createTemplate(ExpressionNode node, Shape shape,
+			StringTemplate tpl, double[] values, double firstMarker) {
+		int count = values.length;
+		for (int i = 0; i < count; i++) {
+			double marker = firstMarker + 2 * i;
+			if (!DoubleUtil.isInteger(values[i])) {
+				marker += 0.25;
+			}
+			shape.numbers.get(i).set(values[i] < 0 ? -marker : marker);
+		}
+		String[] markers = print(shape.numbers, tpl);
+		String translation = translateDirectly(node, tpl, false);
+		ArrayList<String> parts = new ArrayList<>();
+		ArrayList<Integer> slots = new ArrayList<>();
+		boolean[] found = new boolean[count];
+		int partStart = 0;
+		int pos = 0;
+		while (pos < translation.length()) {
+			int slot = markerAt(translation, pos, markers);
+			if (slot < 0) {
+				pos++;
+				continue;
+			}
+			parts.add(translation.substring(partStart, pos));
+			slots.add(slot);
+			found[slot] = true;
+			pos += markers[slot].length();
+			partStart = pos;
+		}
+		parts.add(translation.substring(partStart));
+		for (boolean slotFound : found) {
+			if (!slotFound) {
+				// number printed differently or translation depends on it
+				return null;
+			}
+		}
+		int[] slotArray = new int[slots.size()];
+		for (int i = 0; i < slotArray.length; i++) {
+			slotArray[i] = slots.get(i);
+		}
+		return new Template(parts.toArray(new String[0]), slotArray);
+	}
+
+	private static int markerAt(String translation, int pos,
+			String[] markers) {
+		if (pos > 0 && isNumberChar(translation.charAt(pos - 1))) {
+			return -1;
+		}
+		for (int slot = 0; slot < markers.length; slot++) {
+			String marker = markers[slot];
+			int end = pos + marker.length();
+			if (translation.startsWith(marker, pos)
+					&& (end == translation.length()
+							|| !isNumberChar(translation.charAt(end)))) {
+				return slot;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isNumberChar(char ch) {
+		return (ch >= '0' && ch <= '9') || ch == '.';
+	}
+
+	private static String[] print(ArrayList<MyDouble> numbers,
+			StringTemplate tpl) {
+		String[] result = new String[numbers.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = numbers.get(i).toString(tpl);
+		}
+		return result;
+	}
+
+	private static double now() {
+		return UtilFactory.getPrototype().getMillisecondTime();
+	}
+
+	/**
+	 * Removes all templates.
+	 */
+	public synchronized void clear() {
+		for (Map<String, Template> cache : caches.values()) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * @return number of translations built from a template
+	 */
+	public synchronized int getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return number of translations that needed a new template
+	 */
+	public synchronized int getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return time spent translating expressions without a template
+	 */
+	public synchronized double getTranslationMillis() {
+		return translationMillis;
+	}
+
+	/**
+	 * @return time spent filling templates
+	 */
+	public synchronized double getTemplateMillis() {
+		return templateMillis;
+	}
+}
@@ -12,6 +12,7 @@
 
 package org.geogebra.common.cas;
 
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
@@ -60,6 +61,12 @@ public class CASparser implements CASParserInterface {
 	private int nrOfVars = 0;
 	private Map<String, String> rbCasTranslations; // translates from
 	// GeogebraCAS
+	private final ParsedCASResultCache parsedResults = new ParsedCASResultCache(
+			Kernel.GEOGEBRA_CAS_CACHE_SIZE);
+	private final CASTranslationCache translations = new CASTranslationCache(
+			Kernel.GEOGEBRA_CAS_CACHE_SIZE);
+	private final IdentityHashMap<StringTemplate, StringTemplate> templatesWithoutSurds =
+			new IdentityHashMap<>();
 
 	/**
 	 * Creates new CAS parser
@@ -221,13 +228,20 @@ public class CASparser implements CASParserInterface {
 	 */
 	public ValidExpression parseGiac(String exp) throws CASException {
 		try {
-			return parser.parseGiac(exp);
+			return parsedResults.get(exp, parser::parseGiac, parser.getKernel());
 		} catch (Throwable t) {
 			Log.debug(t.getStackTrace());
 			return new MyDouble(parser.getKernel(), Double.NaN);
 		}
 	}
 
+	/**
+	 * @return cache of parsed Giac outputs
+	 */
+	public ParsedCASResultCache getParsedResultCache() {
+		return parsedResults;
+	}
+
 	/**
 	 * Final automata can be in three states * NORMAL -- no index being read *
 	 * UNDERSCORE -- last character was _ * LONG_INDEX -- it found _{, but not
@@ -422,9 +436,27 @@ public class CASparser implements CASParserInterface {
 			boolean deriveWithoutSurds = ve.getTopLevelCommand() != null
 					&& ve.getTopLevelCommand().getName().equals("Solve");
 
-		return ve.wrap().getCASstring(deriveWithoutSurds
-					? casStringType.deriveWithoutSurds() : casStringType, false);
+		return translations.translate(ve.wrap(), deriveWithoutSurds
+					? getTemplateWithoutSurds(casStringType) : casStringType);
+
+	}
 
+	private synchronized StringTemplate getTemplateWithoutSurds(
+			StringTemplate tpl) {
+		// same instance each time, so that translations can be cached
+		StringTemplate derived = templatesWithoutSurds.get(tpl);
+		if (derived == null) {
+			derived = tpl.deriveWithoutSurds();
+			templatesWithoutSurds.put(tpl, derived);
+		}
+		return derived;
+	}
+
+	/**
+	 * @return cache of translation templates
+	 */
+	public CASTranslationCache getTranslationCache() {
+		return translations;
 	}
 
 	// syntax to the internal CAS
@@ -2,6 +2,7 @@ package org.geogebra.common.cas;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +11,7 @@ import java.util.TreeSet;
 
 import org.geogebra.common.cas.error.TimeoutException;
 import org.geogebra.common.cas.giac.CASgiac;
+import org.geogebra.common.kernel.AsynchronousCommand;
 import org.geogebra.common.kernel.CASException;
 import org.geogebra.common.kernel.CASGenericInterface;
 import org.geogebra.common.kernel.GeoGebraCasInterface;
@@ -71,6 +73,11 @@ public class GeoGebraCAS implements GeoGebraCasInterface {
 	private final StringBuilder getPolynomialCoeffsSB = new StringBuilder();
 	private final StringBuilder sbPolyCoeffs = new StringBuilder();
 	private int counter = 1;
+	/** latest request of each asynchronous command */
+	private final IdentityHashMap<AsynchronousCommand, Integer> asyncRequests =
+			new IdentityHashMap<>();
+	private int asyncRequestCount = 0;
+	private AsynchronousCASExecutor asyncExecutor;
 
 	/**
 	 * Creates new CAS interface
@@ -196,6 +203,205 @@ public class GeoGebraCAS implements GeoGebraCasInterface {
 		}
 	}
 
+	@Override
+	public List<String> evaluateGeoGebraCAS(List<String> exps,
+			StringTemplate tpl, Kernel kernel) {
+		ArrayList<String> results = new ArrayList<>(exps.size());
+		CASGenericInterface currentCAS = getCurrentCAS();
+		if (!app.getSettings().getCasSettings().isEnabled()
+				|| !(currentCAS instanceof CASgiac)) {
+			for (String exp : exps) {
+				results.add(evaluateQuietly(exp, tpl, kernel));
+			}
+			return results;
+		}
+		ArrayList<ValidExpression> batch = new ArrayList<>(exps.size());
+		ArrayList<Integer> batchIndices = new ArrayList<>(exps.size());
+		for (String exp : exps) {
+			ValidExpression inVE = null;
+			try {
+				inVE = casParser.parseGeoGebraCASInput(exp, null);
+			} catch (Throwable t) {
+				Log.debug(t);
+			}
+			if (inVE != null && !needsSingleEvaluation(inVE)) {
+				batchIndices.add(results.size());
+				batch.add(inVE);
+				results.add("?");
+			} else {
+				results.add(inVE == null ? "?"
+						: evaluateQuietly(exp, tpl, kernel));
+			}
+		}
+		if (!batch.isEmpty()) {
+			List<String> batchResults = ((CASgiac) currentCAS)
+					.evaluateGeoGebraCAS(batch, tpl, kernel);
+			for (int i = 0; i < batchResults.size(); i++) {
+				String result = batchResults.get(i);
+				if (result != null) {
+					results.set(batchIndices.get(i),
+							Kernel.removeCASVariablePrefix(result, " "));
+				}
+			}
+			resetCounter();
+		}
+		return results;
+	}
+
+	private String evaluateQuietly(String exp, StringTemplate tpl,
+			Kernel kernel) {
+		try {
+			return evaluateGeoGebraCAS(exp, null, tpl, kernel);
+		} catch (CASException e) {
+			return "?";
+		}
+	}
+
+	/**
+	 * @param inVE
+	 *            parsed input
+	 * @return whether the input has to be evaluated on its own, because
+	 *         evaluation of its top level command does more than one Giac
+	 *         call
+	 */
+	private static boolean needsSingleEvaluation(ValidExpression inVE) {
+		Command cmd = inVE.getTopLevelCommand();
+		return cmd != null && ("Delete".equals(cmd.getName())
+				|| "KeepInput".equals(cmd.getName())
+				|| "Numeric".equals(cmd.getName()));
+	}
+
+	/**
+	 * Translation ahead of the evaluation: parametric Solve sets the number of
+	 * variables in the parser, it must not cut the results of evaluations
+	 * before this one.
+	 */
+	private String translateToGiac(ValidExpression inVE) {
+		int nrOfVars = casParser.getNrOfVars();
+		try {
+			return casParser.translateToCAS(inVE, StringTemplate.giacTemplate,
+					getCurrentCAS());
+		} finally {
+			casParser.setNrOfVars(nrOfVars);
+		}
+	}
+
+	@Override
+	public void evaluateGeoGebraCASAsync(final AsynchronousCommand command,
+			final ArbitraryConstantRegistry arbConst) {
+		final String input = command.getCasInput();
+		final Kernel kernel = command.getKernel();
+		final int request = nextAsyncRequest(command);
+		String cached = command.useCaching() && kernel.hasCasCache()
+				? kernel.getCasCache().get(input) : null;
+		if (cached != null || !app.getSettings().getCasSettings().isEnabled()) {
+			finishAsyncRequest(command, request);
+			command.handleCASoutput(cached == null ? "?" : cached,
+					input.hashCode());
+			return;
+		}
+		final String giacInput;
+		try {
+			ValidExpression inVE = casParser.parseGeoGebraCASInput(input, null);
+			// same translation as for synchronous evaluation, so that the
+			// callback finds the result in the Giac cache
+			giacInput = translateToGiac(inVE);
+		} catch (Throwable t) {
+			finishAsyncRequest(command, request);
+			command.handleException(t, input.hashCode());
+			return;
+		}
+		final CASGenericInterface currentCAS = getCurrentCAS();
+		final Throwable[] exception = new Throwable[1];
+		getAsynchronousExecutor().submit(() -> {
+			if (isCurrentAsyncRequest(command, request)) {
+				try {
+					if (currentCAS instanceof CASgiac) {
+						((CASgiac) currentCAS).evaluateCASInBackground(giacInput);
+					} else {
+						currentCAS.evaluateCAS(giacInput);
+					}
+				} catch (Throwable t) {
+					exception[0] = t;
+				}
+			}
+		}, () -> {
+			if (!finishAsyncRequest(command, request)) {
+				// superseded by a newer request of the same command
+				return;
+			}
+			String result = null;
+			Throwable error = exception[0];
+			if (error == null) {
+				try {
+					// converts the cached Giac result to GeoGebra syntax
+					result = evaluateGeoGebraCAS(input, arbConst,
+							StringTemplate.numericNoLocal, kernel);
+				} catch (Throwable t) {
+					error = t;
+				}
+			}
+			if (currentCAS instanceof CASgiac) {
+				((CASgiac) currentCAS).CASAsyncFinished(null, result, error,
+						command, input, null);
+			} else if (error != null) {
+				command.handleException(error, input.hashCode());
+			} else {
+				command.handleCASoutput(result, input.hashCode());
+			}
+		});
+	}
+
+	/**
+	 * @param executor
+	 *            executor for asynchronous commands, null to use the
+	 *            platform's prototype
+	 */
+	public void setAsynchronousExecutor(AsynchronousCASExecutor executor) {
+		this.asyncExecutor = executor;
+	}
+
+	private AsynchronousCASExecutor getAsynchronousExecutor() {
+		return asyncExecutor == null ? AsynchronousCASExecutor.getPrototype()
+				: asyncExecutor;
+	}
+
+	private int nextAsyncRequest(AsynchronousCommand command) {
+		synchronized (asyncRequests) {
+			asyncRequestCount++;
+			asyncRequests.put(command, asyncRequestCount);
+			return asyncRequestCount;
+		}
+	}
+
+	private boolean isCurrentAsyncRequest(AsynchronousCommand command,
+			int request) {
+		synchronized (asyncRequests) {
+			Integer current = asyncRequests.get(command);
+			return current != null && current == request;
+		}
+	}
+
+	private boolean finishAsyncRequest(AsynchronousCommand command,
+			int request) {
+		synchronized (asyncRequests) {
+			if (!isCurrentAsyncRequest(command, request)) {
+				return false;
+			}
+			asyncRequests.remove(command);
+			return true;
+		}
+	}
+
+	/**
+	 * @return number of asynchronous requests waiting for their result
+	 */
+	public int getPendingAsyncRequestCount() {
+		synchronized (asyncRequests) {
+			return asyncRequests.size();
+		}
+	}
+
 	@Override
 	final public String evaluateRaw(String exp) throws Throwable {
 		return app.getSettings().getCasSettings().isEnabled()
@@ -1241,6 +1447,17 @@ public class GeoGebraCAS implements GeoGebraCasInterface {
 	@Override
 	public void clearCache() {
 		getPolynomialCoeffsCache.clear();
+		casParser.getParsedResultCache().clear();
+		casParser.getTranslationCache().clear();
+	}
+
+	/**
+	 * @return profiler of the current CAS, null if it's not Giac
+	 */
+	@Override
+	public CASProfiler getProfiler() {
+		CASGenericInterface cas = getCurrentCAS();
+		return cas instanceof CASgiac ? ((CASgiac) cas).getProfiler() : null;
 	}
 
 	/**
@@ -0,0 +1,193 @@
+package org.geogebra.common.cas;
+
+import org.geogebra.common.factories.UtilFactory;
+import org.geogebra.common.kernel.Construction;
+import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.kernel.arithmetic.Command;
+import org.geogebra.common.kernel.arithmetic.ExpressionNode;
+import org.geogebra.common.kernel.arithmetic.ExpressionValue;
+import org.geogebra.common.kernel.arithmetic.FunctionNVar;
+import org.geogebra.common.kernel.arithmetic.FunctionVariable;
+import org.geogebra.common.kernel.arithmetic.SymbolicMode;
+import org.geogebra.common.kernel.arithmetic.ValidExpression;
+import org.geogebra.common.kernel.geos.GeoDummyVariable;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.plugin.Operation;
+import org.geogebra.common.util.MaxSizeHashMap;
+
+/**
+ * Cache of parsed Giac outputs. The cached trees are never handed out: callers
+ * get deep copies, which are much cheaper than parsing long results (big
+ * polynomials, matrices) again, and may modify them freely.
+ *
+ * Parsing looks up labels of the construction, so the cache is cleared when
+ * the labels, the symbolic mode or the file loading state change; trees
+ * referring to objects or commands of the construction are not cached.
+ */
+public class ParsedCASResultCache {
+
+	private final MaxSizeHashMap<String, Entry> cache;
+	/* construction state the cached results were parsed in */
+	private Construction construction;
+	private int labelTableVersion;
+	private boolean fileLoading;
+	private SymbolicMode symbolicMode;
+	private int hits = 0;
+	private int misses = 0;
+	private double savedMillis = 0;
+
+	private static final class Entry {
+		final ValidExpression expression;
+		final double parseMillis;
+
+		Entry(ValidExpression expression, double parseMillis) {
+			this.expression = expression;
+			this.parseMillis = parseMillis;
+		}
+	}
+
+	/**
+	 * Parser for results that are not in the cache.
+	 */
+	public interface GiacParser {
+		/**
+		 * @param giacOutput
+		 *            Giac output
+		 * @return parsed output
+		 * @throws Throwable
+		 *             when the output can't be parsed
+		 */
+		ValidExpression parse(String giacOutput) throws Throwable;
+	}
+
+	/**
+	 * @param maxSize
+	 *            maximal number of cached results
+	 */
+	public ParsedCASResultCache(int maxSize) {
+		cache = new MaxSizeHashMap<>(maxSize);
+	}
+
+	/**
+	 * @param giacOutput
+	 *            Giac output
+	 * @param parser
+	 *            parser used on cache miss
+	 * @param kernel
+	 *            kernel for the copy
+	 * @return parsed output (a fresh copy)
+	 * @throws Throwable
+	 *             when the output can't be parsed
+	 */
+	public synchronized ValidExpression get(String giacOutput,
+			GiacParser parser, Kernel kernel) throws Throwable {
+		checkParserState(kernel);
+		Entry entry = cache.get(giacOutput);
+		if (entry != null) {
+			double start = now();
+			ValidExpression copy = copy(entry.expression, kernel);
+			if (copy != null) {
+				hits++;
+				savedMillis += Math.max(0, entry.parseMillis - (now() - start));
+				return copy;
+			}
+		}
+		misses++;
+		double start = now();
+		ValidExpression parsed = parser.parse(giacOutput);
+		double parseMillis = now() - start;
+		// keep a private copy, the caller may modify the parsed tree
+		ValidExpression cached = isCacheable(parsed) ? copy(parsed, kernel)
+				: null;
+		if (cached != null) {
+			cache.put(giacOutput, new Entry(cached, parseMillis));
+		}
+		return parsed;
+	}
+
+	private void checkParserState(Kernel kernel) {
+		Construction cons = kernel.getConstruction();
+		if (cons != construction
+				|| cons.getLabelTableVersion() != labelTableVersion
+				|| cons.isFileLoading() != fileLoading
+				|| kernel.getSymbolicMode() != symbolicMode) {
+			cache.clear();
+			construction = cons;
+			labelTableVersion = cons.getLabelTableVersion();
+			fileLoading = cons.isFileLoading();
+			symbolicMode = kernel.getSymbolicMode();
+		}
+	}
+
+	private static boolean isCacheable(ValidExpression expression) {
+		// labels are not copied by all expression types; function variables
+		// would be shared by the copies
+		return expression.getLabel() == null
+				&& !expression.any(ParsedCASResultCache::isConstructionDependent);
+	}
+
+	/**
+	 * Objects of the construction (copies keep referring to them, even when
+	 * they are removed), commands and function applications (they depend on
+	 * the labels defined when parsing)
+	 */
+	private static boolean isConstructionDependent(ExpressionValue ev) {
+		if (ev instanceof ExpressionNode) {
+			Operation op = ((ExpressionNode) ev).getOperation();
+			return op == Operation.FUNCTION || op == Operation.FUNCTION_NVAR
+					|| op == Operation.VEC_FUNCTION;
+		}
+		return ev instanceof FunctionVariable || ev instanceof FunctionNVar
+				|| ev instanceof Command || (ev instanceof GeoElement
+						&& !(ev instanceof GeoDummyVariable));
+	}
+
+	private static ValidExpression copy(ValidExpression expression,
+			Kernel kernel) {
+		ExpressionValue copy = expression.deepCopy(kernel);
+		if (copy == null || copy.getClass() != expression.getClass()) {
+			return null;
+		}
+		return (ValidExpression) copy;
+	}
+
+	private static double now() {
+		return UtilFactory.getPrototype().getMillisecondTime();
+	}
+
+	/**
+	 * Removes all results.
+	 */
+	public synchronized void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * @return number of cached results
+	 */
+	public synchronized int size() {
+		return cache.size();
+	}
+
+	/**
+	 * @return number of results copied from the cache
+	 */
+	public synchronized int getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return number of results that had to be parsed
+	 */
+	public synchronized int getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return estimated parsing time saved by the cache (parse time minus copy
+	 *         time of each hit)
+	 */
+	public synchronized double getSavedMillis() {
+		return savedMillis;
+	}
+}
@@ -0,0 +1,23 @@
+package org.geogebra.common.cas.giac;
+
+/**
+ * Additional tier for CAS results, consulted after the in-memory cache (e.g.
+ * persistent between sessions).
+ */
+public interface CASResultStore {
+
+	/**
+	 * @param input
+	 *            Giac input
+	 * @return stored result, null if not found
+	 */
+	String get(String input);
+
+	/**
+	 * @param input
+	 *            Giac input
+	 * @param result
+	 *            Giac result
+	 */
+	void put(String input, String result);
+}
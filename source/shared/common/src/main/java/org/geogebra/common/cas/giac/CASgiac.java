@@ -10,7 +10,9 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Random;
 
+import org.geogebra.common.cas.CASProfiler;
 import org.geogebra.common.cas.CASparser;
+import org.geogebra.common.cas.error.TimeoutException;
 import org.geogebra.common.kernel.AsynchronousCommand;
 import org.geogebra.common.kernel.CASException;
 import org.geogebra.common.kernel.CASGenericInterface;
@@ -66,6 +68,11 @@ public abstract class CASgiac implements CASGenericInterface {
 	 */
 	final public static String FORCE_ERROR = "(";
 
+	/**
+	 * RNG seed for inputs using fsolve, see {@link #getSeed(String)}
+	 */
+	final public static int FSOLVE_SEED = 9;
+
 	/**
 	 * string to put Giac into GeoGebra mode (not affected by 'restart')
 	 * 
@@ -396,7 +403,7 @@ public abstract class CASgiac implements CASGenericInterface {
 		final public String functionName;
 		/** definition string */
 		final public String definitionString;
-		private static List<Entry<CustomFunctions, CustomFunctions>> CustomFunctionsDependencies;
+		private static volatile List<Entry<CustomFunctions, CustomFunctions>> CustomFunctionsDependencies;
 
 		CustomFunctions(String functionName, String definitionString) {
 			this.functionName = functionName;
@@ -408,11 +415,12 @@ public abstract class CASgiac implements CASGenericInterface {
 			return functionName;
 		}
 
-		private static void setDependency(CustomFunctions cf1,
-				CustomFunctions cf2) {
+		private static void setDependency(
+				List<Entry<CustomFunctions, CustomFunctions>> dependencies,
+				CustomFunctions cf1, CustomFunctions cf2) {
 			Entry<CustomFunctions, CustomFunctions> pair = new SimpleEntry<>(
 					cf1, cf2);
-			CustomFunctionsDependencies.add(pair);
+			dependencies.add(pair);
 		}
 
 		/**
@@ -421,25 +429,30 @@ public abstract class CASgiac implements CASGenericInterface {
 		 * function is loaded.
 		 */
 		public static void setDependencies() {
-			CustomFunctionsDependencies = new ArrayList<>();
-			setDependency(IMPLICIT_CURVE_COEFFS, COEFF_MATRIX);
-			setDependency(IMPLICIT_CURVE_COEFFS, COEFF_MATRICES);
-			setDependency(IMPLICIT_CURVE_COEFFS, FACTOR_SQR_FREE);
-			setDependency(GEOM_ELIM, PRIM_POLY);
-			setDependency(LOCUS_EQU, IMPLICIT_CURVE_COEFFS);
-			setDependency(LOCUS_EQU, GEOM_ELIM);
-			setDependency(LOCUS_EQU, JACOBI_PREPARE);
-			setDependency(ENVELOPE_EQU, LOCUS_EQU);
-			setDependency(ENVELOPE_EQU, GEOM_JACOBI_DET);
-			setDependency(GEOM_JACOBI_DET, JACOBI_PREPARE);
-			setDependency(GEOM_JACOBI_DET, JACOBI_DET);
-			setDependency(AFACTOR_ALG_NUM, IRRED);
-			setDependency(ABSFACT, AFACTOR_ALG_NUM);
-			setDependency(COS_2PI_OVER_N_MINPOLY, FACTOR_SQR_FREE);
-			setDependency(CHECK_DERIVATIVE, XCOORD);
-			setDependency(CHECK_DERIVATIVE, YCOORD);
-			setDependency(CHECK_DERIVATIVE, IS_ALMOST_ZERO);
-			setDependency(IS_EQUAL_EQUATIONS, IS_ZERO);
+			if (CustomFunctionsDependencies != null) {
+				return;
+			}
+			// list is published when complete, evaluations may run concurrently
+			List<Entry<CustomFunctions, CustomFunctions>> dependencies = new ArrayList<>();
+			setDependency(dependencies, IMPLICIT_CURVE_COEFFS, COEFF_MATRIX);
+			setDependency(dependencies, IMPLICIT_CURVE_COEFFS, COEFF_MATRICES);
+			setDependency(dependencies, IMPLICIT_CURVE_COEFFS, FACTOR_SQR_FREE);
+			setDependency(dependencies, GEOM_ELIM, PRIM_POLY);
+			setDependency(dependencies, LOCUS_EQU, IMPLICIT_CURVE_COEFFS);
+			setDependency(dependencies, LOCUS_EQU, GEOM_ELIM);
+			setDependency(dependencies, LOCUS_EQU, JACOBI_PREPARE);
+			setDependency(dependencies, ENVELOPE_EQU, LOCUS_EQU);
+			setDependency(dependencies, ENVELOPE_EQU, GEOM_JACOBI_DET);
+			setDependency(dependencies, GEOM_JACOBI_DET, JACOBI_PREPARE);
+			setDependency(dependencies, GEOM_JACOBI_DET, JACOBI_DET);
+			setDependency(dependencies, AFACTOR_ALG_NUM, IRRED);
+			setDependency(dependencies, ABSFACT, AFACTOR_ALG_NUM);
+			setDependency(dependencies, COS_2PI_OVER_N_MINPOLY, FACTOR_SQR_FREE);
+			setDependency(dependencies, CHECK_DERIVATIVE, XCOORD);
+			setDependency(dependencies, CHECK_DERIVATIVE, YCOORD);
+			setDependency(dependencies, CHECK_DERIVATIVE, IS_ALMOST_ZERO);
+			setDependency(dependencies, IS_EQUAL_EQUATIONS, IS_ZERO);
+			CustomFunctionsDependencies = dependencies;
 		}
 
 		/**
@@ -475,8 +488,15 @@ public abstract class CASgiac implements CASGenericInterface {
 	 */
 	public long timeoutMillis = 5000;
 	final private static String EVALFA = "evalfa(";
-	private StringBuilder expSB = new StringBuilder(EVALFA);
-	private MaxSizeHashMap<String, String> casGiacCache = new MaxSizeHashMap<>(Kernel.GEOGEBRA_CAS_CACHE_SIZE);
+	private final MaxSizeHashMap<String, String> casGiacCache = new MaxSizeHashMap<>(Kernel.GEOGEBRA_CAS_CACHE_SIZE);
+	private volatile CASResultStore resultStore;
+	private final CASProfiler profiler = new CASProfiler(
+			CASProfiler.DEFAULT_SLOW_INPUTS);
+	/**
+	 * Translation to Giac and parsing of results use the shared parser (and
+	 * may look up the construction); Giac evaluations run without this lock.
+	 */
+	private final Object parserLock = new Object();
 
 	// eg {(ggbtmpvarx>(-sqrt(110)/5)) && ((sqrt(110)/5)>ggbtmpvarx)}
 	// eg {(ggbtmpvarx>=(-sqrt(110)/5)) && ((sqrt(110)/5)>=ggbtmpvarx)}
@@ -531,6 +551,121 @@ public abstract class CASgiac implements CASGenericInterface {
 	@Override
 	public abstract String evaluateCAS(String exp);
 
+	@Override
+	public List<String> evaluateCAS(List<String> exps) {
+		ArrayList<String> distinct = new ArrayList<>();
+		HashMap<String, Integer> indices = new HashMap<>();
+		for (String exp : exps) {
+			if (!indices.containsKey(exp)) {
+				indices.put(exp, distinct.size());
+				distinct.add(exp);
+			}
+		}
+		String[] distinctResults = evaluateDistinct(distinct);
+		ArrayList<String> results = new ArrayList<>(exps.size());
+		for (String exp : exps) {
+			results.add(distinctResults[indices.get(exp)]);
+		}
+		return results;
+	}
+
+	/**
+	 * @param exps
+	 *            distinct inputs
+	 * @return outputs, null for failed evaluations
+	 */
+	protected String[] evaluateDistinct(List<String> exps) {
+		String[] results = new String[exps.size()];
+		for (int i = 0; i < results.length; i++) {
+			results[i] = evaluateCASQuietly(exps.get(i));
+		}
+		return results;
+	}
+
+	/**
+	 * @param exp
+	 *            input
+	 * @return output, null if evaluation failed or timed out
+	 */
+	protected String evaluateCASQuietly(String exp) {
+		CASProfiler.InputTiming timing = profiler.startInput();
+		double start = CASProfiler.now();
+		try {
+			String result = evaluateCAS(exp);
+			timing.addEvaluation(exp, CASProfiler.now() - start);
+			return result;
+		} catch (TimeoutException e) {
+			timing.addTimeout(exp, CASProfiler.now() - start);
+			Log.debug("batch evaluation timed out for " + exp);
+			return null;
+		} catch (RuntimeException e) {
+			Log.debug("batch evaluation failed for " + exp + ": " + e);
+			return null;
+		} finally {
+			timing.finish();
+		}
+	}
+
+	/**
+	 * Evaluates several inputs together: each input is translated once, the
+	 * translations are evaluated by {@link #evaluateCAS(List)} and the results
+	 * are converted back one by one. Inputs that need special treatment
+	 * (Delete, KeepInput, Numeric) should use
+	 * {@link #evaluateGeoGebraCAS(ValidExpression, ArbitraryConstantRegistry,
+	 * StringTemplate, GeoCasCell, Kernel)} instead.
+	 *
+	 * @param inputs
+	 *            parsed inputs
+	 * @param tpl
+	 *            template for the results
+	 * @param kernel
+	 *            kernel
+	 * @return results in GeoGebra syntax in the same order, null for failed
+	 *         evaluations
+	 */
+	public List<String> evaluateGeoGebraCAS(List<ValidExpression> inputs,
+			StringTemplate tpl, Kernel kernel) {
+		int size = inputs.size();
+		String[] giacInputs = new String[size];
+		int[] nrOfVars = new int[size];
+		CASProfiler.InputTiming[] timings = new CASProfiler.InputTiming[size];
+		ArrayList<String> batch = new ArrayList<>(size);
+		synchronized (parserLock) {
+			for (int i = 0; i < size; i++) {
+				timings[i] = profiler.startInput();
+				double start = CASProfiler.now();
+				try {
+					giacInputs[i] = casParser.translateToCAS(inputs.get(i),
+							StringTemplate.giacTemplate, this);
+					batch.add(giacInputs[i]);
+				} catch (RuntimeException e) {
+					Log.debug("translation failed for " + inputs.get(i) + ": " + e);
+				}
+				timings[i].addTranslation(CASProfiler.now() - start);
+				nrOfVars[i] = casParser.getNrOfVars();
+				casParser.setNrOfVars(0);
+			}
+		}
+		List<String> outputs = evaluateCAS(batch);
+		ArrayList<String> results = new ArrayList<>(size);
+		int next = 0;
+		for (int i = 0; i < size; i++) {
+			String plainResult = giacInputs[i] == null ? null : outputs.get(next++);
+			String result = null;
+			if (plainResult != null && !plainResult.isEmpty()) {
+				try {
+					result = toGeoGebraString(
+							keepSolutions(plainResult, nrOfVars[i]), null, tpl,
+							kernel, timings[i]);
+				} catch (RuntimeException e) {
+					Log.debug("conversion failed for " + plainResult + ": " + e);
+				}
+			}
+			results.add(result);
+		}
+		return results;
+	}
+
 	@Override
 	final public String evaluateRaw(final String input) throws Throwable {
 
@@ -568,12 +703,75 @@ public abstract class CASgiac implements CASGenericInterface {
 		boolean inputContainsExcludedString =
 				EXCLUDE_FROM_CACHE.stream().anyMatch(str -> input.contains(str));
 		if (!inputContainsExcludedString) {
-			casGiacCache.put(input, result);
+			synchronized (casGiacCache) {
+				casGiacCache.put(input, result);
+			}
+			CASResultStore store = resultStore;
+			if (store != null && isStorable(result)) {
+				store.put(input, result);
+			}
 		}
 	}
 
+	private static boolean isStorable(String result) {
+		return result != null && !result.isEmpty() && !"?".equals(result)
+				&& !FORCE_ERROR.equals(result)
+				&& !result.contains("GIAC_ERROR")
+				&& !result.contains("user interruption");
+	}
+
 	protected String getResultFromCache(String input) {
-		return casGiacCache.get(input);
+		String result;
+		synchronized (casGiacCache) {
+			result = casGiacCache.get(input);
+		}
+		CASResultStore store = resultStore;
+		if (result == null && store != null) {
+			result = store.get(input);
+			if (result != null) {
+				synchronized (casGiacCache) {
+					casGiacCache.put(input, result);
+				}
+			}
+		}
+		profiler.addCacheLookup(result != null);
+		return result;
+	}
+
+	/**
+	 * @return profiler with timings of evaluations
+	 */
+	public CASProfiler getProfiler() {
+		return profiler;
+	}
+
+	/**
+	 * @param store
+	 *            store consulted after the in-memory cache (e.g. persistent),
+	 *            null to use only the in-memory cache
+	 */
+	public void setResultStore(CASResultStore store) {
+		this.resultStore = store;
+	}
+
+	/**
+	 * @return store consulted after the in-memory cache
+	 */
+	public CASResultStore getResultStore() {
+		return resultStore;
+	}
+
+	/**
+	 * Evaluates input of an asynchronous command on a background thread. The
+	 * evaluation must not wait for the evaluations of the kernel (and vice
+	 * versa), so platforms with threads evaluate it in a context of its own.
+	 *
+	 * @param exp
+	 *            Giac command
+	 * @return value returned from CAS
+	 */
+	public String evaluateCASInBackground(String exp) {
+		return evaluateCAS(exp);
 	}
 
 	/**
@@ -589,17 +787,40 @@ public abstract class CASgiac implements CASGenericInterface {
 			throws Throwable;
 
 	@Override
-	final public synchronized String evaluateGeoGebraCAS(
+	final public String evaluateGeoGebraCAS(
 			final ValidExpression inputExpression, ArbitraryConstantRegistry arbconst,
 			StringTemplate tpl, GeoCasCell cell, Kernel kernel)
 			throws CASException {
+		CASProfiler.InputTiming timing = profiler.startInput();
+		try {
+			return evaluateGeoGebraCAS(inputExpression, arbconst, tpl, cell,
+					kernel, timing);
+		} finally {
+			timing.finish();
+		}
+	}
 
+	private String evaluateGeoGebraCAS(ValidExpression inputExpression,
+			ArbitraryConstantRegistry arbconst, StringTemplate tpl,
+			GeoCasCell cell, Kernel kernel, CASProfiler.InputTiming timing)
+			throws CASException {
 		ValidExpression casInput = inputExpression;
 		Command cmd = casInput.getTopLevelCommand();
 		boolean keepInput = (cell != null && cell.isKeepInputUsed())
 				|| (cmd != null && "KeepInput".equals(cmd.getName()));
-		String plainResult = getPlainResult(casInput, kernel);
+		String plainResult = getPlainResult(casInput, kernel, timing);
+		synchronized (parserLock) {
+			return convertResult(casInput, plainResult, keepInput, arbconst,
+					tpl, cell, kernel, timing);
+		}
+	}
 
+	private String convertResult(ValidExpression input, String plainResult,
+			boolean keepInput, ArbitraryConstantRegistry arbconst,
+			StringTemplate tpl, GeoCasCell cell, Kernel kernel,
+			CASProfiler.InputTiming timing) throws CASException {
+		ValidExpression casInput = input;
+		Command cmd = casInput.getTopLevelCommand();
 		if (keepInput) {
 			// remove KeepInput[] command and take argument
 			if (cmd != null && cmd.getName().equals("KeepInput")) {
@@ -658,7 +879,7 @@ public abstract class CASgiac implements CASGenericInterface {
 		if (result == null || result.isEmpty()) {
 			return null;
 		}
-		return toGeoGebraString(result, arbconst, tpl, kernel);
+		return toGeoGebraString(result, arbconst, tpl, kernel, timing);
 
 	}
 
@@ -680,19 +901,27 @@ public abstract class CASgiac implements CASGenericInterface {
 	}
 
 	@Override
-	final public synchronized ExpressionValue evaluateToExpression(
+	final public ExpressionValue evaluateToExpression(
 			final ValidExpression inputExpression, ArbitraryConstantRegistry arbconst,
 			Kernel kernel) throws CASException {
-		String result = getPlainResult(inputExpression, kernel);
-		// standard case
-		if ("".equals(result)) {
-			return null;
+		CASProfiler.InputTiming timing = profiler.startInput();
+		try {
+			String result = getPlainResult(inputExpression, kernel, timing);
+			// standard case
+			if ("".equals(result)) {
+				return null;
+			}
+			synchronized (parserLock) {
+				return replaceRoots(parseGiac(result, timing), arbconst,
+						kernel);
+			}
+		} finally {
+			timing.finish();
 		}
-		return replaceRoots(casParser.parseGiac(result), arbconst, kernel);
-
 	}
 
-	private String getPlainResult(ValidExpression casInput, Kernel kernel) {
+	private String getPlainResult(ValidExpression casInput, Kernel kernel,
+			CASProfiler.InputTiming timing) {
 		// KeepInput[] command should set flag keepinput!!:=1
 		// so that commands like Substitute can work accordingly
 		Command cmd = casInput.getTopLevelCommand();
@@ -705,34 +934,47 @@ public abstract class CASgiac implements CASGenericInterface {
 							.getOperation() == Operation.FUNCTION_NVAR)) {
 				toDelete = ((ExpressionNode) toDelete).getLeft();
 			}
-			String label = toDelete.toString(StringTemplate.defaultTemplate);
-			GeoElement geo = kernel.lookupLabel(label);
-			if (geo == null) {
-				geo = kernel.lookupCasCellLabel(label);
-			}
-			if (geo != null) {
-				geo.remove();
+			synchronized (parserLock) {
+				String label = toDelete.toString(StringTemplate.defaultTemplate);
+				GeoElement geo = kernel.lookupLabel(label);
+				if (geo == null) {
+					geo = kernel.lookupCasCellLabel(label);
+				}
+				if (geo != null) {
+					geo.remove();
+				}
 			}
 			return "true";
 		}
 
 		// convert parsed input to Giac string
 		// evaluate in Giac
-		String plainResult = translateAndEvaluateCAS(casInput, StringTemplate.giacTemplate);
+		String plainResult = translateAndEvaluateCAS(casInput,
+				StringTemplate.giacTemplate, timing);
 
 		// try again for undefined result
 		// eg Numeric(0.99999874^(16500))
 		// doesn't work in "exact" mode
 		if (isUndefined(plainResult) && cmd != null && "Numeric".equals(cmd.getName())) {
 			// evaluate in Giac
-			plainResult = translateAndEvaluateCAS(casInput, StringTemplate.giacNumeric13);
+			plainResult = translateAndEvaluateCAS(casInput,
+					StringTemplate.giacNumeric13, timing);
 		}
+		return plainResult;
+	}
 
-		// get initial nr of vars
-		int nrOfVars = casParser.getNrOfVars();
+	/**
+	 * @param plainResult
+	 *            Giac result
+	 * @param nrOfVars
+	 *            number of variables asked for in a parametric Solve, 0 if
+	 *            the whole result is needed
+	 * @return result with only the asked solutions
+	 */
+	private static String keepSolutions(String plainResult, int nrOfVars) {
 		StringBuilder newPlainResult = new StringBuilder();
 		// case we need to process the result
-		if (nrOfVars > 0) {
+		if (nrOfVars > 0 && plainResult != null) {
 			// get array of potential results
 			String[] partsOfResult = plainResult.split("},");
 			for (int i = 0; i < partsOfResult.length; i++) {
@@ -751,16 +993,53 @@ public abstract class CASgiac implements CASGenericInterface {
 			}
 			newPlainResult.setLength(newPlainResult.length() - 1);
 			newPlainResult.append("}");
-			// reset nrOfVars
-			casParser.setNrOfVars(0);
 			return newPlainResult.toString();
 		}
 		return plainResult;
 	}
 
-	protected String translateAndEvaluateCAS(ValidExpression casInput, StringTemplate tpl) {
-		String giacInput = casParser.translateToCAS(casInput, tpl, this);
-		return evaluateCAS(giacInput);
+	/**
+	 * @param casInput
+	 *            input
+	 * @param tpl
+	 *            template for the translation to Giac
+	 * @param timing
+	 *            timing of the input
+	 * @return result in Giac syntax, with only the asked solutions of a
+	 *         parametric Solve
+	 */
+	private String translateAndEvaluateCAS(ValidExpression casInput,
+			StringTemplate tpl, CASProfiler.InputTiming timing) {
+		String giacInput;
+		int nrOfVars;
+		double translated;
+		synchronized (parserLock) {
+			double start = CASProfiler.now();
+			giacInput = casParser.translateToCAS(casInput, tpl, this);
+			// set by parametric Solve
+			nrOfVars = casParser.getNrOfVars();
+			casParser.setNrOfVars(0);
+			translated = CASProfiler.now();
+			timing.addTranslation(translated - start);
+		}
+		try {
+			String result = evaluateCAS(giacInput);
+			timing.addEvaluation(giacInput, CASProfiler.now() - translated);
+			return keepSolutions(result, nrOfVars);
+		} catch (TimeoutException e) {
+			timing.addTimeout(giacInput, CASProfiler.now() - translated);
+			throw e;
+		}
+	}
+
+	private ValidExpression parseGiac(String giacOutput,
+			CASProfiler.InputTiming timing) throws CASException {
+		double start = CASProfiler.now();
+		try {
+			return casParser.parseGiac(giacOutput);
+		} finally {
+			timing.addParse(CASProfiler.now() - start);
+		}
 	}
 
 	/**
@@ -791,11 +1070,28 @@ public abstract class CASgiac implements CASGenericInterface {
 	 * @throws CASException
 	 *             Throws if the underlying CAS produces an error
 	 */
-	final public synchronized String toGeoGebraString(String giacString,
+	final public String toGeoGebraString(String giacString,
 			ArbitraryConstantRegistry arbconst,	final StringTemplate tpl,
 			final Kernel kernel) throws CASException {
+		return toGeoGebraString(giacString, arbconst, tpl, kernel,
+				profiler.startInput());
+	}
 
-		ExpressionValue ve = replaceRoots(casParser.parseGiac(giacString),
+	private String toGeoGebraString(String giacString,
+			ArbitraryConstantRegistry arbconst, final StringTemplate tpl,
+			final Kernel kernel, CASProfiler.InputTiming timing)
+			throws CASException {
+		synchronized (parserLock) {
+			return toGeoGebraStringLocked(giacString, arbconst, tpl, kernel,
+					timing);
+		}
+	}
+
+	private String toGeoGebraStringLocked(String giacString,
+			ArbitraryConstantRegistry arbconst, final StringTemplate tpl,
+			final Kernel kernel, CASProfiler.InputTiming timing)
+			throws CASException {
+		ExpressionValue ve = replaceRoots(parseGiac(giacString, timing),
 				arbconst, kernel);
 		// replace rational exponents by roots or vice versa
 
@@ -885,7 +1181,7 @@ public abstract class CASgiac implements CASGenericInterface {
 	 * @param input
 	 *            input string (for caching)
 	 * @param cell
-	 *            cas cell
+	 *            cas cell, null for commands in algos
 	 */
 	public void CASAsyncFinished(ValidExpression exp, String result2,
 			Throwable exception, AsynchronousCommand c, String input,
@@ -899,10 +1195,11 @@ public abstract class CASgiac implements CASGenericInterface {
 		// check if keep input command was successful
 		// e.g. for KeepInput[Substitute[...]]
 		// otherwise return input
-		if (cell.isKeepInputUsed() && ("?".equals(result))) {
+		if (cell != null && cell.isKeepInputUsed() && ("?".equals(result))) {
 			// return original input
 			c.handleCASoutput(exp.toString(StringTemplate.maxPrecision),
 					input.hashCode());
+			return;
 		}
 
 		// success
@@ -1461,11 +1758,7 @@ public abstract class CASgiac implements CASGenericInterface {
 	 * @return "evalfa(" + s + ")"
 	 */
 	protected String wrapInevalfa(String s) {
-		expSB.setLength(EVALFA.length());
-		expSB.append(s);
-		expSB.append(")");
-
-		return expSB.toString();
+		return EVALFA + s + ")";
 	}
 
 	/**
@@ -1479,11 +1772,15 @@ public abstract class CASgiac implements CASGenericInterface {
 	}
 
 	public int getCasGiacCacheSize() {
-		return casGiacCache.size();
+		synchronized (casGiacCache) {
+			return casGiacCache.size();
+		}
 	}
 
 	public void clearCache() {
-		casGiacCache.clear();
+		synchronized (casGiacCache) {
+			casGiacCache.clear();
+		}
 	}
 
 	/**
@@ -1493,6 +1790,7 @@ public abstract class CASgiac implements CASGenericInterface {
 	 * @return RNG seed
 	 */
 	protected int getSeed(String exp) {
-		return exp.contains("fsolve(") ? 9 : rand.nextInt(Integer.MAX_VALUE);
+		return exp.contains("fsolve(") ? FSOLVE_SEED
+				: rand.nextInt(Integer.MAX_VALUE);
 	}
 }
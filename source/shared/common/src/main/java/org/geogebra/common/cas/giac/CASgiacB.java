@@ -1,12 +1,14 @@
 package org.geogebra.common.cas.giac;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.geogebra.common.cas.CASparser;
 import org.geogebra.common.cas.error.TimeoutException;
 import org.geogebra.common.cas.giac.binding.CASGiacBinding;
 import org.geogebra.common.cas.giac.binding.Context;
 import org.geogebra.common.cas.giac.binding.Gen;
+import org.geogebra.common.util.ParallelExecutor;
 import org.geogebra.common.util.debug.Log;
 import org.geogebra.common.util.debug.crashlytics.CrashlyticsLogger;
 
@@ -18,9 +20,64 @@ public abstract class CASgiacB extends CASgiac {
 	/**
 	 * Giac's context.
 	 */
-	private Context context;
-	/** result from thread */
-	protected volatile String threadResult;
+	private volatile Context context;
+	/** version reported by Giac, null until first needed */
+	private volatile String giacVersion;
+
+	/**
+	 * Result of a single evaluation: a worker that is still running after its
+	 * evaluation timed out can only write to this holder, never to the result
+	 * of a later evaluation.
+	 */
+	protected static final class EvaluationResult {
+		private volatile String value;
+
+		/**
+		 * @return result, null if the evaluation didn't finish
+		 */
+		public String get() {
+			return value;
+		}
+
+		/**
+		 * @param value
+		 *            result
+		 */
+		public void set(String value) {
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Context used by a single evaluation. Leases from a pool remember the
+	 * pool they have to be given back to, even if the pool was replaced in
+	 * the meantime.
+	 */
+	protected static class ContextLease {
+		private final Context context;
+
+		/**
+		 * @param context
+		 *            leased context
+		 */
+		public ContextLease(Context context) {
+			this.context = context;
+		}
+
+		/**
+		 * @return leased context
+		 */
+		public Context getContext() {
+			return context;
+		}
+
+		/**
+		 * Gives the context back after the evaluation.
+		 */
+		public void release() {
+			// only one context
+		}
+	}
 
 	/**
 	 * @param casParser parser
@@ -49,7 +106,32 @@ public abstract class CASgiacB extends CASgiac {
 
 	@Override
 	final public void clearResult() {
-		threadResult = null;
+		// results are kept per evaluation
+	}
+
+	/**
+	 * @return context for next evaluation, initialized by
+	 *         {@link #evalRaw(String, long)} before use; has to be released
+	 *         after the evaluation
+	 */
+	protected ContextLease acquireContext() {
+		return new ContextLease(context);
+	}
+
+	/**
+	 * @return context for an evaluation of an asynchronous command, see
+	 *         {@link #evaluateCASInBackground(String)}
+	 */
+	protected ContextLease acquireBackgroundContext() {
+		return acquireContext();
+	}
+
+	/**
+	 * @return whether evaluations may run concurrently (each in its own
+	 *         context) on the calling thread
+	 */
+	protected boolean evaluatesConcurrently() {
+		return false;
 	}
 
 	/**
@@ -58,11 +140,11 @@ public abstract class CASgiacB extends CASgiac {
 	 * @return String from Giac
 	 */
 	final String evalRaw(String exp0, long timeoutMilliseconds) {
-		CASGiacBinding binding = createBinding();
-		// #5439
-		// reset Giac before each call
-		init(exp0, timeoutMilliseconds);
+		return evalRaw(exp0, timeoutMilliseconds, false);
+	}
 
+	private String evalRaw(String exp0, long timeoutMilliseconds,
+			boolean background) {
 		String exp = wrapInevalfa(exp0);
 
 		debug("giac evalRaw input: ", exp);
@@ -72,6 +154,23 @@ public abstract class CASgiacB extends CASgiac {
 		if (cachedResult != null && !cachedResult.isEmpty()) {
 			return cachedResult;
 		}
+
+		ContextLease lease = background ? acquireBackgroundContext()
+				: acquireContext();
+		try {
+			return evalRaw(exp0, exp, timeoutMilliseconds, lease.getContext());
+		} finally {
+			lease.release();
+		}
+	}
+
+	private String evalRaw(String exp0, String exp, long timeoutMilliseconds,
+			Context context) {
+		CASGiacBinding binding = createBinding();
+		// #5439
+		// reset Giac before each call
+		init(exp0, timeoutMilliseconds, context);
+
 		String casInput = "caseval(" + exp + ")";
 
 		CrashlyticsLogger.log("Giac Input: " + casInput);
@@ -91,6 +190,32 @@ public abstract class CASgiacB extends CASgiac {
 		return ret;
 	}
 
+	/**
+	 * Asks Giac for its version (once, all contexts share the library); the
+	 * caches are bypassed, so that this can be used to key them.
+	 *
+	 * @return version reported by Giac, empty if Giac is not available
+	 */
+	public synchronized String getGiacVersion() {
+		if (giacVersion == null) {
+			ContextLease lease = acquireContext();
+			Context leased = lease.getContext();
+			try {
+				CASGiacBinding binding = createBinding();
+				String version = binding.createGen("version()", leased)
+						.eval(1, leased).print(leased);
+				giacVersion = version == null ? ""
+						: version.replace("\"", "");
+			} catch (Throwable e) {
+				Log.debug("Giac version not available: " + e.getMessage());
+				return "";
+			} finally {
+				lease.release();
+			}
+		}
+		return giacVersion;
+	}
+
 	/**
 	 * @param prefix debug prefix
 	 * @param giacString giac input / output
@@ -99,7 +224,7 @@ public abstract class CASgiacB extends CASgiac {
 		Log.debug(prefix + giacString);
 	}
 
-	private void init(String exp, long timeoutMilliseconds) {
+	private void init(String exp, long timeoutMilliseconds, Context context) {
 		CASGiacBinding binding = createBinding();
 		Gen g = binding.createGen(initString, context);
 		g.eval(1, context);
@@ -163,15 +288,56 @@ public abstract class CASgiacB extends CASgiac {
 	}
 
 	@Override
-	protected String evaluate(final String exp, final long timeoutMillis0)
-			throws Throwable {
-		Runnable evalFunction = () -> threadResult = evalRaw(exp, timeoutMillis0);
+	public String evaluateCASInBackground(String input) {
+		final String exp = casParser.replaceIndices(input, false);
+		try {
+			final EvaluationResult evalResult = new EvaluationResult();
+			callBackgroundFunction(() -> evalResult.set(evalRaw(exp,
+					timeoutMillis, true)), evalResult);
+			return checkResult(evalResult.get());
+		} catch (TimeoutException te) {
+			throw te;
+		} catch (Throwable e) {
+			Log.debug(e);
+		}
+		return null;
+	}
 
-		threadResult = null;
+	@Override
+	protected String[] evaluateDistinct(final List<String> exps) {
+		if (!evaluatesConcurrently()) {
+			return super.evaluateDistinct(exps);
+		}
+		// one context per evaluation, waiting for a free one if needed
+		final String[] results = new String[exps.size()];
+		ParallelExecutor.getPrototype().forEachChunk(results.length, 1,
+				(chunk, from, to) -> {
+					for (int i = from; i < to; i++) {
+						results[i] = evaluateCASQuietly(exps.get(i));
+					}
+				});
+		return results;
+	}
 
-		callEvaluateFunction(evalFunction);
+	@Override
+	protected String evaluate(final String exp, final long timeoutMillis0)
+			throws Throwable {
+		String result;
+		if (evaluatesConcurrently()) {
+			result = evalRaw(exp, timeoutMillis0);
+		} else {
+			final EvaluationResult evalResult = new EvaluationResult();
+			Runnable evalFunction = () -> evalResult.set(evalRaw(exp,
+					timeoutMillis0));
+
+			callEvaluateFunction(evalFunction, evalResult);
+			result = evalResult.get();
+		}
+		return checkResult(result);
+	}
 
-		String ret = postProcess(threadResult);
+	private String checkResult(String result) {
+		String ret = postProcess(result);
 
 		// Log.debug("giac output: " + ret);
 		if (ret.contains("user interruption")) {
@@ -183,10 +349,25 @@ public abstract class CASgiacB extends CASgiac {
 	}
 
 	/**
-	 * @param evaluateFunction function
+	 * @param evaluateFunction function, stores its result in evalResult
+	 * @param evalResult result of this evaluation
+	 * @throws Throwable exception
+	 */
+	protected abstract void callEvaluateFunction(Runnable evaluateFunction,
+			EvaluationResult evalResult) throws Throwable;
+
+	/**
+	 * Runs the evaluation of an asynchronous command, see
+	 * {@link #evaluateCASInBackground(String)}.
+	 *
+	 * @param evaluateFunction function, stores its result in evalResult
+	 * @param evalResult result of this evaluation
 	 * @throws Throwable exception
 	 */
-	protected abstract void callEvaluateFunction(Runnable evaluateFunction) throws Throwable;
+	protected void callBackgroundFunction(Runnable evaluateFunction,
+			EvaluationResult evalResult) throws Throwable {
+		callEvaluateFunction(evaluateFunction, evalResult);
+	}
 
 	@Override
 	public boolean externalCAS() {
@@ -18,4 +18,14 @@ public interface CASGiacBinding {
 	 * @return parsed expression
 	 */
     Gen createGen(String string, Context context);
+
+	/**
+	 * Frees the native resources of a context that won't be used anymore.
+	 *
+	 * @param context
+	 *            context created by this binding
+	 */
+	default void deleteContext(Context context) {
+		// garbage collected
+	}
 }
@@ -1,5 +1,7 @@
 package org.geogebra.common.euclidian.plot.interval;
 
+import java.util.List;
+
 import org.geogebra.common.kernel.geos.GeoFunction;
 import org.geogebra.common.kernel.interval.Interval;
 import org.geogebra.common.kernel.interval.function.GeoFunctionConverter;
@@ -102,6 +104,53 @@ public class IntervalFunctionData {
 		}
 	}
 
+	/**
+	 * Adds evaluated tuples to the end of the list.
+	 * @param newTuples tuples in increasing x order.
+	 */
+	public void appendAll(List<IntervalTuple> newTuples) {
+		tuples.addAll(newTuples);
+	}
+
+	/**
+	 * Adds evaluated tuples to the beginning of the list.
+	 * @param newTuples tuples in increasing x order.
+	 */
+	public void prependAll(List<IntervalTuple> newTuples) {
+		tuples.prependAll(newTuples);
+	}
+
+	/**
+	 * Batch version of {@link #extendLeft(Interval, Interval)}: adds tuples to the beginning
+	 * and removes at most as many offscreen ones from the end.
+	 * @param newTuples tuples in increasing x order.
+	 */
+	public void extendLeft(List<IntervalTuple> newTuples) {
+		tuples.prependAll(newTuples);
+		int offscreen = 0;
+		int last = tuples.count() - 1;
+		while (offscreen < newTuples.size() && last - offscreen >= 0
+				&& tuples.get(last - offscreen).x().getLow() >= bounds.getXmax()) {
+			offscreen++;
+		}
+		tuples.removeLast(offscreen);
+	}
+
+	/**
+	 * Batch version of {@link #extendRight(Interval, Interval)}: adds tuples to the end
+	 * and removes at most as many offscreen ones from the beginning.
+	 * @param newTuples tuples in increasing x order.
+	 */
+	public void extendRight(List<IntervalTuple> newTuples) {
+		tuples.addAll(newTuples);
+		int offscreen = 0;
+		while (offscreen < newTuples.size() && offscreen < tuples.count()
+				&& tuples.get(offscreen).x().getHigh() <= bounds.getXmin()) {
+			offscreen++;
+		}
+		tuples.removeFirst(offscreen);
+	}
+
 	/**
 	 *
 	 * @return {@link GeoFunction}
@@ -61,6 +61,7 @@ import org.geogebra.common.geogebra3D.euclidian3D.draw.DrawSurfaceComposite;
 import org.geogebra.common.geogebra3D.euclidian3D.draw.DrawSurfaceOfRevolution;
 import org.geogebra.common.geogebra3D.euclidian3D.draw.DrawText3D;
 import org.geogebra.common.geogebra3D.euclidian3D.draw.DrawVector3D;
+import org.geogebra.common.geogebra3D.euclidian3D.draw.DrawableCulling;
 import org.geogebra.common.geogebra3D.euclidian3D.draw.Drawable3D;
 import org.geogebra.common.geogebra3D.euclidian3D.draw.Drawable3DListsForView;
 import org.geogebra.common.geogebra3D.euclidian3D.openGL.Manager.ScalerXYZ;
@@ -197,6 +198,7 @@ public abstract class EuclidianView3D extends EuclidianView
 	// picking and hits
 	protected Hits3D hits = new Hits3D(); // objects picked from openGL
 	protected DrawClippingCube3D clippingCubeDrawable;
+	private final DrawableCulling drawableCulling = new DrawableCulling(this);
 	protected GeoPoint3D cursorOnXOYPlane;
 	protected CoordMatrix rotationAndScaleMatrix;
 	// EuclidianViewInterface
@@ -4956,14 +4958,19 @@ public abstract class EuclidianView3D extends EuclidianView
 		return clippingCubeDrawable;
 	}
 
+	/**
+	 * @return culling of drawables outside the visible part of the view
+	 */
+	public DrawableCulling getDrawableCulling() {
+		return drawableCulling;
+	}
+
 	@Override
 	public void setExport3D(final Format format, boolean showDialog) {
 		renderer.setExport3D(() -> {
 			ExportToPrinter3D exportToPrinter = new ExportToPrinter3D(this,
 					renderer.getGeometryManager());
-			StringBuilder export = exportToPrinter.export(format);
-			getApplication().exportStringToFile(format.getExtension(),
-					export.toString(), showDialog);
+			exportToPrinter.exportToFile(format, showDialog);
 		});
 	}
 
@@ -159,7 +159,7 @@ public class EuclidianView3DForExport extends EuclidianView3D {
 	 * @return 3D export
 	 */
 	public StringBuilder export3D(Format format) {
-		return export3D(format, null);
+		return export3D(format, (Export3dDialogInterface) null);
 	}
 
 	/**
@@ -172,6 +172,36 @@ public class EuclidianView3DForExport extends EuclidianView3D {
 	 */
 	public StringBuilder export3D(final Format format,
 			final Export3dDialogInterface dialog) {
+		if (!prepareExport3D(format, dialog)) {
+			return null;
+		}
+		ExportToPrinter3D exportToPrinter = new ExportToPrinter3D(this,
+				renderer.getGeometryManager());
+		return exportToPrinter.export(format);
+	}
+
+	/**
+	 * Export to a file, written while the export goes on when the app supports
+	 * it; detaches the view from the kernel afterwards.
+	 * 
+	 * @param format
+	 *            3D format
+	 * @param showDialog
+	 *            whether to show a save dialog
+	 */
+	public void export3DToFile(Format format, boolean showDialog) {
+		prepareExport3D(format, null);
+		ExportToPrinter3D exportToPrinter = new ExportToPrinter3D(this,
+				renderer.getGeometryManager());
+		exportToPrinter.exportToFile(format, showDialog);
+		getApplication().getKernel().detach(this);
+	}
+
+	/**
+	 * @return false if the export is delegated to the dialog
+	 */
+	private boolean prepareExport3D(final Format format,
+			final Export3dDialogInterface dialog) {
 		settingsChanged(getSettings());
 		useSpecificThickness = false;
 		updateScene();
@@ -220,21 +250,16 @@ public class EuclidianView3DForExport extends EuclidianView3D {
 								ExportToPrinter3D exportToPrinter = new ExportToPrinter3D(this,
 										renderer.getGeometryManager());
 								getApplication().getKernel().detach(this);
-								getApplication().exportStringToFile(
-										format.getExtension(),
-										exportToPrinter.export(format)
-												.toString(), true);
+								exportToPrinter.exportToFile(format, true);
 							});
-					return null;
+					return false;
 				}
 				setThicknessAndScale(format, thickness, scale, true);
 			} else {
 				format.setScale(10); // default value: 1unit = 10mm
 			}
 		}
-		ExportToPrinter3D exportToPrinter = new ExportToPrinter3D(this,
-				renderer.getGeometryManager());
-		return exportToPrinter.export(format);
+		return true;
 	}
 
 	/**
@@ -123,6 +123,11 @@ public class DrawCurve3D extends Drawable3DCurves implements HasZPick {
 		return DRAW_PICK_ORDER_PATH;
 	}
 
+	@Override
+	protected boolean isClippedByCube() {
+		return true;
+	}
+
 	@Override
 	public void addToDrawable3DLists(Drawable3DLists lists) {
 		addToDrawable3DLists(lists, DRAW_TYPE_CLIPPED_CURVES);
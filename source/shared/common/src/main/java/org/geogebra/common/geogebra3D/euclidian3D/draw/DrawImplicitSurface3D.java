@@ -165,6 +165,11 @@ public class DrawImplicitSurface3D extends Drawable3DSurfaces {
         }
     }
 
+	@Override
+	protected boolean isClippedByCube() {
+		return true;
+	}
+
 	@Override
 	public void addToDrawable3DLists(Drawable3DLists lists) {
 		addToDrawable3DLists(lists, DRAW_TYPE_CLIPPED_SURFACES);
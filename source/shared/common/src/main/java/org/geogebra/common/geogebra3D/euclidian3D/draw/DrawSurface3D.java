@@ -30,6 +30,7 @@ import org.geogebra.common.kernel.matrix.Coords3;
 import org.geogebra.common.kernel.matrix.CoordsDouble3;
 import org.geogebra.common.plugin.EuclidianStyleConstants;
 import org.geogebra.common.util.DoubleUtil;
+import org.geogebra.common.util.ParallelExecutor;
 import org.geogebra.common.util.debug.Log;
 
 /**
@@ -110,6 +111,7 @@ public class DrawSurface3D extends Drawable3DSurfaces implements HasZPick {
 
 	private Coords3 evaluatedPoint = newCoords3();
 	private Coords3 evaluatedNormal = newCoords3();
+	private SurfacePointPrefetcher prefetcher;
 	/**
 	 * used to draw "still to split" corners
 	 */
@@ -360,6 +362,7 @@ public class DrawSurface3D extends Drawable3DSurfaces implements HasZPick {
 			updateCullingBox();
 
 			initBounds();
+			resetPrefetcher();
 
 			debug("\nmax distances = " + maxRWDistance + ", "
 					+ maxRWDistanceNoAngleCheck);
@@ -391,6 +394,7 @@ public class DrawSurface3D extends Drawable3DSurfaces implements HasZPick {
 				nextSplitIndex = 0;
 				drawListIndex = 0;
 				notDrawn = 0;
+				prefetchRootMeshSplit(firstCorner);
 				splitRootMesh(firstCorner);
 				debug("\nnot drawn after split root mesh: " + notDrawn);
 
@@ -687,6 +691,11 @@ public class DrawSurface3D extends Drawable3DSurfaces implements HasZPick {
 		return true;
 	}
 
+	@Override
+	protected boolean isClippedByCube() {
+		return true;
+	}
+
 	@Override
 	public void addToDrawable3DLists(Drawable3DLists lists) {
 		addToDrawable3DLists(lists, DRAW_TYPE_CLIPPED_SURFACES);
@@ -904,6 +913,51 @@ public class DrawSurface3D extends Drawable3DSurfaces implements HasZPick {
 
 	}
 
+	private void resetPrefetcher() {
+		if (prefetcher == null) {
+			prefetcher = new SurfacePointPrefetcher(
+					ParallelExecutor.getPrototype());
+		}
+		prefetcher.reset(surfaceGeo instanceof GeoSurfaceCartesian3D
+				? (GeoSurfaceCartesian3D) surfaceGeo : null);
+	}
+
+	private void prefetchRootMeshSplit(Corner first) {
+		if (!prefetcher.isWorthPrefetching(
+				5 * uParam.getCornerCount() * vParam.getCornerCount())) {
+			return;
+		}
+		prefetcher.startBatch();
+		Corner current = first;
+		while (current.a != null) {
+			Corner nextAbove = current.a;
+			while (current.l != null) {
+				current.addSplitPointsToPrefetch();
+				current = current.l;
+			}
+			current = nextAbove;
+		}
+		prefetcher.evaluate(getView3D(), cullingBox);
+	}
+
+	/**
+	 * Evaluates in parallel the points needed to split the corners that will be
+	 * processed in this update. Corners that end up drawn, or not split as
+	 * predicted, just evaluate their points as usual.
+	 */
+	private void prefetchSplit() {
+		int end = Math.min(currentSplitIndex, currentSplitStoppedIndex
+				+ (maxSplitsInOneUpdate - loopSplitIndex) / 4 + 1);
+		if (!prefetcher.isWorthPrefetching(5 * (end - currentSplitStoppedIndex))) {
+			return;
+		}
+		prefetcher.startBatch();
+		for (int i = currentSplitStoppedIndex; i < end; i++) {
+			currentSplit[i].addSplitPointsToPrefetch();
+		}
+		prefetcher.evaluate(getView3D(), cullingBox);
+	}
+
 	private boolean split() throws NotEnoughCornersException {
 
 		if (currentSplitStoppedIndex == currentSplitIndex) {
@@ -916,6 +970,8 @@ public class DrawSurface3D extends Drawable3DSurfaces implements HasZPick {
 			currentSplitStoppedIndex = 0;
 		}
 
+		prefetchSplit();
+
 		while (currentSplitStoppedIndex < currentSplitIndex
 				&& loopSplitIndex < maxSplitsInOneUpdate) {
 			currentSplit[currentSplitStoppedIndex].split(false);
@@ -1062,11 +1118,21 @@ public class DrawSurface3D extends Drawable3DSurfaces implements HasZPick {
 		public void set(double u, double v) {
 			this.u = u;
 			this.v = v;
-			p = evaluatePoint(u, v, p);
-			if (p.isFinalUndefined()) {
-				normal = Coords3.UNDEFINED;
+			SurfacePointPrefetcher.PrefetchedPoint prefetched = prefetcher == null
+					? null : prefetcher.get(u, v);
+			if (prefetched != null) {
+				if (prefetched.raw != null) {
+					updateBounds(prefetched.raw);
+				}
+				p = prefetched.takePoint();
+				normal = prefetched.takeNormal();
 			} else {
-				normal = evaluateNormal(p, u, v, normal);
+				p = evaluatePoint(u, v, p);
+				if (p.isFinalUndefined()) {
+					normal = Coords3.UNDEFINED;
+				} else {
+					normal = evaluateNormal(p, u, v, normal);
+				}
 			}
 			isNotEnd = true;
 			a = null;
@@ -2163,6 +2229,32 @@ public class DrawSurface3D extends Drawable3DSurfaces implements HasZPick {
 
 		}
 
+		/**
+		 * Adds to the prefetcher the parameters that
+		 * {@link #split(Corner, Corner, Corner, Corner)} would evaluate.
+		 */
+		void addSplitPointsToPrefetch() {
+			if (l == null || a == null) {
+				return;
+			}
+			Corner left = l.a == null ? l.l : l;
+			Corner above = a.l == null ? a.a : a;
+			if (left == null || above == null) {
+				return;
+			}
+			double um = l.a == null ? l.u : (u + left.u) / 2;
+			double vm = a.l == null ? a.v : (v + above.v) / 2;
+			if (a.l != null) {
+				prefetcher.add(u, vm);
+			}
+			if (l.a != null) {
+				prefetcher.add(um, v);
+			}
+			prefetcher.add(um, vm);
+			prefetcher.add(um, above.v);
+			prefetcher.add(left.u, vm);
+		}
+
 		private void split(Corner subLeft, Corner left, Corner subAbove,
 				Corner above) throws NotEnoughCornersException {
 			// new corners
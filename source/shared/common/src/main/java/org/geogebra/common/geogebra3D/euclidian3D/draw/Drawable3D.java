@@ -18,6 +18,7 @@ import org.geogebra.common.geogebra3D.euclidian3D.EuclidianController3D;
 import org.geogebra.common.geogebra3D.euclidian3D.EuclidianView3D;
 import org.geogebra.common.geogebra3D.euclidian3D.Hits3D;
 import org.geogebra.common.geogebra3D.euclidian3D.Hitting;
+import org.geogebra.common.geogebra3D.euclidian3D.openGL.Manager;
 import org.geogebra.common.geogebra3D.euclidian3D.openGL.Renderer;
 import org.geogebra.common.geogebra3D.euclidian3D.openGL.Renderer.PickingType;
 import org.geogebra.common.geogebra3D.euclidian3D.printer3D.ExportToPrinter3D;
@@ -193,6 +194,11 @@ public abstract class Drawable3D extends DrawableND implements CaptionFactory {
 	private PickingType lastPickingType = PickingType.POINT_OR_CURVE;
 	/** alpha value for rendering transparency */
 	private int alpha = 255;
+	/** frame for which culled value was computed */
+	private int cullingFrame = -1;
+	private boolean culled;
+	private Coords cullingMin;
+	private Coords cullingMax;
 
 	/** simple traces stack used for packed buffers */
 	protected LinkedList<Integer> tracesPackingBuffer;
@@ -769,7 +775,8 @@ public abstract class Drawable3D extends DrawableND implements CaptionFactory {
 	 */
 	public void drawHidden(Renderer renderer) {
 		if (isVisible() && getGeoElement()
-				.getLineTypeHidden() != EuclidianStyleConstants.LINE_TYPE_HIDDEN_NONE) {
+				.getLineTypeHidden() != EuclidianStyleConstants.LINE_TYPE_HIDDEN_NONE
+				&& !isCulled()) {
 
 			setHighlightingColor();
 
@@ -1878,6 +1885,77 @@ public abstract class Drawable3D extends DrawableND implements CaptionFactory {
 		// nothing done by default
 	}
 
+	/**
+	 * @return true if clipped by the clipping cube when it is used
+	 */
+	protected boolean isClippedByCube() {
+		return false;
+	}
+
+	/**
+	 * Packed geometries are drawn all together by the geometry manager, see
+	 * {@link #updatePackedCulling()}.
+	 * 
+	 * @return true if the geometry is outside the visible part of the view for
+	 *         the current frame
+	 */
+	protected boolean isCulled() {
+		if (shouldBePackedForManager() || hasTrace()) {
+			return false;
+		}
+		DrawableCulling culling = getView3D().getDrawableCulling();
+		if (cullingFrame != culling.getFrame()) {
+			cullingFrame = culling.getFrame();
+			culled = computeCulled(culling);
+		}
+		culling.countDrawCall(culled);
+		return culled;
+	}
+
+	/**
+	 * Tells the geometry manager whether packed geometries are outside the
+	 * visible part of the view for the current frame, so that their buffer
+	 * segments are skipped.
+	 */
+	public void updatePackedCulling() {
+		if (!shouldBePackedForManager()) {
+			return;
+		}
+		DrawableCulling culling = getView3D().getDrawableCulling();
+		if (cullingFrame == culling.getFrame()) {
+			// already updated from another list
+			return;
+		}
+		cullingFrame = culling.getFrame();
+		if (isVisible() && !hasTrace()) {
+			culled = computeCulled(culling);
+			culling.countDrawCall(culled);
+		} else {
+			culled = false;
+		}
+		Manager manager = getView3D().getRenderer().getGeometryManager();
+		manager.updateCulled(culled, getGeometryIndex());
+		manager.updateCulled(culled, getSurfaceIndex());
+	}
+
+	private boolean computeCulled(DrawableCulling culling) {
+		if (cullingMin == null) {
+			cullingMin = new Coords(3);
+			cullingMax = new Coords(3);
+		}
+		cullingMin.set(Double.POSITIVE_INFINITY);
+		cullingMax.set(Double.NEGATIVE_INFINITY);
+		enlargeBounds(cullingMin, cullingMax, false);
+		for (int i = 0; i < 3; i++) {
+			if (Double.isInfinite(cullingMin.val[i])
+					|| Double.isInfinite(cullingMax.val[i])) {
+				// no bounds (or unbounded)
+				return false;
+			}
+		}
+		return culling.isOutside(cullingMin, cullingMax, isClippedByCube());
+	}
+
 	/**
 	 * enlarge min and max to boundsMin and boundsMax
 	 * 
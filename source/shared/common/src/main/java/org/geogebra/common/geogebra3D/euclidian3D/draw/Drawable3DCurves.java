@@ -42,7 +42,7 @@ public abstract class Drawable3DCurves extends Drawable3D {
 	@Override
 	public void drawOutline(Renderer renderer) {
 
-		if (isVisible()) {
+		if (isVisible() && !isCulled()) {
 
 			setHighlightingColor();
 
@@ -437,6 +437,22 @@ public class Drawable3DLists {
 		}
 	}
 
+	/**
+	 * update culling of packed geometries for the current frame
+	 */
+	public void updatePackedCulling() {
+		for (int i = 0; i < Drawable3D.DRAW_TYPE_MAX; i++) {
+			for (Drawable3D d3d : lists[i]) {
+				if (i == Drawable3D.DRAW_TYPE_LISTS) {
+					((DrawList3D) d3d).getDrawable3DLists()
+							.updatePackedCulling();
+				} else {
+					d3d.updatePackedCulling();
+				}
+			}
+		}
+	}
+
 	/**
 	 * draw the not hidden (solid) parts of curves and points
 	 * 
@@ -57,7 +57,7 @@ public abstract class Drawable3DSurfaces extends Drawable3D {
 	@Override
 	public void drawHiding(Renderer renderer) {
 
-		if (isVisible() && hasTransparentAlpha()) {
+		if (isVisible() && hasTransparentAlpha() && !isCulled()) {
 			drawSurfaceGeometry(renderer);
 		}
 
@@ -73,7 +73,7 @@ public abstract class Drawable3DSurfaces extends Drawable3D {
 	@Override
 	public void drawTransp(Renderer renderer) {
 
-		if (isVisible() && hasTransparentAlpha()) {
+		if (isVisible() && hasTransparentAlpha() && !isCulled()) {
 			setSurfaceHighlightingColor();
 			drawSurfaceGeometry(renderer);
 		}
@@ -90,7 +90,7 @@ public abstract class Drawable3DSurfaces extends Drawable3D {
 	@Override
 	public void drawNotTransparentSurface(Renderer renderer) {
 
-		if (isVisible() && getAlpha() == 255) {
+		if (isVisible() && getAlpha() == 255 && !isCulled()) {
 			setSurfaceHighlightingColor();
 			drawSurfaceGeometry(renderer);
 		}
@@ -0,0 +1,258 @@
+package org.geogebra.common.geogebra3D.euclidian3D.draw;
+
+import org.geogebra.common.geogebra3D.euclidian3D.EuclidianView3D;
+import org.geogebra.common.geogebra3D.euclidian3D.openGL.Renderer;
+import org.geogebra.common.kernel.matrix.CoordMatrix;
+import org.geogebra.common.kernel.matrix.Coords;
+import org.geogebra.common.main.settings.EuclidianSettings3D;
+
+/**
+ * Skips draw calls of drawables whose bounding box is outside the clipping cube
+ * (for clipped drawables) or outside the screen (for orthographic and
+ * perspective projections).
+ * Results are computed once per frame for each drawable; counters keep track of
+ * the culled draw calls of the last frame.
+ */
+public class DrawableCulling {
+
+	/** margin (in pixels) for line thickness, point size, etc. */
+	public static final double MARGIN_PIXELS = 16;
+
+	private static final int OUTSIDE_NEAR = 1;
+	private static final int OUTSIDE_LEFT = 2;
+	private static final int OUTSIDE_RIGHT = 4;
+	private static final int OUTSIDE_BOTTOM = 8;
+	private static final int OUTSIDE_TOP = 16;
+	private static final int OUTSIDE_ALL = 31;
+
+	private final EuclidianView3D view;
+	private int frame = 0;
+	private int drawCalls = 0;
+	private int culledDrawCalls = 0;
+	private int lastFrameDrawCalls = 0;
+	private int lastFrameCulledDrawCalls = 0;
+
+	/**
+	 * @param view
+	 *            3D view
+	 */
+	public DrawableCulling(EuclidianView3D view) {
+		this.view = view;
+	}
+
+	/**
+	 * Starts a new frame: drawables will check again their bounds.
+	 */
+	public void startFrame() {
+		lastFrameDrawCalls = drawCalls;
+		lastFrameCulledDrawCalls = culledDrawCalls;
+		drawCalls = 0;
+		culledDrawCalls = 0;
+		frame++;
+	}
+
+	/**
+	 * @return current frame number
+	 */
+	public int getFrame() {
+		return frame;
+	}
+
+	/**
+	 * count a draw call
+	 *
+	 * @param culled
+	 *            whether it was culled
+	 */
+	void countDrawCall(boolean culled) {
+		drawCalls++;
+		if (culled) {
+			culledDrawCalls++;
+		}
+	}
+
+	/**
+	 * @return number of draw calls checked in last frame
+	 */
+	public int getLastFrameDrawCalls() {
+		return lastFrameDrawCalls;
+	}
+
+	/**
+	 * @return number of draw calls culled in last frame
+	 */
+	public int getLastFrameCulledDrawCalls() {
+		return lastFrameCulledDrawCalls;
+	}
+
+	/**
+	 * @param min
+	 *            bounding box min (real world coords)
+	 * @param max
+	 *            bounding box max (real world coords)
+	 * @param clipped
+	 *            whether the drawable is clipped by the clipping cube
+	 * @return true if the bounding box is not visible
+	 */
+	public boolean isOutside(Coords min, Coords max, boolean clipped) {
+		if (clipped && view.useClippingCube()) {
+			double margin = MARGIN_PIXELS / getMinScale();
+			if (isOutsideBox(min, max,
+					view.getClippingCubeDrawable().getMinMax(), margin)) {
+				return true;
+			}
+		}
+		if (view.isXREnabled()) {
+			return false;
+		}
+		Renderer renderer = view.getRenderer();
+		switch (view.getProjection()) {
+		case EuclidianView3D.PROJECTION_ORTHOGRAPHIC:
+			return isOutsideScreen(min, max, view.getToScreenMatrix(),
+					renderer.getLeft() - MARGIN_PIXELS,
+					renderer.getRight() + MARGIN_PIXELS,
+					renderer.getBottom() - MARGIN_PIXELS,
+					renderer.getTop() + MARGIN_PIXELS);
+		case EuclidianView3D.PROJECTION_PERSPECTIVE:
+			Coords eye = renderer.getPerspEye();
+			return eye != null && isOutsideFrustum(min, max,
+					view.getToScreenMatrix(), eye,
+					renderer.getLeft() - MARGIN_PIXELS,
+					renderer.getRight() + MARGIN_PIXELS,
+					renderer.getBottom() - MARGIN_PIXELS,
+					renderer.getTop() + MARGIN_PIXELS);
+		default:
+			return false;
+		}
+	}
+
+	private double getMinScale() {
+		EuclidianSettings3D settings = view.getSettings();
+		return Math.min(settings.getXscale(),
+				Math.min(settings.getYscale(), settings.getZscale()));
+	}
+
+	/**
+	 * @param min
+	 *            bounding box min
+	 * @param max
+	 *            bounding box max
+	 * @param box
+	 *            {{xmin, xmax}, {ymin, ymax}, {zmin, zmax}}
+	 * @param margin
+	 *            margin added to the box
+	 * @return true if the bounding box doesn't intersect the box
+	 */
+	static boolean isOutsideBox(Coords min, Coords max, double[][] box,
+			double margin) {
+		for (int i = 0; i < 3; i++) {
+			if (max.val[i] < box[i][0] - margin
+					|| min.val[i] > box[i][1] + margin) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param min
+	 *            bounding box min
+	 * @param max
+	 *            bounding box max
+	 * @param toScreen
+	 *            real world to screen matrix (parallel projection)
+	 * @param left
+	 *            screen left
+	 * @param right
+	 *            screen right
+	 * @param bottom
+	 *            screen bottom
+	 * @param top
+	 *            screen top
+	 * @return true if no corner of the bounding box projects on the screen
+	 *         rectangle and they are all on the same side of it
+	 */
+	static boolean isOutsideScreen(Coords min, Coords max, CoordMatrix toScreen,
+			double left, double right, double bottom, double top) {
+		double xMin = Double.POSITIVE_INFINITY;
+		double xMax = Double.NEGATIVE_INFINITY;
+		double yMin = Double.POSITIVE_INFINITY;
+		double yMax = Double.NEGATIVE_INFINITY;
+		for (int corner = 0; corner < 8; corner++) {
+			double x = (corner & 1) == 0 ? min.val[0] : max.val[0];
+			double y = (corner & 2) == 0 ? min.val[1] : max.val[1];
+			double z = (corner & 4) == 0 ? min.val[2] : max.val[2];
+			double sx = toScreen.get(1, 1) * x + toScreen.get(1, 2) * y
+					+ toScreen.get(1, 3) * z + toScreen.get(1, 4);
+			double sy = toScreen.get(2, 1) * x + toScreen.get(2, 2) * y
+					+ toScreen.get(2, 3) * z + toScreen.get(2, 4);
+			xMin = Math.min(xMin, sx);
+			xMax = Math.max(xMax, sx);
+			yMin = Math.min(yMin, sy);
+			yMax = Math.max(yMax, sy);
+		}
+		return xMax < left || xMin > right || yMax < bottom || yMin > top;
+	}
+
+	/**
+	 * @param min
+	 *            bounding box min
+	 * @param max
+	 *            bounding box max
+	 * @param toScreen
+	 *            real world to screen matrix
+	 * @param eye
+	 *            eye position (screen coords)
+	 * @param left
+	 *            screen left
+	 * @param right
+	 *            screen right
+	 * @param bottom
+	 *            screen bottom
+	 * @param top
+	 *            screen top
+	 * @return true if all corners of the bounding box are behind the eye or
+	 *         outside the same side plane of the frustum going from the eye
+	 *         through the screen rectangle
+	 */
+	static boolean isOutsideFrustum(Coords min, Coords max,
+			CoordMatrix toScreen, Coords eye, double left, double right,
+			double bottom, double top) {
+		double ex = eye.getX();
+		double ey = eye.getY();
+		double ez = eye.getZ();
+		int outsideMask = OUTSIDE_ALL;
+		for (int corner = 0; corner < 8 && outsideMask != 0; corner++) {
+			double x = (corner & 1) == 0 ? min.val[0] : max.val[0];
+			double y = (corner & 2) == 0 ? min.val[1] : max.val[1];
+			double z = (corner & 4) == 0 ? min.val[2] : max.val[2];
+			double sx = toScreen.get(1, 1) * x + toScreen.get(1, 2) * y
+					+ toScreen.get(1, 3) * z + toScreen.get(1, 4);
+			double sy = toScreen.get(2, 1) * x + toScreen.get(2, 2) * y
+					+ toScreen.get(2, 3) * z + toScreen.get(2, 4);
+			double sz = toScreen.get(3, 1) * x + toScreen.get(3, 2) * y
+					+ toScreen.get(3, 3) * z + toScreen.get(3, 4);
+			// depth from the eye: the corner is projected on the screen at
+			// eye + (s - eye) * ez / depth
+			double depth = ez - sz;
+			int mask = 0;
+			if (depth <= 0) {
+				mask |= OUTSIDE_NEAR;
+			}
+			if ((sx - ex) * ez < (left - ex) * depth) {
+				mask |= OUTSIDE_LEFT;
+			}
+			if ((sx - ex) * ez > (right - ex) * depth) {
+				mask |= OUTSIDE_RIGHT;
+			}
+			if ((sy - ey) * ez < (bottom - ey) * depth) {
+				mask |= OUTSIDE_BOTTOM;
+			}
+			if ((sy - ey) * ez > (top - ey) * depth) {
+				mask |= OUTSIDE_TOP;
+			}
+			outsideMask &= mask;
+		}
+		return outsideMask != 0;
+	}
+}
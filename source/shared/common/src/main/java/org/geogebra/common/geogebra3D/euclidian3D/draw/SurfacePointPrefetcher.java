@@ -0,0 +1,291 @@
+package org.geogebra.common.geogebra3D.euclidian3D.draw;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.geogebra.common.geogebra3D.euclidian3D.EuclidianView3D;
+import org.geogebra.common.geogebra3D.kernel3D.geos.GeoSurfaceCartesian3D;
+import org.geogebra.common.kernel.arithmetic.Command;
+import org.geogebra.common.kernel.arithmetic.ExpressionNode;
+import org.geogebra.common.kernel.arithmetic.ExpressionValue;
+import org.geogebra.common.kernel.arithmetic.FunctionNVar;
+import org.geogebra.common.kernel.arithmetic.FunctionVariable;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.geogebra.common.kernel.matrix.Coords3;
+import org.geogebra.common.kernel.matrix.CoordsDouble3;
+import org.geogebra.common.plugin.Operation;
+import org.geogebra.common.util.DoubleUtil;
+import org.geogebra.common.util.ParallelExecutor;
+
+/**
+ * Evaluates batches of surface points (position and normal) in parallel before
+ * {@link DrawSurface3D} splits its corners, so that the serial split only has to
+ * look them up. Each chunk uses its own copy of the surface since function
+ * evaluation stores the variable values in the expression tree.
+ */
+class SurfacePointPrefetcher {
+
+	/** minimal number of points worth a separate chunk */
+	static final int MIN_POINTS_PER_CHUNK = 64;
+
+	private final ParallelExecutor executor;
+	private final ArrayList<GeoSurfaceCartesian3D> copies = new ArrayList<>();
+	private final HashMap<ParameterKey, PrefetchedPoint> points = new HashMap<>();
+	private final ArrayList<ParameterKey> pending = new ArrayList<>();
+	private GeoSurfaceCartesian3D source;
+	private boolean threadSafe;
+
+	/**
+	 * Position and normal computed for (u, v) parameters; same values as
+	 * {@link DrawSurface3D#evaluatePoint(double, double, Coords3)} and
+	 * {@link DrawSurface3D#evaluateNormal(Coords3, double, double, Coords3)}.
+	 */
+	static final class PrefetchedPoint {
+		/** evaluated point before culling and scaling, null if undefined */
+		Coords3 raw;
+		/** scaled point or {@link Coords3#UNDEFINED} */
+		Coords3 p;
+		/** scaled normal or {@link Coords3#UNDEFINED} */
+		Coords3 normal;
+		private boolean taken;
+
+		/**
+		 * @return point; a copy if it was already returned before
+		 */
+		Coords3 takePoint() {
+			return taken && p.isNotFinalUndefined() ? p.copyVector() : p;
+		}
+
+		/**
+		 * @return normal; a copy if it was already returned before
+		 */
+		Coords3 takeNormal() {
+			Coords3 ret = taken && normal.isNotFinalUndefined()
+					? normal.copyVector() : normal;
+			taken = true;
+			return ret;
+		}
+	}
+
+	private static final class ParameterKey {
+		final double u;
+		final double v;
+
+		ParameterKey(double u, double v) {
+			this.u = u;
+			this.v = v;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof ParameterKey)) {
+				return false;
+			}
+			ParameterKey other = (ParameterKey) o;
+			return Double.compare(u, other.u) == 0
+					&& Double.compare(v, other.v) == 0;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * DoubleUtil.hashCode(u) + DoubleUtil.hashCode(v);
+		}
+	}
+
+	/**
+	 * @param executor
+	 *            executor for the chunks
+	 */
+	SurfacePointPrefetcher(ParallelExecutor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Drops prefetched points and surface copies; needed when the surface or the
+	 * view changed.
+	 *
+	 * @param surface
+	 *            surface to evaluate, null if it can't be copied
+	 */
+	void reset(GeoSurfaceCartesian3D surface) {
+		points.clear();
+		pending.clear();
+		copies.clear();
+		source = surface;
+		threadSafe = surface != null && isThreadSafe(surface);
+	}
+
+	/**
+	 * @param pointCount
+	 *            expected number of points
+	 * @return whether prefetching that many points would run in parallel
+	 */
+	boolean isWorthPrefetching(int pointCount) {
+		return threadSafe && executor
+				.getChunkCount(pointCount, MIN_POINTS_PER_CHUNK) > 1;
+	}
+
+	/**
+	 * Drops previously prefetched points and starts a new batch.
+	 */
+	void startBatch() {
+		points.clear();
+		pending.clear();
+	}
+
+	/**
+	 * Adds parameters to the current batch.
+	 *
+	 * @param u
+	 *            first parameter
+	 * @param v
+	 *            second parameter
+	 */
+	void add(double u, double v) {
+		ParameterKey key = new ParameterKey(u, v);
+		if (!points.containsKey(key)) {
+			points.put(key, null);
+			pending.add(key);
+		}
+	}
+
+	/**
+	 * Evaluates all points of the current batch.
+	 *
+	 * @param view
+	 *            view used for scaling
+	 * @param cullingBox
+	 *            culling box (xmin, xmax, ymin, ymax, zmin, zmax)
+	 */
+	void evaluate(final EuclidianView3D view, final double[] cullingBox) {
+		final int count = pending.size();
+		if (!isWorthPrefetching(count)) {
+			startBatch();
+			return;
+		}
+		int chunks = executor.getChunkCount(count, MIN_POINTS_PER_CHUNK);
+		// copies are created on the calling thread
+		while (copies.size() < chunks) {
+			copies.add(independentCopy(source));
+		}
+		final PrefetchedPoint[] results = new PrefetchedPoint[count];
+		executor.forEachChunk(count, MIN_POINTS_PER_CHUNK,
+				(chunk, from, to) -> {
+					GeoSurfaceCartesian3D surface = copies.get(chunk);
+					for (int i = from; i < to; i++) {
+						ParameterKey key = pending.get(i);
+						results[i] = evaluatePoint(surface, key.u, key.v, view,
+								cullingBox);
+					}
+				});
+		for (int i = 0; i < count; i++) {
+			points.put(pending.get(i), results[i]);
+		}
+		pending.clear();
+	}
+
+	/**
+	 * @param u
+	 *            first parameter
+	 * @param v
+	 *            second parameter
+	 * @return prefetched point, null if not in the batch
+	 */
+	PrefetchedPoint get(double u, double v) {
+		if (points.isEmpty()) {
+			return null;
+		}
+		return points.get(new ParameterKey(u, v));
+	}
+
+	/**
+	 * Copies made by {@link GeoSurfaceCartesian3D#copy()} share the function
+	 * variables with the source and evaluation stores the parameters in them,
+	 * so the copy gets its own variables (also used by its derivatives).
+	 */
+	static GeoSurfaceCartesian3D independentCopy(
+			GeoSurfaceCartesian3D surface) {
+		GeoSurfaceCartesian3D copy = (GeoSurfaceCartesian3D) surface.copy();
+		FunctionNVar[] functions = copy.getFunctions();
+		FunctionVariable[] vars = functions[0].getFunctionVariables();
+		FunctionVariable[] newVars = new FunctionVariable[vars.length];
+		for (int j = 0; j < vars.length; j++) {
+			newVars[j] = new FunctionVariable(surface.getKernel(),
+					vars[j].getSetVarString());
+		}
+		for (int i = 0; i < functions.length; i++) {
+			FunctionVariable[] oldVars = functions[i].getFunctionVariables();
+			ExpressionNode expression = functions[i].getExpression();
+			for (int j = 0; j < oldVars.length; j++) {
+				expression = expression.replace(oldVars[j], newVars[j]).wrap();
+			}
+			functions[i] = new FunctionNVar(expression, newVars);
+		}
+		copy.setDerivatives();
+		return copy;
+	}
+
+	private static PrefetchedPoint evaluatePoint(GeoSurfaceCartesian3D surface,
+			double u, double v, EuclidianView3D view, double[] cullingBox) {
+		PrefetchedPoint ret = new PrefetchedPoint();
+		Coords3 raw = new CoordsDouble3();
+		surface.evaluatePoint(u, v, raw);
+		if (!raw.isDefined()) {
+			ret.p = Coords3.UNDEFINED;
+			ret.normal = Coords3.UNDEFINED;
+			return ret;
+		}
+		ret.raw = raw;
+		if (!inCullingBox(raw, cullingBox)) {
+			ret.p = Coords3.UNDEFINED;
+			ret.normal = Coords3.UNDEFINED;
+			return ret;
+		}
+		Coords3 p = raw.copyVector();
+		view.scaleXYZ(p);
+		ret.p = p;
+		Coords3 normal = new CoordsDouble3();
+		if (surface.evaluateNormal(p, u, v, normal)) {
+			view.scaleAndNormalizeNormalXYZ(normal);
+			ret.normal = normal;
+		} else {
+			ret.normal = Coords3.UNDEFINED;
+		}
+		return ret;
+	}
+
+	private static boolean inCullingBox(Coords3 p, double[] cullingBox) {
+		return (p.getXd() > cullingBox[0]) && (p.getXd() < cullingBox[1])
+				&& (p.getYd() > cullingBox[2]) && (p.getYd() < cullingBox[3])
+				&& (p.getZd() > cullingBox[4]) && (p.getZd() < cullingBox[5]);
+	}
+
+	/**
+	 * Copies of the surface share the geos referenced by its expressions, so only
+	 * expressions depending on numbers can be evaluated concurrently; random()
+	 * has to be drawn in order to stay reproducible (numbers defined by random
+	 * commands only change on update, they can be read concurrently).
+	 */
+	static boolean isThreadSafe(GeoSurfaceCartesian3D surface) {
+		FunctionNVar[] functions = surface.getFunctions();
+		if (functions == null) {
+			return false;
+		}
+		for (FunctionNVar function : functions) {
+			if (function == null || function.getExpression()
+					.any(SurfacePointPrefetcher::isSharedState)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSharedState(ExpressionValue value) {
+		if (value instanceof ExpressionNode) {
+			return ((ExpressionNode) value).getOperation() == Operation.RANDOM;
+		}
+		return value instanceof Command || (value instanceof GeoElement
+				&& !(value instanceof GeoNumeric));
+	}
+}
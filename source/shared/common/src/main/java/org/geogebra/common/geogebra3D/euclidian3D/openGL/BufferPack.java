@@ -18,6 +18,8 @@ class BufferPack extends BufferPackAbstract {
 	private GLBuffer colorBuffer;
 	/** buffer for indices */
 	protected GLBufferIndices indicesBuffer;
+	/** indices of segments that are not culled */
+	GLBufferIndices visibleIndicesBuffer;
 
 	private int elementsSize;
 	private int indicesSize;
@@ -129,7 +131,7 @@ class BufferPack extends BufferPackAbstract {
 		vertexBuffer.set(manager.vertexArray, offset * 3, length * 3);
 		if (manager.oneNormal) {
 			for (int i = 0; i < 3; i++) {
-				normalBuffer.set(manager.normalArray.get(i).floatValue(), offset * 3 + i, length,
+				normalBuffer.set(manager.normalArray.get(i), offset * 3 + i, length,
 						3);
 			}
 		} else {
@@ -232,9 +234,13 @@ class BufferPack extends BufferPackAbstract {
 	 */
 	@Override
 	public void draw(Renderer r) {
+		indicesBuffer.rewind();
+		draw(r, indicesBuffer, indicesLength);
+	}
+
+	private void draw(Renderer r, GLBufferIndices indices, int length) {
 		vertexBuffer.rewind();
 		normalBuffer.rewind();
-		indicesBuffer.rewind();
 		r.getRendererImpl().loadVertexBuffer(vertexBuffer, elementsLength);
 		r.getRendererImpl().loadNormalBuffer(normalBuffer, elementsLength);
 		r.getRendererImpl().loadColorBuffer(colorBuffer, elementsLength);
@@ -244,8 +250,36 @@ class BufferPack extends BufferPackAbstract {
 		} else {
 			r.getRendererImpl().disableTextureBuffer();
 		}
-		r.getRendererImpl().loadIndicesBuffer(indicesBuffer, indicesLength);
-		r.getRendererImpl().draw(Type.TRIANGLES, indicesLength);
+		r.getRendererImpl().loadIndicesBuffer(indices, length);
+		r.getRendererImpl().draw(Type.TRIANGLES, length);
+	}
+
+	@Override
+	void resetVisibleIndices() {
+		super.resetVisibleIndices();
+		if (visibleIndicesBuffer == null) {
+			visibleIndicesBuffer = GLFactory.getPrototype().newBufferIndices();
+		}
+		visibleIndicesBuffer.allocate(indicesSize);
+	}
+
+	@Override
+	void addVisibleIndices(BufferSegment segment) {
+		indicesBuffer.position(segment.indicesOffset);
+		for (int i = 0; i < segment.getIndicesLength(); i++) {
+			visibleIndicesBuffer.put(visibleIndicesLength + i,
+					indicesBuffer.get());
+		}
+		super.addVisibleIndices(segment);
+	}
+
+	@Override
+	void drawVisible(Renderer r) {
+		if (visibleIndicesLength == 0) {
+			return;
+		}
+		visibleIndicesBuffer.setLimit(visibleIndicesLength);
+		draw(r, visibleIndicesBuffer, visibleIndicesLength);
 	}
 
 	/* (non-Javadoc)
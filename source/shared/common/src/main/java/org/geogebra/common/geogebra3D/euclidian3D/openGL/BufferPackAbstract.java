@@ -17,6 +17,8 @@ abstract class BufferPackAbstract {
 	int elementsLength;
 	/** indices length */
 	int indicesLength;
+	/** indices length of segments that are not culled */
+	int visibleIndicesLength;
 
 	private TreeMap<Index, BufferSegment> segmentEnds;
 	private TreeMap<Index, BufferSegment> segmentStarts;
@@ -91,6 +93,35 @@ abstract class BufferPackAbstract {
 	 */
 	abstract void draw(Renderer r);
 
+	/**
+	 * draw segments of this pack that are not culled
+	 * 
+	 * @param r
+	 *            renderer
+	 */
+	void drawVisible(Renderer r) {
+		if (visibleIndicesLength > 0) {
+			draw(r);
+		}
+	}
+
+	/**
+	 * remove all segments from the visible ones
+	 */
+	void resetVisibleIndices() {
+		visibleIndicesLength = 0;
+	}
+
+	/**
+	 * add segment to the visible ones
+	 * 
+	 * @param segment
+	 *            buffer segment that is not culled
+	 */
+	void addVisibleIndices(BufferSegment segment) {
+		visibleIndicesLength += segment.getIndicesLength();
+	}
+
 	/**
 	 * reset buffers and lengths
 	 */
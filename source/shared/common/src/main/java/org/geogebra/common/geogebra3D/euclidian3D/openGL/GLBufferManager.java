@@ -1,7 +1,9 @@
 package org.geogebra.common.geogebra3D.euclidian3D.openGL;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.Map.Entry;
 import java.util.TreeMap;
 
 import org.geogebra.common.awt.GColor;
@@ -30,11 +32,11 @@ abstract class GLBufferManager {
 	/** list of buffer packs */
 	protected ArrayList<BufferPackAbstract> bufferPackList;
 	/** vertex array for current geometry */
-	ArrayList<Double> vertexArray;
+	ReusableFloatArray vertexArray;
 	/** normal array for current geometry */
-	ArrayList<Double> normalArray;
+	ReusableFloatArray normalArray;
 	/** texture array for current geometry */
-	ArrayList<Double> textureArray;
+	ReusableFloatArray textureArray;
 	/** flag for if current geometry uses one normal */
 	boolean oneNormal;
 	/** elements length */
@@ -43,6 +45,9 @@ abstract class GLBufferManager {
 	GColor color;
 	/** layer for current geometry */
 	int layer;
+	/** geometry set indices that are outside the visible part of the view */
+	private HashSet<Integer> culledSets;
+	private boolean visibleIndicesNeedUpdate;
 
 	/**
 	 * 
@@ -105,7 +110,7 @@ abstract class GLBufferManager {
 	 * @param length
 	 *            length to set
 	 */
-	public void setVertexBuffer(ArrayList<Double> array, int length) {
+	public void setVertexBuffer(ReusableFloatArray array, int length) {
 		vertexArray = array;
 		elementsLength = length / 3;
 	}
@@ -117,7 +122,7 @@ abstract class GLBufferManager {
 	 * @param length
 	 *            length to set
 	 */
-	public void setNormalBuffer(ArrayList<Double> array, int length) {
+	public void setNormalBuffer(ReusableFloatArray array, int length) {
 		normalArray = array;
 		oneNormal = length == 3;
 	}
@@ -127,7 +132,7 @@ abstract class GLBufferManager {
 	 * @param array
 	 *            array
 	 */
-	public void setTextureBuffer(ArrayList<Double> array) {
+	public void setTextureBuffer(ReusableFloatArray array) {
 		textureArray = array;
 	}
 
@@ -224,6 +229,10 @@ abstract class GLBufferManager {
 	 *            geometries length for this set
 	 */
 	public void remove(int index, int geometriesLength) {
+		if (culledSets != null) {
+			culledSets.remove(index);
+		}
+		visibleIndicesNeedUpdate = true;
 		for (int i = 0; i < geometriesLength; i++) {
 			currentIndex.set(index, i);
 			currentBufferSegment = bufferSegments.remove(currentIndex);
@@ -336,6 +345,7 @@ abstract class GLBufferManager {
 	 *            element type
 	 */
 	public void setIndices(int size, TypeElement type) {
+		visibleIndicesNeedUpdate = true;
 		// get buffer segment and pack
 		currentBufferSegment = bufferSegments.get(currentIndex);
 		int indicesLength = calculateIndicesLength(size, type);
@@ -412,6 +422,15 @@ abstract class GLBufferManager {
 	 *            renderer
 	 */
 	protected void drawBufferPacks(Renderer r) {
+		if (culledSets != null && !culledSets.isEmpty()) {
+			updateVisibleIndices();
+			for (BufferPackAbstract bufferPack : bufferPackList) {
+				if (bufferPack.elementsLength > 0) {
+					bufferPack.drawVisible(r);
+				}
+			}
+			return;
+		}
 
 		for (BufferPackAbstract bufferPack : bufferPackList) {
 			if (bufferPack.elementsLength > 0) {
@@ -420,12 +439,66 @@ abstract class GLBufferManager {
 		}
 	}
 
+	/**
+	 * set whether all geometries from geometry set index are outside the
+	 * visible part of the view
+	 * 
+	 * @param index
+	 *            geometry set index
+	 * @param culled
+	 *            whether geometries are culled
+	 */
+	public void setCulled(int index, boolean culled) {
+		if (culledSets == null) {
+			if (!culled) {
+				return;
+			}
+			culledSets = new HashSet<>();
+		}
+		boolean changed = culled ? culledSets.add(index)
+				: culledSets.remove(index);
+		if (changed) {
+			visibleIndicesNeedUpdate = true;
+		}
+	}
+
+	/**
+	 * @param index
+	 *            geometry set index
+	 * @return whether geometries from geometry set index are culled
+	 */
+	public boolean isCulled(int index) {
+		return culledSets != null && culledSets.contains(index);
+	}
+
+	/**
+	 * update indices of geometries that are not culled, if needed
+	 */
+	void updateVisibleIndices() {
+		if (!visibleIndicesNeedUpdate || culledSets == null) {
+			return;
+		}
+		for (BufferPackAbstract bufferPack : bufferPackList) {
+			bufferPack.resetVisibleIndices();
+		}
+		for (Entry<Index, BufferSegment> entry : bufferSegments.entrySet()) {
+			if (!culledSets.contains(entry.getKey().v1)) {
+				BufferSegment segment = entry.getValue();
+				segment.bufferPack.addVisibleIndices(segment);
+			}
+		}
+		visibleIndicesNeedUpdate = false;
+	}
+
 	/**
 	 * reset buffers
 	 */
 	public void reset() {
 		availableSegments.clear();
 		bufferSegments.clear();
+		if (culledSets != null) {
+			culledSets.clear();
+		}
 		ArrayList<BufferPackAbstract> buffersToRemove = new ArrayList<>();
 		for (BufferPackAbstract bufferPack : bufferPackList) {
 			if (bufferPack.canBeReused()) {
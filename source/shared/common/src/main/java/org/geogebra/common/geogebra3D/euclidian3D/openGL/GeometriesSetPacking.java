@@ -101,6 +101,16 @@ class GeometriesSetPacking extends GeometriesSet {
 				visible, alpha, objLayer);
 	}
 
+	/**
+	 * update whether all geometries for this set are culled
+	 * 
+	 * @param culled
+	 *            whether geometries are outside the visible part of the view
+	 */
+	public void updateCulled(boolean culled) {
+		bufferManager.setCulled(index, culled);
+	}
+
 	@Override
 	public void hideLastGeometries() {
 		bufferManager.updateVisibility(index, currentGeometryIndex,
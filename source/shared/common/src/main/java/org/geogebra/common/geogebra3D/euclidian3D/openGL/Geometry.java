@@ -1,7 +1,5 @@
 package org.geogebra.common.geogebra3D.euclidian3D.openGL;
 
-import java.util.ArrayList;
-
 import org.geogebra.common.geogebra3D.euclidian3D.openGL.Manager.Type;
 import org.geogebra.common.geogebra3D.euclidian3D.openGL.ManagerShaders.TypeElement;
 import org.geogebra.common.geogebra3D.euclidian3D.printer3D.ExportToPrinter3D.GeometryForExport;
@@ -129,11 +127,11 @@ public class Geometry implements GeometryForExport {
 	 * set double buffer for vertices
 	 * 
 	 * @param array
-	 *            double array
+	 *            values array
 	 * @param length
 	 *            length to copy
 	 */
-	public void setVertices(ArrayList<Double> array, int length) {
+	public void setVertices(ReusableFloatArray array, int length) {
 		this.v.set(array, length);
 	}
 
@@ -149,11 +147,11 @@ public class Geometry implements GeometryForExport {
 	 * set double buffer for normals
 	 * 
 	 * @param array
-	 *            double array
+	 *            values array
 	 * @param length
 	 *            length to copy
 	 */
-	public void setNormals(ArrayList<Double> array, int length) {
+	public void setNormals(ReusableFloatArray array, int length) {
 		this.n.set(array, length);
 	}
 
@@ -169,11 +167,11 @@ public class Geometry implements GeometryForExport {
 	 * set double buffer for texture
 	 * 
 	 * @param array
-	 *            double array
+	 *            values array
 	 * @param length
 	 *            length to copy
 	 */
-	public void setTextures(ArrayList<Double> array, int length) {
+	public void setTextures(ReusableFloatArray array, int length) {
 		this.t.set(array, length);
 	}
 
@@ -203,11 +201,11 @@ public class Geometry implements GeometryForExport {
 	 * set double buffer for colors
 	 * 
 	 * @param array
-	 *            double array
+	 *            values array
 	 * @param length
 	 *            length to copy
 	 */
-	public void setColors(ArrayList<Double> array, int length) {
+	public void setColors(ReusableFloatArray array, int length) {
 		this.c.set(array, length);
 	}
 
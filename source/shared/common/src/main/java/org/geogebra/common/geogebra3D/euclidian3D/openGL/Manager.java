@@ -979,6 +979,18 @@ abstract public class Manager {
 		// not needed here
 	}
 
+	/**
+	 * update whether geometry is outside the visible part of the view
+	 * 
+	 * @param culled
+	 *            whether geometry is culled
+	 * @param index
+	 *            geometry index (for set)
+	 */
+	public void updateCulled(boolean culled, int index) {
+		// not needed here
+	}
+
 	/**
 	 * update
 	 * 
@@ -358,6 +358,10 @@ public abstract class Renderer {
 		// update 3D view and drawables
 		updateViewAndDrawables();
 		// Log.debug("======= UPDATE : "+(System.currentTimeMillis() - time));
+		view3D.getDrawableCulling().startFrame();
+		if (geometryManager.packBuffers()) {
+			view3D.getDrawList3D().updatePackedCulling();
+		}
 
 		if (needExportImage) {
 			rendererImpl.selectFBO();
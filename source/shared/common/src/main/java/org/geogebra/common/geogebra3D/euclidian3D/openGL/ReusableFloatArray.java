@@ -0,0 +1,169 @@
+package org.geogebra.common.geogebra3D.euclidian3D.openGL;
+
+/**
+ * Growable array of primitive floats that can be reused: setting the length to 0 keeps the
+ * allocated memory. Used to collect vertices, normals, textures and colors before copying
+ * them into {@link GLBuffer}s, without boxing each coordinate.
+ */
+public class ReusableFloatArray {
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private float[] values;
+	private int length;
+
+	/**
+	 * constructor
+	 */
+	public ReusableFloatArray() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * constructor
+	 *
+	 * @param capacity
+	 *            initial capacity
+	 */
+	public ReusableFloatArray(int capacity) {
+		values = new float[Math.max(capacity, 1)];
+		length = 0;
+	}
+
+	/**
+	 * @param source
+	 *            array to copy
+	 * @param length
+	 *            number of values to copy
+	 * @return new array containing the first values of source
+	 */
+	public static ReusableFloatArray copyOf(ReusableFloatArray source,
+			int length) {
+		ReusableFloatArray copy = new ReusableFloatArray(length);
+		System.arraycopy(source.values, 0, copy.values, 0, length);
+		copy.length = length;
+		return copy;
+	}
+
+	/**
+	 * set length; values beyond the length are kept for reuse
+	 *
+	 * @param length
+	 *            length
+	 */
+	public void setLength(int length) {
+		ensureCapacity(length);
+		this.length = length;
+	}
+
+	/**
+	 *
+	 * @return current length
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * @param index
+	 *            index (less than length)
+	 * @return value at index
+	 */
+	public float get(int index) {
+		return values[index];
+	}
+
+	/**
+	 * @param index
+	 *            index (less than length)
+	 * @param value
+	 *            new value
+	 */
+	public void set(int index, double value) {
+		values[index] = (float) value;
+	}
+
+	/**
+	 * add a value to the current position
+	 *
+	 * @param value
+	 *            value
+	 */
+	public void addValue(double value) {
+		ensureCapacity(length + 1);
+		values[length++] = (float) value;
+	}
+
+	/**
+	 * add values to the current position
+	 *
+	 * @param x
+	 *            first value
+	 * @param y
+	 *            second value
+	 */
+	public void addValues(double x, double y) {
+		ensureCapacity(length + 2);
+		values[length++] = (float) x;
+		values[length++] = (float) y;
+	}
+
+	/**
+	 * add values to the current position
+	 *
+	 * @param x
+	 *            first value
+	 * @param y
+	 *            second value
+	 * @param z
+	 *            third value
+	 */
+	public void addValues(double x, double y, double z) {
+		ensureCapacity(length + 3);
+		values[length++] = (float) x;
+		values[length++] = (float) y;
+		values[length++] = (float) z;
+	}
+
+	/**
+	 * add values to the current position
+	 *
+	 * @param x
+	 *            first value
+	 * @param y
+	 *            second value
+	 * @param z
+	 *            third value
+	 * @param w
+	 *            fourth value
+	 */
+	public void addValues(double x, double y, double z, double w) {
+		ensureCapacity(length + 4);
+		values[length++] = (float) x;
+		values[length++] = (float) y;
+		values[length++] = (float) z;
+		values[length++] = (float) w;
+	}
+
+	/**
+	 * Backing array; only the first {@link #getLength()} values are meaningful. Returned
+	 * without copy so that buffers can bulk-copy it.
+	 *
+	 * @return backing array
+	 */
+	public float[] getArray() {
+		return values;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > values.length) {
+			int newCapacity = values.length;
+			while (newCapacity < capacity) {
+				newCapacity *= 2;
+			}
+			float[] newValues = new float[newCapacity];
+			System.arraycopy(values, 0, newValues, 0, length);
+			values = newValues;
+		}
+	}
+}
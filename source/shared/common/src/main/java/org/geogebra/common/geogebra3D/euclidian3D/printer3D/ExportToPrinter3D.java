@@ -1,5 +1,7 @@
 package org.geogebra.common.geogebra3D.euclidian3D.printer3D;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.TreeSet;
 
@@ -22,6 +24,7 @@ import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoPolygon;
 import org.geogebra.common.kernel.kernelND.GeoQuadricNDConstants;
 import org.geogebra.common.kernel.matrix.Coords;
+import org.geogebra.common.main.App;
 
 /**
  * Export to 3D printer
@@ -68,6 +71,15 @@ public class ExportToPrinter3D {
 	private TreeSet<SegmentIndex> segmentsForThickness;
 	private SegmentIndex reverseSegment;
 
+	/** output size (chars or bytes) above which output is written to stream */
+	final static int FLUSH_SIZE = 1 << 16;
+	private OutputStream out;
+	private IOException outException;
+
+	private boolean mergeDuplicateVertices = false;
+	private VertexHashIndex vertexIndex;
+	private int[] vertexRemap;
+
 	/**
 	 * 
 	 * interface for geometries methods used for export
@@ -406,121 +418,256 @@ public class ExportToPrinter3D {
 
 		GeometriesSet currentGeometriesSet = manager
 				.getGeometrySet(geometryIndex);
-		if (currentGeometriesSet != null) {
-			for (Geometry g : currentGeometriesSet) {
+		if (currentGeometriesSet == null) {
+			return;
+		}
+		if (!withThickness && mergeDuplicateVertices
+				&& format.handlesSurfacesDirectly()) {
+			exportMergedSurface(geo, currentGeometriesSet, group, transparency,
+					color, alpha, isFlat);
+			return;
+		}
+		for (Geometry g : currentGeometriesSet) {
 
-				GeometryForExport geometry = g;
-				geometry.initForExport();
+			GeometryForExport geometry = g;
+			geometry.initForExport();
 
-				format.getObjectStart(sb, group, geo, transparency, color,
-						alpha);
+			format.getObjectStart(sb, group, geo, transparency, color, alpha);
 
-				// object is a polyhedron
-				format.getPolyhedronStart(sb, isFlat, false);
+			// object is a polyhedron
+			format.getPolyhedronStart(sb, isFlat, false);
 
-				// normals
-				if (withThickness) {
-					getNormals(geometry, withThickness);
-				}
+			// normals
+			if (withThickness) {
+				getNormals(geometry, withThickness);
+			}
 
-				// vertices
-				boolean notFirst = false;
-				format.getVerticesStart(sb, geometry.getLengthForExport());
-				GLBuffer fb = geometry.getVerticesForExport();
-				for (int i = 0; i < geometry.getLengthForExport(); i++) {
-					double x = fb.get();
-					double y = fb.get();
-					double z = fb.get();
-					getVertex(notFirst, x, y, z, withThickness);
-					notFirst = true;
-				}
-				format.getVerticesEnd(sb);
-				fb.rewind();
+			// vertices
+			boolean notFirst = false;
+			format.getVerticesStart(sb, geometry.getLengthForExport());
+			GLBuffer fb = geometry.getVerticesForExport();
+			for (int i = 0; i < geometry.getLengthForExport(); i++) {
+				double x = fb.get();
+				double y = fb.get();
+				double z = fb.get();
+				getVertex(notFirst, x, y, z, withThickness);
+				notFirst = true;
+			}
+			format.getVerticesEnd(sb);
+			fb.rewind();
 
-				// normals
-				if (!withThickness) {
-					getNormals(geometry);
-				}
+			// normals
+			if (!withThickness) {
+				getNormals(geometry);
+			}
 
-				// faces
-				if (withThickness) {
-					initSegmentsForThickness();
-				}
-				GLBufferIndices bi = geometry.getBufferIndices();
-				int offset = geometry.getElementsOffset();
-				switch (geometry.getType()) {
-				case TRIANGLE_FAN:
-					// for openGL we use replace triangle fans by triangle
-					// strips, repeating apex
-					// every time
-					int length = geometry.getIndicesLength() / 2;
-					format.getFacesStart(sb, length - 1, false);
-					notFirst = false;
-					int v3 = bi.get();
-					int v4 = bi.get();
-					for (int i = 1; i < length; i++) {
-						int v1 = v3;
-						int v2 = v4;
-						v3 = bi.get();
-						v4 = bi.get();
-						getFaceWithOffset(notFirst, offset, v1, v2, v4,
-								withThickness);
-						notFirst = true;
-					}
-					break;
-				case TRIANGLE_STRIP:
-					length = geometry.getIndicesLength() / 2;
-					format.getFacesStart(sb, (length - 1) * 2, false);
-					notFirst = false;
-					v3 = bi.get();
-					v4 = bi.get();
-					for (int i = 1; i < length; i++) {
-						int v1 = v3;
-						int v2 = v4;
-						v3 = bi.get();
-						v4 = bi.get();
-						getFaceWithOffset(notFirst, offset, v1, v2, v3,
-								withThickness);
-						notFirst = true;
-						getFaceWithOffset(notFirst, offset, v2, v4, v3,
-								withThickness);
-					}
-					break;
-				case TRIANGLES:
-				default:
-					length = geometry.getIndicesLength() / 3;
-					format.getFacesStart(sb, length, false);
-					notFirst = false;
-					for (int i = 0; i < length; i++) {
-						int v1 = bi.get();
-						int v2 = bi.get();
-						v3 = bi.get();
-						getFaceWithOffset(notFirst, offset, v1, v2, v3,
-								withThickness);
-						notFirst = true;
-					}
-					break;
+			// faces
+			if (withThickness) {
+				initSegmentsForThickness();
+			}
+			int offset = geometry.getElementsOffset();
+			format.getFacesStart(sb, getFacesCount(geometry), false);
+			notFirst = getFaces(geometry, false, offset, withThickness);
+
+			if (withThickness) {
+				for (SegmentIndex si : segmentsForThickness) {
+					int v1 = si.getV1();
+					int v2 = si.getV2();
+					getFace(notFirst, 2 * offset, 2 * v1, 2 * v1 + 1,
+							2 * v2 + 1, NORMAL_NOT_SET);
+					getFace(notFirst, 2 * offset, 2 * v1, 2 * v2 + 1,
+							2 * v2, NORMAL_NOT_SET);
 				}
-				bi.rewind();
+			}
 
-				if (withThickness) {
-					for (SegmentIndex si : segmentsForThickness) {
-						int v1 = si.getV1();
-						int v2 = si.getV2();
-						getFace(notFirst, 2 * offset, 2 * v1, 2 * v1 + 1,
-								2 * v2 + 1, NORMAL_NOT_SET);
-						getFace(notFirst, 2 * offset, 2 * v1, 2 * v2 + 1,
-								2 * v2, NORMAL_NOT_SET);
-					}
-				}
+			format.getFacesEnd(sb); // end of faces
 
-				format.getFacesEnd(sb); // end of faces
+			// end of polyhedron
+			format.getPolyhedronEnd(sb);
 
-				// end of polyhedron
-				format.getPolyhedronEnd(sb);
+		}
+	}
+
+	/**
+	 * Export all geometries as one object, each (vertex, normal) couple written
+	 * once.
+	 * 
+	 * @param geo
+	 *            construction element
+	 * @param geometries
+	 *            geometries of the element
+	 * @param group
+	 *            object group
+	 * @param transparency
+	 *            whether to use alpha
+	 * @param color
+	 *            color (null for element color)
+	 * @param alpha
+	 *            alpha value
+	 * @param isFlat
+	 *            if surface is flat
+	 */
+	void exportMergedSurface(GeoElement geo,
+			Iterable<? extends GeometryForExport> geometries, String group,
+			boolean transparency, GColor color, double alpha, boolean isFlat) {
+		int length = 0;
+		int facesCount = 0;
+		for (GeometryForExport geometry : geometries) {
+			geometry.initForExport();
+			length += geometry.getLengthForExport();
+			facesCount += getFacesCount(geometry);
+		}
+		if (facesCount == 0) {
+			return;
+		}
+
+		format.getObjectStart(sb, group, geo, transparency, color, alpha);
+		format.getPolyhedronStart(sb, isFlat, false);
+		getMergedVerticesAndNormals(geometries, length);
+
+		format.getFacesStart(sb, facesCount, false);
+		boolean notFirst = false;
+		int remapStart = 0;
+		for (GeometryForExport geometry : geometries) {
+			geometry.initForExport();
+			// vertexRemap[v - offset] has to be vertexRemap[remapStart + v
+			// - elementsOffset]
+			notFirst = getFaces(geometry, notFirst,
+					geometry.getElementsOffset() - remapStart, false);
+			remapStart += geometry.getLengthForExport();
+		}
+		format.getFacesEnd(sb);
+		vertexRemap = null;
+
+		format.getPolyhedronEnd(sb);
+	}
 
+	private static int getFacesCount(GeometryForExport geometry) {
+		switch (geometry.getType()) {
+		case TRIANGLE_FAN:
+			return geometry.getIndicesLength() / 2 - 1;
+		case TRIANGLE_STRIP:
+			return (geometry.getIndicesLength() / 2 - 1) * 2;
+		case TRIANGLES:
+		default:
+			return geometry.getIndicesLength() / 3;
+		}
+	}
+
+	/**
+	 * Writes faces of the geometry (faces start and end are not written).
+	 * 
+	 * @return whether a face was written (now or before)
+	 */
+	private boolean getFaces(GeometryForExport geometry, boolean notFirst0,
+			int offset, boolean withThickness) {
+		boolean notFirst = notFirst0;
+		GLBufferIndices bi = geometry.getBufferIndices();
+		switch (geometry.getType()) {
+		case TRIANGLE_FAN:
+			// for openGL we use replace triangle fans by triangle
+			// strips, repeating apex
+			// every time
+			int length = geometry.getIndicesLength() / 2;
+			int v3 = bi.get();
+			int v4 = bi.get();
+			for (int i = 1; i < length; i++) {
+				int v1 = v3;
+				int v2 = v4;
+				v3 = bi.get();
+				v4 = bi.get();
+				getFaceWithOffset(notFirst, offset, v1, v2, v4, withThickness);
+				notFirst = true;
+			}
+			break;
+		case TRIANGLE_STRIP:
+			length = geometry.getIndicesLength() / 2;
+			v3 = bi.get();
+			v4 = bi.get();
+			for (int i = 1; i < length; i++) {
+				int v1 = v3;
+				int v2 = v4;
+				v3 = bi.get();
+				v4 = bi.get();
+				getFaceWithOffset(notFirst, offset, v1, v2, v3, withThickness);
+				notFirst = true;
+				getFaceWithOffset(notFirst, offset, v2, v4, v3, withThickness);
+			}
+			break;
+		case TRIANGLES:
+		default:
+			length = geometry.getIndicesLength() / 3;
+			for (int i = 0; i < length; i++) {
+				int v1 = bi.get();
+				int v2 = bi.get();
+				v3 = bi.get();
+				getFaceWithOffset(notFirst, offset, v1, v2, v3, withThickness);
+				notFirst = true;
+			}
+			break;
+		}
+		bi.rewind();
+		return notFirst;
+	}
+
+	/**
+	 * Writes vertices and normals of the geometries, each (vertex, normal)
+	 * couple once, and sets {@link #vertexRemap} for faces.
+	 */
+	private void getMergedVerticesAndNormals(
+			Iterable<? extends GeometryForExport> geometries, int length) {
+		boolean hasNormals = format.handlesNormals();
+		for (GeometryForExport geometry : geometries) {
+			geometry.initForExport();
+			GLBuffer nb = geometry.getNormalsForExport();
+			hasNormals = hasNormals && nb != null && !nb.isEmpty()
+					&& nb.capacity() > 3;
+		}
+		if (vertexIndex == null) {
+			vertexIndex = new VertexHashIndex();
+		} else {
+			vertexIndex.clear();
+		}
+		if (vertexRemap == null || vertexRemap.length < length) {
+			vertexRemap = new int[length];
+		}
+		int index = 0;
+		for (GeometryForExport geometry : geometries) {
+			geometry.initForExport();
+			GLBuffer fb = geometry.getVerticesForExport();
+			GLBuffer nb = hasNormals ? geometry.getNormalsForExport() : null;
+			for (int i = 0; i < geometry.getLengthForExport(); i++) {
+				float x = (float) fb.get();
+				float y = (float) fb.get();
+				float z = (float) fb.get();
+				if (hasNormals) {
+					vertexRemap[index++] = vertexIndex.add(x, y, z,
+							(float) nb.get(), (float) nb.get(),
+							(float) nb.get());
+				} else {
+					vertexRemap[index++] = vertexIndex.add(x, y, z, 0, 0, 0);
+				}
 			}
+			fb.rewind();
+			if (hasNormals) {
+				nb.rewind();
+			}
+		}
 
+		int size = vertexIndex.size();
+		format.getVerticesStart(sb, size);
+		for (int i = 0; i < size; i++) {
+			getVertex(i > 0, vertexIndex.get(i, 0), vertexIndex.get(i, 1),
+					vertexIndex.get(i, 2), false);
+		}
+		format.getVerticesEnd(sb);
+		if (hasNormals) {
+			format.getNormalsStart(sb, size);
+			for (int i = 0; i < size; i++) {
+				getNormal(vertexIndex.get(i, 3), vertexIndex.get(i, 4),
+						vertexIndex.get(i, 5), false);
+			}
+			format.getNormalsEnd(sb);
 		}
 	}
 
@@ -810,6 +957,7 @@ public class ExportToPrinter3D {
 		} else {
 			format.getVertices(sb, x * xInvScale, y * xInvScale, z * xInvScale);
 		}
+		mayFlush();
 	}
 
 	private void getNormal(double x, double y, double z,
@@ -825,6 +973,7 @@ public class ExportToPrinter3D {
 			boolean withThickness) {
 		format.getNormal(sb, x, y, z, withThickness);
 		format.getNormalsSeparator(sb);
+		mayFlush();
 	}
 
 	private boolean getFaceWithOffset(boolean notFirst, int offset, int v1,
@@ -863,6 +1012,10 @@ public class ExportToPrinter3D {
 
 	private boolean getFace(boolean notFirst, int offset, int v1, int v2,
 			int v3, int normal) {
+		if (vertexRemap != null) {
+			return getFace(notFirst, vertexRemap[v1 - offset],
+					vertexRemap[v2 - offset], vertexRemap[v3 - offset], normal);
+		}
 		return getFace(notFirst, v1 - offset, v2 - offset, v3 - offset, normal);
 	}
 
@@ -872,10 +1025,61 @@ public class ExportToPrinter3D {
 			format.getFacesSeparator(sb);
 		}
 
+		boolean ret;
 		if (reverse) {
-			return format.getFaces(sb, v1, v3, v2, normal);
+			ret = format.getFaces(sb, v1, v3, v2, normal);
+		} else {
+			ret = format.getFaces(sb, v1, v2, v3, normal);
+		}
+		mayFlush();
+		return ret;
+	}
+
+	private void mayFlush() {
+		if (out != null && outException == null
+				&& format.getPendingSize(sb) > FLUSH_SIZE) {
+			flush();
+		}
+	}
+
+	private void flush() {
+		try {
+			format.flush(sb, out);
+		} catch (IOException e) {
+			// stop writing, the exception is thrown at the end of the export
+			outException = e;
+			sb.setLength(0);
+		}
+	}
+
+	/**
+	 * Merge vertices with same position and normal in indexed formats (see
+	 * {@link Format#handlesSurfacesDirectly()}); off by default.
+	 * 
+	 * @param flag
+	 *            whether to merge duplicate vertices
+	 */
+	public void setMergeDuplicateVertices(boolean flag) {
+		mergeDuplicateVertices = flag;
+	}
+
+	/**
+	 * Export to a file, streamed when the app supports it. Duplicate vertices
+	 * are merged.
+	 * 
+	 * @param format1
+	 *            export format
+	 * @param showDialog
+	 *            whether to show a save dialog
+	 */
+	public void exportToFile(Format format1, boolean showDialog) {
+		App app = view.getApplication();
+		setMergeDuplicateVertices(true);
+		if (!app.exportStreamToFile(format1.getExtension(),
+				stream -> export(format1, stream), showDialog)) {
+			app.exportStringToFile(format1.getExtension(),
+					export(format1).toString(), showDialog);
 		}
-		return format.getFaces(sb, v1, v2, v3, normal);
 	}
 
 	/**
@@ -885,18 +1089,84 @@ public class ExportToPrinter3D {
 	 * @return export
 	 */
 	public StringBuilder export(Format format1) {
+		return export(format1, view.getXscale(),
+				() -> view.exportToPrinter3D(this));
+	}
+
+	/**
+	 * @param format1
+	 *            export format
+	 * @param xScale
+	 *            view scale
+	 * @param scene
+	 *            exports the objects
+	 * @return export
+	 */
+	StringBuilder export(Format format1, double xScale, Runnable scene) {
 		this.format = format1;
 		// this.format.setNewlineString(
 		// view.getApplication().isHTML5Applet() ? NEWLINE_HTML : NEWLINE);
-		xInvScale = 1 / view.getXscale();
+		xInvScale = 1 / xScale;
 
 		sb.setLength(0);
 		format1.getScriptStart(sb);
-		view.exportToPrinter3D(this);
+		scene.run();
 		format1.getScriptEnd(sb);
 		return sb;
 	}
 
+	/**
+	 * Export to a stream: output is written as soon as it exceeds
+	 * {@link #FLUSH_SIZE}, so memory doesn't depend on the scene size (except
+	 * for filled solids in STL, that are oriented at the end).
+	 * 
+	 * @param format1
+	 *            export format
+	 * @param stream
+	 *            output stream (not closed)
+	 * @return bytes to write again at the start of the output, see
+	 *         {@link Format#getHeaderToRewrite()}
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	public byte[] export(Format format1, OutputStream stream)
+			throws IOException {
+		return export(format1, stream, view.getXscale(),
+				() -> view.exportToPrinter3D(this));
+	}
+
+	/**
+	 * @param format1
+	 *            export format
+	 * @param stream
+	 *            output stream (not closed)
+	 * @param xScale
+	 *            view scale
+	 * @param scene
+	 *            exports the objects
+	 * @return bytes to write again at the start of the output
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	byte[] export(Format format1, OutputStream stream, double xScale,
+			Runnable scene) throws IOException {
+		out = stream;
+		outException = null;
+		try {
+			export(format1, xScale, scene);
+			if (outException == null) {
+				flush();
+			}
+		} finally {
+			out = null;
+			sb.setLength(0);
+		}
+		if (outException != null) {
+			throw outException;
+		}
+		return format1.getHeaderToRewrite();
+	}
+
 	private void initSegmentsForThickness() {
 		if (segmentsForThickness == null) {
 			segmentsForThickness = new TreeSet<>();
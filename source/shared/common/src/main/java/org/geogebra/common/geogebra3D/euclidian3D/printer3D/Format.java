@@ -1,5 +1,9 @@
 package org.geogebra.common.geogebra3D.euclidian3D.printer3D;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 import org.geogebra.common.awt.GColor;
 import org.geogebra.common.kernel.geos.GeoElement;
 
@@ -317,4 +321,41 @@ abstract public class Format {
 	 * @return true if exports lines and points
 	 */
 	abstract public boolean exportsPointsAndLines();
+
+	/**
+	 * @param sb
+	 *            output builder
+	 * @return size of the output produced so far and not yet written
+	 */
+	public int getPendingSize(StringBuilder sb) {
+		return sb.length();
+	}
+
+	/**
+	 * Writes the output produced so far to the stream and clears it.
+	 * 
+	 * @param sb
+	 *            output builder
+	 * @param out
+	 *            output stream
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	public void flush(StringBuilder sb, OutputStream out) throws IOException {
+		if (sb.length() > 0) {
+			out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+			sb.setLength(0);
+		}
+	}
+
+	/**
+	 * Some formats can only know their header when the whole output is
+	 * written (e.g. triangles count in binary STL).
+	 * 
+	 * @return bytes to write again at the start of the output once the export
+	 *         is done, or null if the output is complete
+	 */
+	public byte[] getHeaderToRewrite() {
+		return null;
+	}
 }
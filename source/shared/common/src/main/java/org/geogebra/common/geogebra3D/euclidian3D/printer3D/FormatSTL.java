@@ -1,7 +1,8 @@
 package org.geogebra.common.geogebra3D.euclidian3D.printer3D;
 
+import java.util.Arrays;
+
 import org.geogebra.common.awt.GColor;
-import org.geogebra.common.geogebra3D.euclidian3D.openGL.ReusableArrayList;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.matrix.Coords;
 
@@ -10,8 +11,8 @@ import org.geogebra.common.kernel.matrix.Coords;
  */
 public class FormatSTL extends Format {
 
-	private ReusableArrayList<Double> verticesList = new ReusableArrayList<>();
-	private ReusableArrayList<Double> normalsList = new ReusableArrayList<>();
+	private DoubleArray verticesList = new DoubleArray();
+	private DoubleArray normalsList = new DoubleArray();
 
 	private Coords tmpCoords1 = new Coords(3);
 	private Coords tmpCoords2 = new Coords(3);
@@ -46,12 +47,22 @@ public class FormatSTL extends Format {
 
 	@Override
 	public void getScriptEnd(StringBuilder sb) {
+		getFilledSolidsTriangles(sb);
+		appendNewline(sb);
+		sb.append("endsolid geogebra");
+	}
+
+	/**
+	 * output triangles of filled solids (kept until the end to orient them)
+	 * 
+	 * @param sb
+	 *            output builder
+	 */
+	protected void getFilledSolidsTriangles(StringBuilder sb) {
 		if (wantsFilledSolids()) {
 			polygonHandler.setOrientedNormals();
 			polygonHandler.getTriangles(sb, this);
 		}
-		appendNewline(sb);
-		sb.append("endsolid geogebra");
 	}
 
 	@Override
@@ -76,15 +87,13 @@ public class FormatSTL extends Format {
 
 	@Override
 	public void getVerticesStart(StringBuilder sb, int count) {
-		verticesList.setLength(0);
+		verticesList.clear();
 	}
 
 	@Override
 	public void getVertices(StringBuilder sb, double x, double y, double z) {
 		if (!currentExportAsFilledSolids()) {
-			verticesList.addValue(x * scale);
-			verticesList.addValue(y * scale);
-			verticesList.addValue(z * scale);
+			verticesList.addValues(x * scale, y * scale, z * scale);
 		} else {
 			polygonHandler.addVertex(x * scale, y * scale, z * scale);
 		}
@@ -99,13 +108,11 @@ public class FormatSTL extends Format {
 		double ny = normalsList.get(index + 1);
 		double nz = normalsList.get(index + 2);
 
-		verticesList.addValue((x + nx * thickness) * scale);
-		verticesList.addValue((y + ny * thickness) * scale);
-		verticesList.addValue((z + nz * thickness) * scale);
+		verticesList.addValues((x + nx * thickness) * scale,
+				(y + ny * thickness) * scale, (z + nz * thickness) * scale);
 
-		verticesList.addValue((x - nx * thickness) * scale);
-		verticesList.addValue((y - ny * thickness) * scale);
-		verticesList.addValue((z - nz * thickness) * scale);
+		verticesList.addValues((x - nx * thickness) * scale,
+				(y - ny * thickness) * scale, (z - nz * thickness) * scale);
 	}
 
 	@Override
@@ -271,19 +278,15 @@ public class FormatSTL extends Format {
 
 	@Override
 	public void getNormalsStart(StringBuilder sb, int count) {
-		normalsList.setLength(0);
+		normalsList.clear();
 	}
 
 	@Override
 	public void getNormal(StringBuilder sb, double x, double y, double z, boolean withThickness) {
 		if (!currentExportAsFilledSolids()) {
-			normalsList.addValue(x);
-			normalsList.addValue(y);
-			normalsList.addValue(z);
+			normalsList.addValues(x, y, z);
 			if (withThickness) {
-				normalsList.addValue(-x);
-				normalsList.addValue(-y);
-				normalsList.addValue(-z);
+				normalsList.addValues(-x, -y, -z);
 			}
 		} else {
 			polygonHandler.setNormal(x, y, z);
@@ -381,4 +384,34 @@ public class FormatSTL extends Format {
 	public boolean exportsPointsAndLines() {
 		return exportsPointsAndLines;
 	}
+
+	/**
+	 * Growable array of primitive doubles, keeping its memory when length is
+	 * set to 0.
+	 */
+	private static final class DoubleArray {
+		private double[] values = new double[96];
+		private int length;
+
+		void clear() {
+			length = 0;
+		}
+
+		int getLength() {
+			return length;
+		}
+
+		double get(int index) {
+			return values[index];
+		}
+
+		void addValues(double x, double y, double z) {
+			if (length + 3 > values.length) {
+				values = Arrays.copyOf(values, 2 * values.length);
+			}
+			values[length++] = x;
+			values[length++] = y;
+			values[length++] = z;
+		}
+	}
 }
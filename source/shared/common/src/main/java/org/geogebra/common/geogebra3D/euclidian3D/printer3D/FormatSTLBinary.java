@@ -0,0 +1,119 @@
+package org.geogebra.common.geogebra3D.euclidian3D.printer3D;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Binary STL format: 80 bytes header, triangles count, then 50 bytes per
+ * triangle (normal, 3 vertices as little-endian floats, attribute). The
+ * triangles count is only known at the end, so the header is written with a
+ * zero count and returned by {@link #getHeaderToRewrite()}. Output is only
+ * available through {@link ExportToPrinter3D#export(Format, OutputStream)}.
+ */
+public class FormatSTLBinary extends FormatSTL {
+
+	private static final int HEADER_LENGTH = 80;
+	private static final int TRIANGLE_LENGTH = 50;
+	private static final String HEADER = "binary STL exported by GeoGebra";
+
+	private byte[] pending = new byte[TRIANGLE_LENGTH * 1024];
+	private int pendingLength;
+	private int trianglesCount;
+
+	@Override
+	public void getScriptStart(StringBuilder sb) {
+		pendingLength = 0;
+		trianglesCount = 0;
+		putHeader();
+	}
+
+	@Override
+	public void getScriptEnd(StringBuilder sb) {
+		getFilledSolidsTriangles(sb);
+	}
+
+	@Override
+	public void getTriangle(StringBuilder sb, double nx, double ny, double nz,
+			double v1x, double v1y, double v1z, double v2x, double v2y,
+			double v2z, double v3x, double v3y, double v3z) {
+		trianglesCount++;
+		ensureCapacity(pendingLength + TRIANGLE_LENGTH);
+		putFloat(nx);
+		putFloat(ny);
+		putFloat(nz);
+		putFloat(v1x);
+		putFloat(v1y);
+		putFloat(v1z);
+		putFloat(v2x);
+		putFloat(v2y);
+		putFloat(v2z);
+		putFloat(v3x);
+		putFloat(v3y);
+		putFloat(v3z);
+		// attribute byte count
+		pending[pendingLength++] = 0;
+		pending[pendingLength++] = 0;
+	}
+
+	@Override
+	public int getPendingSize(StringBuilder sb) {
+		return pendingLength;
+	}
+
+	@Override
+	public void flush(StringBuilder sb, OutputStream out) throws IOException {
+		sb.setLength(0);
+		if (pendingLength > 0) {
+			out.write(pending, 0, pendingLength);
+			pendingLength = 0;
+		}
+	}
+
+	@Override
+	public byte[] getHeaderToRewrite() {
+		byte[] output = pending;
+		int outputLength = pendingLength;
+		pending = new byte[HEADER_LENGTH + 4];
+		pendingLength = 0;
+		putHeader();
+		byte[] header = pending;
+		pending = output;
+		pendingLength = outputLength;
+		return header;
+	}
+
+	/**
+	 * @return number of triangles written since script start
+	 */
+	public int getTrianglesCount() {
+		return trianglesCount;
+	}
+
+	private void putHeader() {
+		ensureCapacity(pendingLength + HEADER_LENGTH + 4);
+		for (int i = 0; i < HEADER_LENGTH; i++) {
+			pending[pendingLength++] = i < HEADER.length()
+					? (byte) HEADER.charAt(i) : 0;
+		}
+		putInt(trianglesCount);
+	}
+
+	private void putFloat(double value) {
+		putInt(Float.floatToIntBits((float) value));
+	}
+
+	private void putInt(int value) {
+		pending[pendingLength++] = (byte) value;
+		pending[pendingLength++] = (byte) (value >> 8);
+		pending[pendingLength++] = (byte) (value >> 16);
+		pending[pendingLength++] = (byte) (value >> 24);
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > pending.length) {
+			byte[] newPending = new byte[Math.max(capacity, pending.length * 2)];
+			System.arraycopy(pending, 0, newPending, 0, pendingLength);
+			pending = newPending;
+		}
+	}
+}
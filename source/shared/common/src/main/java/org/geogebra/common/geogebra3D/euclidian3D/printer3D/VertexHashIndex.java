@@ -0,0 +1,129 @@
+package org.geogebra.common.geogebra3D.euclidian3D.printer3D;
+
+import java.util.Arrays;
+
+/**
+ * Hash index for vertices (position and normal) used to merge duplicates when
+ * exporting indexed geometries. Uses open addressing over primitive arrays so
+ * that its size depends only on the number of distinct vertices of one
+ * geometry.
+ */
+class VertexHashIndex {
+
+	/** floats per vertex: position and normal */
+	static final int STRIDE = 6;
+
+	private float[] values = new float[STRIDE * 64];
+	private int[] table = new int[128];
+	private int size;
+
+	/**
+	 * constructor
+	 */
+	VertexHashIndex() {
+		clear();
+	}
+
+	/**
+	 * clear the index, keeping allocated memory
+	 */
+	void clear() {
+		Arrays.fill(table, -1);
+		size = 0;
+	}
+
+	/**
+	 * @return number of distinct vertices
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @param index
+	 *            vertex index
+	 * @param coord
+	 *            0, 1, 2 for position x, y, z; 3, 4, 5 for normal x, y, z
+	 * @return value
+	 */
+	float get(int index, int coord) {
+		return values[index * STRIDE + coord];
+	}
+
+	/**
+	 * @param x
+	 *            x coord
+	 * @param y
+	 *            y coord
+	 * @param z
+	 *            z coord
+	 * @param nx
+	 *            normal x coord
+	 * @param ny
+	 *            normal y coord
+	 * @param nz
+	 *            normal z coord
+	 * @return index of the vertex, added if not already present
+	 */
+	int add(float x, float y, float z, float nx, float ny, float nz) {
+		if (2 * (size + 1) > table.length) {
+			rehash(table.length * 2);
+		}
+		int mask = table.length - 1;
+		int slot = hash(x, y, z, nx, ny, nz) & mask;
+		while (table[slot] >= 0) {
+			int index = table[slot];
+			if (equals(index, x, y, z, nx, ny, nz)) {
+				return index;
+			}
+			slot = (slot + 1) & mask;
+		}
+		if (STRIDE * (size + 1) > values.length) {
+			values = Arrays.copyOf(values, values.length * 2);
+		}
+		int offset = STRIDE * size;
+		values[offset] = x;
+		values[offset + 1] = y;
+		values[offset + 2] = z;
+		values[offset + 3] = nx;
+		values[offset + 4] = ny;
+		values[offset + 5] = nz;
+		table[slot] = size;
+		return size++;
+	}
+
+	private boolean equals(int index, float x, float y, float z, float nx,
+			float ny, float nz) {
+		int offset = STRIDE * index;
+		return values[offset] == x && values[offset + 1] == y
+				&& values[offset + 2] == z && values[offset + 3] == nx
+				&& values[offset + 4] == ny && values[offset + 5] == nz;
+	}
+
+	private static int hash(float x, float y, float z, float nx, float ny,
+			float nz) {
+		int h = Float.floatToIntBits(x + 0f);
+		h = 31 * h + Float.floatToIntBits(y + 0f);
+		h = 31 * h + Float.floatToIntBits(z + 0f);
+		h = 31 * h + Float.floatToIntBits(nx + 0f);
+		h = 31 * h + Float.floatToIntBits(ny + 0f);
+		h = 31 * h + Float.floatToIntBits(nz + 0f);
+		return h ^ (h >>> 16);
+	}
+
+	private void rehash(int newLength) {
+		table = new int[newLength];
+		Arrays.fill(table, -1);
+		int mask = newLength - 1;
+		for (int index = 0; index < size; index++) {
+			int offset = STRIDE * index;
+			int slot = hash(values[offset], values[offset + 1],
+					values[offset + 2], values[offset + 3], values[offset + 4],
+					values[offset + 5]) & mask;
+			while (table[slot] >= 0) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = index;
+		}
+	}
+}
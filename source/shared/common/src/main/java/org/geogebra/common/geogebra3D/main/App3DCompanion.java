@@ -339,10 +339,7 @@ public abstract class App3DCompanion extends AppCompanion {
 				exportView3D.export3D(format, dialog);
 				app.getKernel().detach(exportView3D);
 			} else {
-				StringBuilder export = exportView3D.export3D(format);
-				app.getKernel().detach(exportView3D);
-				app.exportStringToFile(format.getExtension(),
-						export.toString(), showDialog);
+				exportView3D.export3DToFile(format, showDialog);
 			}
 		} else {
 			if (app.isEuclidianView3Dinited()) {
@@ -356,9 +353,7 @@ public abstract class App3DCompanion extends AppCompanion {
 			EuclidianView3DForExport exportView3D = new EuclidianView3DForExport(
 					new EuclidianController3DForExport(app),
 					app.getSettings().getEuclidian(3));
-			StringBuilder export = exportView3D.export3D(format);
-			app.getKernel().detach(exportView3D);
-			app.exportStringToFile(format.getExtension(), export.toString(), showDialog);
+			exportView3D.export3DToFile(format, showDialog);
 		}
 	}
 
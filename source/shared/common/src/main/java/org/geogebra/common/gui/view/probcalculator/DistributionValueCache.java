@@ -0,0 +1,157 @@
+package org.geogebra.common.gui.view.probcalculator;
+
+import java.util.Arrays;
+
+import org.geogebra.common.kernel.Construction;
+import org.geogebra.common.kernel.geos.GeoNumberValue;
+import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.geogebra.common.kernel.statistics.AlgoDistribution;
+import org.geogebra.common.main.settings.ProbabilityCalculatorSettings.Dist;
+
+/**
+ * Values of one distribution function (density, cumulative or inverse) for the probability
+ * calculator. The algorithm computing them is created once for the distribution and its
+ * parameter objects instead of once per value. For discrete distributions the values at
+ * integers are also tabulated until the parameter values change, so moving only the interval
+ * bounds computes values at new bounds only.
+ */
+final class DistributionValueCache {
+
+	/** largest number of tabulated values */
+	private static final int MAX_TABLE_SIZE = 1 << 16;
+
+	private final AlgoFactory factory;
+	private final boolean tabulateIntegers;
+
+	private Dist dist;
+	private GeoNumberValue[] params;
+	private double[] paramValues;
+	private GeoNumeric variable;
+	private AlgoDistribution algo;
+
+	/** values at tableStart, tableStart + 1, ... where tabulated is true */
+	private double[] table;
+	private boolean[] tabulated;
+	private int tableStart;
+
+	/**
+	 * Creates the algorithm of the distribution function.
+	 */
+	interface AlgoFactory {
+		/**
+		 * @param variable variable of the function
+		 * @param dist distribution
+		 * @param params distribution parameters
+		 * @return algorithm (not in the construction)
+		 */
+		AlgoDistribution create(GeoNumeric variable, Dist dist, GeoNumberValue[] params);
+	}
+
+	/**
+	 * @param factory creates the algorithm
+	 * @param tabulateIntegers whether to tabulate the values at integers for discrete
+	 *            distributions
+	 */
+	DistributionValueCache(AlgoFactory factory, boolean tabulateIntegers) {
+		this.factory = factory;
+		this.tabulateIntegers = tabulateIntegers;
+	}
+
+	/**
+	 * @param cons construction
+	 * @param distType distribution type
+	 * @param parameters distribution parameters
+	 * @param discrete whether the distribution is discrete
+	 * @param x variable value
+	 * @return value of the distribution function
+	 */
+	double getValue(Construction cons, Dist distType, GeoNumberValue[] parameters,
+			boolean discrete, double x) {
+		double[] values = new double[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			values[i] = parameters[i].getDouble();
+		}
+		if (distType != dist || !Arrays.equals(values, paramValues)) {
+			table = null;
+		}
+		if (distType != dist || !sameObjects(parameters, params)) {
+			algo = null;
+		}
+		dist = distType;
+		params = parameters.clone();
+		paramValues = values;
+		if (tabulateIntegers && discrete && x == Math.rint(x)
+				&& Math.abs(x) < Integer.MAX_VALUE) {
+			int k = (int) x;
+			if (ensureTabulated(k)) {
+				if (!tabulated[k - tableStart]) {
+					table[k - tableStart] = compute(cons, x);
+					tabulated[k - tableStart] = true;
+				}
+				return table[k - tableStart];
+			}
+		}
+		return compute(cons, x);
+	}
+
+	private static boolean sameObjects(GeoNumberValue[] parameters, GeoNumberValue[] old) {
+		if (old == null || parameters.length != old.length) {
+			return false;
+		}
+		for (int i = 0; i < parameters.length; i++) {
+			if (parameters[i] != old[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/* grows the table to contain k (doubling its size), false if it would get too big */
+	private boolean ensureTabulated(int k) {
+		if (table == null) {
+			tableStart = k;
+			table = new double[16];
+			tabulated = new boolean[16];
+			return true;
+		}
+		int length = table.length;
+		if (k >= tableStart && (long) k - tableStart < length) {
+			return true;
+		}
+		long start = Math.min(tableStart, k);
+		long end = Math.max(tableStart + (long) length, k + 1L);
+		if (end - start > MAX_TABLE_SIZE) {
+			return false;
+		}
+		// leave room for more values in the same direction
+		if (k < tableStart) {
+			start = Math.max(end - MAX_TABLE_SIZE, Math.min(start, tableStart - length));
+		} else {
+			end = Math.min(start + MAX_TABLE_SIZE, Math.max(end, start + 2L * length));
+		}
+		int newLength = (int) (end - start);
+		int offset = (int) (tableStart - start);
+		double[] newTable = new double[newLength];
+		boolean[] newTabulated = new boolean[newLength];
+		System.arraycopy(table, 0, newTable, offset, length);
+		System.arraycopy(tabulated, 0, newTabulated, offset, length);
+		table = newTable;
+		tabulated = newTabulated;
+		tableStart = (int) start;
+		return true;
+	}
+
+	private double compute(Construction cons, double x) {
+		if (algo == null) {
+			variable = new GeoNumeric(cons, x);
+			algo = factory.create(variable, dist, params);
+			if (algo == null) {
+				return Double.NaN;
+			}
+		} else {
+			variable.setValue(x);
+			algo.compute();
+		}
+		return algo.getResult().getDouble();
+	}
+}
@@ -50,6 +50,14 @@ public class ProbabilityManager {
 	private final String[] customValues = {
 			"Median", "Scale", "Shape", "Population", "population", "Sample", "sample"
 	};
+	private final DistributionValueCache densityValues = new DistributionValueCache(
+			(x, dist, params) -> getDistributionAlgorithm(x, params, dist, false), true);
+	private final DistributionValueCache cumulativeValues = new DistributionValueCache(
+			(x, dist, params) -> getDistributionAlgorithm(x, params, dist, true), true);
+	private final DistributionValueCache inverseValues = new DistributionValueCache(
+			(x, dist, params) -> getInverseCommand(dist, x.getConstruction(),
+					parameter(params, 0), parameter(params, 1), parameter(params, 2), x),
+			false);
 
 	/**
 	 * @param app
@@ -927,9 +935,9 @@ public class ProbabilityManager {
 	 */
 	public double probability(double value, GeoNumberValue[] params, Dist distType,
 			boolean isCumulative) {
-		GeoNumeric numeric = new GeoNumeric(app.getKernel().getConstruction(), value);
-		AlgoDistribution algo = getDistributionAlgorithm(numeric, params, distType, isCumulative);
-		return algo.getResult().getDouble();
+		DistributionValueCache cache = isCumulative ? cumulativeValues : densityValues;
+		return cache.getValue(app.getKernel().getConstruction(), distType, params,
+				isDiscrete(distType), value);
 	}
 
 	/**
@@ -1001,25 +1009,12 @@ public class ProbabilityManager {
 	 */
 	public double inverseProbability(Dist distType, double prob,
 			GeoNumberValue[] params) {
+		return inverseValues.getValue(app.getKernel().getConstruction(), distType,
+				params, false, prob);
+	}
 
-		GeoNumberValue param1 = null, param2 = null, param3 = null;
-
-		Construction cons = app.getKernel().getConstruction();
-
-		if (params.length > 0) {
-			param1 = params[0];
-		}
-		if (params.length > 1) {
-			param2 = params[1];
-		}
-		if (params.length > 2) {
-			param3 = params[2];
-		}
-
-		AlgoDistribution algo = getInverseCommand(distType, cons, param1,
-				param2, param3, new GeoNumeric(cons, prob));
-
-		return algo.getResult().getDouble();
+	private static GeoNumberValue parameter(GeoNumberValue[] params, int index) {
+		return params.length > index ? params[index] : null;
 	}
 
 }
@@ -1,8 +1,6 @@
 package org.geogebra.common.gui.view.probcalculator;
 
 import org.geogebra.common.kernel.geos.GeoNumberValue;
-import org.geogebra.common.kernel.geos.GeoNumeric;
-import org.geogebra.common.kernel.statistics.AlgoDistribution;
 import org.geogebra.common.main.App;
 import org.geogebra.common.main.Localization;
 import org.geogebra.common.main.settings.ProbabilityCalculatorSettings;
@@ -162,15 +160,10 @@ public abstract class ProbabilityTable {
 		if (distType == null) {
 			return;
 		}
-		GeoNumeric xValue = new GeoNumeric(app.getKernel().getConstruction(), xMin);
-		AlgoDistribution algoDistribution = getProbManager().getDistributionAlgorithm(xValue,
-				this.params, distType, isCumulative());
-
+		// values at integers are tabulated by the probability manager
 		for (@AutoreleasePool int x = xMin; x <= xMax; x++) {
-			xValue.setValue(x);
-			algoDistribution.compute();
-
-			double prob = algoDistribution.getResult().getDouble();
+			double prob = getProbManager().probability(x, this.params, distType,
+					isCumulative());
 			setRowValues(x - xMin, "" + x, "" + getProbCalc().format(prob));
 		}
 	}
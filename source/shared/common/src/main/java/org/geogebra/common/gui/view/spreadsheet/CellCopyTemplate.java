@@ -0,0 +1,114 @@
+package org.geogebra.common.gui.view.spreadsheet;
+
+import org.geogebra.common.kernel.CommandLookupStrategy;
+import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.kernel.arithmetic.ExpressionValue;
+import org.geogebra.common.kernel.arithmetic.Traversing.SpreadsheetVariableRenamer;
+import org.geogebra.common.kernel.arithmetic.ValidExpression;
+import org.geogebra.common.kernel.arithmetic.variable.Variable;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoElementSpreadsheet;
+import org.geogebra.common.kernel.geos.GeoFunction;
+import org.geogebra.common.kernel.geos.GeoText;
+import org.geogebra.common.kernel.parser.ParseException;
+
+/**
+ * Definition of a spreadsheet cell prepared for relative copies: the definition is parsed
+ * once, each copy only shifts the cell references of a copy of the parsed expression. If the
+ * definition doesn't reference any cells, all copies share the same text.
+ */
+class CellCopyTemplate {
+
+	private final Kernel kernel;
+	private final ValidExpression expression;
+	private final String constantText;
+
+	/**
+	 * @param kernel kernel
+	 * @param value copied cell
+	 * @throws ParseException if the definition can't be parsed
+	 */
+	CellCopyTemplate(Kernel kernel, GeoElement value) throws ParseException {
+		this.kernel = kernel;
+		String text = getSourceText(kernel, value);
+		CommandLookupStrategy oldLookupStrategy = kernel.getCommandLookupStrategy();
+		kernel.setCommandLookupStrategy(CommandLookupStrategy.XML);
+		try {
+			expression = kernel.getParser().parseGeoGebraExpression(text);
+		} finally {
+			kernel.setCommandLookupStrategy(oldLookupStrategy);
+		}
+		constantText = expression.any(CellCopyTemplate::isCellReference) ? null
+				: expression.toString(StringTemplate.maxPrecision);
+	}
+
+	private static boolean isCellReference(ExpressionValue ev) {
+		String name;
+		if (ev instanceof Variable) {
+			name = ((Variable) ev).getName(StringTemplate.defaultTemplate);
+		} else if (ev instanceof GeoElement) {
+			name = ((GeoElement) ev).getLabelSimple();
+		} else {
+			return false;
+		}
+		return name != null && GeoElementSpreadsheet.spreadsheetPattern.test(name);
+	}
+
+	private static String getSourceText(Kernel kernel, GeoElement value) {
+		String text;
+		// make sure a/0.001 doesn't become a/0
+		StringTemplate highPrecision = StringTemplate.maxPrecision;
+		if (value.isPointOnPath() || value.isPointInRegion()) {
+			text = value.getDefinition(highPrecision);
+		} else if (value.isChangeable() && value.getDefinition() == null) {
+			text = value.toValueString(highPrecision);
+		} else {
+			text = value.getDefinition(highPrecision);
+		}
+
+		// handle GeoText source value
+		if (value.isGeoText() && !value.isTextCommand()) {
+			// enclose text in quotes if we are copying an independent GeoText,
+			// e.g. "2+3"
+			if (value.isIndependent()) {
+				text = "\"" + text + "\"";
+			} else {
+
+				// check if 'text' parses to a GeoText
+				GeoText testGeoText = kernel.getAlgebraProcessor()
+						.evaluateToText(text, false, false);
+
+				// if it doesn't then force it to by adding +"" on the end
+				if (testGeoText == null) {
+					text = text + "+\"\"";
+				}
+			}
+		}
+
+		// for E1 = Polynomial[D1] we need value.getCommandDescription();
+		// even though it's a GeoFunction
+		if (value.isGeoFunction() && "".equals(text)) {
+			// we need the definition without A1(x)= on the front
+			text = ((GeoFunction) value).toSymbolicString(highPrecision);
+		}
+		return text;
+	}
+
+	/**
+	 * Creates referenced cells that don't exist yet (as the renamer does).
+	 * @param dx column offset
+	 * @param dy row offset
+	 * @return definition with cell references moved by the offset
+	 */
+	String getText(int dx, int dy) {
+		if (constantText != null) {
+			return constantText;
+		}
+		ExpressionValue copy = expression.deepCopy(kernel);
+		ValidExpression exp = copy instanceof ValidExpression ? (ValidExpression) copy
+				: copy.wrap();
+		exp.traverse(new SpreadsheetVariableRenamer(dx, dy));
+		return exp.toString(StringTemplate.maxPrecision);
+	}
+}
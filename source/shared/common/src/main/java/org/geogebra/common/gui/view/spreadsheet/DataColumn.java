@@ -0,0 +1,124 @@
+package org.geogebra.common.gui.view.spreadsheet;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Column of imported data. Numbers are stored in a double array; text cells
+ * (rare in numeric data) are kept in a map. Empty cells are stored as NaN
+ * without text.
+ */
+public class DataColumn {
+
+	private final String name;
+	private double[] values = new double[16];
+	private int size = 0;
+	private int emptyCells = 0;
+	private HashMap<Integer, String> texts;
+
+	/**
+	 * @param name
+	 *            column header, may be null
+	 */
+	public DataColumn(String name) {
+		this.name = name;
+	}
+
+	private void ensureCapacity() {
+		if (size == values.length) {
+			values = Arrays.copyOf(values, 2 * size);
+		}
+	}
+
+	/**
+	 * @param value
+	 *            number to append
+	 */
+	void addValue(double value) {
+		ensureCapacity();
+		values[size++] = value;
+	}
+
+	/**
+	 * @param text
+	 *            text to append
+	 */
+	void addText(String text) {
+		if (texts == null) {
+			texts = new HashMap<>();
+		}
+		texts.put(size, text);
+		addValue(Double.NaN);
+	}
+
+	/**
+	 * Appends an empty cell.
+	 */
+	void addEmpty() {
+		emptyCells++;
+		addValue(Double.NaN);
+	}
+
+	/**
+	 * @return column header, may be null
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return number of cells (including empty cells)
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param row
+	 *            row (without header)
+	 * @return number in given row, NaN for text and empty cells
+	 */
+	public double getValue(int row) {
+		return values[row];
+	}
+
+	/**
+	 * @param row
+	 *            row (without header)
+	 * @return text in given row, null for numbers and empty cells
+	 */
+	public String getText(int row) {
+		return texts == null ? null : texts.get(row);
+	}
+
+	/**
+	 * @param row
+	 *            row (without header)
+	 * @return whether the cell is empty
+	 */
+	public boolean isEmpty(int row) {
+		return Double.isNaN(values[row]) && getText(row) == null;
+	}
+
+	/**
+	 * @return whether the column contains numbers and no texts
+	 */
+	public boolean isNumeric() {
+		return texts == null && size > emptyCells;
+	}
+
+	/**
+	 * @return whether the column contains texts
+	 */
+	public boolean hasTexts() {
+		return texts != null;
+	}
+
+	/**
+	 * @return numbers of this column, NaN for text and empty cells (so that
+	 *         rows of different columns stay aligned)
+	 */
+	public double[] getNumbers() {
+		return Arrays.copyOf(values, size);
+	}
+}
@@ -1,7 +1,9 @@
 package org.geogebra.common.gui.view.spreadsheet;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.TreeSet;
 
 import org.geogebra.common.awt.GPoint;
@@ -19,7 +21,6 @@ import org.geogebra.common.kernel.commands.EvalInfo;
 import org.geogebra.common.kernel.geos.GeoBoolean;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoElementSpreadsheet;
-import org.geogebra.common.kernel.geos.GeoFunction;
 import org.geogebra.common.kernel.geos.GeoImage;
 import org.geogebra.common.kernel.geos.GeoList;
 import org.geogebra.common.kernel.geos.GeoNumeric;
@@ -54,6 +55,8 @@ public class RelativeCopy {
 	protected static final RegExp pattern2 = RegExp
 			.compile("(::|\\$)([A-Z]+)(::|\\$)([0-9]+)");
 	private GeoElementND redefinedElement;
+	private final Map<GeoElement, CellCopyTemplate> copyTemplates = new HashMap<>();
+	private int rangeFillDepth = 0;
 
 	/**
 	 * @param kernel
@@ -69,6 +72,39 @@ public class RelativeCopy {
 		this(kernel, kernel.getApplication().getDefaultErrorHandler());
 	}
 
+	/**
+	 * Starts filling a range of cells: the definition of each copied cell is parsed only once
+	 * until the matching {@link #endRangeFill()}, and views get a single update at the end.
+	 * Calls may be nested.
+	 */
+	public void beginRangeFill() {
+		if (rangeFillDepth++ == 0) {
+			kernel.notifyBatchUpdate();
+		}
+	}
+
+	/**
+	 * Ends filling a range of cells started by {@link #beginRangeFill()}.
+	 */
+	public void endRangeFill() {
+		if (--rangeFillDepth == 0) {
+			copyTemplates.clear();
+			kernel.notifyEndBatchUpdate();
+		}
+	}
+
+	private CellCopyTemplate getCopyTemplate(GeoElement value) throws ParseException {
+		if (rangeFillDepth == 0) {
+			return new CellCopyTemplate(kernel, value);
+		}
+		CellCopyTemplate template = copyTemplates.get(value);
+		if (template == null) {
+			template = new CellCopyTemplate(kernel, value);
+			copyTemplates.put(value, template);
+		}
+		return template;
+	}
+
 	/**
 	 * Performs spreadsheet drag-copy operation.
 	 *
@@ -95,6 +131,7 @@ public class RelativeCopy {
 
 			// collect all redefine operations
 			cons.startCollectingRedefineCalls();
+			beginRangeFill();
 
 			boolean patternOK = isPatternSource(
 					new TabularRange(sourceMinRow, sourceMinCol, sourceMaxRow, sourceMaxCol), app);
@@ -186,6 +223,7 @@ public class RelativeCopy {
 			Log.debug(ex);
 			return false;
 		} finally {
+			endRangeFill();
 			cons.stopCollectingRedefineCalls();
 			app.setDefaultCursor();
 		}
@@ -550,45 +588,7 @@ public class RelativeCopy {
 			}
 			return null;
 		}
-		String text;
-
-		// make sure a/0.001 doesn't become a/0
-
 		StringTemplate highPrecision = StringTemplate.maxPrecision;
-		if (value.isPointOnPath() || value.isPointInRegion()) {
-			text = value.getDefinition(highPrecision);
-		} else if (value.isChangeable() && value.getDefinition() == null) {
-			text = value.toValueString(highPrecision);
-		} else {
-			text = value.getDefinition(highPrecision);
-		}
-
-		// handle GeoText source value
-		if (value.isGeoText() && !value.isTextCommand()) {
-			// enclose text in quotes if we are copying an independent GeoText,
-			// e.g. "2+3"
-			if (value.isIndependent()) {
-				text = "\"" + text + "\"";
-			} else {
-
-				// check if 'text' parses to a GeoText
-				GeoText testGeoText = kernel.getAlgebraProcessor()
-						.evaluateToText(text, false, false);
-
-				// if it doesn't then force it to by adding +"" on the end
-				if (testGeoText == null) {
-					text = text + "+\"\"";
-				}
-			}
-		}
-
-		// for E1 = Polynomial[D1] we need value.getCommandDescription();
-		// even though it's a GeoFunction
-		if (value.isGeoFunction() && "".equals(text)) {
-			// we need the definition without A1(x)= on the front
-			text = ((GeoFunction) value).toSymbolicString(highPrecision);
-		}
-
 		boolean freeImage = false;
 
 		if (value.isGeoImage()) {
@@ -597,15 +597,7 @@ public class RelativeCopy {
 				freeImage = true;
 			}
 		}
-		CommandLookupStrategy oldLookupStrategy = kernel.getCommandLookupStrategy();
-		kernel.setCommandLookupStrategy(CommandLookupStrategy.XML);
-		// FIXME maybe try-catch this?
-		ValidExpression exp = kernel.getParser().parseGeoGebraExpression(text);
-		kernel.setCommandLookupStrategy(oldLookupStrategy);
-
-		updateCellReferences(exp, dx, dy);
-
-		text = exp.toString(highPrecision);
+		String text = getCopyTemplate(value).getText(dx, dy);
 
 		// allow pasting blank strings
 		if ("".equals(text)) {
@@ -0,0 +1,298 @@
+package org.geogebra.common.gui.view.spreadsheet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geogebra.common.kernel.Construction;
+import org.geogebra.common.kernel.geos.GeoList;
+import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.geogebra.common.kernel.geos.GeoText;
+import org.geogebra.common.kernel.geos.LabelManager;
+import org.geogebra.common.util.debug.Log;
+
+/**
+ * Imports CSV or tab separated data into numeric columns. Unlike
+ * {@link DataImport} the data is parsed in chunks, without splitting it into
+ * lines or creating a string per cell for the whole table, so large data sets
+ * can be imported. The columns can be turned into lists (see
+ * {@link #createLists(Construction)}); elements of numeric lists are only
+ * created when they are accessed.
+ */
+public class StreamingDataImport {
+
+	/** number of rows between progress reports */
+	private static final int PROGRESS_ROWS = 1 << 16;
+
+	private char separator;
+	private final long totalLength;
+	private final ProgressListener listener;
+
+	private final ArrayList<DataColumn> columns = new ArrayList<>();
+	private final ArrayList<String> rowFields = new ArrayList<>();
+	private final StringBuilder field = new StringBuilder();
+	private String[] header;
+	private boolean firstRow = true;
+	private int rows = 0;
+	private long consumed = 0;
+
+	private boolean inQuotes = false;
+	private boolean quotePending = false;
+	private boolean fieldQuoted = false;
+	private boolean crPending = false;
+
+	/**
+	 * Progress of an import.
+	 */
+	public interface ProgressListener {
+		/**
+		 * @param rows
+		 *            number of imported rows
+		 * @param fraction
+		 *            imported fraction of the input, NaN if its length is not
+		 *            known
+		 */
+		void onProgress(int rows, double fraction);
+	}
+
+	/**
+	 * Import with separator detected from the first chunk (tab if it
+	 * contains one, comma otherwise).
+	 *
+	 * @param totalLength
+	 *            length of the whole input, -1 if not known
+	 * @param listener
+	 *            progress listener, may be null
+	 */
+	public StreamingDataImport(long totalLength, ProgressListener listener) {
+		this('\0', totalLength, listener);
+	}
+
+	/**
+	 * @param separator
+	 *            field separator, 0 to detect it from the first chunk
+	 * @param totalLength
+	 *            length of the whole input, -1 if not known
+	 * @param listener
+	 *            progress listener, may be null
+	 */
+	public StreamingDataImport(char separator, long totalLength,
+			ProgressListener listener) {
+		this.separator = separator;
+		this.totalLength = totalLength;
+		this.listener = listener;
+	}
+
+	/**
+	 * Parses a chunk of the input; rows and quoted fields may continue in the
+	 * next chunk.
+	 *
+	 * @param chunk
+	 *            next part of the input
+	 */
+	public void append(String chunk) {
+		if (separator == '\0') {
+			separator = chunk.indexOf('\t') >= 0 ? '\t' : ',';
+		}
+		int length = chunk.length();
+		for (int i = 0; i < length; i++) {
+			char c = chunk.charAt(i);
+			if (inQuotes) {
+				if (quotePending) {
+					quotePending = false;
+					if (c == '"') {
+						// "" inside quotes
+						field.append(c);
+						continue;
+					}
+					inQuotes = false;
+				} else {
+					if (c == '"') {
+						quotePending = true;
+					} else {
+						field.append(c);
+					}
+					continue;
+				}
+			}
+			if (crPending) {
+				crPending = false;
+				if (c == '\n') {
+					continue;
+				}
+			}
+			if (c == '"' && field.length() == 0 && !fieldQuoted) {
+				inQuotes = true;
+				fieldQuoted = true;
+			} else if (c == separator) {
+				endField();
+			} else if (c == '\r' || c == '\n') {
+				crPending = c == '\r';
+				endField();
+				endRow();
+			} else {
+				field.append(c);
+			}
+		}
+		consumed += length;
+	}
+
+	/**
+	 * Parses the rest of the input, call after the last chunk.
+	 */
+	public void finish() {
+		if (inQuotes && !quotePending) {
+			Log.debug("Unterminated quote in imported data");
+		}
+		inQuotes = false;
+		quotePending = false;
+		if (field.length() > 0 || fieldQuoted || !rowFields.isEmpty()) {
+			endField();
+			endRow();
+		}
+		if (listener != null) {
+			listener.onProgress(rows, 1);
+		}
+	}
+
+	private void endField() {
+		rowFields.add(fieldQuoted ? field.toString() : field.toString().trim());
+		field.setLength(0);
+		fieldQuoted = false;
+	}
+
+	private void endRow() {
+		if (rowFields.size() == 1 && rowFields.get(0).isEmpty()) {
+			// blank line
+			rowFields.clear();
+			return;
+		}
+		if (firstRow) {
+			firstRow = false;
+			if (isHeader(rowFields)) {
+				header = rowFields.toArray(new String[0]);
+				rowFields.clear();
+				return;
+			}
+		}
+		while (columns.size() < rowFields.size()) {
+			int col = columns.size();
+			DataColumn column = new DataColumn(
+					header != null && col < header.length ? header[col] : null);
+			for (int row = 0; row < rows; row++) {
+				column.addEmpty();
+			}
+			columns.add(column);
+		}
+		for (int col = 0; col < columns.size(); col++) {
+			DataColumn column = columns.get(col);
+			String text = col < rowFields.size() ? rowFields.get(col) : "";
+			if (text.isEmpty()) {
+				column.addEmpty();
+				continue;
+			}
+			double value = parseNumber(text);
+			if (Double.isNaN(value)) {
+				column.addText(text);
+			} else {
+				column.addValue(value);
+			}
+		}
+		rowFields.clear();
+		rows++;
+		if (listener != null && rows % PROGRESS_ROWS == 0) {
+			listener.onProgress(rows,
+					totalLength > 0 ? consumed / (double) totalLength
+							: Double.NaN);
+		}
+	}
+
+	private static boolean isHeader(List<String> fields) {
+		boolean hasText = false;
+		for (String text : fields) {
+			if (!Double.isNaN(parseNumber(text))) {
+				return false;
+			}
+			hasText = hasText || !text.isEmpty();
+		}
+		return hasText;
+	}
+
+	/**
+	 * Parses decimal numbers, also with thousands separators or decimal comma
+	 * (see {@link DataImport#adjustNumberString(String)}).
+	 *
+	 * @param text
+	 *            trimmed cell content
+	 * @return number or NaN if the text is not a number
+	 */
+	static double parseNumber(String text) {
+		String number = text.indexOf(',') >= 0
+				? DataImport.adjustNumberString(text) : text;
+		int length = number.length();
+		if (length == 0) {
+			return Double.NaN;
+		}
+		for (int i = 0; i < length; i++) {
+			char c = number.charAt(i);
+			// no letters other than exponent: excludes NaN, Infinity, 1d, 0x1
+			if ((c < '0' || c > '9') && c != '.' && c != '-' && c != '+'
+					&& c != 'e' && c != 'E') {
+				return Double.NaN;
+			}
+		}
+		try {
+			return Double.parseDouble(number);
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+
+	/**
+	 * @return number of imported rows (without header)
+	 */
+	public int getRowCount() {
+		return rows;
+	}
+
+	/**
+	 * @return imported columns
+	 */
+	public List<DataColumn> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Creates a list for each column, labeled by the column header if
+	 * possible. Empty cells become undefined numbers, so that the rows of all
+	 * lists stay aligned. Numeric columns are stored as numbers (see
+	 * {@link GeoList#setNumbers(double[])}), columns containing texts as lists
+	 * of texts and numbers; columns without any value are skipped.
+	 *
+	 * @param cons
+	 *            construction
+	 * @return created lists
+	 */
+	public List<GeoList> createLists(Construction cons) {
+		ArrayList<GeoList> lists = new ArrayList<>();
+		for (DataColumn column : columns) {
+			GeoList list = new GeoList(cons);
+			if (column.isNumeric()) {
+				list.setNumbers(column.getNumbers());
+			} else if (column.hasTexts()) {
+				for (int row = 0; row < column.size(); row++) {
+					String text = column.getText(row);
+					list.add(text != null ? new GeoText(cons, text)
+							: new GeoNumeric(cons, column.getValue(row)));
+				}
+			} else {
+				continue;
+			}
+			String name = column.getName();
+			list.setLabel(name != null
+					&& LabelManager.isValidLabel(name, cons.getKernel(), null)
+					&& cons.isFreeLabel(name) ? name : null);
+			lists.add(list);
+		}
+		return lists;
+	}
+}
@@ -45,6 +45,7 @@ import org.geogebra.common.kernel.Kernel;
 import org.geogebra.common.kernel.KernelCAS;
 import org.geogebra.common.kernel.Macro;
 import org.geogebra.common.kernel.MacroKernel;
+import org.geogebra.common.kernel.PlainSpreadsheetCells;
 import org.geogebra.common.kernel.PathRegionHandling;
 import org.geogebra.common.kernel.SetRandomValue;
 import org.geogebra.common.kernel.arithmetic.Command;
@@ -63,6 +64,7 @@ import org.geogebra.common.kernel.geos.GeoList;
 import org.geogebra.common.kernel.geos.GeoNumberValue;
 import org.geogebra.common.kernel.geos.GeoNumeric;
 import org.geogebra.common.kernel.geos.GeoPoint;
+import org.geogebra.common.kernel.geos.GeoText;
 import org.geogebra.common.kernel.kernelND.GeoElementND;
 import org.geogebra.common.kernel.kernelND.GeoPointND;
 import org.geogebra.common.kernel.parser.GParser;
@@ -2652,6 +2654,25 @@ public class MyXMLHandler implements DocHandler {
 		cons.setWorksheetText(below, 1);
 	}
 
+	private void handleSpreadsheetCell(LinkedHashMap<String, String> attrs) {
+		String label = attrs.get("label");
+		String text = attrs.get("text");
+		double value = text == null ? StringUtil.parseDouble(attrs.get("value"))
+				: Double.NaN;
+		PlainSpreadsheetCells cells = cons.getPlainSpreadsheetCells();
+		if (label == null || cells != null && cells.restoreCell(label, value, text)) {
+			return;
+		}
+		// no spreadsheet for plain values: load the cell as an element
+		GeoElement geo = text != null ? new GeoText(cons, text)
+				: new GeoNumeric(cons, value);
+		geo.setAuxiliaryObject(true);
+		if (text != null) {
+			geo.setEuclidianVisible(false);
+		}
+		geo.setLabel(label);
+	}
+
 	// ====================================
 	// <cascell>
 	// ====================================
@@ -2935,6 +2956,8 @@ public class MyXMLHandler implements DocHandler {
 				geoHandler.handleGroup(attrs);
 			} else if ("worksheetText".equals(eName)) {
 				handleWorksheetText(attrs);
+			} else if ("spreadsheetCell".equals(eName)) {
+				handleSpreadsheetCell(attrs);
 			} else {
 				Log.error("unknown tag in <construction>: " + eName);
 			}
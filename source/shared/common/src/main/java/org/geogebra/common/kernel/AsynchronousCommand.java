@@ -13,16 +13,14 @@ the Free Software Foundation.
 package org.geogebra.common.kernel;
 
 /**
- * Interface for classes that can call CAS asynchronously and receive callbacks
+ * Interface for classes that can call CAS asynchronously and receive callbacks.
+ * Asynchronous evaluation is switched on by
+ * {@link Kernel#setAsynchronousCAS(boolean)} (desktop only); otherwise the
+ * callbacks are called synchronously.
  * 
  * @author Zbynek Konecny
  */
 public interface AsynchronousCommand {
-	/**
-	 * This flag switches using asynchronous CAS on or off in Desktop, has no
-	 * effect in Web.
-	 */
-	final public boolean USE_ASYNCHRONOUS = false;
 
 	/**
 	 * @param output
@@ -2,6 +2,7 @@ package org.geogebra.common.kernel;
 
 import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.List;
 
 import org.geogebra.common.kernel.arithmetic.ArbitraryConstantRegistry;
 import org.geogebra.common.kernel.arithmetic.ExpressionValue;
@@ -99,6 +100,16 @@ public interface CASGenericInterface extends SettingListener {
 	 */
 	String evaluateCAS(String exp);
 
+	/**
+	 * Evaluates several inputs at once; each distinct input is evaluated at
+	 * most once and cached results are reused.
+	 * 
+	 * @param exps
+	 *            inputs
+	 * @return outputs in the same order, null for failed evaluations
+	 */
+	List<String> evaluateCAS(List<String> exps);
+
 	/**
 	 * Creates a program to return the elimination ideal in factorized form.
 	 * 
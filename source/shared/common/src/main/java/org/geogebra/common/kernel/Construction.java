@@ -14,6 +14,7 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.Predicate;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
 import org.geogebra.common.euclidian.EuclidianConstants;
@@ -194,6 +195,8 @@ public class Construction {
 	private ArrayList<String> registeredFV = new ArrayList<>();
 
 	private boolean fileLoading;
+	/** changes with every change of the label tables */
+	private int labelTableVersion = 0;
 	private boolean casCellUpdate = false;
 	private boolean notXmlLoading = false;
 	private boolean updateConstructionRunning;
@@ -202,6 +205,7 @@ public class Construction {
 	private ArrayList<Group> groups;
 
 	private LayerManager layerManager;
+	private PlainSpreadsheetCells plainSpreadsheetCells;
 
 	/**
 	 * Creates a new Construction.
@@ -666,6 +670,7 @@ public class Construction {
 			localVariableTable = new HashMap<>();
 		}
 		localVariableTable.put(varname, geo);
+		labelTableVersion++;
 		geo.setLocalVariableLabel(varname);
 	}
 
@@ -677,6 +682,7 @@ public class Construction {
 	final public void removeLocalVariable(String varname) {
 		if (localVariableTable != null) {
 			GeoElement geo = localVariableTable.remove(varname);
+			labelTableVersion++;
 			if (geo != null) {
 				geo.undoLocalVariableLabel();
 			}
@@ -1286,6 +1292,9 @@ public class Construction {
 	public void getConstructionElementsXML(StringBuilder sb,
 			boolean getListenersToo) {
 
+		if (plainSpreadsheetCells != null) {
+			plainSpreadsheetCells.getXML(sb);
+		}
 		ConstructionElement ce;
 		int size = ceList.size();
 		for (int i = 0; i < size; ++i) {
@@ -1294,6 +1303,23 @@ public class Construction {
 		}
 	}
 
+	/**
+	 * @param cells
+	 *            spreadsheet cells with plain values, which are turned into
+	 *            elements on lookup
+	 */
+	public void setPlainSpreadsheetCells(PlainSpreadsheetCells cells) {
+		this.plainSpreadsheetCells = cells;
+	}
+
+	/**
+	 * @return spreadsheet cells with plain values, null if there is no
+	 *         spreadsheet that supports them
+	 */
+	public @CheckForNull PlainSpreadsheetCells getPlainSpreadsheetCells() {
+		return plainSpreadsheetCells;
+	}
+
 	/**
 	 * Appends minimal version of the construction XML to given string builder.
 	 * OGP version. Only elements/commands are preserved, the rest is ignored.
@@ -1861,6 +1887,7 @@ public class Construction {
 		}
 
 		geoTable.put(geo.getLabelSimple(), geo);
+		labelTableVersion++;
 		addToGeoSets(geo);
 	}
 
@@ -1872,6 +1899,7 @@ public class Construction {
 	 */
 	public void removeLabel(GeoElement geo) {
 		geoTable.remove(geo.getLabelSimple());
+		labelTableVersion++;
 		removeFromGeoSets(geo);
 	}
 
@@ -1963,6 +1991,7 @@ public class Construction {
 			geoCasCellTable = new HashMap<>();
 		}
 		geoCasCellTable.put(label, geoCasCell);
+		labelTableVersion++;
 	}
 
 	/**
@@ -1975,6 +2004,7 @@ public class Construction {
 	public void removeCasCellLabel(String variable) {
 		if (geoCasCellTable != null) {
 			geoCasCellTable.remove(variable);
+			labelTableVersion++;
 		}
 	}
 
@@ -2141,6 +2171,12 @@ public class Construction {
 			if (geo != null) {
 				return checkConstructionStep(geo);
 			}
+			if (plainSpreadsheetCells != null) {
+				geo = plainSpreadsheetCells.createElement(label1);
+				if (geo != null) {
+					return geo;
+				}
+			}
 
 			List<String> variants = StringUtil.labelVariants(label1);
 			if (variants != null) {
@@ -2642,6 +2678,7 @@ public class Construction {
 		geoTable.clear();
 		geoCasCellTable = null;
 		localVariableTable = null;
+		labelTableVersion++;
 		constsM.clear();
 		complexNumbersM.clear();
 		intsM.clear();
@@ -2971,9 +3008,13 @@ public class Construction {
 	 */
 	public void registerFunctionVariable(String fv) {
 		if (fv == null) {
-			registeredFV.clear();
+			if (!registeredFV.isEmpty()) {
+				registeredFV.clear();
+				labelTableVersion++;
+			}
 		} else if (!registeredFV.contains(fv)) {
 			registeredFV.add(fv);
+			labelTableVersion++;
 		}
 	}
 
@@ -3008,6 +3049,15 @@ public class Construction {
 		return fileLoading;
 	}
 
+	/**
+	 * @return number that changes whenever labels (including CAS cell labels,
+	 *         local and registered function variables) are added or removed,
+	 *         so that results of label lookups can be cached
+	 */
+	public int getLabelTableVersion() {
+		return labelTableVersion;
+	}
+
 	/**
 	 * @param b true if cas cell is updated
 	 */
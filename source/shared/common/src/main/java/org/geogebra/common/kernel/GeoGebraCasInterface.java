@@ -1,8 +1,10 @@
 package org.geogebra.common.kernel;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
+import org.geogebra.common.cas.CASProfiler;
 import org.geogebra.common.kernel.arithmetic.ArbitraryConstantRegistry;
 import org.geogebra.common.kernel.arithmetic.Command;
 import org.geogebra.common.kernel.arithmetic.ExpressionNode;
@@ -104,6 +106,39 @@ public interface GeoGebraCasInterface {
 	public String evaluateGeoGebraCAS(String exp, ArbitraryConstantRegistry arbConst,
 			StringTemplate tpl, Kernel kernel) throws CASException;
 
+	/**
+	 * Evaluates several expressions in GeoGebraCAS syntax: they are translated
+	 * once and sent to the CAS together, then converted back one by one.
+	 * Failures of one expression don't affect the others or later
+	 * evaluations.
+	 * 
+	 * @param exps
+	 *            expressions to be evaluated
+	 * @param tpl
+	 *            string template
+	 * @param kernel
+	 *            kernel
+	 * @return results in GeoGebra syntax in the same order, "?" for failed
+	 *         evaluations
+	 */
+	public List<String> evaluateGeoGebraCAS(List<String> exps,
+			StringTemplate tpl, Kernel kernel);
+
+	/**
+	 * Evaluates the CAS input of the command with
+	 * {@link org.geogebra.common.cas.AsynchronousCASExecutor}: the command gets
+	 * the result (or exception) through its callbacks, possibly after this
+	 * method returned. Results of older requests of the same command that
+	 * were not delivered yet are dropped.
+	 * 
+	 * @param command
+	 *            command
+	 * @param arbConst
+	 *            arbitrary constant handler
+	 */
+	public void evaluateGeoGebraCASAsync(AsynchronousCommand command,
+			ArbitraryConstantRegistry arbConst);
+
 	/**
 	 * Evaluates a valid expression and returns the resulting String in GeoGebra
 	 * notation.
@@ -160,6 +195,11 @@ public interface GeoGebraCasInterface {
 	 */
 	public void clearCache();
 
+	/**
+	 * @return profiler of the current CAS, null if not available
+	 */
+	public CASProfiler getProfiler();
+
 	/**
 	 * @param string
 	 *            signature, eg Midpoint.2
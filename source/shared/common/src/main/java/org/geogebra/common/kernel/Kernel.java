@@ -13,6 +13,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.geogebra.common.GeoGebraConstants;
+import org.geogebra.common.cas.AsynchronousCASExecutor;
 import org.geogebra.common.cas.GeoGebraCAS;
 import org.geogebra.common.euclidian.EuclidianView;
 import org.geogebra.common.euclidian.EuclidianViewInterfaceCommon;
@@ -377,6 +378,7 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 
 	private boolean isSaving;
 	private MaxSizeHashMap<String, String> ggbCasCache;
+	private boolean asynchronousCAS = false;
 	/** min real world x for all views */
 	protected double[] xmin = new double[1];
 	/** max real world x for all views */
@@ -2674,6 +2676,54 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 				StringTemplate.numericNoLocal);
 	}
 
+	/**
+	 * Evaluates the CAS input of the command (using the cache if the command
+	 * allows it). With asynchronous CAS enabled, the evaluation runs in the
+	 * background and the command gets the result later through its callbacks;
+	 * otherwise the callbacks are called before this method returns.
+	 * 
+	 * @param command
+	 *            command
+	 * @param arbconst
+	 *            arbitrary constant handler
+	 */
+	public void evaluateGeoGebraCAS(AsynchronousCommand command,
+			ArbitraryConstantRegistry arbconst) {
+		if (isAsynchronousCAS()) {
+			getGeoGebraCAS().evaluateGeoGebraCASAsync(command, arbconst);
+			return;
+		}
+		String input = command.getCasInput();
+		String result;
+		try {
+			result = evaluateGeoGebraCAS(input, command.useCaching(), arbconst,
+					StringTemplate.numericNoLocal);
+		} catch (Throwable t) {
+			command.handleException(t, input.hashCode());
+			return;
+		}
+		command.handleCASoutput(result, input.hashCode());
+	}
+
+	/**
+	 * @param asynchronousCAS
+	 *            whether commands implementing {@link AsynchronousCommand}
+	 *            should evaluate CAS in the background (only has effect if
+	 *            the platform registered an asynchronous
+	 *            {@link AsynchronousCASExecutor})
+	 */
+	public void setAsynchronousCAS(boolean asynchronousCAS) {
+		this.asynchronousCAS = asynchronousCAS;
+	}
+
+	/**
+	 * @return whether asynchronous commands evaluate CAS in the background
+	 */
+	public boolean isAsynchronousCAS() {
+		return asynchronousCAS
+				&& AsynchronousCASExecutor.getPrototype().isAsynchronous();
+	}
+
 	/**
 	 * Evaluates an expression in GeoGebraCAS syntax with.
 	 * 
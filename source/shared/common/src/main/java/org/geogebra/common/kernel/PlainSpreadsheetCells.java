@@ -0,0 +1,44 @@
+package org.geogebra.common.kernel;
+
+import javax.annotation.CheckForNull;
+
+import org.geogebra.common.kernel.geos.GeoElement;
+
+/**
+ * Spreadsheet cells holding plain values (numbers, texts) for which no
+ * GeoElement exists yet. The construction creates the element when the cell
+ * is referenced and includes the cells in its XML.
+ */
+public interface PlainSpreadsheetCells {
+
+	/**
+	 * Creates and labels the element for a cell, removing the plain value.
+	 *
+	 * @param label
+	 *            cell name
+	 * @return labeled element or null if the cell has no plain value
+	 */
+	@CheckForNull GeoElement createElement(String label);
+
+	/**
+	 * Appends the cells as &lt;spreadsheetCell&gt; tags, so that they are
+	 * restored as plain values.
+	 *
+	 * @param sb
+	 *            XML builder
+	 */
+	void getXML(StringBuilder sb);
+
+	/**
+	 * Restores a cell saved by {@link #getXML(StringBuilder)}.
+	 *
+	 * @param label
+	 *            cell name
+	 * @param value
+	 *            number, ignored for texts
+	 * @param text
+	 *            text, null for numbers
+	 * @return whether the label is a cell name
+	 */
+	boolean restoreCell(String label, double value, @CheckForNull String text);
+}
@@ -0,0 +1,21 @@
+package org.geogebra.common.kernel;
+
+import org.geogebra.common.kernel.statistics.RandomVariates;
+
+/**
+ * Interface for algos with a random number as result that can draw many results at once, eg
+ * for Sequence[RandomBinomial[100, 0.3], i, 1, 10000]
+ */
+public interface SampleRandomValues {
+
+	/**
+	 * Fills the array with independent results for the current input.
+	 *
+	 * @param generator
+	 *            random number generator
+	 * @param values
+	 *            output
+	 * @return whether the input is defined
+	 */
+	boolean sampleRandomValues(RandomVariates generator, double[] values);
+}
@@ -15,11 +15,14 @@ package org.geogebra.common.kernel.advanced;
 import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.algos.AlgoElement;
 import org.geogebra.common.kernel.algos.DrawInformationAlgo;
+import org.geogebra.common.kernel.algos.ElementExpressionEvaluator;
 import org.geogebra.common.kernel.arithmetic.ReplaceChildrenByValues;
 import org.geogebra.common.kernel.commands.Commands;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoList;
 import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.geogebra.common.kernel.statistics.NumericListData;
+import org.geogebra.common.plugin.GeoClass;
 import org.geogebra.common.util.debug.Log;
 
 /**
@@ -41,6 +44,7 @@ public class AlgoZip extends AlgoElement {
 	private boolean expIsFunctionOrCurve;
 	private boolean isEmpty;
 	private AlgoElement expressionParentAlgo;
+	private ElementExpressionEvaluator elementEvaluator;
 
 	// we need to check that some Object[] reference didn't cause infinite
 	// update cycle
@@ -95,6 +99,8 @@ public class AlgoZip extends AlgoElement {
 
 		list = new GeoList(cons);
 		setInputOutput(); // for AlgoElement
+		elementEvaluator = ElementExpressionEvaluator.create(
+				expressionParentAlgo, expression, vars);
 
 		compute();
 	}
@@ -182,7 +188,9 @@ public class AlgoZip extends AlgoElement {
 		cons.setSuppressLabelCreation(true);
 
 		// update list
-		if (setValuesOnly) {
+		if (evaluateInParallel()) {
+			last_length = -1;
+		} else if (setValuesOnly) {
 			updateListItems();
 		} else {
 			createNewList();
@@ -193,6 +201,38 @@ public class AlgoZip extends AlgoElement {
 		updateRunning = false;
 	}
 
+	/**
+	 * Numbers given by a single expression of the variables are computed in
+	 * chunks on several threads if the lists are long enough.
+	 */
+	private boolean evaluateInParallel() {
+		int n = minOverSize();
+		if (elementEvaluator == null || elementEvaluator.isPoint() || isEmpty
+				|| !elementEvaluator.isWorthRunningInParallel(n)) {
+			return false;
+		}
+		double[][] varValues = new double[varCount][];
+		for (int i = 0; i < listCount; i++) {
+			if (over[i].getElementType() != GeoClass.NUMERIC) {
+				return false;
+			}
+			NumericListData data = over[i].getNumericData();
+			if (!data.isNumeric()) {
+				return false;
+			}
+			varValues[i] = data.getValues();
+		}
+		if (varCount > listCount) {
+			double[] indices = new double[n];
+			for (int i = 0; i < n; i++) {
+				indices[i] = i + 1;
+			}
+			varValues[varCount - 1] = indices;
+		}
+		list.setNumbers(elementEvaluator.evaluateNumbers(n, varValues));
+		return true;
+	}
+
 	private void createNewList() {
 		// clear list if defined
 		int i = 0;
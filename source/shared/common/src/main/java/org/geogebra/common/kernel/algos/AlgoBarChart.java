@@ -16,7 +16,6 @@ import java.util.ArrayList;
 
 import org.apache.commons.math3.distribution.BinomialDistribution;
 import org.apache.commons.math3.distribution.HypergeometricDistribution;
-import org.apache.commons.math3.distribution.IntegerDistribution;
 import org.apache.commons.math3.distribution.PascalDistribution;
 import org.apache.commons.math3.distribution.PoissonDistribution;
 import org.apache.commons.math3.distribution.ZipfDistribution;
@@ -36,6 +35,7 @@ import org.geogebra.common.kernel.geos.GeoNumeric;
 import org.geogebra.common.kernel.kernelND.GeoPointND;
 import org.geogebra.common.kernel.matrix.Coords;
 import org.geogebra.common.kernel.statistics.AlgoUsingUniqueAndFrequency;
+import org.geogebra.common.kernel.statistics.TabulatedIntegerDistribution;
 import org.geogebra.common.util.debug.Log;
 
 /**
@@ -106,6 +106,8 @@ public class AlgoBarChart extends AlgoUsingUniqueAndFrequency
 	private double barWidth;
 	private double freqMax;
 	private double dataSize;
+	private final TabulatedIntegerDistribution distributionTable =
+			new TabulatedIntegerDistribution();
 
 	// flag to determine if result sum measures area or length
 	private boolean isAreaSum = true;
@@ -803,12 +805,9 @@ public class AlgoBarChart extends AlgoUsingUniqueAndFrequency
 		case TYPE_BARCHART_HYPERGEOMETRIC:
 		case TYPE_BARCHART_PASCAL:
 		case TYPE_BARCHART_ZIPF:
-			if (!prepareDistributionLists()) {
+			if (!computeDistribution()) {
 				sum.setUndefined();
-				return;
 			}
-			barWidth = -1;
-			computeWithFrequency();
 			break;
 		default:
 			// do nothing
@@ -1045,58 +1044,60 @@ public class AlgoBarChart extends AlgoUsingUniqueAndFrequency
 	// ======================================================
 
 	/**
-	 * Prepares list1 and list2 for use with probability distribution bar charts
+	 * Computes the bars of a probability distribution bar chart; the
+	 * probabilities are tabulated as long as the parameters stay the same
 	 */
-	private boolean prepareDistributionLists() {
-		IntegerDistribution dist = null;
+	private boolean computeDistribution() {
 		int first = 0, last = 0;
 		try {
-			// get the distribution and the first, last list values for given
+			// set the distribution and get the first, last values for given
 			// distribution type
 			switch (type) {
 			default:
-				// do nothing
-				break;
+				return false;
 			case TYPE_BARCHART_BINOMIAL:
 				if (!(p1geo.isDefined() && p2geo.isDefined())) {
 					return false;
 				}
-				int n = (int) Math.round(p1.getDouble());
-				double p = p2.getDouble();
-				dist = new BinomialDistribution(n, p);
-				first = 0;
-				last = n;
+				int trials = (int) Math.round(p1.getDouble());
+				double successProbability = p2.getDouble();
+				distributionTable.setDistribution(
+						() -> new BinomialDistribution(trials,
+								successProbability),
+						type, 0, trials, successProbability);
+				last = trials;
 				break;
 
 			case TYPE_BARCHART_PASCAL:
 				if (!(p1geo.isDefined() && p2geo.isDefined())) {
 					return false;
 				}
-				n = (int) Math.round(p1.getDouble());
-				p = p2.getDouble();
-				dist = new PascalDistribution(n, p);
-
-				first = 0;
+				int successes = (int) Math.round(p1.getDouble());
+				double pascalProbability = p2.getDouble();
+				distributionTable.setDistribution(
+						() -> new PascalDistribution(successes,
+								pascalProbability),
+						type, 0, successes, pascalProbability);
 				last = (int) Math.max(1, kernel.getXmax() + 1);
 				break;
 			case TYPE_BARCHART_ZIPF:
 				if (!(p1geo.isDefined() && p2geo.isDefined())) {
 					return false;
 				}
-				n = (int) Math.round(p1.getDouble());
-				p = p2.getDouble();
-				dist = new ZipfDistribution(n, p);
-
-				first = 0;
-				last = n;
+				int elements = (int) Math.round(p1.getDouble());
+				double exponent = p2.getDouble();
+				distributionTable.setDistribution(
+						() -> new ZipfDistribution(elements, exponent), type, 0,
+						elements, exponent);
+				last = elements;
 				break;
 			case TYPE_BARCHART_POISSON:
 				if (!p1geo.isDefined()) {
 					return false;
 				}
 				double lambda = p1.getDouble();
-				dist = new PoissonDistribution(lambda);
-				first = 0;
+				distributionTable.setDistribution(
+						() -> new PoissonDistribution(lambda), type, 0, lambda);
 				last = (int) Math.max(1, kernel.getXmax() + 1);
 				break;
 
@@ -1106,55 +1107,65 @@ public class AlgoBarChart extends AlgoUsingUniqueAndFrequency
 					return false;
 				}
 				int pop = (int) p1.getDouble();
-				int successes = (int) p2.getDouble();
+				int popSuccesses = (int) p2.getDouble();
 				int sample = (int) p3.getDouble();
-				dist = new HypergeometricDistribution(pop, successes,
-						sample);
-				first = Math.max(0, successes + sample - pop);
-				last = Math.min(successes, sample);
+				first = Math.max(0, popSuccesses + sample - pop);
+				last = Math.min(popSuccesses, sample);
+				distributionTable.setDistribution(
+						() -> new HypergeometricDistribution(pop, popSuccesses,
+								sample),
+						type, first, pop, popSuccesses, sample);
 				break;
 			}
 
-			// load class list and probability list
-			loadDistributionLists(first, last, dist);
+			if (last >= first) {
+				distributionTable.ensureTabulated(last);
+			}
 		} catch (RuntimeException e) {
 			Log.debug(e.getMessage());
 			return false;
 		}
 
+		computeFromDistributionTable(first, last);
 		return true;
 	}
 
 	/**
-	 * Utility method, creates and loads list1 and list2 with classes and
-	 * probabilities for the probability distribution bar charts
+	 * Same as computeFromValueFrequencyLists for the values first, ..., last
+	 * and their (cumulative) probabilities, without creating lists
 	 */
-	private void loadDistributionLists(int first, int last,
-			IntegerDistribution dist) {
-		if (list1 == null) {
-			list1 = new GeoList(cons);
-		} else {
-			list1.clear();
+	private void computeFromDistributionTable(int first, int last) {
+		final int N = last - first + 1;
+		if (N <= 0) {
+			sum.setUndefined();
+			return;
 		}
-		if (list2 == null) {
-			list2 = new GeoList(cons);
-		} else {
-			list2.clear();
+		barWidth = N > 1 ? 1 : 0.5;
+		sum.setIntervals(N);
+		if (yval == null || yval.length < N) {
+			yval = new double[N];
+			leftBorder = new double[N];
 		}
-		double prob;
-		double cumProb = 0;
-
-		for (int i = first; i <= last; i++) {
-			list1.addNumber(i, this);
-			prob = dist.probability(i);
-			cumProb += prob;
-			if (isCumulative != null
-					&& ((GeoBoolean) isCumulative).getBoolean()) {
-				list2.addNumber(cumProb, this);
-			} else {
-				list2.addNumber(prob, this);
+		value = new String[N];
+		boolean cumulative = isCumulative != null
+				&& ((GeoBoolean) isCumulative).getBoolean();
+		double ySum = 0;
+		for (int i = 0; i < N; i++) {
+			int x = first + i;
+			value[i] = kernel.format(x, StringTemplate.defaultTemplate);
+			leftBorder[i] = x - barWidth / 2;
+			double y = cumulative ? distributionTable.cumulativeProbability(x)
+					: distributionTable.probability(x);
+			if (Double.isNaN(y)) {
+				sum.setUndefined();
+				return;
 			}
+			yval[i] = y;
+			ySum += y;
 		}
+		// sum = total area
+		sum.setValue(Math.abs(ySum) * barWidth);
+		dataSize = ySum;
 	}
 
 	// ======================================================
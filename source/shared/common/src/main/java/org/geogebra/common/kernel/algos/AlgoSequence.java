@@ -20,6 +20,7 @@ package org.geogebra.common.kernel.algos;
 
 import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.kernel.SampleRandomValues;
 import org.geogebra.common.kernel.SetRandomValue;
 import org.geogebra.common.kernel.arithmetic.ReplaceChildrenByValues;
 import org.geogebra.common.kernel.commands.Commands;
@@ -27,7 +28,9 @@ import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoList;
 import org.geogebra.common.kernel.geos.GeoNumberValue;
 import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.geogebra.common.kernel.geos.GeoPoint;
 import org.geogebra.common.kernel.kernelND.GeoElementND;
+import org.geogebra.common.kernel.statistics.RandomVariates;
 import org.geogebra.common.util.DoubleUtil;
 import org.geogebra.common.util.debug.Log;
 
@@ -52,6 +55,7 @@ public class AlgoSequence extends AlgoElement implements SetRandomValue {
 	private boolean expIsFunctionOrCurve;
 	private boolean isEmpty;
 	private AlgoElement expressionParentAlgo;
+	private ElementExpressionEvaluator elementEvaluator;
 
 	// we need to check that some Object[] reference didn't cause infinite
 	// update cycle
@@ -115,6 +119,8 @@ public class AlgoSequence extends AlgoElement implements SetRandomValue {
 
 		list = new GeoList(cons);
 		setInputOutput(); // for AlgoElement
+		elementEvaluator = ElementExpressionEvaluator.create(
+				expressionParentAlgo, expression, new GeoElementND[] { var });
 
 		compute();
 	}
@@ -227,7 +233,10 @@ public class AlgoSequence extends AlgoElement implements SetRandomValue {
 		cons.setSuppressLabelCreation(true);
 
 		// update list
-		if (setValuesOnly) {
+		if (sampleRandomValues(from, to, step)
+				|| evaluateDirectly(from, to, step)) {
+			last_from = Double.NaN;
+		} else if (setValuesOnly) {
 			updateListItems(from, to, step);
 		} else {
 			createNewList(from, to, step);
@@ -238,6 +247,112 @@ public class AlgoSequence extends AlgoElement implements SetRandomValue {
 		updateRunning = false;
 	}
 
+	/**
+	 * Random numbers that don't depend on the variable, e.g.
+	 * Sequence[RandomBinomial[100, 0.3], i, 1, 10000], are drawn at once
+	 * into a list of numbers without updating the expression for each
+	 * element.
+	 */
+	private boolean sampleRandomValues(double from, double to, double step) {
+		if (!(expressionParentAlgo instanceof SampleRandomValues)
+				|| var.getAlgoUpdateSet().contains(expressionParentAlgo)) {
+			return false;
+		}
+		double[] values = getVarValues(from, to, step);
+		if (values == null) {
+			return false;
+		}
+		if (((SampleRandomValues) expressionParentAlgo).sampleRandomValues(
+				RandomVariates.seededBy(kernel.getApplication()), values)) {
+			list.setNumbers(values);
+		} else {
+			list.setUndefined();
+		}
+		return true;
+	}
+
+	/**
+	 * Numbers and points given by a single expression of the variable are
+	 * evaluated as a function of plain numbers, without updating the
+	 * expression and copying it for each element; long lists are split among
+	 * several threads.
+	 */
+	private boolean evaluateDirectly(double from, double to, double step) {
+		if (elementEvaluator == null) {
+			return false;
+		}
+		double[] varValues = getVarValues(from, to, step);
+		if (varValues == null) {
+			return false;
+		}
+		int n = varValues.length;
+		double[][] vars = { varValues };
+		if (elementEvaluator.isPoint()) {
+			double[] x = new double[n];
+			double[] y = new double[n];
+			elementEvaluator.evaluatePoints(n, vars, x, y);
+			setPoints(x, y);
+		} else {
+			list.setNumbers(elementEvaluator.evaluateNumbers(n, vars));
+		}
+		return true;
+	}
+
+	/**
+	 * Sets the coordinates of cached points (or new copies of the expression)
+	 * instead of copying the expression to them.
+	 */
+	private void setPoints(double[] x, double[] y) {
+		int oldCacheSize = Math.min(list.size(), list.getCacheSize());
+		list.clear();
+		list.ensureCapacity(x.length);
+		for (int i = 0; i < x.length; i++) {
+			GeoElement cached = i < list.getCacheSize() ? list.getCached(i) : null;
+			GeoPoint point = cached instanceof GeoPoint ? (GeoPoint) cached
+					: (GeoPoint) createNewListElement();
+			if (Double.isNaN(x[i])) {
+				point.setUndefined();
+			} else {
+				point.setCoords(x[i], y[i], 1.0);
+			}
+			list.add(point);
+		}
+		for (int k = oldCacheSize - 1; k >= x.length; k--) {
+			GeoElement oldElement = list.getCached(k);
+			oldElement.setUndefined();
+			oldElement.update();
+		}
+	}
+
+	/**
+	 * @return values of the variable in the same order as in createNewList,
+	 *         null if there are none or infinitely many
+	 */
+	private double[] getVarValues(double from, double to, double step) {
+		if (isEmpty || step == 0 || Double.isInfinite((to - from) / step)) {
+			return null;
+		}
+		int n = 0;
+		double currentVal = from;
+		while ((step > 0 && currentVal <= to + Kernel.MIN_PRECISION)
+				|| (step < 0 && currentVal >= to - Kernel.MIN_PRECISION)) {
+			currentVal = nextVarValue(currentVal, step);
+			n++;
+		}
+		double[] values = new double[n];
+		currentVal = from;
+		for (int i = 0; i < n; i++) {
+			values[i] = currentVal;
+			currentVal = nextVarValue(currentVal, step);
+		}
+		return values;
+	}
+
+	private static double nextVarValue(double currentVal, double step) {
+		double next = currentVal + step;
+		return DoubleUtil.isInteger(next) ? Math.round(next) : next;
+	}
+
 	private void createNewList(double from, double to, double step) {
 		// clear list if defined
 		int i = 0;
@@ -281,7 +396,9 @@ public class AlgoSequence extends AlgoElement implements SetRandomValue {
 
 		// if the old list was longer than the new one
 		// we need to set some cached elements to undefined
-		for (int k = oldListSize - 1; k >= i; k--) {
+		// (lists of numbers from setNumbers have no cached elements)
+		int oldCacheSize = Math.min(oldListSize, list.getCacheSize());
+		for (int k = oldCacheSize - 1; k >= i; k--) {
 			GeoElement oldElement = list.getCached(k);
 			oldElement.setUndefined();
 			oldElement.update();
@@ -21,6 +21,8 @@ import org.geogebra.common.kernel.geos.GeoAngle.AngleStyle;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoList;
 import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.geogebra.common.kernel.statistics.NumericListData;
+import org.geogebra.common.kernel.statistics.RunningMoments;
 
 /**
  * Mean, variance, sum, sum of squares, standard deviation of a list adapted
@@ -185,27 +187,43 @@ public abstract class AlgoStats1D extends AlgoElement {
 		double sumFreq = 0;
 		double frequency = 1;
 		double var, mu;
+		// sum of squared deviations from the mean
+		double sxx;
 		GeoElement geo, geoFreq, geo2;
 		boolean useMidpoint = false;
 		double n = 0;
+		NumericListData data = null;
 
 		// list of numbers only, no frequencies
 		if (geoList2 == null) {
-			double val;
-			for (int i = 0; i < size; i++) {
-				geo = geoList.get(i);
-				if (geo instanceof NumberValue) {
-					val = geo.evaluateDouble();
-					sumVal += val;
-					sumSquares += val * val;
-					product *= val;
-				} else {
-					result.setUndefined();
-					return;
+			data = geoList.getNumericData();
+			RunningMoments moments;
+			if (data.isNumeric() && size == data.size()) {
+				// shared with other statistics of this list
+				moments = data.getMoments();
+				if (stat == STATS_PRODUCT) {
+					product = data.getProduct();
+				}
+			} else {
+				double[] values = new double[(int) size];
+				for (int i = 0; i < size; i++) {
+					geo = geoList.get(i);
+					if (geo instanceof NumberValue) {
+						values[i] = geo.evaluateDouble();
+						product *= values[i];
+					} else {
+						result.setUndefined();
+						return;
+					}
 				}
+				moments = new RunningMoments(values, values.length);
 			}
 
 			n = size;
+			sumVal = moments.getSum();
+			sumSquares = moments.getSumSquares();
+			mu = moments.getMean();
+			sxx = moments.getSumSquaredDeviations();
 		}
 
 		// list of numbers with list of frequencies
@@ -255,10 +273,10 @@ public abstract class AlgoStats1D extends AlgoElement {
 			}
 
 			n = sumFreq;
+			mu = sumVal / n;
+			sxx = sumSquares - sumVal * sumVal / n;
 		}
 
-		mu = sumVal / n;
-
 		switch (stat) {
 		default:
 			result.setValue(Double.NaN);
@@ -269,8 +287,8 @@ public abstract class AlgoStats1D extends AlgoElement {
 			if (geoList2 == null) {
 				double val;
 				for (int i = 0; i < size; i++) {
-					geo = geoList.get(i);
-					val = geo.evaluateDouble();
+					val = data.isNumeric() ? data.get(i)
+							: geoList.get(i).evaluateDouble();
 					sumAbsoluteDeviation += Math.abs(mu - val);
 				}
 			}
@@ -309,24 +327,23 @@ public abstract class AlgoStats1D extends AlgoElement {
 			result.setValue(mu);
 			break;
 		case STATS_SD:
-			var = sumSquares / n - mu * mu;
+			var = sxx / n;
 			result.setValue(Math.sqrt(var));
 			break;
 		case STATS_SAMPLE_SD:
-			var = (sumSquares - sumVal * sumVal / n) / (n - 1);
+			var = sxx / (n - 1);
 			result.setValue(Math.sqrt(var));
 			break;
 		case STATS_VARIANCE:
-			var = sumSquares / n - mu * mu;
+			var = sxx / n;
 			result.setValue(var);
 			break;
 		case STATS_SAMPLE_VARIANCE:
-			var = (sumSquares - sumVal * sumVal / n) / (n - 1);
+			var = sxx / (n - 1);
 			result.setValue(var);
 			break;
 		case STATS_SXX:
-			var = sumSquares - (sumVal * sumVal) / n;
-			result.setValue(var);
+			result.setValue(sxx);
 			break;
 		case STATS_SIGMAX:
 			result.setValue(sumVal);
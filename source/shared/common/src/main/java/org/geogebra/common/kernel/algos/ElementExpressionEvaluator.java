@@ -0,0 +1,257 @@
+package org.geogebra.common.kernel.algos;
+
+import java.util.ArrayList;
+
+import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.kernel.arithmetic.ExpressionNode;
+import org.geogebra.common.kernel.arithmetic.ExpressionValue;
+import org.geogebra.common.kernel.arithmetic.MyDouble;
+import org.geogebra.common.kernel.arithmetic.MyVecNode;
+import org.geogebra.common.kernel.arithmetic.VectorValue;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.geogebra.common.kernel.geos.GeoVec2D;
+import org.geogebra.common.kernel.kernelND.GeoElementND;
+import org.geogebra.common.plugin.GeoClass;
+import org.geogebra.common.plugin.Operation;
+import org.geogebra.common.util.ParallelExecutor;
+
+/**
+ * Evaluates the numbers or points of a Sequence or Zip list directly from the
+ * expression defining the elements, as a function of plain numbers: the local
+ * variables are replaced by numbers in a copy of the expression, so neither the
+ * algorithms depending on the variables are updated nor the expression is
+ * copied for each element. Long lists are split into chunks for the threads of
+ * {@link ParallelExecutor}, each chunk uses its own copy of the expression.
+ *
+ * Only bodies given by a single expression of numbers can be evaluated this way.
+ * Bodies that must be computed element by element (random numbers, commands
+ * like Execute, objects created for every element between the variables and the
+ * expression) are detected by
+ * {@link #create(AlgoElement, GeoElementND, GeoElementND[])}.
+ */
+public final class ElementExpressionEvaluator {
+
+	/** minimal number of elements worth a separate chunk */
+	static final int MIN_CHUNK_SIZE = 1024;
+
+	private final Kernel kernel;
+	private final ExpressionNode expression;
+	private final GeoElementND[] vars;
+	private final boolean point;
+	private final ParallelExecutor executor;
+	/* copies of the expression with the numbers replacing the variables */
+	private final ArrayList<ExpressionNode> copies = new ArrayList<>();
+	private final ArrayList<MyDouble[]> copyVars = new ArrayList<>();
+
+	/**
+	 * Computes one element from a copy of the expression.
+	 */
+	private interface ElementTask {
+		void evaluate(ExpressionNode copy, int index);
+	}
+
+	private ElementExpressionEvaluator(Kernel kernel, ExpressionNode expression,
+			GeoElementND[] vars, boolean point, ParallelExecutor executor) {
+		this.kernel = kernel;
+		this.expression = expression;
+		this.vars = vars;
+		this.point = point;
+		this.executor = executor;
+	}
+
+	/**
+	 * @param parentAlgo
+	 *            parent algorithm of the element expression
+	 * @param body
+	 *            element expression
+	 * @param vars
+	 *            local variables
+	 * @return evaluator using the registered executor, null if the elements
+	 *         have to be computed one by one
+	 */
+	public static ElementExpressionEvaluator create(AlgoElement parentAlgo,
+			GeoElementND body, GeoElementND[] vars) {
+		return create(parentAlgo, body, vars, ParallelExecutor.getPrototype());
+	}
+
+	/**
+	 * @param parentAlgo
+	 *            parent algorithm of the element expression
+	 * @param body
+	 *            element expression
+	 * @param vars
+	 *            local variables
+	 * @param executor
+	 *            executor for the chunks
+	 * @return evaluator, null if the elements have to be computed one by one
+	 */
+	static ElementExpressionEvaluator create(AlgoElement parentAlgo,
+			GeoElementND body, GeoElementND[] vars, ParallelExecutor executor) {
+		ExpressionNode expression;
+		boolean point;
+		if (parentAlgo instanceof AlgoDependentNumber
+				&& ((AlgoDependentNumber) parentAlgo).isRewriteFormula()
+				&& body.getGeoClassType() == GeoClass.NUMERIC) {
+			expression = ((AlgoDependentNumber) parentAlgo).getExpression();
+			point = false;
+		} else if (parentAlgo instanceof AlgoDependentPoint
+				&& body.getGeoClassType() == GeoClass.POINT) {
+			expression = ((AlgoDependentPoint) parentAlgo).getExpression();
+			point = true;
+		} else {
+			return null;
+		}
+		if (expression == null) {
+			return null;
+		}
+		for (GeoElementND var : vars) {
+			// other algos would create objects (or run scripts) for every element
+			AlgorithmSet updateSet = var.getAlgoUpdateSet();
+			int allowed = updateSet.contains(parentAlgo) ? 1 : 0;
+			if (!(var instanceof GeoNumeric) || updateSet.getSize() > allowed) {
+				return null;
+			}
+		}
+		if (expression.any(value -> !isThreadSafe(value, vars))) {
+			return null;
+		}
+		return new ElementExpressionEvaluator(body.getKernel(), expression, vars,
+				point, executor);
+	}
+
+	/**
+	 * Only numbers and operations on them can be evaluated concurrently; geos
+	 * other than numbers keep state in their expressions, random numbers have
+	 * to be drawn in order.
+	 */
+	private static boolean isThreadSafe(ExpressionValue value,
+			GeoElementND[] vars) {
+		if (value instanceof ExpressionNode) {
+			return ((ExpressionNode) value).getOperation() != Operation.RANDOM;
+		}
+		if (value instanceof GeoElement) {
+			return value instanceof GeoNumeric && (isVar(value, vars)
+					|| !((GeoElement) value).isRandomGeo());
+		}
+		return value instanceof MyDouble || value instanceof MyVecNode;
+	}
+
+	private static boolean isVar(ExpressionValue value, GeoElementND[] vars) {
+		for (GeoElementND var : vars) {
+			if (var == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return whether the elements are points (otherwise numbers)
+	 */
+	public boolean isPoint() {
+		return point;
+	}
+
+	/**
+	 * @param count
+	 *            number of elements
+	 * @return whether evaluating that many elements would use more than one
+	 *         chunk
+	 */
+	public boolean isWorthRunningInParallel(int count) {
+		return executor.getChunkCount(count, MIN_CHUNK_SIZE) > 1;
+	}
+
+	/**
+	 * @param count
+	 *            number of elements
+	 * @param varValues
+	 *            values of the local variables: one array per variable, each
+	 *            with at least count values
+	 * @return values of the elements, NaN for undefined ones
+	 */
+	public double[] evaluateNumbers(int count, double[][] varValues) {
+		double[] values = new double[count];
+		forEachElement(count, varValues,
+				(copy, index) -> values[index] = evaluateNumber(copy));
+		return values;
+	}
+
+	/**
+	 * @param count
+	 *            number of elements
+	 * @param varValues
+	 *            values of the local variables: one array per variable, each
+	 *            with at least count values
+	 * @param x
+	 *            array for the x-coordinates (NaN for undefined points)
+	 * @param y
+	 *            array for the y-coordinates (NaN for undefined points)
+	 */
+	public void evaluatePoints(int count, double[][] varValues, double[] x,
+			double[] y) {
+		forEachElement(count, varValues, (copy, index) -> {
+			GeoVec2D vector = evaluateVector(copy);
+			if (vector == null || Double.isInfinite(vector.getX())
+					|| Double.isInfinite(vector.getY())) {
+				x[index] = Double.NaN;
+				y[index] = Double.NaN;
+			} else {
+				x[index] = vector.getX();
+				y[index] = vector.getY();
+			}
+		});
+	}
+
+	private void forEachElement(int count, double[][] varValues,
+			ElementTask task) {
+		ensureCopies(executor.getChunkCount(count, MIN_CHUNK_SIZE));
+		executor.forEachChunk(count, MIN_CHUNK_SIZE, (chunk, from, to) -> {
+			ExpressionNode copy = copies.get(chunk);
+			MyDouble[] local = copyVars.get(chunk);
+			for (int i = from; i < to; i++) {
+				for (int j = 0; j < local.length; j++) {
+					local[j].set(varValues[j][i]);
+				}
+				task.evaluate(copy, i);
+			}
+		});
+	}
+
+	/* copies are created on the calling thread */
+	private void ensureCopies(int chunks) {
+		while (copies.size() < chunks) {
+			MyDouble[] local = new MyDouble[vars.length];
+			ExpressionValue copy = expression.deepCopy(kernel);
+			for (int j = 0; j < vars.length; j++) {
+				GeoElementND var = vars[j];
+				MyDouble replacement = new MyDouble(kernel);
+				local[j] = replacement;
+				copy = copy.traverse(value -> value == var ? replacement : value);
+			}
+			copies.add(copy.wrap());
+			copyVars.add(local);
+		}
+	}
+
+	/* primitive evaluation, errors make the element undefined */
+	private static double evaluateNumber(ExpressionNode copy) {
+		try {
+			return copy.evaluateDouble();
+		} catch (Throwable e) {
+			return Double.NaN;
+		}
+	}
+
+	/* same as AlgoDependentPoint.compute */
+	private static GeoVec2D evaluateVector(ExpressionNode copy) {
+		try {
+			return ((VectorValue) copy.evaluate(StringTemplate.defaultTemplate))
+					.getVector();
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
@@ -40,6 +40,7 @@ public class AlgoLimit extends AlgoElement
 	protected GeoNumeric outNum;
 	private String limitString;
 	private ArbitraryConstantRegistry arbconst = new ArbitraryConstantRegistry(this);
+	private boolean computing = false;
 
 	/**
 	 * @param cons
@@ -62,6 +63,8 @@ public class AlgoLimit extends AlgoElement
 
 	private void init(String label) {
 		outNum = new GeoNumeric(cons);
+		// undefined until the asynchronous result arrives
+		outNum.setUndefined();
 		setInputOutput(); // for AlgoElement
 		compute();
 		outNum.setLabel(label);
@@ -99,20 +102,14 @@ public class AlgoLimit extends AlgoElement
 		}
 		limitString = f.getLimit(num.getDouble(), getDirection());
 
+		// with asynchronous CAS the previous value is kept until the result
+		// arrives through handleCASoutput
+		computing = true;
 		try {
-			String numStr = kernel.evaluateCachedGeoGebraCAS(limitString,
-					arbconst);
-
-			// handles Infinity, ?
-			outNum.setValue(kernel.getAlgebraProcessor()
-					.evaluateToNumeric(numStr, ErrorHelper.silent())
-					.getDouble());
-		} catch (Throwable e) {
-			Log.debug(e);
-			outNum.setUndefined();
-			return;
+			kernel.evaluateGeoGebraCAS(this, arbconst);
+		} finally {
+			computing = false;
 		}
-
 	}
 
 	@Override
@@ -130,20 +127,36 @@ public class AlgoLimit extends AlgoElement
 
 	@Override
 	public void handleCASoutput(String output, int requestID) {
-
-		NumberValue nv = kernel.getAlgebraProcessor().evaluateToNumeric(output,
-				ErrorHelper.silent());
-		outNum.setValue(nv.getDouble());
-		if (USE_ASYNCHRONOUS) {
-			outNum.updateCascade();
+		if (removed) {
+			return;
 		}
-
+		try {
+			// handles Infinity, ?
+			NumberValue nv = kernel.getAlgebraProcessor()
+					.evaluateToNumeric(output, ErrorHelper.silent());
+			outNum.setValue(nv.getDouble());
+		} catch (Throwable e) {
+			Log.debug(e);
+			outNum.setUndefined();
+		}
+		updateAfterAsynchronousResult();
 	}
 
 	@Override
 	public void handleException(Throwable exception, int id) {
+		if (removed) {
+			return;
+		}
+		Log.debug(exception);
 		outNum.setUndefined();
+		updateAfterAsynchronousResult();
+	}
 
+	private void updateAfterAsynchronousResult() {
+		if (!computing) {
+			outNum.updateCascade();
+			kernel.notifyRepaint();
+		}
 	}
 
 	@Override
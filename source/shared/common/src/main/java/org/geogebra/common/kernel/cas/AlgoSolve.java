@@ -3,6 +3,7 @@ package org.geogebra.common.kernel.cas;
 import java.util.Collections;
 import java.util.TreeSet;
 
+import org.geogebra.common.kernel.AsynchronousCommand;
 import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.LinearEquationRepresentable;
 import org.geogebra.common.kernel.StringTemplate;
@@ -33,7 +34,8 @@ import org.geogebra.common.util.debug.Log;
 /**
  * Use Solve cas command from AV
  */
-public class AlgoSolve extends AlgoElement implements UsesCAS {
+public class AlgoSolve extends AlgoElement
+		implements AsynchronousCommand, UsesCAS {
 
 	private final GeoList solutions;
 	private final GeoElement equations;
@@ -41,6 +43,10 @@ public class AlgoSolve extends AlgoElement implements UsesCAS {
 	private Commands type;
 	private final GeoElement hint;
 	private final RegisterUndefinedVariables registerUndefinedVariables;
+	private String solveInput;
+	private boolean symbolic;
+	private boolean trig;
+	private boolean computing = false;
 
 	/**
 	 * @param c
@@ -81,8 +87,8 @@ public class AlgoSolve extends AlgoElement implements UsesCAS {
 
 	@Override
 	public void compute() {
-		boolean symbolic = solutions.size() < 1 || solutions.isSymbolicMode();
-		boolean trig = false;
+		symbolic = solutions.size() < 1 || solutions.isSymbolicMode();
+		trig = false;
 		StringBuilder sb = new StringBuilder(type.getCommand());
 		sb.append('[');
 		String varString = null;
@@ -109,11 +115,59 @@ public class AlgoSolve extends AlgoElement implements UsesCAS {
 			sb.append(varString);
 		}
 		sb.append("]");
+		solveInput = sb.toString();
+		arbconst.startBlocking();
+		// with asynchronous CAS the previous solutions are kept until the
+		// result arrives through handleCASoutput
+		computing = true;
 		try {
-			arbconst.startBlocking();
-			String solns = kernel.evaluateCachedGeoGebraCAS(sb.toString(),
-					arbconst);
+			kernel.evaluateGeoGebraCAS(this, arbconst);
+		} finally {
+			computing = false;
+		}
+	}
+
+	@Override
+	public void handleCASoutput(String solns, int requestID) {
+		if (removed) {
+			return;
+		}
+		setSolutions(solns);
+		updateAfterAsynchronousResult();
+	}
+
+	@Override
+	public void handleException(Throwable exception, int requestID) {
+		if (removed) {
+			return;
+		}
+		Log.debug(exception);
+		solutions.setUndefined();
+		if (type != Commands.PlotSolve) {
+			solutions.setNotDrawable();
+		}
+		updateAfterAsynchronousResult();
+	}
+
+	private void updateAfterAsynchronousResult() {
+		if (!computing) {
+			solutions.updateCascade();
+			kernel.notifyRepaint();
+		}
+	}
+
+	@Override
+	public boolean useCaching() {
+		return true;
+	}
+
+	@Override
+	public String getCasInput() {
+		return solveInput;
+	}
 
+	private void setSolutions(String solns) {
+		try {
 			GeoList raw = kernel.getAlgebraProcessor().evaluateToList(solns);
 			// if we re-evaluate something with arbconst, it will only have
 			// undefined lines
@@ -13,6 +13,8 @@ the Free Software Foundation.
 package org.geogebra.common.kernel.geos;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.TreeSet;
 import java.util.stream.Stream;
 
@@ -61,6 +63,7 @@ import org.geogebra.common.kernel.kernelND.GeoEvaluatable;
 import org.geogebra.common.kernel.kernelND.GeoPointND;
 import org.geogebra.common.kernel.kernelND.GeoQuadricND;
 import org.geogebra.common.kernel.matrix.Coords;
+import org.geogebra.common.kernel.statistics.NumericListData;
 import org.geogebra.common.main.Localization;
 import org.geogebra.common.plugin.EuclidianStyleConstants;
 import org.geogebra.common.plugin.GeoClass;
@@ -81,12 +84,18 @@ public class GeoList extends GeoElement
 	private boolean trace;
 
 	// GeoElement list members
-	private final ArrayList<GeoElement> elements;
+	/** ArrayList or NumberArrayList, see mutableElements() */
+	private List<GeoElement> elements;
 
 	// lists will often grow and shrink dynamically,
 	// so we keep a cacheList of all old list elements
 	private final ArrayList<GeoElementND> cacheList;
 
+	// values of a list of numbers, shared by statistics algos;
+	// kept after changes of the list so that derived data can be updated
+	private NumericListData numericData;
+	private boolean numericDataChanged = true;
+
 	private boolean isDefined = true;
 	private boolean isDrawable = true;
 	private boolean drawAsComboBox = false;
@@ -171,7 +180,7 @@ public class GeoList extends GeoElement
 	 * @param elements list elements
 	 * @return the most generic element (one that can be set by others)
 	 */
-	public static GeoElement getGenericElement(ArrayList<GeoElement> elements) {
+	public static GeoElement getGenericElement(List<GeoElement> elements) {
 		GeoElement result = elements.get(0);
 		// create output GeoElement of same type as ifGeo
 		int i = 1;
@@ -289,8 +298,12 @@ public class GeoList extends GeoElement
 
 	private void copyListElements(final GeoList otherList, boolean internalCopy) {
 		final int otherListSize = otherList.size();
+		if (elements instanceof NumberArrayList) {
+			elements = new ArrayList<>(otherListSize);
+		}
 		ensureCapacity(otherListSize);
 		elements.clear();
+		numericDataChanged = true;
 
 		for (int i = 0; i < otherListSize; i++) {
 			final GeoElement otherElement = otherList.get(i);
@@ -644,6 +657,7 @@ public class GeoList extends GeoElement
 	 */
 	public void setDefined(final boolean flag) {
 		isDefined = flag;
+		numericDataChanged = true;
 
 		if (!isDefined) {
 
@@ -685,10 +699,17 @@ public class GeoList extends GeoElement
 	 * Clear the list
 	 */
 	public final void clear() {
+		if (elements instanceof NumberArrayList) {
+			// elements of numbers are never animated
+			elements = new ArrayList<>();
+			numericDataChanged = true;
+			return;
+		}
 		for (GeoElement el : elements) {
 			el.removeZoomerAnimationListenerIfNeeded();
 		}
 		elements.clear();
+		numericDataChanged = true;
 	}
 
 	/**
@@ -716,7 +737,8 @@ public class GeoList extends GeoElement
 	 */
 	public final void add(final GeoElementND geo) {
 		// add geo to end of list
-		elements.add(geo.toGeoElement());
+		mutableElements().add(geo.toGeoElement());
+		numericDataChanged = true;
 
 		if (elements.size() == 1) {
 			setTypeStringForXML(geo.getXMLtypeString());
@@ -754,7 +776,10 @@ public class GeoList extends GeoElement
 			}
 		}
 		updateDrawableFlag(geo);
+		initElementStyle(geo);
+	}
 
+	private void initElementStyle(GeoElementND geo) {
 		// set visual style of this list
 		applyVisualStyle(geo.toGeoElement());
 		if (!geo.isLabelSet()) {
@@ -764,6 +789,49 @@ public class GeoList extends GeoElement
 		}
 	}
 
+	/**
+	 * Replaces the elements of this list by numbers, e.g. for imported data.
+	 * The values are kept in an array: statistics commands read them from
+	 * there (see {@link #getNumericData()}) and the GeoNumeric for an element
+	 * is only created when the element is accessed.
+	 *
+	 * @param values
+	 *            values, the array is used without copying and must not be
+	 *            changed afterwards
+	 */
+	public void setNumbers(double[] values) {
+		clear();
+		cacheList.clear();
+		elements = new NumberArrayList(values, this::createNumberElement);
+		elementType = GeoClass.NUMERIC;
+		// same as updateDrawableFlag for free numbers which are no sliders
+		isDrawable = values.length > 0;
+		setTypeStringForXML(GeoClass.NUMERIC.xmlName);
+		setDefined(true);
+	}
+
+	private GeoNumeric createNumberElement(double value) {
+		GeoNumeric geo = new GeoNumeric(cons, value);
+		geo.setUseVisualDefaults(false);
+		initElementStyle(geo);
+		return geo;
+	}
+
+	/**
+	 * Elements of lists from {@link #setNumbers(double[])} are created on
+	 * access only; before the first structural change all of them are created
+	 * and copied to an ordinary list.
+	 */
+	private List<GeoElement> mutableElements() {
+		if (elements instanceof NumberArrayList) {
+			ArrayList<GeoElement> created = new ArrayList<>(elements);
+			cacheList.clear();
+			cacheList.addAll(created);
+			elements = created;
+		}
+		return elements;
+	}
+
 	private void updateDrawableFlag(GeoElementND geo) {
 		isDrawable = isDrawable && geo.isDrawable() && !geo.isGeoButton()
 				&& !(geo instanceof GeoBoolean) && !(geo instanceof GeoNumeric
@@ -778,7 +846,8 @@ public class GeoList extends GeoElement
 	 *            element to be removed
 	 */
 	public final void remove(final GeoElement geo) {
-		elements.remove(geo);
+		mutableElements().remove(geo);
+		numericDataChanged = true;
 	}
 
 	/**
@@ -792,8 +861,9 @@ public class GeoList extends GeoElement
 		if (oldIndex == -1) {
 			return;
 		}
-		elements.remove(oldIndex);
+		mutableElements().remove(oldIndex);
 		elements.add(oldIndex, newGeo);
+		numericDataChanged = true;
 	}
 
 	/**
@@ -818,7 +888,8 @@ public class GeoList extends GeoElement
 	 *            position of element to be removed
 	 */
 	public final void remove(final int index) {
-		elements.remove(index);
+		mutableElements().remove(index);
+		numericDataChanged = true;
 	}
 
 	/**
@@ -854,6 +925,10 @@ public class GeoList extends GeoElement
 	@Override
 	public double[] toDouble(int offset) {
 		int length = elements.size();
+		if (elements instanceof NumberArrayList) {
+			return Arrays.copyOfRange(((NumberArrayList) elements).getValues(),
+					offset, length);
+		}
 		try {
 			final double[] valueArray = new double[length - offset];
 			for (int i = offset; i < length; i++) {
@@ -872,7 +947,9 @@ public class GeoList extends GeoElement
 	 *            capacity to ensure
 	 */
 	final public void ensureCapacity(final int size) {
-		elements.ensureCapacity(size);
+		if (elements instanceof ArrayList) {
+			((ArrayList<GeoElement>) elements).ensureCapacity(size);
+		}
 		cacheList.ensureCapacity(size);
 	}
 
@@ -1055,6 +1132,8 @@ public class GeoList extends GeoElement
 	 */
 	@Override
 	public void update(boolean drag) {
+		// element values may have changed
+		numericDataChanged = true;
 		super.update(drag);
 		ensureSelectedIndexInRange();
 		// update information on whether this path is fit for AlgoLocus
@@ -2140,7 +2219,7 @@ public class GeoList extends GeoElement
 	 *         list
 	 */
 	final static public TraceModesEnum getTraceModes(
-			ArrayList<GeoElement> geos) {
+			List<GeoElement> geos) {
 
 		TraceModesEnum traceModes = null;
 
@@ -3113,7 +3192,8 @@ public class GeoList extends GeoElement
 		super.resetDefinition();
 		for (int i = 0; i < size(); i++) {
 			if (elements.get(i).isLabelSet()) {
-				elements.set(i, elements.get(i).copyInternal(cons));
+				mutableElements().set(i, elements.get(i).copyInternal(cons));
+				numericDataChanged = true;
 			} else {
 				this.elements.get(i).resetDefinition();
 			}
@@ -3170,7 +3250,8 @@ public class GeoList extends GeoElement
 	 *            new element
 	 */
 	public void setListElement(int i, GeoElement element) {
-		this.elements.set(i, element);
+		mutableElements().set(i, element);
+		numericDataChanged = true;
 		this.applyVisualStyle(element);
 		// this.elementType = element.getGeoClassType();
 		isDrawable = true;
@@ -3412,6 +3493,32 @@ public class GeoList extends GeoElement
 		return wasDefinedWithCurlyBrackets;
 	}
 
+	/**
+	 * Values of this list for statistics commands. The result is cached until
+	 * the list changes or is updated, so several commands on the same list
+	 * only read the elements and sort them once. After a change of a few
+	 * elements, the sorted values and the moments are updated rather than
+	 * computed again.
+	 *
+	 * @return values of this list and data derived from them
+	 */
+	public NumericListData getNumericData() {
+		if (!wasDefinedWithCurlyBrackets) {
+			// eg Mean(a, b, c): algos depend on the elements directly and this
+			// list is not updated when they change
+			return new NumericListData(this);
+		}
+		if (numericDataChanged && elements instanceof NumberArrayList) {
+			numericData = new NumericListData(
+					((NumberArrayList) elements).getValues(), numericData);
+			numericDataChanged = false;
+		} else if (numericDataChanged) {
+			numericData = new NumericListData(this, numericData);
+			numericDataChanged = false;
+		}
+		return numericData;
+	}
+
 	/**
 	 * @return new array with elements
 	 */
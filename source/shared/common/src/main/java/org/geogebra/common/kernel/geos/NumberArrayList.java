@@ -0,0 +1,82 @@
+package org.geogebra.common.kernel.geos;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Elements of a list of numbers which are stored in a double array (e.g.
+ * imported data). The GeoNumeric for an element is only created when the
+ * element is accessed. The list can't be modified, {@link GeoList} replaces it
+ * by an ordinary list before changing its elements.
+ */
+final class NumberArrayList extends AbstractList<GeoElement>
+		implements RandomAccess {
+
+	private final double[] values;
+	private final GeoNumeric[] created;
+	private final ElementFactory factory;
+	private int createdCount = 0;
+
+	/**
+	 * Creates the element for a value.
+	 */
+	interface ElementFactory {
+		/**
+		 * @param value
+		 *            value
+		 * @return list element
+		 */
+		GeoNumeric create(double value);
+	}
+
+	/**
+	 * @param values
+	 *            values, the array is used without copying
+	 * @param factory
+	 *            creates elements when they are accessed
+	 */
+	NumberArrayList(double[] values, ElementFactory factory) {
+		this.values = values;
+		this.created = new GeoNumeric[values.length];
+		this.factory = factory;
+	}
+
+	@Override
+	public GeoElement get(int index) {
+		if (created[index] == null) {
+			created[index] = factory.create(values[index]);
+			createdCount++;
+		}
+		return created[index];
+	}
+
+	@Override
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * @return number of elements which were accessed
+	 */
+	int getCreatedCount() {
+		return createdCount;
+	}
+
+	/**
+	 * @return current values (created elements may have been changed since
+	 *         they were created); must not be modified
+	 */
+	double[] getValues() {
+		if (createdCount == 0) {
+			return values;
+		}
+		double[] ret = Arrays.copyOf(values, values.length);
+		for (int i = 0; i < created.length; i++) {
+			if (created[i] != null) {
+				ret[i] = created[i].getValue();
+			}
+		}
+		return ret;
+	}
+}
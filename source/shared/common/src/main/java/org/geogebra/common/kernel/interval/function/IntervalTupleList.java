@@ -32,6 +32,22 @@ public class IntervalTupleList implements Iterable<IntervalTuple> {
 		list.add(tuple);
 	}
 
+	/**
+	 * Adds tuples to the end of the list.
+	 * @param tuples to add, in increasing x order.
+	 */
+	public void addAll(List<IntervalTuple> tuples) {
+		list.addAll(tuples);
+	}
+
+	/**
+	 * Adds tuples to the beginning of the list, shifting the existing ones only once.
+	 * @param tuples to prepend, in increasing x order.
+	 */
+	public void prependAll(List<IntervalTuple> tuples) {
+		list.addAll(0, tuples);
+	}
+
 	/**
 	 *
 	 * @param index of tuple to get.
@@ -158,4 +174,20 @@ public class IntervalTupleList implements Iterable<IntervalTuple> {
 	public void removeFirst() {
 		list.remove(0);
 	}
+
+	/**
+	 * Removes the first items, shifting the remaining ones only once.
+	 * @param count number of items to remove.
+	 */
+	public void removeFirst(int count) {
+		list.subList(0, Math.min(count, list.size())).clear();
+	}
+
+	/**
+	 * Removes the last items.
+	 * @param count number of items to remove.
+	 */
+	public void removeLast(int count) {
+		list.subList(Math.max(0, list.size() - count), list.size()).clear();
+	}
 }
\ No newline at end of file
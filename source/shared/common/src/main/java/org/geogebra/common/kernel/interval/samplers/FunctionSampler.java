@@ -1,5 +1,9 @@
 package org.geogebra.common.kernel.interval.samplers;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.geogebra.common.euclidian.EuclidianView;
 import org.geogebra.common.euclidian.plot.interval.EuclidianViewBounds;
 import org.geogebra.common.euclidian.plot.interval.IntervalFunctionData;
@@ -8,6 +12,7 @@ import org.geogebra.common.kernel.interval.evaluators.DiscreteSpace;
 import org.geogebra.common.kernel.interval.evaluators.DiscreteSpaceCentered;
 import org.geogebra.common.kernel.interval.function.IntervalNodeFunction;
 import org.geogebra.common.kernel.interval.function.IntervalTupleList;
+import org.geogebra.common.util.ParallelExecutor;
 
 /**
  * Class to provide samples of the given function as a
@@ -23,6 +28,7 @@ public class FunctionSampler implements IntervalFunctionSampler {
 
 	private final int numberOfSamples;
 	private final IntervalFunctionData data;
+	private final IntervalBatchEvaluator evaluator;
 
 	/**
 	 * @param data where the sampled data of the function will be stored.
@@ -39,7 +45,10 @@ public class FunctionSampler implements IntervalFunctionSampler {
 		this.numberOfSamples = numberOfSamples;
 		this.data = data;
 		this.space = createSpaceOn(domain);
+		evaluator = new IntervalBatchEvaluator(data::getFunction,
+				ParallelExecutor.getPrototype());
 		function = data.getFunction();
+		evaluator.reset(function);
 		extend(domain);
 
 	}
@@ -78,29 +87,44 @@ public class FunctionSampler implements IntervalFunctionSampler {
 	}
 
 	private void extendDataBothSide(Interval domain) {
-		space.extend(domain, x -> data.prepend(x, function.value(x)),
-				x -> data.append(x, function.value(x)));
+		List<Interval> left = new ArrayList<>();
+		List<Interval> right = new ArrayList<>();
+		space.extend(domain, left::add, right::add);
+		Collections.reverse(left);
+		data.prependAll(evaluator.evaluate(left));
+		data.appendAll(evaluator.evaluate(right));
 	}
 
 	@Override
 	public void resample(Interval domain) {
 		function = data.getFunction();
+		evaluator.reset(function);
 		space.rescale(domain, calculateNumberOfSamples());
 		evaluateAll();
 		domainInfo.update(domain);
 	}
 
 	private void evaluateAll() {
+		List<Interval> xs = new ArrayList<>();
+		space.forEach(xs::add);
 		data.clear();
-		space.forEach(x -> data.append(x, function.value(x)));
+		data.appendAll(evaluator.evaluate(xs));
 	}
 
+	/**
+	 * Only the newly exposed columns are evaluated, the existing ones are shifted once.
+	 */
 	private void extendDataToLeft(Interval domain) {
-		space.extendLeft(domain, x -> data.extendLeft(x, function.value(x)));
+		List<Interval> exposed = new ArrayList<>();
+		space.extendLeft(domain, exposed::add);
+		Collections.reverse(exposed);
+		data.extendLeft(evaluator.evaluate(exposed));
 	}
 
 	private void extendDataToRight(Interval domain) {
-		space.extendRight(domain, x -> data.extendRight(x, function.value(x)));
+		List<Interval> exposed = new ArrayList<>();
+		space.extendRight(domain, exposed::add);
+		data.extendRight(evaluator.evaluate(exposed));
 	}
 
 	int calculateNumberOfSamples() {
@@ -0,0 +1,74 @@
+package org.geogebra.common.kernel.interval.samplers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.geogebra.common.kernel.interval.Interval;
+import org.geogebra.common.kernel.interval.function.IntervalNodeFunction;
+import org.geogebra.common.kernel.interval.function.IntervalTuple;
+import org.geogebra.common.util.ParallelExecutor;
+
+/**
+ * Evaluates an interval function on a batch of independent x intervals.
+ *
+ * Large batches are split among the threads of {@link ParallelExecutor}; as
+ * {@link IntervalNodeFunction} keeps its variable in the tree, every chunk gets its own copy
+ * of the function, created on the calling thread.
+ */
+public class IntervalBatchEvaluator {
+	/** Minimal number of x intervals evaluated by one thread. */
+	static final int MIN_CHUNK_SIZE = 128;
+
+	private final Supplier<IntervalNodeFunction> functionFactory;
+	private final ParallelExecutor executor;
+	private final List<IntervalNodeFunction> functions = new ArrayList<>();
+
+	/**
+	 * @param functionFactory creates a new, independent copy of the function.
+	 * @param executor to run the evaluation chunks.
+	 */
+	public IntervalBatchEvaluator(Supplier<IntervalNodeFunction> functionFactory,
+			ParallelExecutor executor) {
+		this.functionFactory = functionFactory;
+		this.executor = executor;
+	}
+
+	/**
+	 * Drops the function copies, so the next evaluation uses the current definition.
+	 * @param function the current function, used by the first chunk.
+	 */
+	public void reset(IntervalNodeFunction function) {
+		functions.clear();
+		functions.add(function);
+	}
+
+	/**
+	 * @param xs the x intervals to evaluate the function on.
+	 * @return (x, f(x)) tuples in the order of xs.
+	 */
+	public List<IntervalTuple> evaluate(List<Interval> xs) {
+		int count = xs.size();
+		int chunks = executor.getChunkCount(count, MIN_CHUNK_SIZE);
+		ensureFunctionCopies(chunks);
+		IntervalTuple[] result = new IntervalTuple[count];
+		executor.forEachChunk(count, MIN_CHUNK_SIZE, (chunk, from, to) -> {
+			IntervalNodeFunction function = functions.get(chunk);
+			for (int i = from; i < to; i++) {
+				Interval x = xs.get(i);
+				result[i] = new IntervalTuple(x, function.value(x));
+			}
+		});
+		return Arrays.asList(result);
+	}
+
+	private void ensureFunctionCopies(int chunks) {
+		if (functions.isEmpty()) {
+			functions.add(functionFactory.get());
+		}
+		while (functions.size() < chunks) {
+			functions.add(functionFactory.get());
+		}
+	}
+}
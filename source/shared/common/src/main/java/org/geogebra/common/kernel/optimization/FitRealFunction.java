@@ -9,6 +9,7 @@ import java.util.Set;
 import org.apache.commons.math3.analysis.ParametricUnivariateFunction;
 import org.geogebra.common.kernel.Kernel;
 import org.geogebra.common.kernel.arithmetic.ExpressionNode;
+import org.geogebra.common.kernel.arithmetic.ExpressionValue;
 import org.geogebra.common.kernel.arithmetic.Function;
 import org.geogebra.common.kernel.arithmetic.FunctionVariable;
 import org.geogebra.common.kernel.arithmetic.MyDouble;
@@ -16,6 +17,8 @@ import org.geogebra.common.kernel.arithmetic.NumberValue;
 import org.geogebra.common.kernel.commands.EvalInfo;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.geogebra.common.plugin.Operation;
+import org.geogebra.common.util.ParallelExecutor;
 
 /*
  GeoGebra - Dynamic Mathematics for Everyone
@@ -49,6 +52,8 @@ import org.geogebra.common.kernel.geos.GeoNumeric;
  *                                                replaced by MyDouble parameters
  *       value(double,double[])                    Evaluates for x and pars[]
  *       gradient(double,double[])                Evaluates a gradient for x and pars[] numerically
+ *       values(double[],double[])                Evaluates for all x[] and pars[]
+ *       jacobian(double[],double[])              Evaluates gradients for all x[] and pars[]
  *   
  *   For AlgoFitNL:
  *   
@@ -77,6 +82,10 @@ import org.geogebra.common.kernel.geos.GeoNumeric;
 public class FitRealFunction implements ParametricUnivariateFunction {
 
 	// / --- Properties --- ///
+	/** 1E-10 and 1E-15 is far too small, keep E-5 until search algo is made */
+	private static final double DELTA_P = 1.0E-5;
+	/** minimal number of x-values worth a separate chunk */
+	static final int MIN_CHUNK_SIZE = 1024;
 	private Kernel kernel = null;
 	private int numberOfParameters = 0;
 	private GeoElement[] sliders = null; // Pointers to sliders, need for new
@@ -84,6 +93,33 @@ public class FitRealFunction implements ParametricUnivariateFunction {
 	private Function bestFitFunction = null;
 	private final List<MyDouble> parameterValues = new ArrayList<>();
 	private boolean parametersOK = true;
+	private final ParallelExecutor prototypeExecutor;
+	private ParallelExecutor executor;
+	/* functions for the chunks of values(), the first one is bestFitFunction */
+	private final ArrayList<Function> copies = new ArrayList<>();
+	private final ArrayList<MyDouble[]> copyParameters = new ArrayList<>();
+
+	/**
+	 * Parameter in bestFitFunction, copies of the function replace it by
+	 * their own number.
+	 */
+	private static final class ParameterValue extends MyDouble {
+		private int index;
+
+		ParameterValue(Kernel kernel) {
+			super(kernel);
+		}
+
+		ParameterValue(ParameterValue value) {
+			super(value);
+			index = value.index;
+		}
+
+		@Override
+		public MyDouble deepCopy(Kernel kernel1) {
+			return new ParameterValue(this);
+		}
+	}
 
 	// / --- Interface --- ///
 
@@ -94,7 +130,19 @@ public class FitRealFunction implements ParametricUnivariateFunction {
 	 *            Function to be copied and manipulated
 	 */
 	public FitRealFunction(Function f) {
+		this(f, ParallelExecutor.getPrototype());
+	}
+
+	/**
+	 * @param f
+	 *            Function to be copied and manipulated
+	 * @param executor
+	 *            executor for evaluating many x-values, see
+	 *            {@link #values(double[], double...)}
+	 */
+	public FitRealFunction(Function f, ParallelExecutor executor) {
 		super();
+		this.prototypeExecutor = executor;
 		setFunction(f);
 	}
 
@@ -129,27 +177,123 @@ public class FitRealFunction implements ParametricUnivariateFunction {
 	@Override
 	public final double[] gradient(double x, double... parameters) {
 		double oldValue, newValue;
-		double deltaP = 1.0E-5; // 1E-10 and 1E-15 is far too small, keep E-5
-								// until search algo is made
 		double[] gradient = new double[numberOfParameters];
 		for (int i = 0; i < numberOfParameters; i++) {
 			oldValue = value(x, parameters);
 			double old = parameters[i];
-			double deltaI = deltaP;
-			if (sliders[i] instanceof GeoNumeric) {
-				double step = sliders[i].getAnimationStep();
-				if (step > 1E-13) {
-					deltaI = Math.min(step * 0.01, deltaP);
-				}
-			}
-			parameters[i] += deltaI;
+			parameters[i] += getStep(i);
 			newValue = value(x, parameters);
-			gradient[i] = (newValue - oldValue) / deltaP;
+			gradient[i] = (newValue - oldValue) / DELTA_P;
 			parameters[i] = old;
 		}
 		return gradient;
 	}
 
+	private double getStep(int i) {
+		if (sliders[i] instanceof GeoNumeric) {
+			double step = sliders[i].getAnimationStep();
+			if (step > 1E-13) {
+				return Math.min(step * 0.01, DELTA_P);
+			}
+		}
+		return DELTA_P;
+	}
+
+	/**
+	 * Evaluates the function for all x-values at once. Many x-values are split
+	 * into chunks for the threads of the executor, each chunk uses its own
+	 * copy of the function (unless the function contains elements that are
+	 * not safe to evaluate concurrently).
+	 * 
+	 * @param x
+	 *            x-values
+	 * @param parameters
+	 *            parameters
+	 * @return function values
+	 */
+	public final double[] values(double[] x, double... parameters) {
+		ensureCopies(executor.getChunkCount(x.length, MIN_CHUNK_SIZE));
+		for (MyDouble[] copyParameter : copyParameters) {
+			for (int i = 0; i < numberOfParameters; i++) {
+				copyParameter[i].set(parameters[i]);
+			}
+		}
+		double[] values = new double[x.length];
+		executor.forEachChunk(x.length, MIN_CHUNK_SIZE, (chunk, from, to) -> {
+			Function function = copies.get(chunk);
+			for (int k = from; k < to; k++) {
+				values[k] = function.value(x[k]);
+			}
+		});
+		return values;
+	}
+
+	/* copies are created on the calling thread */
+	private void ensureCopies(int chunks) {
+		while (copies.size() < chunks) {
+			MyDouble[] values = new MyDouble[numberOfParameters];
+			for (int i = 0; i < numberOfParameters; i++) {
+				values[i] = new MyDouble(kernel);
+			}
+			FunctionVariable oldVar = bestFitFunction.getFunctionVariable();
+			FunctionVariable var = new FunctionVariable(kernel,
+					oldVar.getSetVarString());
+			ExpressionNode copy = bestFitFunction.getExpression().deepCopy(kernel)
+					.traverse(value -> {
+						if (value instanceof ParameterValue) {
+							return values[((ParameterValue) value).index];
+						}
+						return value == oldVar ? var : value;
+					}).wrap();
+			copies.add(new Function(copy, var));
+			copyParameters.add(values);
+		}
+	}
+
+	/**
+	 * Only numbers and operations on them can be evaluated concurrently; other
+	 * elements keep state in their expressions, random numbers have to be
+	 * drawn in order.
+	 */
+	private static boolean isThreadSafe(ExpressionValue value) {
+		if (value instanceof ExpressionNode) {
+			return ((ExpressionNode) value).getOperation() != Operation.RANDOM;
+		}
+		if (value instanceof GeoElement) {
+			return value instanceof GeoNumeric
+					&& !((GeoElement) value).isRandomGeo();
+		}
+		// includes function variable
+		return value instanceof MyDouble;
+	}
+
+	/**
+	 * Partial derivatives for all x-values at once, approximated as in
+	 * {@link #gradient(double, double...)}. The function is evaluated
+	 * (parameters + 1) times per x-value rather than twice per x-value and
+	 * parameter.
+	 * 
+	 * @param x
+	 *            x-values
+	 * @param parameters
+	 *            parameters
+	 * @return matrix with the gradient for x[k] in row k
+	 */
+	public final double[][] jacobian(double[] x, double... parameters) {
+		double[] oldValues = values(x, parameters);
+		double[][] jacobian = new double[x.length][numberOfParameters];
+		for (int i = 0; i < numberOfParameters; i++) {
+			double old = parameters[i];
+			parameters[i] += getStep(i);
+			double[] newValues = values(x, parameters);
+			for (int k = 0; k < x.length; k++) {
+				jacobian[k][i] = (newValues[k] - oldValues[k]) / DELTA_P;
+			}
+			parameters[i] = old;
+		}
+		return jacobian;
+	}
+
 	/**
 	 * Converts function to FitRealFunction
 	 * 
@@ -169,7 +313,7 @@ public class FitRealFunction implements ParametricUnivariateFunction {
 		expressionWithConstants.traverse(val -> {
 			if (val instanceof MyDouble && Double.isNaN(val.evaluateDouble())) {
 				GeoNumeric adHocParam = new GeoNumeric(kernel.getConstruction());
-				MyDouble paramValue = new MyDouble(kernel);
+				MyDouble paramValue = new ParameterValue(kernel);
 				parameters.add(adHocParam);
 				paramToValue.put(adHocParam, paramValue);
 				return paramValue;
@@ -177,7 +321,7 @@ public class FitRealFunction implements ParametricUnivariateFunction {
 					&& ((GeoNumeric) val).isLabelSet()) {
 				GeoNumeric numericVal = (GeoNumeric) val;
 				if (parameters.add(numericVal)) {
-					MyDouble paramValue = new MyDouble(kernel);
+					MyDouble paramValue = new ParameterValue(kernel);
 					parameters.add(numericVal);
 					paramToValue.put(numericVal, paramValue);
 					return paramValue;
@@ -192,13 +336,21 @@ public class FitRealFunction implements ParametricUnivariateFunction {
 			sliders = parameters.toArray(new GeoElement[0]);
 		}
 		for (GeoNumeric param: parameters) {
-			parameterValues.add(paramToValue.get(param));
+			MyDouble paramValue = paramToValue.get(param);
+			((ParameterValue) paramValue).index = parameterValues.size();
+			parameterValues.add(paramValue);
 		}
 
 		numberOfParameters = sliders.length;
 		expressionWithConstants.resolveVariables(new EvalInfo(false));
 		FunctionVariable functionVariable = f.getFunctionVariable();
 		this.bestFitFunction = new Function(expressionWithConstants, functionVariable);
+		copies.clear();
+		copyParameters.clear();
+		copies.add(bestFitFunction);
+		copyParameters.add(parameterValues.toArray(new MyDouble[0]));
+		executor = expressionWithConstants.any(value -> !isThreadSafe(value))
+				? ParallelExecutor.serial() : prototypeExecutor;
 	}
 
 	/**
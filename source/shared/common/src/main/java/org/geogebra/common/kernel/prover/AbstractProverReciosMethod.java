@@ -1,6 +1,7 @@
 package org.geogebra.common.kernel.prover;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -208,6 +209,10 @@ public abstract class AbstractProverReciosMethod {
 			deg = Math.max(deg, i);
 		}
 
+		if (ProverSettings.get().parallel && nrFreeVariables > 0) {
+			return computeParallel(freeVariables, values, deg, s, as);
+		}
+
 		switch (nrFreeVariables) {
 		case 0:
 			return compute0d(values, s, as);
@@ -354,6 +359,141 @@ public abstract class AbstractProverReciosMethod {
 		return ProofResult.TRUE;
 	}
 
+	/**
+	 * Checks the statement in all test points by a {@link ParallelSearch}
+	 * (parallel prover mode). The test points are the same as in the serial
+	 * computations.
+	 */
+	private static ProofResult computeParallel(
+			final HashSet<PVariable> freeVariables,
+			final HashMap<PVariable, BigInteger> values, final int deg,
+			final SymbolicParameters s, final AlgebraicStatement as) {
+		final PVariable[] variables = freeVariables
+				.toArray(new PVariable[freeVariables.size()]);
+		final List<BigInteger[]> points = getTestPoints(variables.length, deg);
+		Log.debug("nr of tests: " + points.size());
+		ParallelSearch<ProofResult> search = ParallelSearch.forProver();
+		ProofResult result = search.findFirst(points.size(), index -> {
+			HashMap<PVariable, BigInteger> point = new HashMap<>(values);
+			BigInteger[] coordinates = points.get(index);
+			for (int i = 0; i < variables.length; i++) {
+				point.put(variables[i], coordinates[i]);
+			}
+			return checkPoint(point, s, as);
+		});
+		if (result != null) {
+			return result;
+		}
+		if (search.isTimedOut()) {
+			Log.debug("Time budget used up before checking all test points");
+			return ProofResult.UNKNOWN;
+		}
+		return ProofResult.TRUE;
+	}
+
+	/**
+	 * @param point
+	 *            values of all variables
+	 * @param s
+	 *            symbolic parameters of the statement
+	 * @param as
+	 *            algebraic statement, null for native computations
+	 * @return FALSE if the statement is false in the point, UNKNOWN if it
+	 *         can't be decided, null if it is true
+	 */
+	private static ProofResult checkPoint(HashMap<PVariable, BigInteger> point,
+			SymbolicParameters s, AlgebraicStatement as) {
+		if (as != null) {
+			// use Botana's method
+			ExtendedBoolean solvable = PPolynomial.solvable(
+					as.getPolynomials().toArray(
+							new PPolynomial[as.getPolynomials().size()]),
+					point, as.geoStatement.getKernel(),
+					ProverSettings.get().transcext, as.freeVariables);
+			return solvable.boolVal() ? ProofResult.FALSE : null;
+		}
+		try {
+			BigInteger[] exactCoordinates = s.getExactCoordinates(point);
+			for (BigInteger result : exactCoordinates) {
+				if (!result.equals(BigInteger.ZERO)) {
+					return ProofResult.FALSE;
+				}
+			}
+		} catch (NoSymbolicParametersException e) {
+			return ProofResult.UNKNOWN;
+		}
+		return null;
+	}
+
+	/**
+	 * Lists the test points in the order of the serial computations.
+	 *
+	 * @param n
+	 *            number of free variables, at least 1
+	 * @param deg
+	 *            bound for the degree of the statement
+	 * @return coordinates of the test points
+	 */
+	static List<BigInteger[]> getTestPoints(int n, int deg) {
+		ArrayList<BigInteger[]> points = new ArrayList<>();
+		if (n == 1) {
+			for (int i = 1; i <= deg + 2; i++) {
+				points.add(new BigInteger[] { BigInteger.valueOf(i) });
+			}
+			return points;
+		}
+		if (n == 2) {
+			for (int i = 1; i < deg + 2; i++) {
+				for (int j = 1; j <= i; j++) {
+					points.add(new BigInteger[] {
+							BigInteger.valueOf((deg + 2 - i) * (deg + 2 - j)),
+							BigInteger.valueOf(i * j) });
+				}
+			}
+			return points;
+		}
+		int[] indices = new int[n];
+		for (int i = 0; i < n; i++) {
+			indices[i] = n - i;
+		}
+		boolean indicesChanged;
+		int changedIndex = n - 1;
+		BigInteger[][] cache = new BigInteger[n][n];
+		do {
+			BigInteger[] coordinates = new BigInteger[n];
+			for (int i = 0; i < n; i++) {
+				BigInteger result;
+				if (changedIndex == n - 1) {
+					result = BigInteger.ONE;
+				} else {
+					result = cache[i][changedIndex + 1];
+				}
+				for (int j = changedIndex; j >= 0; j--) {
+					result = result.multiply((BigInteger.valueOf(n)
+							.multiply(BigInteger.valueOf(indices[j])))
+									.subtract(BigInteger.valueOf(i)));
+					cache[i][j] = result;
+				}
+				coordinates[i] = result;
+			}
+			points.add(coordinates);
+
+			indicesChanged = false;
+			for (int i = 0; i < n; i++) {
+				if (indices[i] < (deg - i + n)) {
+					indices[i]++;
+					for (int j = 0; j < i; j++) {
+						indices[j] = indices[i] + i - j;
+					}
+					changedIndex = i;
+					indicesChanged = true;
+					break;
+				}
+			}
+		} while (indicesChanged);
+		return points;
+	}
+
 	/**
 	 * More complicated calculations are done by multiple threads in desktop
 	 * 
@@ -18,6 +18,7 @@ import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoPoint;
 import org.geogebra.common.kernel.implicit.GeoImplicit;
 import org.geogebra.common.kernel.prover.ProverBotanasMethod.AlgebraicStatement;
+import org.geogebra.common.kernel.prover.polynomial.PPolynomial;
 import org.geogebra.common.util.debug.Log;
 
 /**
@@ -331,6 +332,12 @@ public class AlgoEnvelope extends AlgoElement implements UsesCAS {
 		String polys = as.getPolys();
 		String elimVars = as.getElimVars();
 
+		PPolynomial curve = as.getCurvePolynomial(true);
+		if (curve != null) {
+			Log.debug("Curve computed without CAS: " + curve);
+			return ProverBotanasMethod.implicitCurveCoeffs(curve, as, kernel);
+		}
+
 		String PRECISION = Long.toString(kernel.precision());
 		Log.debug("PRECISION = " + PRECISION);
 
@@ -204,46 +204,43 @@ public class NDGDetector {
 
 		// CHECKING COLLINEARITY
 
-		Combinations<GeoElement> triplets = new Combinations<>(freePointsSet,
-				3);
-
-		while (triplets.hasNext()) {
-			Set<GeoElement> triplet = triplets.next();
-			Iterator<GeoElement> it = triplet.iterator();
-			// GeoElement[] points = (GeoElement[]) triplet.toArray();
-			// This is not working directly, so we have to do it manually:
-			int i = 0;
-			GeoElement[] points = new GeoElement[triplet.size()];
-			while (it.hasNext()) {
-				points[i] = it.next();
-				i++;
-			}
-			PVariable[] fv1, fv2, fv3;
+		final HashMap<GeoElement, PVariable[]> pointVars = new HashMap<>();
+		for (GeoElement point : freePointsSet) {
 			try {
-				fv1 = ((SymbolicParametersBotanaAlgo) points[0])
-						.getBotanaVars(points[0]);
-				fv2 = ((SymbolicParametersBotanaAlgo) points[1])
-						.getBotanaVars(points[1]);
-				fv3 = ((SymbolicParametersBotanaAlgo) points[2])
-						.getBotanaVars(points[2]);
-
+				pointVars.put(point, ((SymbolicParametersBotanaAlgo) point)
+						.getBotanaVars(point));
 			} catch (NoSymbolicParametersException e) {
 				Log.debug("Cannot get Botana vars during NDG detection");
 				return null;
 			}
-			// Creating the polynomial for collinearity:
-			PPolynomial coll = PPolynomial
-					.collinear(fv1[0], fv1[1], fv2[0], fv2[1], fv3[0], fv3[1])
-					.substitute(substitutions);
-			if (PPolynomial.areAssociates1(p, coll)) {
-				Log.debug(p + " means collinearity for " + triplet);
-				ndgc = new NDGCondition();
-				ndgc.setGeos(points);
-				Arrays.sort(ndgc.getGeos());
-				ndgc.setCondition("AreCollinear");
-				lookupTable.put(keyString, ndgc);
-				return ndgc;
-			}
+		}
+		final PPolynomial poly = p;
+		final List<GeoElement[]> triplets = getCombinations(freePointsSet, 3);
+		ndgc = ParallelSearch.<NDGCondition> forProver()
+				.findFirst(triplets.size(), index -> {
+					GeoElement[] points = triplets.get(index);
+					PVariable[] fv1 = pointVars.get(points[0]);
+					PVariable[] fv2 = pointVars.get(points[1]);
+					PVariable[] fv3 = pointVars.get(points[2]);
+					// Creating the polynomial for collinearity:
+					PPolynomial coll = PPolynomial
+							.collinear(fv1[0], fv1[1], fv2[0], fv2[1], fv3[0],
+									fv3[1])
+							.substitute(substitutions);
+					if (!PPolynomial.areAssociates1(poly, coll)) {
+						return null;
+					}
+					Log.debug(poly + " means collinearity for "
+							+ Arrays.toString(points));
+					NDGCondition collinear = new NDGCondition();
+					collinear.setGeos(points);
+					Arrays.sort(collinear.getGeos());
+					collinear.setCondition("AreCollinear");
+					return collinear;
+				});
+		if (ndgc != null) {
+			lookupTable.put(keyString, ndgc);
+			return ndgc;
 		}
 
 		// CHECKING STRONG EQUALITY
@@ -387,94 +384,21 @@ public class NDGDetector {
 
 		// CHECKING PERPENDICULARITY, PARALLELISM AND CONGRUENCE
 
-		Combinations<GeoElement> pairs1 = new Combinations<>(freePointsSet, 2);
-
-		while (pairs1.hasNext()) {
-			Set<GeoElement> pair1 = pairs1.next();
-			Iterator<GeoElement> it1 = pair1.iterator();
-			// GeoElement[] points = (GeoElement[]) pair.toArray();
-			// This is not working directly, so we have to do it manually:
-			int i = 0;
-			GeoElement[] points = new GeoElement[4];
-			while (it1.hasNext()) {
-				points[i] = it1.next();
-				i++;
-			}
-
-			Combinations<GeoElement> pairs3 = new Combinations<>(freePointsSet,
-					2);
-			while (pairs3.hasNext()) {
-				Set<GeoElement> pair2 = pairs3.next();
-				Iterator<GeoElement> it2 = pair2.iterator();
-				// GeoElement[] points = (GeoElement[]) pair.toArray();
-				// This is not working directly, so we have to do it manually:
-				i = 2;
-				while (it2.hasNext()) {
-					points[i] = it2.next();
-					i++;
-				}
-
-				PVariable[] fv1, fv2, fv3, fv4;
-				try {
-					fv1 = ((SymbolicParametersBotanaAlgo) points[0])
-							.getBotanaVars(points[0]);
-					fv2 = ((SymbolicParametersBotanaAlgo) points[1])
-							.getBotanaVars(points[1]);
-					fv3 = ((SymbolicParametersBotanaAlgo) points[2])
-							.getBotanaVars(points[0]);
-					fv4 = ((SymbolicParametersBotanaAlgo) points[3])
-							.getBotanaVars(points[1]);
-				} catch (NoSymbolicParametersException e) {
-					Log.debug("Cannot get Botana vars during NDG detection");
-					return null;
-				}
-
-				// Creating the polynomial for perpendicularity:
-				PPolynomial eq = PPolynomial
-						.perpendicular(fv1[0], fv1[1], fv2[0], fv2[1], fv3[0],
-								fv3[1], fv4[0], fv4[1])
-						.substitute(substitutions);
-				if (PPolynomial.areAssociates1(p, eq)) {
-					Log.debug(p + " means perpendicularity for " + pair1
-							+ " and " + pair2);
-					ndgc = new NDGCondition();
-					ndgc.setGeos(points);
-					ndgc.setCondition("ArePerpendicular");
-					ndgc.setReadability(0.75);
-					lookupTable.put(keyString, ndgc);
-					return ndgc;
-				}
-				// Creating the polynomial for parallelism:
-				eq = PPolynomial
-						.parallel(fv1[0], fv1[1], fv2[0], fv2[1], fv3[0],
-								fv3[1], fv4[0], fv4[1])
-						.substitute(substitutions);
-				if (PPolynomial.areAssociates1(p, eq)) {
-					Log.debug(p + " means parallelism for " + pair1 + " and "
-							+ pair2);
-					ndgc = new NDGCondition();
-					ndgc.setGeos(points);
-					ndgc.setCondition("AreParallel");
-					ndgc.setReadability(0.75);
-					lookupTable.put(keyString, ndgc);
-					return ndgc;
-				}
-				// Creating the polynomial for congruence:
-				eq = PPolynomial.sqrDistance(fv1[0], fv1[1], fv2[0], fv2[1])
-						.subtract(PPolynomial.sqrDistance(fv3[0], fv3[1],
-								fv4[0], fv4[1]))
-						.substitute(substitutions);
-				if (PPolynomial.areAssociates1(p, eq)) {
-					Log.debug(p + " means congruence for " + pair1 + " and "
-							+ pair2);
-					ndgc = new NDGCondition();
-					ndgc.setGeos(points);
-					ndgc.setCondition("AreCongruent");
-					ndgc.setReadability(0.75);
-					lookupTable.put(keyString, ndgc);
-					return ndgc;
-				}
-			}
+		final List<GeoElement[]> pairList = getCombinations(freePointsSet, 2);
+		final int pairCount = pairList.size();
+		ndgc = ParallelSearch.<NDGCondition> forProver()
+				.findFirst(pairCount * pairCount, index -> {
+					GeoElement[] pair1 = pairList.get(index / pairCount);
+					GeoElement[] pair2 = pairList.get(index % pairCount);
+					GeoElement[] points = { pair1[0], pair1[1], pair2[0],
+							pair2[1] };
+					return detectPairOfSegments(poly, points,
+							pointVars.get(points[0]), pointVars.get(points[1]),
+							pointVars.get(points[2]), pointVars.get(points[3]));
+				});
+		if (ndgc != null) {
+			lookupTable.put(keyString, ndgc);
+			return ndgc;
 		}
 
 		// Unsuccessful run:
@@ -483,5 +407,85 @@ public class NDGDetector {
 
 		return null;
 	}
-}
 
+	/**
+	 * Checks if the polynomial means that two segments are perpendicular,
+	 * parallel or congruent.
+	 *
+	 * @param p
+	 *            polynomial
+	 * @param points
+	 *            endpoints of the segments
+	 * @param fv1
+	 *            variables of the first point
+	 * @param fv2
+	 *            variables of the second point
+	 * @param fv3
+	 *            variables of the third point
+	 * @param fv4
+	 *            variables of the fourth point
+	 * @return the NDG condition or null
+	 */
+	private NDGCondition detectPairOfSegments(PPolynomial p,
+			GeoElement[] points, PVariable[] fv1, PVariable[] fv2,
+			PVariable[] fv3, PVariable[] fv4) {
+		NDGCondition ndgc;
+		// Creating the polynomial for perpendicularity:
+		PPolynomial eq = PPolynomial
+				.perpendicular(fv1[0], fv1[1], fv2[0], fv2[1], fv3[0], fv3[1],
+						fv4[0], fv4[1])
+				.substitute(substitutions);
+		if (PPolynomial.areAssociates1(p, eq)) {
+			Log.debug(p + " means perpendicularity for "
+					+ Arrays.toString(points));
+			ndgc = new NDGCondition();
+			ndgc.setGeos(points);
+			ndgc.setCondition("ArePerpendicular");
+			ndgc.setReadability(0.75);
+			return ndgc;
+		}
+		// Creating the polynomial for parallelism:
+		eq = PPolynomial.parallel(fv1[0], fv1[1], fv2[0], fv2[1], fv3[0],
+				fv3[1], fv4[0], fv4[1]).substitute(substitutions);
+		if (PPolynomial.areAssociates1(p, eq)) {
+			Log.debug(p + " means parallelism for " + Arrays.toString(points));
+			ndgc = new NDGCondition();
+			ndgc.setGeos(points);
+			ndgc.setCondition("AreParallel");
+			ndgc.setReadability(0.75);
+			return ndgc;
+		}
+		// Creating the polynomial for congruence:
+		eq = PPolynomial.sqrDistance(fv1[0], fv1[1], fv2[0], fv2[1])
+				.subtract(PPolynomial.sqrDistance(fv3[0], fv3[1], fv4[0],
+						fv4[1]))
+				.substitute(substitutions);
+		if (PPolynomial.areAssociates1(p, eq)) {
+			Log.debug(p + " means congruence for " + Arrays.toString(points));
+			ndgc = new NDGCondition();
+			ndgc.setGeos(points);
+			ndgc.setCondition("AreCongruent");
+			ndgc.setReadability(0.75);
+			return ndgc;
+		}
+		return null;
+	}
+
+	/**
+	 * @param set
+	 *            set of objects
+	 * @param order
+	 *            size of the subsets
+	 * @return subsets of the given size, in the order of {@link Combinations}
+	 */
+	private static List<GeoElement[]> getCombinations(Set<GeoElement> set,
+			int order) {
+		ArrayList<GeoElement[]> ret = new ArrayList<>();
+		Combinations<GeoElement> combinations = new Combinations<>(set, order);
+		while (combinations.hasNext()) {
+			Set<GeoElement> combination = combinations.next();
+			ret.add(combination.toArray(new GeoElement[combination.size()]));
+		}
+		return ret;
+	}
+}
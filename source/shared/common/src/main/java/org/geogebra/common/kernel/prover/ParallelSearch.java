@@ -0,0 +1,136 @@
+package org.geogebra.common.kernel.prover;
+
+import org.geogebra.common.main.ProverSettings;
+import org.geogebra.common.util.ParallelExecutor;
+
+/**
+ * Searches independent candidates (test points, NDG candidates) for the first
+ * one which gives a conclusive answer. In the parallel prover mode (see
+ * {@link ProverSettings#parallel}) the candidates are checked on several
+ * threads and the search stops when an answer is found or the time budget is
+ * used up. Unless the time budget runs out, the answer is the one of the
+ * candidate with the lowest index, so it doesn't depend on the scheduling of
+ * the threads.
+ *
+ * @param <T>
+ *            type of the answer
+ */
+public class ParallelSearch<T> {
+
+	private final ParallelExecutor executor;
+	private final long timeoutMillis;
+	private long deadline;
+	private boolean timedOut;
+	private int firstIndex;
+	private T firstAnswer;
+
+	/**
+	 * Check of one candidate.
+	 *
+	 * @param <T>
+	 *            type of the answer
+	 */
+	public interface Check<T> {
+		/**
+		 * @param index
+		 *            index of the candidate
+		 * @return conclusive answer for the candidate, or null
+		 */
+		T check(int index);
+	}
+
+	/**
+	 * @param executor
+	 *            executor for the checks
+	 * @param timeoutMillis
+	 *            time budget of one search in milliseconds, 0 for no limit
+	 */
+	public ParallelSearch(ParallelExecutor executor, long timeoutMillis) {
+		this.executor = executor;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * @param <T>
+	 *            type of the answer
+	 * @return search using the prover settings: serial without time budget
+	 *         unless the parallel mode is on
+	 */
+	public static <T> ParallelSearch<T> forProver() {
+		ProverSettings settings = ProverSettings.get();
+		if (!settings.parallel) {
+			return new ParallelSearch<>(ParallelExecutor.serial(), 0);
+		}
+		int seconds = settings.parallelTimeout > 0 ? settings.parallelTimeout
+				: settings.proverTimeout;
+		return new ParallelSearch<>(ParallelExecutor.getPrototype(),
+				seconds * 1000L);
+	}
+
+	/**
+	 * Checks the candidates until one of them gives an answer.
+	 *
+	 * @param count
+	 *            number of candidates
+	 * @param check
+	 *            check of one candidate
+	 * @return answer of the first conclusive candidate, or null if there is
+	 *         none or the time budget was used up (see {@link #isTimedOut()})
+	 */
+	public T findFirst(final int count, final Check<T> check) {
+		synchronized (this) {
+			firstIndex = count;
+			firstAnswer = null;
+			timedOut = false;
+			deadline = timeoutMillis > 0
+					? System.currentTimeMillis() + timeoutMillis : 0;
+		}
+		// each worker takes every n-th candidate, so the candidates with low
+		// indices are checked first
+		final int workers = executor.getChunkCount(count, 1);
+		executor.forEachChunk(workers, 1, (chunk, from, to) -> {
+			for (int worker = from; worker < to; worker++) {
+				for (int i = worker; i < getFirstIndex(); i += workers) {
+					if (isOverBudget()) {
+						return;
+					}
+					T answer = check.check(i);
+					if (answer != null) {
+						offer(i, answer);
+						break;
+					}
+				}
+			}
+		});
+		synchronized (this) {
+			return firstAnswer;
+		}
+	}
+
+	/**
+	 * @return whether the last search was stopped by the time budget before
+	 *         an answer was found
+	 */
+	public synchronized boolean isTimedOut() {
+		return timedOut && firstAnswer == null;
+	}
+
+	private synchronized int getFirstIndex() {
+		return firstIndex;
+	}
+
+	private synchronized void offer(int index, T answer) {
+		if (index < firstIndex) {
+			firstIndex = index;
+			firstAnswer = answer;
+		}
+	}
+
+	private synchronized boolean isOverBudget() {
+		if (!timedOut && deadline > 0
+				&& System.currentTimeMillis() > deadline) {
+			timedOut = true;
+		}
+		return timedOut;
+	}
+}
@@ -12,6 +12,7 @@ import java.util.Set;
 import java.util.TreeSet;
 
 import org.geogebra.common.cas.GeoGebraCAS;
+import org.geogebra.common.cas.giac.CASgiac.CustomFunctions;
 import org.geogebra.common.factories.UtilFactory;
 import org.geogebra.common.kernel.CASGenericInterface;
 import org.geogebra.common.kernel.Kernel;
@@ -43,6 +44,7 @@ import org.geogebra.common.kernel.geos.GeoSegment;
 import org.geogebra.common.kernel.kernelND.GeoElementND;
 import org.geogebra.common.kernel.matrix.Coords;
 import org.geogebra.common.kernel.prover.adapters.DependentNumberAdapter;
+import org.geogebra.common.kernel.prover.polynomial.NativeGroebner;
 import org.geogebra.common.kernel.prover.polynomial.PPolynomial;
 import org.geogebra.common.kernel.prover.polynomial.PVariable;
 import org.geogebra.common.main.ProverSettings;
@@ -299,6 +301,11 @@ public class ProverBotanasMethod {
 	 * implemented).
 	 */
 	public static class AlgebraicStatement {
+		/**
+		 * Maximal size of the Jacobian matrix for computing envelopes without
+		 * the CAS.
+		 */
+		private static final int MAX_NATIVE_JACOBIAN = 8;
 		/**
 		 * The statement in geometric form, e.g. AreCollinear[D,E,F].
 		 */
@@ -339,6 +346,7 @@ public class ProverBotanasMethod {
 		private boolean disallowFixSecondPoint = false;
 
 		private String polys, elimVars, freeVars, freeVarsWithoutAlmostFree, elimVarsWithAlmostFree;
+		private PPolynomial[] substitutedPolynomials;
 
 		private PPolynomial[] thesisFactors;
 		private HashMap<GeoElement, PPolynomial[]> geoPolys = new HashMap<>();
@@ -448,6 +456,69 @@ public class ProverBotanasMethod {
 			return elimVars;
 		}
 
+		/**
+		 * Return the polynomials of the algebraic structure with the
+		 * substitutions applied. Use computeStrings() before using this
+		 * method.
+		 *
+		 * @return polynomials
+		 */
+		public PPolynomial[] getSubstitutedPolynomials() {
+			return substitutedPolynomials;
+		}
+
+		/**
+		 * Compute the polynomial of a locus or envelope curve without the CAS,
+		 * if the elimination ideal is principal and the problem is small.
+		 * Use computeStrings() before using this method.
+		 *
+		 * @param envelope
+		 *            whether the Jacobian condition of an envelope should be
+		 *            added
+		 * @return primitive polynomial in the curve variables, or null if
+		 *         the CAS should compute it
+		 */
+		public PPolynomial getCurvePolynomial(boolean envelope) {
+			if (!ProverSettings.get().nativeGroebner
+					|| substitutedPolynomials == null || curveVars[0] == null
+					|| curveVars[1] == null) {
+				return null;
+			}
+			HashSet<PVariable> keep = new HashSet<>(Arrays.asList(curveVars));
+			ArrayList<PPolynomial> system = new ArrayList<>();
+			for (PPolynomial poly : substitutedPolynomials) {
+				if (!poly.isZero()) {
+					system.add(poly);
+				}
+			}
+			PPolynomial[] systemArray = system
+					.toArray(new PPolynomial[system.size()]);
+			TreeSet<PVariable> elim = new TreeSet<>(
+					PPolynomial.getVars(systemArray));
+			elim.removeAll(keep);
+			for (PVariable var : elim) {
+				if (freeVariables.contains(var)) {
+					// the CAS would keep this variable in the result
+					return null;
+				}
+			}
+			if (envelope) {
+				/*
+				 * Giac simplifies linear equations first, which changes the
+				 * determinant only by a constant factor modulo the ideal, but
+				 * it needs a square system:
+				 */
+				if (elim.size() != system.size()
+						|| elim.size() > MAX_NATIVE_JACOBIAN) {
+					return null;
+				}
+				system.add(PPolynomial.jacobianDeterminant(systemArray,
+						elim.toArray(new PVariable[elim.size()])));
+				systemArray = system.toArray(new PPolynomial[system.size()]);
+			}
+			return NativeGroebner.eliminate(systemArray, keep);
+		}
+
 		/**
 		 * Return the elimination variables plus the almost free variables
 		 * of the algebraic structure as a String.
@@ -605,6 +676,7 @@ public class ProverBotanasMethod {
 					"Eliminating system in " + variables.size() + " variables ("
 							+ dependentVariables.size() + " dependent)");
 
+			this.substitutedPolynomials = eqSystemSubstituted;
 			this.polys = PPolynomial
 					.getPolysAsCommaSeparatedString(eqSystemSubstituted);
 			this.elimVars = PPolynomial.getVarsAsCommaSeparatedString(
@@ -1746,6 +1818,35 @@ public class ProverBotanasMethod {
 		return ProofResult.TRUE;
 	}
 
+	/**
+	 * Compute the coefficients of an implicit curve by the CAS, for a curve
+	 * polynomial which was already computed without the CAS.
+	 *
+	 * @param curve
+	 *            polynomial in the curve variables
+	 * @param as
+	 *            the algebraic statement structure
+	 * @param kernel
+	 *            kernel
+	 * @return the implicit curve as a string (in the same format as for
+	 *         LocusEquation)
+	 */
+	public static String implicitCurveCoeffs(PPolynomial curve,
+			AlgebraicStatement as, Kernel kernel) {
+		String command = CustomFunctions.IMPLICIT_CURVE_COEFFS + "(subst("
+				+ curve + ",[" + as.curveVars[0] + "=x," + as.curveVars[1]
+				+ "=y]))";
+		GeoGebraCAS cas = (GeoGebraCAS) kernel.getGeoGebraCAS();
+		try {
+			String result = cas.getCurrentCAS().evaluateRaw(command);
+			Log.trace("Output from giac: " + result);
+			return result;
+		} catch (Throwable ex) {
+			Log.error("Error on running Giac code");
+			return null;
+		}
+	}
+
 	/**
 	 * Create algebraic equations of the construction to prepare computing a
 	 * locus or envelope equation.
@@ -0,0 +1,302 @@
+package org.geogebra.common.kernel.prover.polynomial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Buchberger's algorithm over a {@link ModularRing}. Critical pairs are
+ * selected by the normal strategy (smallest lcm first) and filtered by the
+ * criteria of Gebauer and Moeller. The computation gives up (returns null) when
+ * it exceeds the given number of reduction steps or the given polynomial size,
+ * so callers can fall back to an external CAS for hard problems.
+ */
+final class ModularGroebnerBasis {
+
+	private final ModularRing ring;
+	private final int maxSteps;
+	private final int maxTerms;
+	private int steps = 0;
+	private final ArrayList<ModularPolynomial> basis = new ArrayList<>();
+	private final ArrayList<int[]> leadingMonomials = new ArrayList<>();
+	/** elements whose leading monomial is not a multiple of a newer one */
+	private final ArrayList<Boolean> active = new ArrayList<>();
+	private final ArrayList<Pair> pairs = new ArrayList<>();
+
+	private static final class Pair {
+		final int i;
+		final int j;
+		final int[] lcm;
+
+		Pair(int i, int j, int[] lcm) {
+			this.i = i;
+			this.j = j;
+			this.lcm = lcm;
+		}
+	}
+
+	/**
+	 * @param ring
+	 *            ring
+	 * @param maxSteps
+	 *            maximal number of reduction steps
+	 * @param maxTerms
+	 *            maximal number of terms of intermediate polynomials
+	 */
+	ModularGroebnerBasis(ModularRing ring, int maxSteps, int maxTerms) {
+		this.ring = ring;
+		this.maxSteps = maxSteps;
+		this.maxTerms = maxTerms;
+	}
+
+	/**
+	 * @param generators
+	 *            generators of the ideal
+	 * @return reduced Groebner basis (monic, sorted by decreasing leading
+	 *         monomial), {1} for the unit ideal, empty list for the zero
+	 *         ideal, or null if the limits were exceeded
+	 */
+	List<ModularPolynomial> compute(List<ModularPolynomial> generators) {
+		for (ModularPolynomial generator : generators) {
+			if (!add(generator)) {
+				return null;
+			}
+			if (isUnit()) {
+				return unit();
+			}
+		}
+		while (!pairs.isEmpty()) {
+			Pair pair = selectPair();
+			ModularPolynomial s = sPolynomial(pair);
+			if (!add(s)) {
+				return null;
+			}
+			if (isUnit()) {
+				return unit();
+			}
+		}
+		return interreduce();
+	}
+
+	private boolean isUnit() {
+		return !basis.isEmpty() && basis.get(basis.size() - 1).isConstant();
+	}
+
+	private List<ModularPolynomial> unit() {
+		ArrayList<int[]> one = new ArrayList<>();
+		one.add(new int[ring.vars]);
+		ArrayList<Long> coeff = new ArrayList<>();
+		coeff.add(1L);
+		ArrayList<ModularPolynomial> ret = new ArrayList<>();
+		ret.add(ModularPolynomial.fromTerms(ring, one, coeff));
+		return ret;
+	}
+
+	/**
+	 * Reduces the polynomial and adds it to the basis if it's not zero.
+	 *
+	 * @return false if the limits were exceeded
+	 */
+	private boolean add(ModularPolynomial poly) {
+		ModularPolynomial h = reduce(poly, -1, false);
+		if (h == null) {
+			return false;
+		}
+		if (!h.isZero()) {
+			update(h.monic());
+		}
+		return true;
+	}
+
+	private Pair selectPair() {
+		int best = 0;
+		for (int k = 1; k < pairs.size(); k++) {
+			if (ring.compare(pairs.get(k).lcm, 0, pairs.get(best).lcm,
+					0) < 0) {
+				best = k;
+			}
+		}
+		return pairs.remove(best);
+	}
+
+	private ModularPolynomial sPolynomial(Pair pair) {
+		ModularPolynomial f = basis.get(pair.i);
+		ModularPolynomial g = basis.get(pair.j);
+		ModularPolynomial shifted = f
+				.multiply(quotient(pair.lcm, leadingMonomials.get(pair.i)));
+		return shifted.subtractMultiple(1,
+				quotient(pair.lcm, leadingMonomials.get(pair.j)), g);
+	}
+
+	/**
+	 * @param poly
+	 *            polynomial
+	 * @param skip
+	 *            index of basis element not to be used, -1 for none
+	 * @param full
+	 *            whether to reduce all terms or only the leading one
+	 * @return normal form or null if the limits were exceeded
+	 */
+	private ModularPolynomial reduce(ModularPolynomial poly, int skip,
+			boolean full) {
+		ModularPolynomial p = poly;
+		int term = 0;
+		while (term < p.size()) {
+			int divisor = findDivisor(p, term, skip);
+			if (divisor < 0) {
+				if (!full) {
+					break;
+				}
+				term++;
+				continue;
+			}
+			if (++steps > maxSteps) {
+				return null;
+			}
+			int[] lm = leadingMonomials.get(divisor);
+			// basis elements are monic
+			p = p.subtractMultiple(p.coefficient(term), p.quotient(lm, term),
+					basis.get(divisor));
+			if (p.size() > maxTerms) {
+				return null;
+			}
+		}
+		return p;
+	}
+
+	private int findDivisor(ModularPolynomial p, int term, int skip) {
+		for (int k = 0; k < basis.size(); k++) {
+			if (k != skip && active.get(k)
+					&& p.isDivisibleBy(leadingMonomials.get(k), term)) {
+				return k;
+			}
+		}
+		return -1;
+	}
+
+	private void update(ModularPolynomial h) {
+		int t = basis.size();
+		int[] lmH = h.leadingMonomial();
+		// chain criterion for the old pairs
+		Iterator<Pair> it = pairs.iterator();
+		while (it.hasNext()) {
+			Pair pair = it.next();
+			if (divides(lmH, pair.lcm)
+					&& !Arrays.equals(lcm(leadingMonomials.get(pair.i), lmH),
+							pair.lcm)
+					&& !Arrays.equals(lcm(leadingMonomials.get(pair.j), lmH),
+							pair.lcm)) {
+				it.remove();
+			}
+		}
+		ArrayList<Pair> candidates = new ArrayList<>();
+		for (int i = 0; i < t; i++) {
+			if (active.get(i)) {
+				candidates.add(
+						new Pair(i, t, lcm(leadingMonomials.get(i), lmH)));
+			}
+		}
+		// drop pairs whose lcm is a proper multiple of another one
+		ArrayList<Pair> minimal = new ArrayList<>();
+		for (Pair pair : candidates) {
+			boolean redundant = false;
+			for (Pair other : candidates) {
+				if (other != pair && divides(other.lcm, pair.lcm)
+						&& !Arrays.equals(other.lcm, pair.lcm)) {
+					redundant = true;
+					break;
+				}
+			}
+			if (!redundant) {
+				minimal.add(pair);
+			}
+		}
+		// keep one pair for each lcm, none if one of them has coprime
+		// leading monomials (product criterion)
+		boolean[] dropped = new boolean[minimal.size()];
+		for (int a = 0; a < minimal.size(); a++) {
+			if (dropped[a]) {
+				continue;
+			}
+			Pair pair = minimal.get(a);
+			boolean coprime = isCoprime(leadingMonomials.get(pair.i), lmH);
+			for (int b = a + 1; b < minimal.size(); b++) {
+				if (!dropped[b] && Arrays.equals(pair.lcm, minimal.get(b).lcm)) {
+					coprime = coprime || isCoprime(
+							leadingMonomials.get(minimal.get(b).i), lmH);
+					dropped[b] = true;
+				}
+			}
+			if (!coprime) {
+				pairs.add(pair);
+			}
+		}
+		for (int i = 0; i < t; i++) {
+			if (active.get(i) && divides(lmH, leadingMonomials.get(i))) {
+				active.set(i, false);
+			}
+		}
+		basis.add(h);
+		leadingMonomials.add(lmH);
+		active.add(true);
+	}
+
+	private static boolean isCoprime(int[] a, int[] b) {
+		for (int k = 0; k < a.length; k++) {
+			if (a[k] > 0 && b[k] > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private List<ModularPolynomial> interreduce() {
+		ArrayList<ModularPolynomial> ret = new ArrayList<>();
+		for (int k = 0; k < basis.size(); k++) {
+			if (active.get(k)) {
+				ModularPolynomial reduced = reduce(basis.get(k), k, true);
+				if (reduced == null) {
+					return null;
+				}
+				ret.add(reduced.monic());
+			}
+		}
+		Collections.sort(ret, (f, g) -> ring.compare(g.leadingMonomial(), 0,
+				f.leadingMonomial(), 0));
+		return ret;
+	}
+
+	/**
+	 * @return number of reduction steps so far
+	 */
+	int getSteps() {
+		return steps;
+	}
+
+	private static boolean divides(int[] a, int[] b) {
+		for (int k = 0; k < a.length; k++) {
+			if (a[k] > b[k]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int[] lcm(int[] a, int[] b) {
+		int[] lcm = new int[a.length];
+		for (int k = 0; k < a.length; k++) {
+			lcm[k] = Math.max(a[k], b[k]);
+		}
+		return lcm;
+	}
+
+	private static int[] quotient(int[] a, int[] b) {
+		int[] quotient = new int[a.length];
+		for (int k = 0; k < a.length; k++) {
+			quotient[k] = a[k] - b[k];
+		}
+		return quotient;
+	}
+}
@@ -0,0 +1,307 @@
+package org.geogebra.common.kernel.prover.polynomial;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sparse polynomial over the integers modulo a prime. The terms are stored in
+ * decreasing order of the ring's monomial order: the exponents in one flat
+ * array ({@link ModularRing#vars} entries per term) and the coefficients in
+ * another one. Instances are immutable.
+ */
+final class ModularPolynomial {
+
+	/** the ring */
+	final ModularRing ring;
+	private final int[] exponents;
+	private final long[] coefficients;
+
+	private ModularPolynomial(ModularRing ring, int[] exponents,
+			long[] coefficients) {
+		this.ring = ring;
+		this.exponents = exponents;
+		this.coefficients = coefficients;
+	}
+
+	/**
+	 * @param ring
+	 *            ring
+	 * @param monomials
+	 *            exponent vectors, in any order, possibly repeated
+	 * @param coefficients
+	 *            coefficients of the monomials, in [0, prime)
+	 * @return the sum of the terms
+	 */
+	static ModularPolynomial fromTerms(final ModularRing ring,
+			final List<int[]> monomials, List<Long> coefficients) {
+		List<Integer> order = new ArrayList<>(monomials.size());
+		for (int i = 0; i < monomials.size(); i++) {
+			order.add(i);
+		}
+		Collections.sort(order, (i, j) -> ring.compare(monomials.get(j), 0,
+				monomials.get(i), 0));
+		int n = ring.vars;
+		int[] exps = new int[monomials.size() * n];
+		long[] coeffs = new long[monomials.size()];
+		int size = 0;
+		for (int index : order) {
+			int[] monomial = monomials.get(index);
+			long coeff = coefficients.get(index);
+			if (size > 0 && ring.compare(exps, (size - 1) * n, monomial,
+					0) == 0) {
+				coeffs[size - 1] = (coeffs[size - 1] + coeff) % ring.prime;
+			} else {
+				System.arraycopy(monomial, 0, exps, size * n, n);
+				coeffs[size] = coeff;
+				size++;
+			}
+		}
+		return compact(ring, exps, coeffs, size);
+	}
+
+	private static ModularPolynomial compact(ModularRing ring, int[] exps,
+			long[] coeffs, int size) {
+		int n = ring.vars;
+		int nonzero = 0;
+		for (int i = 0; i < size; i++) {
+			if (coeffs[i] != 0) {
+				nonzero++;
+			}
+		}
+		int[] newExps = new int[nonzero * n];
+		long[] newCoeffs = new long[nonzero];
+		int j = 0;
+		for (int i = 0; i < size; i++) {
+			if (coeffs[i] != 0) {
+				System.arraycopy(exps, i * n, newExps, j * n, n);
+				newCoeffs[j++] = coeffs[i];
+			}
+		}
+		return new ModularPolynomial(ring, newExps, newCoeffs);
+	}
+
+	/**
+	 * @return number of terms
+	 */
+	int size() {
+		return coefficients.length;
+	}
+
+	/**
+	 * @return whether this is zero
+	 */
+	boolean isZero() {
+		return coefficients.length == 0;
+	}
+
+	/**
+	 * @return whether this is a nonzero constant
+	 */
+	boolean isConstant() {
+		if (coefficients.length != 1) {
+			return false;
+		}
+		for (int i = 0; i < ring.vars; i++) {
+			if (exponents[i] != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param term
+	 *            term index
+	 * @return coefficient of the term
+	 */
+	long coefficient(int term) {
+		return coefficients[term];
+	}
+
+	/**
+	 * @param term
+	 *            term index
+	 * @param var
+	 *            variable index
+	 * @return exponent of the variable in the term
+	 */
+	int exponent(int term, int var) {
+		return exponents[term * ring.vars + var];
+	}
+
+	/**
+	 * @return copy of the leading exponent vector
+	 */
+	int[] leadingMonomial() {
+		int[] monomial = new int[ring.vars];
+		System.arraycopy(exponents, 0, monomial, 0, ring.vars);
+		return monomial;
+	}
+
+	/**
+	 * @return whether some term contains a variable of the first block
+	 */
+	boolean containsEliminatedVariables() {
+		if (isZero()) {
+			return false;
+		}
+		// the leading term has the highest degree in the first block
+		for (int i = 0; i < ring.elimVars; i++) {
+			if (exponents[i] != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return this divided by the leading coefficient
+	 */
+	ModularPolynomial monic() {
+		if (isZero() || coefficients[0] == 1) {
+			return this;
+		}
+		long inverse = ring.inverse(coefficients[0]);
+		long[] coeffs = new long[coefficients.length];
+		for (int i = 0; i < coeffs.length; i++) {
+			coeffs[i] = ring.multiply(coefficients[i], inverse);
+		}
+		return new ModularPolynomial(ring, exponents, coeffs);
+	}
+
+	/**
+	 * @param divisor
+	 *            monomial
+	 * @param term
+	 *            term index
+	 * @return whether the monomial divides the term
+	 */
+	boolean isDivisibleBy(int[] divisor, int term) {
+		int offset = term * ring.vars;
+		for (int i = 0; i < ring.vars; i++) {
+			if (divisor[i] > exponents[offset + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param divisor
+	 *            monomial dividing the term
+	 * @param term
+	 *            term index
+	 * @return exponents of the term divided by the monomial
+	 */
+	int[] quotient(int[] divisor, int term) {
+		int[] quotient = new int[ring.vars];
+		int offset = term * ring.vars;
+		for (int i = 0; i < ring.vars; i++) {
+			quotient[i] = exponents[offset + i] - divisor[i];
+		}
+		return quotient;
+	}
+
+	/**
+	 * Computes this - coeff * monomial * g. Multiplying by a monomial keeps
+	 * the order of the terms, so this is a merge of two sorted term lists.
+	 *
+	 * @param coeff
+	 *            coefficient
+	 * @param monomial
+	 *            exponent vector
+	 * @param g
+	 *            polynomial
+	 * @return the difference
+	 */
+	ModularPolynomial subtractMultiple(long coeff, int[] monomial,
+			ModularPolynomial g) {
+		int n = ring.vars;
+		int[] shifted = new int[n];
+		int size = 0;
+		int max = size() + g.size();
+		int[] exps = new int[max * n];
+		long[] coeffs = new long[max];
+		int i = 0;
+		int j = 0;
+		int shiftedTerm = -1;
+		while (i < size() || j < g.size()) {
+			int cmp;
+			if (j < g.size()) {
+				if (shiftedTerm != j) {
+					for (int k = 0; k < n; k++) {
+						shifted[k] = g.exponents[j * n + k] + monomial[k];
+					}
+					shiftedTerm = j;
+				}
+				cmp = i < size() ? ring.compare(exponents, i * n, shifted, 0)
+						: -1;
+			} else {
+				cmp = 1;
+			}
+			if (cmp > 0) {
+				System.arraycopy(exponents, i * n, exps, size * n, n);
+				coeffs[size++] = coefficients[i++];
+			} else {
+				long product = ring.multiply(coeff, g.coefficients[j++]);
+				long value;
+				if (cmp == 0) {
+					value = ring.subtract(coefficients[i++], product);
+				} else {
+					value = ring.subtract(0, product);
+				}
+				if (value != 0) {
+					System.arraycopy(shifted, 0, exps, size * n, n);
+					coeffs[size++] = value;
+				}
+			}
+		}
+		if (size == max) {
+			return new ModularPolynomial(ring, exps, coeffs);
+		}
+		int[] newExps = new int[size * n];
+		long[] newCoeffs = new long[size];
+		System.arraycopy(exps, 0, newExps, 0, size * n);
+		System.arraycopy(coeffs, 0, newCoeffs, 0, size);
+		return new ModularPolynomial(ring, newExps, newCoeffs);
+	}
+
+	/**
+	 * @param monomial
+	 *            exponent vector
+	 * @return this multiplied by the monomial
+	 */
+	ModularPolynomial multiply(int[] monomial) {
+		int n = ring.vars;
+		int[] exps = new int[exponents.length];
+		for (int i = 0; i < exps.length; i++) {
+			exps[i] = exponents[i] + monomial[i % n];
+		}
+		return new ModularPolynomial(ring, exps, coefficients);
+	}
+
+	@Override
+	public String toString() {
+		if (isZero()) {
+			return "0";
+		}
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < size(); i++) {
+			if (i > 0) {
+				sb.append('+');
+			}
+			sb.append(coefficients[i]);
+			for (int k = 0; k < ring.vars; k++) {
+				int exp = exponent(i, k);
+				if (exp > 0) {
+					sb.append("*x").append(k);
+					if (exp > 1) {
+						sb.append('^').append(exp);
+					}
+				}
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,130 @@
+package org.geogebra.common.kernel.prover.polynomial;
+
+import java.math.BigInteger;
+
+/**
+ * Polynomial ring over the integers modulo a prime with an elimination order.
+ * Monomials are exponent vectors; the first {@link #elimVars} variables form
+ * the first block and the remaining variables the second block. The blocks are
+ * compared one after the other, each by the graded reverse lexicographic
+ * order, so a polynomial whose leading monomial has no variable from the first
+ * block doesn't contain such variables at all.
+ */
+final class ModularRing {
+
+	/** the modulus, smaller than 2^31 so that products fit in a long */
+	final long prime;
+	/** number of variables */
+	final int vars;
+	/** number of variables in the first block */
+	final int elimVars;
+
+	/**
+	 * @param prime
+	 *            prime modulus, less than 2^31
+	 * @param vars
+	 *            number of variables
+	 * @param elimVars
+	 *            number of variables to be eliminated
+	 */
+	ModularRing(long prime, int vars, int elimVars) {
+		this.prime = prime;
+		this.vars = vars;
+		this.elimVars = elimVars;
+	}
+
+	/**
+	 * Compares two monomials stored in exponent arrays.
+	 *
+	 * @param a
+	 *            exponents of the first monomial
+	 * @param aOffset
+	 *            position of the first monomial in a
+	 * @param b
+	 *            exponents of the second monomial
+	 * @param bOffset
+	 *            position of the second monomial in b
+	 * @return negative, zero or positive if the first monomial is smaller,
+	 *         equal or bigger
+	 */
+	int compare(int[] a, int aOffset, int[] b, int bOffset) {
+		int cmp = compareBlock(a, aOffset, b, bOffset, 0, elimVars);
+		if (cmp != 0) {
+			return cmp;
+		}
+		return compareBlock(a, aOffset, b, bOffset, elimVars, vars);
+	}
+
+	private static int compareBlock(int[] a, int aOffset, int[] b, int bOffset,
+			int from, int to) {
+		int degA = 0;
+		int degB = 0;
+		for (int i = from; i < to; i++) {
+			degA += a[aOffset + i];
+			degB += b[bOffset + i];
+		}
+		if (degA != degB) {
+			return degA < degB ? -1 : 1;
+		}
+		for (int i = to - 1; i >= from; i--) {
+			if (a[aOffset + i] != b[bOffset + i]) {
+				return a[aOffset + i] > b[bOffset + i] ? -1 : 1;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * @param a
+	 *            first factor in [0, prime)
+	 * @param b
+	 *            second factor in [0, prime)
+	 * @return product modulo prime
+	 */
+	long multiply(long a, long b) {
+		return a * b % prime;
+	}
+
+	/**
+	 * @param a
+	 *            minuend in [0, prime)
+	 * @param b
+	 *            subtrahend in [0, prime)
+	 * @return difference modulo prime
+	 */
+	long subtract(long a, long b) {
+		long diff = a - b;
+		return diff < 0 ? diff + prime : diff;
+	}
+
+	/**
+	 * @param a
+	 *            nonzero element
+	 * @return multiplicative inverse of a
+	 */
+	long inverse(long a) {
+		long r0 = prime;
+		long r1 = a;
+		long t0 = 0;
+		long t1 = 1;
+		while (r1 != 0) {
+			long q = r0 / r1;
+			long r = r0 - q * r1;
+			r0 = r1;
+			r1 = r;
+			long t = t0 - q * t1;
+			t0 = t1;
+			t1 = t;
+		}
+		return t0 < 0 ? t0 + prime : t0;
+	}
+
+	/**
+	 * @param value
+	 *            integer
+	 * @return value modulo prime, in [0, prime)
+	 */
+	long valueOf(BigInteger value) {
+		return value.mod(BigInteger.valueOf(prime)).longValue();
+	}
+}
@@ -0,0 +1,346 @@
+package org.geogebra.common.kernel.prover.polynomial;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.geogebra.common.util.ExtendedBoolean;
+import org.geogebra.common.util.debug.Log;
+
+/**
+ * Groebner basis computations for the prover without a round trip to the
+ * external CAS. Bases are computed modulo large primes (see
+ * {@link ModularGroebnerBasis}); an answer is only given if it is the same for
+ * different primes, in which case it is the answer over the rationals unless
+ * all of the primes were unlucky. Problems which exceed the work limits give
+ * unknown (or null) results, and the caller should ask Giac instead.
+ *
+ * All methods are stateless and may be called from several threads.
+ */
+public final class NativeGroebner {
+
+	/** primes below 2^31, so that products of residues fit in a long */
+	private static final long[] PRIMES = { 2147483647L, 2147483629L,
+			2147483587L, 2147483579L, 2147483563L, 2147483549L, 2147483543L,
+			2147483497L, 2147483489L, 2147483477L, 2147483423L, 2147483399L,
+			2147483353L, 2147483323L, 2147483269L, 2147483249L };
+	/** maximal number of reduction steps for one basis */
+	private static final int MAX_STEPS = 20000;
+	/** maximal number of terms of a polynomial during the computation */
+	private static final int MAX_TERMS = 2000;
+
+	private NativeGroebner() {
+		// utility class
+	}
+
+	/**
+	 * Variables of a system, the eliminated ones first.
+	 */
+	private static final class Variables {
+		final PVariable[] vars;
+		final HashMap<PVariable, Integer> index = new HashMap<>();
+		final int elimVars;
+
+		Variables(PPolynomial[] polys, Set<PVariable> keep) {
+			TreeSet<PVariable> elim = new TreeSet<>();
+			TreeSet<PVariable> kept = new TreeSet<>();
+			for (PVariable var : PPolynomial.getVars(polys)) {
+				if (keep != null && keep.contains(var)) {
+					kept.add(var);
+				} else {
+					elim.add(var);
+				}
+			}
+			elimVars = keep == null ? 0 : elim.size();
+			vars = new PVariable[elim.size() + kept.size()];
+			int i = 0;
+			for (PVariable var : elim) {
+				vars[i++] = var;
+			}
+			for (PVariable var : kept) {
+				vars[i++] = var;
+			}
+			for (i = 0; i < vars.length; i++) {
+				index.put(vars[i], i);
+			}
+		}
+
+		List<ModularPolynomial> basis(PPolynomial[] polys, long prime) {
+			ModularRing ring = new ModularRing(prime, vars.length, elimVars);
+			ArrayList<ModularPolynomial> generators = new ArrayList<>();
+			for (PPolynomial poly : polys) {
+				ArrayList<int[]> monomials = new ArrayList<>();
+				ArrayList<Long> coeffs = new ArrayList<>();
+				for (Entry<PTerm, BigInteger> term : poly.getTerms()
+						.entrySet()) {
+					int[] monomial = new int[vars.length];
+					for (Entry<PVariable, Integer> power : term.getKey()
+							.getTerm().entrySet()) {
+						monomial[index.get(power.getKey())] = power.getValue();
+					}
+					monomials.add(monomial);
+					coeffs.add(ring.valueOf(term.getValue()));
+				}
+				ModularPolynomial generator = ModularPolynomial
+						.fromTerms(ring, monomials, coeffs);
+				if (!generator.isZero()) {
+					generators.add(generator);
+				}
+			}
+			return new ModularGroebnerBasis(ring, MAX_STEPS, MAX_TERMS)
+					.compute(generators);
+		}
+
+		PVariable get(int i) {
+			return vars[i];
+		}
+	}
+
+	/**
+	 * Decides if the polynomials have a common complex root.
+	 *
+	 * @param polys
+	 *            polynomials (with substitutions already applied)
+	 * @return TRUE if there is a solution, FALSE if there is none, UNKNOWN if
+	 *         it can't be decided here
+	 */
+	public static ExtendedBoolean solvable(PPolynomial[] polys) {
+		Variables vars = new Variables(polys, null);
+		ExtendedBoolean ret = null;
+		for (int i = 0; i < 2; i++) {
+			List<ModularPolynomial> basis = vars.basis(polys, PRIMES[i]);
+			if (basis == null) {
+				Log.debug("Native Groebner basis too expensive");
+				return ExtendedBoolean.UNKNOWN;
+			}
+			ExtendedBoolean current = ExtendedBoolean
+					.newExtendedBoolean(!isUnit(basis));
+			if (ret != null && ret != current) {
+				return ExtendedBoolean.UNKNOWN;
+			}
+			ret = current;
+		}
+		return ret;
+	}
+
+	/**
+	 * Checks if the elimination ideal is zero, i.e. no polynomial in the kept
+	 * variables follows from the input.
+	 *
+	 * @param polys
+	 *            polynomials (with substitutions already applied)
+	 * @param keep
+	 *            variables not to be eliminated
+	 * @return TRUE if the elimination ideal is zero, FALSE if not, UNKNOWN if
+	 *         it can't be decided here
+	 */
+	public static ExtendedBoolean isEliminationIdealZero(PPolynomial[] polys,
+			Set<PVariable> keep) {
+		Variables vars = new Variables(polys, keep);
+		for (int i = 0; i < 2; i++) {
+			List<ModularPolynomial> basis = vars.basis(polys, PRIMES[i]);
+			if (basis == null) {
+				Log.debug("Native Groebner basis too expensive");
+				return ExtendedBoolean.UNKNOWN;
+			}
+			if (!eliminationIdeal(basis).isEmpty()) {
+				// this is the common case and the caller needs Giac anyway,
+				// so don't check it with another prime
+				return ExtendedBoolean.FALSE;
+			}
+		}
+		return ExtendedBoolean.TRUE;
+	}
+
+	/**
+	 * Computes the generator of the elimination ideal if it is principal. The
+	 * coefficients are reconstructed from the results for several primes
+	 * (Chinese remaindering and rational reconstruction) until two
+	 * consecutive reconstructions agree.
+	 *
+	 * @param polys
+	 *            polynomials (with substitutions already applied)
+	 * @param keep
+	 *            variables not to be eliminated
+	 * @return primitive integer polynomial in the kept variables with positive
+	 *         leading coefficient, 0 for the zero ideal, 1 for the unit
+	 *         ideal, or null if the elimination ideal is not principal or
+	 *         can't be computed here
+	 */
+	public static PPolynomial eliminate(PPolynomial[] polys,
+			Set<PVariable> keep) {
+		Variables vars = new Variables(polys, keep);
+		int[] support = null;
+		BigInteger[] residues = null;
+		BigInteger modulus = BigInteger.ONE;
+		PPolynomial previous = null;
+		for (long prime : PRIMES) {
+			List<ModularPolynomial> basis = vars.basis(polys, prime);
+			if (basis == null) {
+				Log.debug("Native Groebner basis too expensive");
+				return null;
+			}
+			List<ModularPolynomial> elim = eliminationIdeal(basis);
+			if (elim.size() > 1) {
+				return null;
+			}
+			ModularPolynomial generator = elim.isEmpty() ? null : elim.get(0);
+			int[] currentSupport = support(generator);
+			if (support == null) {
+				support = currentSupport;
+				residues = new BigInteger[generator == null ? 0
+						: generator.size()];
+				Arrays.fill(residues, BigInteger.ZERO);
+			} else if (!Arrays.equals(support, currentSupport)) {
+				// unlucky prime, or the terms depend on the prime
+				return null;
+			}
+			if (generator == null || generator.isConstant()) {
+				PPolynomial constant = generator == null ? new PPolynomial()
+						: new PPolynomial(BigInteger.ONE);
+				if (previous != null) {
+					return constant;
+				}
+				previous = constant;
+				continue;
+			}
+			BigInteger p = BigInteger.valueOf(prime);
+			BigInteger inverse = modulus.mod(p).modInverse(p);
+			for (int i = 0; i < residues.length; i++) {
+				// x = r + M * ((c - r) / M mod p)
+				BigInteger c = BigInteger.valueOf(generator.coefficient(i));
+				BigInteger k = c.subtract(residues[i]).multiply(inverse).mod(p);
+				residues[i] = residues[i].add(modulus.multiply(k));
+			}
+			modulus = modulus.multiply(p);
+			PPolynomial candidate = reconstruct(vars, generator, residues,
+					modulus);
+			if (candidate != null && candidate.equals(previous)) {
+				return candidate;
+			}
+			previous = candidate;
+		}
+		return null;
+	}
+
+	private static boolean isUnit(List<ModularPolynomial> basis) {
+		return basis.size() == 1 && basis.get(0).isConstant();
+	}
+
+	private static List<ModularPolynomial> eliminationIdeal(
+			List<ModularPolynomial> basis) {
+		ArrayList<ModularPolynomial> ret = new ArrayList<>();
+		for (ModularPolynomial poly : basis) {
+			if (!poly.containsEliminatedVariables()) {
+				ret.add(poly);
+			}
+		}
+		return ret;
+	}
+
+	private static int[] support(ModularPolynomial poly) {
+		if (poly == null) {
+			return new int[0];
+		}
+		int n = poly.ring.vars;
+		int[] support = new int[poly.size() * n];
+		for (int i = 0; i < poly.size(); i++) {
+			for (int k = 0; k < n; k++) {
+				support[i * n + k] = poly.exponent(i, k);
+			}
+		}
+		return support;
+	}
+
+	private static PPolynomial reconstruct(Variables vars,
+			ModularPolynomial generator, BigInteger[] residues,
+			BigInteger modulus) {
+		BigInteger[] numerators = new BigInteger[residues.length];
+		BigInteger[] denominators = new BigInteger[residues.length];
+		BigInteger lcm = BigInteger.ONE;
+		for (int i = 0; i < residues.length; i++) {
+			BigInteger[] fraction = rationalReconstruction(residues[i],
+					modulus);
+			if (fraction == null) {
+				return null;
+			}
+			numerators[i] = fraction[0];
+			denominators[i] = fraction[1];
+			lcm = lcm.divide(lcm.gcd(fraction[1])).multiply(fraction[1]);
+		}
+		BigInteger content = BigInteger.ZERO;
+		BigInteger[] coeffs = new BigInteger[residues.length];
+		for (int i = 0; i < residues.length; i++) {
+			coeffs[i] = numerators[i].multiply(lcm.divide(denominators[i]));
+			content = content.gcd(coeffs[i]);
+		}
+		if (coeffs[0].signum() < 0) {
+			content = content.negate();
+		}
+		PPolynomial ret = new PPolynomial();
+		for (int i = 0; i < coeffs.length; i++) {
+			TreeMap<PVariable, Integer> powers = new TreeMap<>();
+			for (int k = vars.elimVars; k < vars.vars.length; k++) {
+				int exp = generator.exponent(i, k);
+				if (exp > 0) {
+					powers.put(vars.get(k), exp);
+				}
+			}
+			ret = ret.add(new PPolynomial(coeffs[i].divide(content),
+					new PTerm(powers)));
+		}
+		return ret;
+	}
+
+	/**
+	 * Finds n/d with |n|, d &lt;= sqrt(m/2) and n = a*d mod m.
+	 *
+	 * @return {n, d} or null if there is no such fraction
+	 */
+	private static BigInteger[] rationalReconstruction(BigInteger a,
+			BigInteger m) {
+		BigInteger bound = sqrt(m.shiftRight(1));
+		BigInteger r0 = m;
+		BigInteger r1 = a.mod(m);
+		BigInteger t0 = BigInteger.ZERO;
+		BigInteger t1 = BigInteger.ONE;
+		while (r1.compareTo(bound) > 0) {
+			BigInteger q = r0.divide(r1);
+			BigInteger r = r0.subtract(q.multiply(r1));
+			r0 = r1;
+			r1 = r;
+			BigInteger t = t0.subtract(q.multiply(t1));
+			t0 = t1;
+			t1 = t;
+		}
+		if (r1.signum() == 0 || t1.abs().compareTo(bound) > 0
+				|| !r1.gcd(t1).equals(BigInteger.ONE)) {
+			return null;
+		}
+		if (t1.signum() < 0) {
+			return new BigInteger[] { r1.negate(), t1.negate() };
+		}
+		return new BigInteger[] { r1, t1 };
+	}
+
+	private static BigInteger sqrt(BigInteger n) {
+		// Newton iteration, BigInteger.sqrt is not available everywhere
+		if (n.signum() == 0) {
+			return n;
+		}
+		BigInteger x = BigInteger.ONE.shiftLeft(n.bitLength() / 2 + 1);
+		while (true) {
+			BigInteger y = x.add(n.divide(x)).shiftRight(1);
+			if (y.compareTo(x) >= 0) {
+				return x;
+			}
+			x = y;
+		}
+	}
+}
@@ -13,6 +13,7 @@ import java.util.TreeSet;
 
 import org.geogebra.common.cas.GeoGebraCAS;
 import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.main.ProverSettings;
 import org.geogebra.common.util.ExtendedBoolean;
 import org.geogebra.common.util.debug.Log;
 
@@ -656,6 +657,81 @@ public class PPolynomial implements Comparable<PPolynomial> {
 				matrix[0][0].multiply(matrix[1][1]).multiply(matrix[2][2]).multiply(matrix[3][3]));
 	}
 	
+	/**
+	 * Calculates the determinant of the Jacobian matrix of a square system.
+	 * The minors are expanded along the rows and shared, so this needs
+	 * 2^n minors instead of n! products.
+	 * 
+	 * @param polys
+	 *            the polynomials (rows)
+	 * @param vars
+	 *            the variables (columns), as many as polynomials
+	 * @return the determinant
+	 */
+	public static PPolynomial jacobianDeterminant(PPolynomial[] polys,
+			PVariable[] vars) {
+		int n = vars.length;
+		PPolynomial[][] jacobian = new PPolynomial[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				jacobian[i][j] = polys[i].derivative(vars[j]);
+			}
+		}
+		return minor(jacobian, 0, (1 << n) - 1, new HashMap<Integer, PPolynomial>());
+	}
+
+	private static PPolynomial minor(PPolynomial[][] matrix, int row,
+			int columns, HashMap<Integer, PPolynomial> minors) {
+		if (columns == 0) {
+			return new PPolynomial(BigInteger.ONE);
+		}
+		PPolynomial cached = minors.get(columns);
+		if (cached != null) {
+			return cached;
+		}
+		PPolynomial det = new PPolynomial();
+		boolean positive = true;
+		for (int j = 0; j < matrix.length; j++) {
+			if ((columns & (1 << j)) == 0) {
+				continue;
+			}
+			if (!matrix[row][j].isZero()) {
+				PPolynomial product = matrix[row][j].multiply(
+						minor(matrix, row + 1, columns & ~(1 << j), minors));
+				det = positive ? det.add(product) : det.subtract(product);
+			}
+			positive = !positive;
+		}
+		minors.put(columns, det);
+		return det;
+	}
+
+	/**
+	 * Calculates the partial derivative.
+	 * 
+	 * @param variable
+	 *            the variable
+	 * @return the derivative with respect to the variable
+	 */
+	public PPolynomial derivative(PVariable variable) {
+		TreeMap<PTerm, BigInteger> result = new TreeMap<>();
+		for (Entry<PTerm, BigInteger> entry : terms.entrySet()) {
+			Integer exponent = entry.getKey().getTerm().get(variable);
+			if (exponent != null && entry.getValue().signum() != 0) {
+				TreeMap<PVariable, Integer> term = new TreeMap<>(
+						entry.getKey().getTerm());
+				if (exponent == 1) {
+					term.remove(variable);
+				} else {
+					term.put(variable, exponent - 1);
+				}
+				result.put(new PTerm(term), entry.getValue()
+						.multiply(BigInteger.valueOf(exponent)));
+			}
+		}
+		return new PPolynomial(result);
+	}
+
 	/** 
 	 * Calculates the cross product of two vectors of dimension three.
 	 * @param a the first vector
@@ -1029,7 +1105,18 @@ public class PPolynomial implements Comparable<PPolynomial> {
 	public static ExtendedBoolean solvable(PPolynomial[] polys,
 			HashMap<PVariable, BigInteger> substitutions, Kernel kernel,
 			boolean transcext, Set<PVariable> freeVariables) {
-		
+
+		if (ProverSettings.get().nativeGroebner) {
+			PPolynomial[] substituted = new PPolynomial[polys.length];
+			for (int i = 0; i < polys.length; i++) {
+				substituted[i] = polys[i].substitute(substitutions);
+			}
+			ExtendedBoolean nativeResult = NativeGroebner.solvable(substituted);
+			if (nativeResult != ExtendedBoolean.UNKNOWN) {
+				return nativeResult;
+			}
+		}
+
 		HashSet<PVariable> substVars = null;
 		String polysAsCommaSeparatedString = getPolysAsCommaSeparatedString(polys);
 		substVars = new HashSet<>(substitutions.keySet());
@@ -1149,6 +1236,17 @@ public class PPolynomial implements Comparable<PPolynomial> {
 		String elimResult, elimProgram;
 		Log.debug("Eliminating system in " + variables.size() + " variables (" + dependentVariables.size() + " dependent)");
 
+		/*
+		 * Statements which are not generally true give a zero elimination
+		 * ideal, which needs no factorization, so Giac is not needed:
+		 */
+		if (factorized && ProverSettings.get().nativeGroebner
+				&& NativeGroebner.isEliminationIdealZero(eqSystemSubstituted,
+						freeVariablesInput) == ExtendedBoolean.TRUE) {
+			Log.debug("Elimination ideal is zero");
+			return zeroIdeal();
+		}
+
 		GeoGebraCAS cas = (GeoGebraCAS) kernel.getGeoGebraCAS();
 
 		String polys = getPolysAsCommaSeparatedString(eqSystemSubstituted);
@@ -1191,11 +1289,7 @@ public class PPolynomial implements Comparable<PPolynomial> {
 		if ("empty list".equals(elimResult) || "{0}".equals(elimResult)) {
 			// If we get an empty list from Singular, it means
 			// the answer is false, so we artificially create the {{0}} answer.
-			Set<Set<PPolynomial>> ret = new HashSet<>();
-			HashSet<PPolynomial> polysSet = new HashSet<>();
-			polysSet.add(new PPolynomial(BigInteger.ZERO)); // this might be Polynomial() as well
-			ret.add(polysSet);
-			return ret;
+			return zeroIdeal();
 		}
 		/*
 		 * Singular may return "halt 1" or something similar. We should handle
@@ -1223,4 +1317,12 @@ public class PPolynomial implements Comparable<PPolynomial> {
 		return null; // cannot decide
 	}
 
+	private static Set<Set<PPolynomial>> zeroIdeal() {
+		Set<Set<PPolynomial>> ret = new HashSet<>();
+		HashSet<PPolynomial> polysSet = new HashSet<>();
+		polysSet.add(new PPolynomial(BigInteger.ZERO)); // this might be Polynomial() as well
+		ret.add(polysSet);
+		return ret;
+	}
+
 }
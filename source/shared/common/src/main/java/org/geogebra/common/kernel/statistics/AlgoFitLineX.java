@@ -33,6 +33,9 @@ public class AlgoFitLineX extends AlgoElement {
 
 	private GeoList geoList; // input
 	private GeoLine g; // output
+	private double[] valuesX = new double[0];
+	private double[] valuesY = new double[0];
+	private final RunningCoMoments moments = new RunningCoMoments();
 
 	/**
 	 * 
@@ -87,11 +90,7 @@ public class AlgoFitLineX extends AlgoElement {
 			return;
 		}
 
-		double sigmax = 0;
-		double sigmay = 0;
-		// double sigmaxx=0; not needed
-		double sigmayy = 0;
-		double sigmaxy = 0;
+		ensureCapacity(size);
 
 		for (int i = 0; i < size; i++) {
 			GeoElement geo = geoList.get(i);
@@ -100,11 +99,8 @@ public class AlgoFitLineX extends AlgoElement {
 				((GeoPoint) geo).getInhomCoords(xy);
 				double x = xy[0];
 				double y = xy[1];
-				sigmax += x;
-				sigmay += y;
-				// sigmaxx+=x*x; not needed
-				sigmaxy += x * y;
-				sigmayy += y * y;
+				valuesX[i] = x;
+				valuesY[i] = y;
 			} else {
 				g.setUndefined();
 				return;
@@ -120,10 +116,12 @@ public class AlgoFitLineX extends AlgoElement {
 		// (g.x)x + (g.y)y + g.z = 0
 
 		// more accurate, see #5230
-		double Sxy = sigmaxy - sigmax * sigmay / size;
-		double Syy = sigmayy - sigmay * sigmay / size;
-		double mux = sigmax / size;
-		double muy = sigmay / size;
+		// updated from the last points if only a few of them changed
+		moments.setValues(valuesX, valuesY, size);
+		double Sxy = moments.getSxy();
+		double Syy = moments.getY().getSumSquaredDeviations();
+		double mux = moments.getX().getMean();
+		double muy = moments.getY().getMean();
 
 		g.x = -Syy;
 		g.y = Sxy;
@@ -151,4 +149,11 @@ public class AlgoFitLineX extends AlgoElement {
 		}
 	}
 
+	private void ensureCapacity(int size) {
+		if (valuesX.length < size) {
+			valuesX = new double[size];
+			valuesY = new double[size];
+		}
+	}
+
 }
@@ -36,6 +36,9 @@ public class AlgoFitLineY extends AlgoElement {
 
 	private GeoList geoList; // input
 	private GeoLine g; // output
+	private double[] valuesX = new double[0];
+	private double[] valuesY = new double[0];
+	private final RunningCoMoments moments = new RunningCoMoments();
 
 	/**
 	 * @param cons
@@ -94,11 +97,7 @@ public class AlgoFitLineY extends AlgoElement {
 			return;
 		}
 
-		double sigmax = 0;
-		double sigmay = 0;
-		double sigmaxx = 0;
-		// double sigmayy=0; not needed
-		double sigmaxy = 0;
+		ensureCapacity(size);
 
 		for (int i = 0; i < size; i++) {
 			GeoElement geo = geoList.get(i);
@@ -120,11 +119,8 @@ public class AlgoFitLineY extends AlgoElement {
 					y = xy[1];
 				}
 
-				sigmax += x;
-				sigmay += y;
-				sigmaxx += x * x;
-				sigmaxy += x * y;
-				// sigmayy+=y*y; not needed
+				valuesX[i] = x;
+				valuesY[i] = y;
 			} else {
 				g.setUndefined();
 				return;
@@ -139,10 +135,12 @@ public class AlgoFitLineY extends AlgoElement {
 		// (g.x)x + (g.y)y + g.z = 0
 
 		// more accurate, see #5230
-		double Sxy = sigmaxy - sigmax * sigmay / size;
-		double Sxx = sigmaxx - sigmax * sigmax / size;
-		double mux = sigmax / size;
-		double muy = sigmay / size;
+		// updated from the last points if only a few of them changed
+		moments.setValues(valuesX, valuesY, size);
+		double Sxy = moments.getSxy();
+		double Sxx = moments.getX().getSumSquaredDeviations();
+		double mux = moments.getX().getMean();
+		double muy = moments.getY().getMean();
 
 		g.x = Sxy;
 		g.y = -Sxx;
@@ -171,4 +169,11 @@ public class AlgoFitLineY extends AlgoElement {
 
 	}
 
+	private void ensureCapacity(int size) {
+		if (valuesX.length < size) {
+			valuesX = new double[size];
+			valuesY = new double[size];
+		}
+	}
+
 }
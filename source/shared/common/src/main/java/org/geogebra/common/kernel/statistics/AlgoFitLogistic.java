@@ -84,6 +84,11 @@ public final class AlgoFitLogistic extends AlgoElement implements FitAlgo {
 	private double[] xd;
 	private double[] yd;
 	private int size; // of xd and yd
+	// residuals and partial derivatives for all datapoints
+	private double[] residuals;
+	private double[] dfas;
+	private double[] dfbs;
+	private double[] dfcs;
 	private int iterations; // LM iterations
 	private boolean error = false; // general error flag
 
@@ -277,20 +282,18 @@ public final class AlgoFitLogistic extends AlgoElement implements FitAlgo {
 		double b1, b2, b3; // At*beta
 		double m11, m12, m13, m21, m22, m23, m31, m32, m33, // At*A
 				n; // singular check
-		double x, y;
 		double dfa, dfb, dfc, beta, newa, newb, newc;
 		iterations = 0;
 		// ****checked up to here
 		// LM: optimal startlambda
 		b1 = b2 = b3 = 0.0d;
 		m11 = m22 = m33 = 0.0d;
+		evaluateModel();
 		for (int i = 0; i < size; i++) {
-			x = xd[i];
-			y = yd[i];
-			beta = beta(x, y, a, b, c);
-			dfa = df_a(x, a, b, c);
-			dfb = df_b(x, a, b, c);
-			dfc = df_c(x, a, b);
+			beta = residuals[i];
+			dfa = dfas[i];
+			dfb = dfbs[i];
+			dfc = dfcs[i];
 			// b=At*beta
 			b1 += beta * dfa;
 			b2 += beta * dfb;
@@ -316,13 +319,12 @@ public final class AlgoFitLogistic extends AlgoElement implements FitAlgo {
 			}
 			b1 = b2 = b3 = 0.0d;
 			m11 = m12 = m13 = m21 = m22 = m23 = m31 = m32 = m33 = 0.0d;
+			evaluateModel();
 			for (int i = 0; i < size; i++) {
-				x = xd[i];
-				y = yd[i];
-				beta = beta(x, y, a, b, c);
-				dfa = df_a(x, a, b, c);
-				dfb = df_b(x, a, b, c);
-				dfc = df_c(x, a, b);
+				beta = residuals[i];
+				dfa = dfas[i];
+				dfb = dfbs[i];
+				dfc = dfcs[i];
 				// b=At*beta
 				b1 += beta * dfa;
 				b2 += beta * dfb;
@@ -412,18 +414,27 @@ public final class AlgoFitLogistic extends AlgoElement implements FitAlgo {
 		return 1.0d / (1.0d + a1 * Math.exp(-b1 * x));
 	}
 
-	// df/da
-	private static double df_a(double x, double a1, double b1,
-			double c1) {
-		double df_c = df_c(x, a1, b1);
-		return df_c * df_c * Math.exp(-b1 * x) * (-c1);
-	}
-
-	// df/db
-	private static double df_b(double x, double a1, double b1,
-			double c1) {
-		double df_c = df_c(x, a1, b1);
-		return df_c * df_c * Math.exp(-b1 * x) * x * a1 * c1;
+	/*
+	 * Residuals and partial derivatives for all datapoints at current a, b, c;
+	 * e^(-bx) is computed once per point
+	 */
+	private void evaluateModel() {
+		if (residuals == null || residuals.length != size) {
+			residuals = new double[size];
+			dfas = new double[size];
+			dfbs = new double[size];
+			dfcs = new double[size];
+		}
+		for (int i = 0; i < size; i++) {
+			double x = xd[i];
+			double exp = Math.exp(-b * x);
+			// df/dc=1/(1+ae^(-bx))
+			double dfc = 1.0d / (1.0d + a * exp);
+			residuals[i] = yd[i] - dfc * c;
+			dfas[i] = dfc * dfc * exp * (-c);
+			dfbs[i] = dfc * dfc * exp * x * a * c;
+			dfcs[i] = dfc;
+		}
 	}
 
 	// / --- Error calculations --- ///
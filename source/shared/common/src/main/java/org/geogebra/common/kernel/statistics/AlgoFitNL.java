@@ -1,7 +1,13 @@
 package org.geogebra.common.kernel.statistics;
 
-import org.apache.commons.math3.analysis.ParametricUnivariateFunction;
-import org.apache.commons.math3.fitting.CurveFitter;
+import java.util.Arrays;
+
+import org.apache.commons.math3.optim.InitialGuess;
+import org.apache.commons.math3.optim.MaxEval;
+import org.apache.commons.math3.optim.nonlinear.vector.ModelFunction;
+import org.apache.commons.math3.optim.nonlinear.vector.ModelFunctionJacobian;
+import org.apache.commons.math3.optim.nonlinear.vector.Target;
+import org.apache.commons.math3.optim.nonlinear.vector.Weight;
 import org.apache.commons.math3.optim.nonlinear.vector.jacobian.LevenbergMarquardtOptimizer;
 import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.algos.AlgoElement;
@@ -39,7 +45,8 @@ the Free Software Foundation.
  * of iterations is getting to large, the result is undefined, a signal for the
  * user to try to adjust the starting point with the gliders a, b and c.
  * 
- * Uses Levenberg-Marquardt algorithm in org.apache.commons library
+ * Uses Levenberg-Marquardt algorithm in org.apache.commons library, the model
+ * and its Jacobian are evaluated for all points at once.
  * 
  * ToDo: The gradient in FitRealFunction could be more sophisticated, but the
  * Apache lib is quite robust :-) Some tuning of numerical precision both here
@@ -61,8 +68,6 @@ public class AlgoFitNL extends AlgoElement implements FitAlgo {
 	private double[] ydata = null;
 	private FitRealFunction prfunction = null; // function for Apache lib
 	private LevenbergMarquardtOptimizer LMO = new LevenbergMarquardtOptimizer();
-	private CurveFitter<ParametricUnivariateFunction> curvefitter = new CurveFitter<>(
-			LMO);
 
 	/**
 	 * @param cons
@@ -144,14 +149,15 @@ public class AlgoFitNL extends AlgoElement implements FitAlgo {
 				return;
 			}
 
-			// very important:
-			curvefitter.clearObservations();
-
-			for (int i = 0; i < datasize; i++) {
-				curvefitter.addObservedPoint(1.0, xdata[i], ydata[i]);
-			}
-
-			curvefitter.fit(prfunction, prfunction.getStartValues());
+			double[] weights = new double[datasize];
+			Arrays.fill(weights, 1.0);
+			// same setup as CurveFitter, but without evaluating point by point
+			LMO.optimize(new MaxEval(Integer.MAX_VALUE),
+					new ModelFunction(point -> prfunction.values(xdata, point)),
+					new ModelFunctionJacobian(
+							point -> prfunction.jacobian(xdata, point)),
+					new Target(ydata), new Weight(weights),
+					new InitialGuess(prfunction.getStartValues()));
 
 			outputfunction.setFunction(prfunction.getFunction());
 			outputfunction.setDefined(true);
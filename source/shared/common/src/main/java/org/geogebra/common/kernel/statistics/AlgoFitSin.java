@@ -97,6 +97,11 @@ public class AlgoFitSin extends AlgoElement implements FitAlgo {
 	private double[] xd;
 	private double[] yd;
 	private int size;
+	// residuals and partial derivatives for all datapoints (df/da = 1)
+	private double[] residuals;
+	private double[] dfbs;
+	private double[] dfcs;
+	private double[] dfds;
 
 	private int iterations; // LM iterations
 	private boolean error = false; // General catch-all
@@ -343,21 +348,19 @@ public class AlgoFitSin extends AlgoElement implements FitAlgo {
 		double m11, m12, m13, m14, m21, m22, m23, m24, m31, m32, m33, m34, m41,
 				m42, m43, m44, // At*A
 				n; // singular check
-		double x, y;
 		double dfa, dfb, dfc, dfd, beta, newa, newb, newc, newd;
 
 		iterations = 0;
 		// LM: Optimal startlambda
 		b1 = b2 = b3 = b4 = 0.0d;
 		m11 = m22 = m33 = m44 = 0.0d;
+		evaluateModel();
 		for (int i = 0; i < size; i++) {
-			x = xd[i];
-			y = yd[i];
-			beta = beta(x, y, a, b, c, d);
+			beta = residuals[i];
 			dfa = df_a();
-			dfb = df_b(x, c, d);
-			dfc = df_c(x, b, c, d);
-			dfd = df_d(x, b, c, d);
+			dfb = dfbs[i];
+			dfc = dfcs[i];
+			dfd = dfds[i];
 			// b=At*beta
 			b1 += beta * dfa;
 			b2 += beta * dfb;
@@ -386,14 +389,13 @@ public class AlgoFitSin extends AlgoElement implements FitAlgo {
 			b1 = b2 = b3 = b4 = 0.0d;
 			m11 = m12 = m13 = m14 = m21 = m22 = m23 = m24 = 0.0d;
 			m31 = m32 = m33 = m34 = m41 = m42 = m43 = m44 = 0.0d;
+			evaluateModel();
 			for (int i = 0; i < size; i++) { // for all datapoints
-				x = xd[i];
-				y = yd[i];
-				beta = beta(x, y, a, b, c, d);
+				beta = residuals[i];
 				dfa = df_a();
-				dfb = df_b(x, c, d);
-				dfc = df_c(x, b, c, d);
-				dfd = df_d(x, b, c, d);
+				dfb = dfbs[i];
+				dfc = dfcs[i];
+				dfd = dfds[i];
 				// b=At*beta
 				b1 += beta * dfa;
 				b2 += beta * dfb;
@@ -481,6 +483,28 @@ public class AlgoFitSin extends AlgoElement implements FitAlgo {
 		}
 	}
 
+	/*
+	 * Residuals and partial derivatives for all datapoints at current a, b, c,
+	 * d; sin(cx+d) and cos(cx+d) are computed once per point
+	 */
+	private void evaluateModel() {
+		if (residuals == null || residuals.length != size) {
+			residuals = new double[size];
+			dfbs = new double[size];
+			dfcs = new double[size];
+			dfds = new double[size];
+		}
+		for (int i = 0; i < size; i++) {
+			double x = xd[i];
+			double sin = sin(x, c, d);
+			double cos = cos(x, c, d);
+			residuals[i] = yd[i] - (a + b * sin);
+			dfbs[i] = sin; // df/db = sin(cx+d)
+			dfcs[i] = cos * b * x; // df/dc = cos(cx+d)*B*x
+			dfds[i] = cos * b; // df/dd = Bcos(cx+d)
+		}
+	}
+
 	/* sin(Cx+D) */
 	private final static double sin(double x, double c, double d) {
 		return Math.sin(c * x + d);
@@ -502,21 +526,6 @@ public class AlgoFitSin extends AlgoElement implements FitAlgo {
 		return 1.0d;
 	}
 
-	/* Partial derivative of f to b: sin(cx+d) */
-	private final static double df_b(double x, double c, double d) {
-		return sin(x, c, d);
-	}
-
-	/* Partial derivative of f to c: cos(cx+d)*B*x */
-	private final static double df_c(double x, double b, double c, double d) {
-		return cos(x, c, d) * b * x;
-	}
-
-	/* Partial derivative of f to d: Bcos(cx+d) */
-	private final static double df_d(double x, double b, double c, double d) {
-		return cos(x, c, d) * b;
-	}
-
 	/* Difference to be reduced */
 	private final static double beta(double x, double y, double a, double b,
 			double c, double d) {
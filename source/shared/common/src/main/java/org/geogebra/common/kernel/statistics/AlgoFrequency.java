@@ -268,6 +268,22 @@ public class AlgoFrequency extends AlgoElement {
 		boolean doCumulative = isCumulative != null
 				&& isCumulative.getBoolean();
 
+		// numbers without classes: use the frequency table shared with other
+		// statistics of this list
+		if (classList == null
+				&& dataList.getElementType().equals(GeoClass.NUMERIC)) {
+			NumericListData data = dataList.getNumericData();
+			double[] uniqueValues = data.getUniqueValues();
+			long[] counts = data.getFrequencies();
+			long cumulativeCount = 0;
+			for (int i = 0; i < uniqueValues.length; i++) {
+				value.add(new GeoNumeric(cons, uniqueValues[i]));
+				cumulativeCount += counts[i];
+				addValue(doCumulative ? cumulativeCount : counts[i]);
+			}
+			return;
+		}
+
 		// Load the data into f, an instance of Frequency class
 		// =======================================================
 
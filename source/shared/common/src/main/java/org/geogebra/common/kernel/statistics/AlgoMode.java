@@ -12,11 +12,8 @@ the Free Software Foundation.
 
 package org.geogebra.common.kernel.statistics;
 
-import java.util.Arrays;
-
 import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.algos.AlgoElement;
-import org.geogebra.common.kernel.arithmetic.NumberValue;
 import org.geogebra.common.kernel.commands.Commands;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoList;
@@ -82,21 +79,13 @@ public class AlgoMode extends AlgoElement {
 			return;
 		}
 
-		double[] sortList = new double[size];
-
-		// copy inputList into an array
-		for (int i = 0; i < size; i++) {
-			GeoElement geo = inputList.get(i);
-			if (geo instanceof NumberValue) {
-				sortList[i] = geo.evaluateDouble();
-			} else {
-				outputList.setUndefined();
-				return;
-			}
+		// sorted copy is shared with other statistics of this list
+		NumericListData data = inputList.getNumericData();
+		if (!data.isNumeric()) {
+			outputList.setUndefined();
+			return;
 		}
-
-		// do the sorting
-		Arrays.sort(sortList);
+		double[] sortList = data.getSorted();
 
 		// check what the longest run of equal numbers is
 		int maxRun = 1;
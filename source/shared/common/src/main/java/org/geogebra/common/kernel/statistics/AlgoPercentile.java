@@ -15,7 +15,6 @@ package org.geogebra.common.kernel.statistics;
 import org.apache.commons.math3.stat.descriptive.rank.Percentile;
 import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.algos.AlgoElement;
-import org.geogebra.common.kernel.arithmetic.NumberValue;
 import org.geogebra.common.kernel.commands.Commands;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoList;
@@ -32,7 +31,6 @@ public class AlgoPercentile extends AlgoElement {
 	private GeoNumeric result; // output
 	private int size;
 	private Percentile percentile;
-	private double[] inputArray;
 	private double val;
 
 	/**
@@ -104,24 +102,18 @@ public class AlgoPercentile extends AlgoElement {
 		// ==========================
 		// compute result
 
-		inputArray = new double[size];
-
-		// load input value array from geoList
-		for (int i = 0; i < size; i++) {
-			GeoElement geo = inputList.get(i);
-			if (geo instanceof NumberValue) {
-				inputArray[i] = geo.evaluateDouble();
-			} else {
-				result.setUndefined();
-				return;
-			}
+		NumericListData data = inputList.getNumericData();
+		if (!data.isNumeric()) {
+			result.setUndefined();
+			return;
 		}
 
 		if (percentile == null) {
 			percentile = new Percentile();
 		}
 
-		percentile.setData(inputArray);
+		// setData copies the shared array
+		percentile.setData(data.getValues());
 		result.setValue(percentile.evaluate(val));
 	}
 
@@ -13,6 +13,7 @@ the Free Software Foundation.
 package org.geogebra.common.kernel.statistics;
 
 import org.geogebra.common.kernel.Construction;
+import org.geogebra.common.kernel.SampleRandomValues;
 import org.geogebra.common.kernel.SetRandomValue;
 import org.geogebra.common.kernel.algos.AlgoTwoNumFunction;
 import org.geogebra.common.kernel.commands.Commands;
@@ -25,7 +26,11 @@ import org.geogebra.common.kernel.kernelND.GeoElementND;
  * @author Michael Borcherds
  */
 public class AlgoRandomBinomial extends AlgoTwoNumFunction
-		implements SetRandomValue {
+		implements SetRandomValue, SampleRandomValues {
+
+	private DiscreteDistributionTable table;
+	private int tableN;
+	private double tableP;
 
 	/**
 	 * @param cons
@@ -56,7 +61,27 @@ public class AlgoRandomBinomial extends AlgoTwoNumFunction
 			return Double.NaN;
 		}
 
-		return randomBinomial((int) a.getDouble(), b.getDouble());
+		return getTable((int) aVal, bVal)
+				.sample(kernel.getApplication().getRandomNumber());
+	}
+
+	/* inverse transform sampling, the table is reused while the input stays the same */
+	private DiscreteDistributionTable getTable(int n, double p) {
+		if (table == null || n != tableN || p != tableP) {
+			table = DiscreteDistributionTable.binomial(Math.max(n, 0), p);
+			tableN = n;
+			tableP = p;
+		}
+		return table;
+	}
+
+	@Override
+	public boolean sampleRandomValues(RandomVariates generator, double[] values) {
+		if (!a.isDefined() || !b.isDefined() || b.getDouble() < 0) {
+			return false;
+		}
+		generator.fillBinomial(values, (int) a.getDouble(), b.getDouble());
+		return true;
 	}
 
 	@Override
@@ -65,16 +90,4 @@ public class AlgoRandomBinomial extends AlgoTwoNumFunction
 		num.setValue(Math.max(0, Math.min(d, a.getDouble())));
 		return true;
 	}
-
-	private int randomBinomial(double n, double p) {
-
-		int count = 0;
-		for (int i = 0; i < n; i++) {
-			if (kernel.getApplication().getRandomNumber() < p) {
-				count++;
-			}
-		}
-
-		return count;
-	}
 }
@@ -4,6 +4,7 @@ import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.algos.GetCommand;
 import org.geogebra.common.kernel.commands.Commands;
 import org.geogebra.common.kernel.geos.GeoNumberValue;
+import org.geogebra.common.util.DoubleUtil;
 
 public class AlgoRandomList extends AlgoRandomUniformList {
 
@@ -25,7 +26,13 @@ public class AlgoRandomList extends AlgoRandomUniformList {
 	}
 
 	@Override
-	public double getRandomNumber(double a, double b) {
-		return Double.valueOf(cons.getApplication().getRandomIntegerBetween(a, b));
+	protected void fillValues(RandomVariates generator, double[] values, double a,
+			double b) {
+		// same bounds as App.getRandomIntegerBetween
+		double low = DoubleUtil.checkInteger(a);
+		double high = DoubleUtil.checkInteger(b);
+		int min = (int) Math.ceil(Math.min(low, high));
+		int max = (int) Math.floor(Math.max(low, high));
+		generator.fillIntegers(values, Math.min(min, max), Math.max(min, max));
 	}
 }
@@ -13,6 +13,7 @@ the Free Software Foundation.
 package org.geogebra.common.kernel.statistics;
 
 import org.geogebra.common.kernel.Construction;
+import org.geogebra.common.kernel.SampleRandomValues;
 import org.geogebra.common.kernel.SetRandomValue;
 import org.geogebra.common.kernel.algos.AlgoTwoNumFunction;
 import org.geogebra.common.kernel.commands.Commands;
@@ -25,7 +26,7 @@ import org.geogebra.common.kernel.kernelND.GeoElementND;
  * @author Michael Borcherds
  */
 public class AlgoRandomNormal extends AlgoTwoNumFunction
-		implements SetRandomValue {
+		implements SetRandomValue, SampleRandomValues {
 
 	/**
 	 * 
@@ -72,6 +73,15 @@ public class AlgoRandomNormal extends AlgoTwoNumFunction
 		return v1 * fac * sd + mean;
 	}
 
+	@Override
+	public boolean sampleRandomValues(RandomVariates generator, double[] values) {
+		if (!a.isDefined() || !b.isDefined() || b.getDouble() < 0) {
+			return false;
+		}
+		generator.fillNormal(values, a.getDouble(), b.getDouble());
+		return true;
+	}
+
 	@Override
 	public boolean setRandomValue(GeoElementND d) {
 		num.setValue(d.evaluateDouble());
@@ -13,6 +13,7 @@ the Free Software Foundation.
 package org.geogebra.common.kernel.statistics;
 
 import org.geogebra.common.kernel.Construction;
+import org.geogebra.common.kernel.SampleRandomValues;
 import org.geogebra.common.kernel.SetRandomValue;
 import org.geogebra.common.kernel.algos.AlgoElement;
 import org.geogebra.common.kernel.commands.Commands;
@@ -21,21 +22,20 @@ import org.geogebra.common.kernel.geos.GeoNumberValue;
 import org.geogebra.common.kernel.geos.GeoNumeric;
 import org.geogebra.common.kernel.kernelND.GeoElementND;
 import org.geogebra.common.util.DoubleUtil;
-import org.geogebra.common.util.MyMath2;
 
 /**
  * Computes RandomPoisson[lambda]
  * 
  * @author Michael Borcherds
  */
-public class AlgoRandomPoisson extends AlgoElement implements SetRandomValue {
+public class AlgoRandomPoisson extends AlgoElement
+		implements SetRandomValue, SampleRandomValues {
 
 	private GeoNumberValue lambda; // input
 	private GeoNumeric num; // output
 
-	private static double halflog2pi = 0.5 * Math.log(2 * Math.PI);
-
-	private static double[] logtable = new double[10];
+	private DiscreteDistributionTable table;
+	private double tableLambda;
 
 	/**
 	 * 
@@ -87,7 +87,7 @@ public class AlgoRandomPoisson extends AlgoElement implements SetRandomValue {
 		if (input[0].isDefined()) {
 			double lambdaVal = lambda.getDouble();
 			if (lambdaVal > 0) {
-				num.setValue(randomPoissonTRS(lambdaVal));
+				num.setValue(randomPoisson(lambdaVal));
 			} else {
 				num.setUndefined();
 			}
@@ -96,81 +96,26 @@ public class AlgoRandomPoisson extends AlgoElement implements SetRandomValue {
 		}
 	}
 
-	/*
-	 * poisson random number (Knuth)
-	 */
+	/* inverse transform sampling, the table is reused while the mean stays the same */
 	private int randomPoisson(double lambdaVal) {
-		double L = Math.exp(-lambdaVal);
-		double p = 1;
-		int k = 0;
-		do {
-			k++;
-			p *= kernel.getApplication().getRandomNumber();
-		} while (p >= L);
-
-		return k - 1;
-
-	}
-
-	/*
-	 * 
-	 * Hermann, Wolfgang: The transformed rejection method for generating
-	 * Poisson random variables Algorithm PTRS
-	 * http://statmath.wu-wien.ac.at/papers/92-04-13.wh.ps.gz
-	 * http://epub.wu-wien
-	 * .ac.at/dyn/virlib/wp/eng/mediate/epub-wu-01_6f2.pdf?ID=epub-wu-01_6f2
-	 */
-	private int randomPoissonTRS(double mu) {
-
-		if (mu < 10) {
-			return randomPoisson(mu);
+		if (lambdaVal > DiscreteDistributionTable.MAX_POISSON_MEAN) {
+			return RandomVariates.seededBy(kernel.getApplication())
+					.poissonPTRS(lambdaVal);
 		}
-
-		double b = 0.931 + +2.53 * Math.sqrt(mu);
-		double a1 = -0.059 + 0.02438 * b;
-		double v_r = 0.9277 - 3.6224 / (b - 2);
-
-		double us = 0;
-		double v = 1;
-
-		while (true) {
-
-			int k = -1;
-			while (k < 0 || (us < 0.013 && v > us)) {
-				double u = kernel.getApplication().getRandomNumber() - 0.5;
-				v = kernel.getApplication().getRandomNumber();
-				us = 0.5 - Math.abs(u);
-				k = (int) Math.floor((2 * a1 / us + b) * u + mu + 0.43);
-				if (us >= 0.07 && v < v_r) {
-					return k;
-				}
-			}
-
-			double alpha = 1.1239 + 1.1328 / (b - 3.4);
-			double lnmu = Math.log(mu);
-
-			v = v * alpha / (a1 / (us * us) + b);
-
-			if (Math.log(v * alpha / (a1 / us / us + b)) <= -mu + k * lnmu
-					- logOfKFactorial(k)) {
-				return k;
-			}
+		if (table == null || lambdaVal != tableLambda) {
+			table = DiscreteDistributionTable.poisson(lambdaVal);
+			tableLambda = lambdaVal;
 		}
-
+		return table.sample(kernel.getApplication().getRandomNumber());
 	}
 
-	private static double logOfKFactorial(int k) {
-		if (k < 10) {
-			if (logtable[k] == 0) {
-				logtable[k] = Math.log(MyMath2.factorial(k));
-			}
-			return logtable[k];
+	@Override
+	public boolean sampleRandomValues(RandomVariates generator, double[] values) {
+		if (!input[0].isDefined() || !(lambda.getDouble() > 0)) {
+			return false;
 		}
-
-		// Stirling approximation
-		return halflog2pi + (k + 0.5) * Math.log(k + 1) - (k + 1)
-				+ (1 / 12.0 - (1 / 360.0 - 1 / 1260.0 / (k + 1) / (k + 1))
-						/ (k + 1) / (k + 1)) / (k + 1);
+		generator.fillPoisson(values, lambda.getDouble());
+		return true;
 	}
 
 	@Override
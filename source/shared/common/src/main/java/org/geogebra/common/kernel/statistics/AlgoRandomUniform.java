@@ -13,6 +13,7 @@ the Free Software Foundation.
 package org.geogebra.common.kernel.statistics;
 
 import org.geogebra.common.kernel.Construction;
+import org.geogebra.common.kernel.SampleRandomValues;
 import org.geogebra.common.kernel.SetRandomValue;
 import org.geogebra.common.kernel.algos.AlgoTwoNumFunction;
 import org.geogebra.common.kernel.commands.Commands;
@@ -25,7 +26,7 @@ import org.geogebra.common.kernel.kernelND.GeoElementND;
  * @author Michael Borcherds
  */
 public class AlgoRandomUniform extends AlgoTwoNumFunction
-		implements SetRandomValue {
+		implements SetRandomValue, SampleRandomValues {
 
 	/**
 	 * @param cons
@@ -55,6 +56,15 @@ public class AlgoRandomUniform extends AlgoTwoNumFunction
 		return aVal + kernel.getApplication().getRandomNumber() * (bVal - aVal);
 	}
 
+	@Override
+	public boolean sampleRandomValues(RandomVariates generator, double[] values) {
+		if (!a.isDefined() || !b.isDefined()) {
+			return false;
+		}
+		generator.fillUniform(values, a.getDouble(), b.getDouble());
+		return true;
+	}
+
 	@Override
 	public boolean setRandomValue(GeoElementND d) {
 		num.setValue(Math.max(a.getDouble(), Math.min(d.evaluateDouble(), b.getDouble())));
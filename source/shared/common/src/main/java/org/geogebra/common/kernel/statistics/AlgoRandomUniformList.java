@@ -75,29 +75,6 @@ public class AlgoRandomUniformList extends AlgoElement
 		return list;
 	}
 
-	/**
-	 * @param n - size of list
-	 */
-	public void ensureListSize(int n) {
-		// TODO: is suppress labels needed here?
-		boolean oldSuppressLabels = cons.isSuppressLabelsActive();
-		cons.setSuppressLabelCreation(true);
-
-		if (list.size() < n) {
-			for (int i = list.size(); i < n; i++) {
-				list.add(new GeoNumeric(cons));
-			}
-
-		} else if (list.size() > n) {
-			for (int i = n - 1; i < list.size(); i++) {
-				list.remove(i);
-			}
-		}
-
-		cons.setSuppressLabelCreation(oldSuppressLabels);
-
-	}
-
 	@Override
 	public void compute() {
 
@@ -110,21 +87,21 @@ public class AlgoRandomUniformList extends AlgoElement
 			return;
 		}
 
-		ensureListSize((int) length.getDouble());
-
-		for (int i = 0; i < list.size(); i++) {
-			((GeoNumeric) list.get(i)).setValue(getRandomNumber(a.getDouble(),
-					b.getDouble()));
-		}
+		double[] values = new double[(int) length.getDouble()];
+		fillValues(RandomVariates.seededBy(cons.getApplication()), values,
+				a.getDouble(), b.getDouble());
+		list.setNumbers(values);
 	}
 
 	/**
+	 * @param generator random number generator
+	 * @param values output: random numbers between a and b
 	 * @param a - low
 	 * @param b - high
-	 * @return random number between a and b
 	 */
-	public double getRandomNumber(double a, double b) {
-		return cons.getApplication().randomUniform(a, b);
+	protected void fillValues(RandomVariates generator, double[] values, double a,
+			double b) {
+		generator.fillUniform(values, a, b);
 	}
 
 	@Override
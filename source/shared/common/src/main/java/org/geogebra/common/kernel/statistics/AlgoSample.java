@@ -119,14 +119,14 @@ public class AlgoSample extends AlgoElement implements SetRandomValue {
 				return;
 			}
 
-			ArrayList<GeoElement> list = copyInput();
+			RemainingIndices remaining = new RemainingIndices(inputListSize);
 
 			// copy the geos back into a GeoList in a random order
 			for (int i = 0; i < size; i++) {
 				int pos = (int) Math
 						.floor(cons.getApplication().getRandomNumber()
 								* (inputListSize - i));
-				setListElement(i, list.remove(pos));
+				setListElement(i, inputList.get(remaining.remove(pos)));
 			}
 
 		}
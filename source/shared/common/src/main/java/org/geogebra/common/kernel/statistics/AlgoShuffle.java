@@ -105,11 +105,11 @@ public class AlgoShuffle extends AlgoElement implements SetRandomValue {
 
 	private void fill(ArrayList<GeoElement> list) {
 		int listSize = list.size();
+		RemainingIndices remaining = new RemainingIndices(listSize);
 		for (int i = 0; i < listSize; i++) {
 			int pos = (int) Math.floor(
 					cons.getApplication().getRandomNumber() * (listSize - i));
-			outputList.add(list.get(pos));
-			list.remove(pos);
+			outputList.add(list.get(remaining.remove(pos)));
 		}
 	}
 
@@ -42,6 +42,10 @@ public abstract class AlgoStats2D extends AlgoElement {
 
 	private int stat;
 
+	private double[] valuesX = new double[0];
+	private double[] valuesY = new double[0];
+	private final RunningCoMoments moments = new RunningCoMoments();
+
 	final static int STATS_MEANX = 0;
 	final static int STATS_MEANY = 1;
 	final static int STATS_COVARIANCE = 2;
@@ -144,34 +148,29 @@ public abstract class AlgoStats2D extends AlgoElement {
 
 	@Override
 	final public void compute() {
-		double sumx = 0;
-		double sumy = 0;
-		double sumxx = 0;
-		double sumxy = 0;
-		double sumyy = 0;
-		double valx, valy;
 		int sizex = geoListx.size();
-		int sizey = sizex;
 		if (mode == MODE_DOUBLELIST) {
-			sizey = geoListy.size();
+			int sizey = geoListy.size();
 			if (!geoListx.isDefined() || !geoListy.isDefined() || sizex == 0
 					|| sizex != sizey) {
 				result.setUndefined();
 				return;
 			}
-
+		} else if (sizex == 0) {
+			// only the sums are defined for no points
+			result.setValue(stat == STATS_SIGMAXY || stat == STATS_SIGMAXX
+					|| stat == STATS_SIGMAYY ? 0 : Double.NaN);
+			return;
+		}
+		ensureCapacity(sizex);
+		if (mode == MODE_DOUBLELIST) {
 			for (int i = 0; i < sizex; i++) {
 				GeoElement geox = geoListx.get(i);
 				GeoElement geoy = geoListy.get(i);
 				if (geox instanceof NumberValue
 						&& geoy instanceof NumberValue) {
-					valx = geox.evaluateDouble();
-					valy = geoy.evaluateDouble();
-					sumx += valx;
-					sumy += valy;
-					sumxx += valx * valx;
-					sumyy += valy * valy;
-					sumxy += valx * valy;
+					valuesX[i] = geox.evaluateDouble();
+					valuesY[i] = geoy.evaluateDouble();
 				} else {
 					result.setUndefined();
 					return;
@@ -182,16 +181,8 @@ public abstract class AlgoStats2D extends AlgoElement {
 				GeoElement geo = geoListx.get(i);
 				if (geo.isGeoPoint()) {
 					Coords coords = ((GeoPointND) geo).getInhomCoordsInD3();
-					double x = coords.getX();
-					double y = coords.getY();
-
-					valx = x;
-					valy = y;
-					sumx += valx;
-					sumy += valy;
-					sumxx += valx * valx;
-					sumyy += valy * valy;
-					sumxy += valx * valy;
+					valuesX[i] = coords.getX();
+					valuesY[i] = coords.getY();
 				} else {
 					result.setUndefined();
 					return;
@@ -200,63 +191,68 @@ public abstract class AlgoStats2D extends AlgoElement {
 
 		}
 
-		double mux = sumx / sizex;
-		double muy = sumy / sizex;
-		double var;
+		// updated from the last values if only a few of them changed
+		moments.setValues(valuesX, valuesY, sizex);
+		RunningMoments x = moments.getX();
+		RunningMoments y = moments.getY();
+		double sxx = x.getSumSquaredDeviations();
+		double syy = y.getSumSquaredDeviations();
+		double sxy = moments.getSxy();
 
 		switch (stat) {
 		default:
 			result.setValue(Double.NaN);
 			break;
 		case STATS_MEANX:
-			result.setValue(mux);
+			result.setValue(x.getMean());
 			break;
 		case STATS_MEANY:
-			result.setValue(muy);
+			result.setValue(y.getMean());
 			break;
 		case STATS_COVARIANCE:
-			result.setValue(sumxy / sizex - mux * muy);
+			result.setValue(sxy / sizex);
 			break;
 		case STATS_SIGMAXY:
-			result.setValue(sumxy);
+			result.setValue(moments.getSumXY());
 			break;
 		case STATS_SIGMAXX:
-			result.setValue(sumxx);
+			result.setValue(x.getSumSquares());
 			break;
 		case STATS_SIGMAYY:
-			result.setValue(sumyy);
+			result.setValue(y.getSumSquares());
 			break;
 		case STATS_SXX:
-			result.setValue(sumxx - sumx * sumx / sizex);
+			result.setValue(sxx);
 			break;
 		case STATS_SYY:
-			result.setValue(sumyy - sumy * sumy / sizex);
+			result.setValue(syy);
 			break;
 		case STATS_SXY:
-			result.setValue(sumxy - sumx * sumy / sizex);
+			result.setValue(sxy);
 			break;
 		case STATS_PMCC:
-			result.setValue((sumxy * sizex - sumx * sumy)
-					/ Math.sqrt((sumxx * sizex - sumx * sumx)
-							* (sumyy * sizex - sumy * sumy)));
+			result.setValue(sxy / Math.sqrt(sxx * syy));
 			break;
 		case STATS_SAMPLESDX:
-			var = (sumxx - sumx * sumx / sizex) / (sizex - 1);
-			result.setValue(Math.sqrt(var));
+			result.setValue(Math.sqrt(sxx / (sizex - 1)));
 			break;
 		case STATS_SAMPLESDY:
-			var = (sumyy - sumy * sumy / sizey) / (sizey - 1);
-			result.setValue(Math.sqrt(var));
+			result.setValue(Math.sqrt(syy / (sizex - 1)));
 			break;
 		case STATS_SDX:
-			var = (sumxx - sumx * sumx / sizex) / sizex;
-			result.setValue(Math.sqrt(var));
+			result.setValue(Math.sqrt(sxx / sizex));
 			break;
 		case STATS_SDY:
-			var = (sumyy - sumy * sumy / sizey) / sizey;
-			result.setValue(Math.sqrt(var));
+			result.setValue(Math.sqrt(syy / sizex));
 			break;
 		}
 	}
 
+	private void ensureCapacity(int size) {
+		if (valuesX.length < size) {
+			valuesX = new double[size];
+			valuesY = new double[size];
+		}
+	}
+
 }
@@ -122,31 +122,36 @@ public class CmdFillCells extends CommandProcessor {
 				}
 				if (!geo.isGeoList()) {
 					RelativeCopy relativeCopy = new RelativeCopy(kernel);
-					for (int row = minRow; row <= maxRow; row++) {
-						for (int col = minCol; col <= maxCol; col++) {
-							try {
-								// cell will have been autocreated by eg A1:A3
-								// in command, so delete
-								// in case it's being filled by eg GeoText
-								removePossibleGeo(GeoElementSpreadsheet
-										.getSpreadsheetCellName(col, row));
-
-								// eg FillCells[B1:B7,A1+1]
-								// change to eg A2+1, A3+1, A4+1 etc
-								// FillCells[B1:B7,A1] doesn't change A1
-								// use FillCells[B1:B7,A1+0] for that
-								relativeCopy.doCopyNoStoringUndoInfo0(geo, null,
-										col - minCol, row - minRow, minRow, minCol);
-
-								// old code
-								// kernelA.getGeoElementSpreadsheet()
-								// .setSpreadsheetCell(app, row, col, geo);
-							} catch (Exception e) {
-								app.setScrollToShow(true);
-								Log.debug(e);
-								throw argErr(c, arg[1]);
+					relativeCopy.beginRangeFill();
+					try {
+						for (int row = minRow; row <= maxRow; row++) {
+							for (int col = minCol; col <= maxCol; col++) {
+								try {
+									// cell will have been autocreated by eg A1:A3
+									// in command, so delete
+									// in case it's being filled by eg GeoText
+									removePossibleGeo(GeoElementSpreadsheet
+											.getSpreadsheetCellName(col, row));
+
+									// eg FillCells[B1:B7,A1+1]
+									// change to eg A2+1, A3+1, A4+1 etc
+									// FillCells[B1:B7,A1] doesn't change A1
+									// use FillCells[B1:B7,A1+0] for that
+									relativeCopy.doCopyNoStoringUndoInfo0(geo, null,
+											col - minCol, row - minRow, minRow, minCol);
+
+									// old code
+									// kernelA.getGeoElementSpreadsheet()
+									// .setSpreadsheetCell(app, row, col, geo);
+								} catch (Exception e) {
+									app.setScrollToShow(true);
+									Log.debug(e);
+									throw argErr(c, arg[1]);
+								}
 							}
 						}
+					} finally {
+						relativeCopy.endRangeFill();
 					}
 					app.setScrollToShow(true);
 					return ret;
@@ -54,16 +54,21 @@ public class CmdFillColumn extends CommandProcessor {
 					return ret;
 				}
 
-				for (int row = 0; row < list.size(); row++) {
-					GeoElement cellGeo = list.get(row).copy();
+				kernel.notifyBatchUpdate();
+				try {
+					for (int row = 0; row < list.size(); row++) {
+						GeoElement cellGeo = list.get(row).copy();
 
-					try {
-						kernel.getGeoElementSpreadsheet()
-								.setSpreadsheetCell(app, row, col, cellGeo);
-					} catch (Exception e) {
-						Log.debug(e);
-						throw argErr(c, arg[1]);
+						try {
+							kernel.getGeoElementSpreadsheet()
+									.setSpreadsheetCell(app, row, col, cellGeo);
+						} catch (Exception e) {
+							Log.debug(e);
+							throw argErr(c, arg[1]);
+						}
 					}
+				} finally {
+					kernel.notifyEndBatchUpdate();
 				}
 
 				app.storeUndoInfo();
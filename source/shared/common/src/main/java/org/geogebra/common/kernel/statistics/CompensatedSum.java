@@ -0,0 +1,51 @@
+package org.geogebra.common.kernel.statistics;
+
+/**
+ * Sum with compensation of rounding errors (Kahan-Babuska). Values can also be
+ * subtracted, so the sum can be kept up to date when summands change.
+ */
+final class CompensatedSum {
+
+	private double sum;
+	private double compensation;
+
+	/**
+	 * @param value
+	 *            summand
+	 */
+	void add(double value) {
+		double t = sum + value;
+		if (Math.abs(sum) >= Math.abs(value)) {
+			compensation += (sum - t) + value;
+		} else {
+			compensation += (value - t) + sum;
+		}
+		sum = t;
+	}
+
+	/**
+	 * @return the sum
+	 */
+	double get() {
+		// compensation is NaN once an infinite value was added
+		return Double.isInfinite(sum) || Double.isNaN(sum) ? sum
+				: sum + compensation;
+	}
+
+	/**
+	 * Sets the sum to zero.
+	 */
+	void reset() {
+		sum = 0;
+		compensation = 0;
+	}
+
+	/**
+	 * @param other
+	 *            sum to copy
+	 */
+	void set(CompensatedSum other) {
+		sum = other.sum;
+		compensation = other.compensation;
+	}
+}
@@ -0,0 +1,114 @@
+package org.geogebra.common.kernel.statistics;
+
+import java.util.Arrays;
+
+/**
+ * Cumulative probabilities of a discrete distribution for inverse transform sampling: a
+ * sample only needs one uniform random number and a binary search. The table covers the
+ * values around the mode until the probabilities are negligible compared to the probability
+ * of the mode, so it is built from ratios of successive probabilities without evaluating any
+ * factorials.
+ */
+final class DiscreteDistributionTable {
+
+	/** probability (relative to the mode) at which the table ends */
+	private static final double TAIL_EPSILON = 1E-18;
+	/** largest mean of a Poisson distribution that is tabulated */
+	static final double MAX_POISSON_MEAN = 1E7;
+
+	private final int offset;
+	private final double[] cumulative;
+	private final int size;
+
+	/**
+	 * Ratio of probabilities of neighboring values.
+	 */
+	private interface ProbabilityRatio {
+		/**
+		 * @param k value
+		 * @return P(k + 1) / P(k)
+		 */
+		double next(int k);
+	}
+
+	private DiscreteDistributionTable(int min, int max, int mode, ProbabilityRatio ratio) {
+		double[] below = new double[16];
+		int belowSize = 0;
+		double probability = 1;
+		for (int k = mode; k > min && probability > TAIL_EPSILON; k--) {
+			probability /= ratio.next(k - 1);
+			if (belowSize == below.length) {
+				below = Arrays.copyOf(below, 2 * belowSize);
+			}
+			below[belowSize++] = probability;
+		}
+		offset = mode - belowSize;
+		double[] table = new double[belowSize + 16];
+		double sum = 0;
+		for (int i = belowSize - 1; i >= 0; i--) {
+			sum += below[i];
+			table[belowSize - 1 - i] = sum;
+		}
+		int length = belowSize;
+		probability = 1;
+		for (int k = mode; k <= max && probability > TAIL_EPSILON; k++) {
+			if (length == table.length) {
+				table = Arrays.copyOf(table, 2 * length);
+			}
+			sum += probability;
+			table[length++] = sum;
+			probability *= ratio.next(k);
+		}
+		cumulative = table;
+		size = length;
+	}
+
+	/**
+	 * @param n number of trials, at least 0
+	 * @param p probability of success, between 0 and 1
+	 * @return table of the binomial distribution
+	 */
+	static DiscreteDistributionTable binomial(final int n, double p) {
+		if (p >= 1) {
+			return new DiscreteDistributionTable(n, n, n, k -> 0);
+		}
+		final double odds = p / (1 - p);
+		int mode = (int) Math.min(n, Math.floor((n + 1) * p));
+		return new DiscreteDistributionTable(0, n, mode, k -> (n - k) * odds / (k + 1));
+	}
+
+	/**
+	 * @param lambda mean, positive and at most {@link #MAX_POISSON_MEAN}
+	 * @return table of the Poisson distribution
+	 */
+	static DiscreteDistributionTable poisson(final double lambda) {
+		return new DiscreteDistributionTable(0, Integer.MAX_VALUE, (int) Math.floor(lambda),
+				k -> lambda / (k + 1));
+	}
+
+	/**
+	 * @param u uniform random number from [0, 1)
+	 * @return value k such that P(X &lt; k) &lt;= u &lt; P(X &lt;= k)
+	 */
+	int sample(double u) {
+		double target = u * cumulative[size - 1];
+		int low = 0;
+		int high = size - 1;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (cumulative[mid] > target) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return offset + low;
+	}
+
+	/**
+	 * @return number of tabulated values
+	 */
+	int size() {
+		return size;
+	}
+}
@@ -0,0 +1,273 @@
+package org.geogebra.common.kernel.statistics;
+
+import java.util.Arrays;
+
+import org.geogebra.common.kernel.arithmetic.NumberValue;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoList;
+import org.geogebra.common.util.DoubleUtil;
+
+/**
+ * Values of a list of numbers as a primitive array together with data derived
+ * from them (moments, sorted copy, frequency table). The derived data is
+ * computed on first use, so statistics commands on the same list can share it
+ * (see {@link GeoList#getNumericData()}). When only a few values of a list
+ * change, the moments and the sorted copy are updated from the data of the
+ * previous values.
+ *
+ * Arrays returned by this class are shared and must not be modified.
+ */
+public final class NumericListData {
+
+	/** maximal number of changed values for an update of derived data */
+	private static final int MAX_CHANGES = 8;
+
+	private final double[] values;
+	private final boolean numeric;
+
+	private RunningMoments moments;
+	private boolean hasProduct = false;
+	private double product;
+
+	private double[] sorted;
+	private double[] uniqueValues;
+	private long[] frequencies;
+
+	/**
+	 * @param list
+	 *            list
+	 */
+	public NumericListData(GeoList list) {
+		this(list, null);
+	}
+
+	/**
+	 * @param list
+	 *            list
+	 * @param previous
+	 *            data of the previous values of the list, may be null; its
+	 *            derived data is reused, so it must not be used any more
+	 */
+	public NumericListData(GeoList list, NumericListData previous) {
+		int size = list.size();
+		values = new double[size];
+		boolean allNumbers = true;
+		for (int i = 0; i < size; i++) {
+			GeoElement geo = list.get(i);
+			if (geo instanceof NumberValue) {
+				values[i] = geo.evaluateDouble();
+			} else {
+				allNumbers = false;
+				break;
+			}
+		}
+		numeric = allNumbers;
+		if (numeric && previous != null && previous.numeric
+				&& previous.values.length == size) {
+			updateFrom(previous);
+		}
+	}
+
+	/**
+	 * @param values
+	 *            values, the array is used without copying
+	 */
+	public NumericListData(double[] values) {
+		this(values, null);
+	}
+
+	/**
+	 * @param values
+	 *            values, the array is used without copying
+	 * @param previous
+	 *            data of the previous values, may be null; its derived data is
+	 *            reused, so it must not be used any more
+	 */
+	public NumericListData(double[] values, NumericListData previous) {
+		this.values = values;
+		this.numeric = true;
+		if (previous != null && previous.numeric
+				&& previous.values.length == values.length) {
+			updateFrom(previous);
+		}
+	}
+
+	/**
+	 * @return whether all list elements are numbers; if not, no other data is
+	 *         available
+	 */
+	public boolean isNumeric() {
+		return numeric;
+	}
+
+	/**
+	 * @return number of values
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * @param index
+	 *            index
+	 * @return value at given index
+	 */
+	public double get(int index) {
+		return values[index];
+	}
+
+	/**
+	 * @return values in list order
+	 */
+	public double[] getValues() {
+		return values;
+	}
+
+	private void updateFrom(NumericListData previous) {
+		int[] changed = new int[MAX_CHANGES];
+		int changes = 0;
+		for (int i = 0; i < values.length; i++) {
+			if (Double.compare(values[i], previous.values[i]) != 0) {
+				if (changes == MAX_CHANGES) {
+					return;
+				}
+				changed[changes++] = i;
+			}
+		}
+		RunningMoments oldMoments = previous.moments;
+		if (oldMoments != null && oldMoments.isFinite()
+				&& oldMoments.getRemovals() + changes <= values.length / 8) {
+			moments = oldMoments;
+			for (int k = 0; k < changes; k++) {
+				moments.replace(previous.values[changed[k]],
+						values[changed[k]]);
+			}
+		}
+		if (previous.sorted != null) {
+			sorted = previous.sorted;
+			for (int k = 0; k < changes; k++) {
+				replaceSorted(sorted, previous.values[changed[k]],
+						values[changed[k]]);
+			}
+		}
+		if (changes == 0) {
+			hasProduct = previous.hasProduct;
+			product = previous.product;
+			uniqueValues = previous.uniqueValues;
+			frequencies = previous.frequencies;
+		}
+	}
+
+	/**
+	 * Replaces one value in a sorted array, moving only the values between
+	 * the old and the new position.
+	 */
+	private static void replaceSorted(double[] sorted, double oldValue,
+			double newValue) {
+		int from = Arrays.binarySearch(sorted, oldValue);
+		int to = Arrays.binarySearch(sorted, newValue);
+		if (to < 0) {
+			to = -to - 1;
+		}
+		if (to > from) {
+			// new value goes before the first larger one
+			to--;
+			System.arraycopy(sorted, from + 1, sorted, from, to - from);
+		} else if (to < from) {
+			System.arraycopy(sorted, to, sorted, to + 1, from - to);
+		}
+		sorted[to] = newValue;
+	}
+
+	/**
+	 * @return moments (count, mean, Sxx, compensated sums) of the values
+	 */
+	public RunningMoments getMoments() {
+		if (moments == null) {
+			moments = new RunningMoments(values, values.length);
+		}
+		return moments;
+	}
+
+	/**
+	 * @return sum of the values
+	 */
+	public double getSum() {
+		return getMoments().getSum();
+	}
+
+	/**
+	 * @return sum of squares of the values
+	 */
+	public double getSumSquares() {
+		return getMoments().getSumSquares();
+	}
+
+	/**
+	 * @return product of the values
+	 */
+	public double getProduct() {
+		if (!hasProduct) {
+			product = 1;
+			for (double val : values) {
+				product *= val;
+			}
+			hasProduct = true;
+		}
+		return product;
+	}
+
+	/**
+	 * @return values in ascending order
+	 */
+	public double[] getSorted() {
+		if (sorted == null) {
+			sorted = Arrays.copyOf(values, values.length);
+			Arrays.sort(sorted);
+		}
+		return sorted;
+	}
+
+	/**
+	 * Values for frequency tables are rounded by
+	 * {@link DoubleUtil#checkDecimalFraction(double)} (as in
+	 * {@link FrequencyGgb}).
+	 *
+	 * @return distinct values in ascending order
+	 */
+	public double[] getUniqueValues() {
+		computeFrequencies();
+		return uniqueValues;
+	}
+
+	/**
+	 * @return frequencies of the values from {@link #getUniqueValues()}
+	 */
+	public long[] getFrequencies() {
+		computeFrequencies();
+		return frequencies;
+	}
+
+	private void computeFrequencies() {
+		if (uniqueValues != null) {
+			return;
+		}
+		double[] rounded = new double[values.length];
+		for (int i = 0; i < values.length; i++) {
+			rounded[i] = DoubleUtil.checkDecimalFraction(values[i]);
+		}
+		Arrays.sort(rounded);
+		int distinct = 0;
+		long[] counts = new long[rounded.length];
+		for (int i = 0; i < rounded.length; i++) {
+			// same equality as for Double keys
+			if (distinct == 0
+					|| Double.compare(rounded[distinct - 1], rounded[i]) != 0) {
+				rounded[distinct++] = rounded[i];
+			}
+			counts[distinct - 1]++;
+		}
+		frequencies = Arrays.copyOf(counts, distinct);
+		uniqueValues = Arrays.copyOf(rounded, distinct);
+	}
+}
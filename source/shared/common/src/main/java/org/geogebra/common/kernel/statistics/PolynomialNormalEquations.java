@@ -0,0 +1,116 @@
+package org.geogebra.common.kernel.statistics;
+
+import java.util.Arrays;
+
+/**
+ * Normal equations of a least squares fit of a polynomial to points, i.e. sums of powers of x
+ * and of powers of x times y, kept in primitive arrays. If the points passed to
+ * {@link #update(double[], double[], int)} start with the points of the previous call, only
+ * the appended points are added to the sums.
+ */
+final class PolynomialNormalEquations {
+
+	private final int degree;
+	/** sum of x^k for k = 0 .. 2 * degree */
+	private final double[] powerSums;
+	/** sum of x^k * y for k = 0 .. degree */
+	private final double[] momentSums;
+	private double sumY2;
+	private double[] xs = new double[16];
+	private double[] ys = new double[16];
+	private int size = 0;
+
+	/**
+	 * @param degree polynomial degree
+	 */
+	PolynomialNormalEquations(int degree) {
+		this.degree = degree;
+		powerSums = new double[2 * degree + 1];
+		momentSums = new double[degree + 1];
+	}
+
+	/**
+	 * @return polynomial degree
+	 */
+	int getDegree() {
+		return degree;
+	}
+
+	/**
+	 * Makes the sums match the given points.
+	 * @param x x-coordinates
+	 * @param y y-coordinates
+	 * @param n number of points
+	 * @return number of points that were added to the sums
+	 */
+	int update(double[] x, double[] y, int n) {
+		int start = n >= size ? commonPrefix(x, y) : 0;
+		if (size == 0 || start < size) {
+			clear();
+			start = 0;
+		}
+		if (n > xs.length) {
+			int capacity = Math.max(n, 2 * xs.length);
+			xs = Arrays.copyOf(xs, capacity);
+			ys = Arrays.copyOf(ys, capacity);
+		}
+		for (int i = start; i < n; i++) {
+			add(x[i], y[i]);
+			xs[i] = x[i];
+			ys[i] = y[i];
+		}
+		size = n;
+		return n - start;
+	}
+
+	private int commonPrefix(double[] x, double[] y) {
+		for (int i = 0; i < size; i++) {
+			if (xs[i] != x[i] || ys[i] != y[i]) {
+				return i;
+			}
+		}
+		return size;
+	}
+
+	private void clear() {
+		Arrays.fill(powerSums, 0);
+		Arrays.fill(momentSums, 0);
+		sumY2 = 0;
+		size = 0;
+	}
+
+	private void add(double x, double y) {
+		double power = 1;
+		for (int k = 0; k < powerSums.length; k++) {
+			powerSums[k] += power;
+			if (k < momentSums.length) {
+				momentSums[k] += power * y;
+			}
+			power *= x;
+		}
+		sumY2 += y * y;
+	}
+
+	/**
+	 * @param k exponent, at most 2 * degree
+	 * @return sum of x^k
+	 */
+	double getPowerSum(int k) {
+		return powerSums[k];
+	}
+
+	/**
+	 * @param k exponent, at most degree
+	 * @return sum of x^k * y
+	 */
+	double getMomentSum(int k) {
+		return momentSums[k];
+	}
+
+	/**
+	 * @return sum of y^2
+	 */
+	double getSumY2() {
+		return sumY2;
+	}
+}
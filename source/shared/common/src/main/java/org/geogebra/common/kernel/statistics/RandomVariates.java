@@ -0,0 +1,197 @@
+package org.geogebra.common.kernel.statistics;
+
+import org.geogebra.common.main.App;
+import org.geogebra.common.util.MyMath2;
+
+/**
+ * Generator of random numbers that fills whole arrays, e.g. for random lists. It is a
+ * SplitMix64 generator: each instance is seeded from the random numbers of the app (see
+ * {@link #seededBy(App)}), so a seed set by {@link App#setRandomSeed(int)} reproduces the
+ * results, and {@link #split()} creates independent generators for separate parts of a
+ * simulation without advancing the random numbers of the app.
+ */
+public final class RandomVariates {
+
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+	private static final double DOUBLE_UNIT = 1.0 / (1L << 53);
+	private static final double HALF_LOG_2PI = 0.5 * Math.log(2 * Math.PI);
+	private static final double[] LOG_FACTORIALS = new double[10];
+
+	private long seed;
+	private double nextNormal = Double.NaN;
+
+	/**
+	 * @param seed seed
+	 */
+	public RandomVariates(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * @param app app
+	 * @return generator seeded by the next random number of the app
+	 */
+	public static RandomVariates seededBy(App app) {
+		return new RandomVariates((long) (app.getRandomNumber() * (1L << 53)));
+	}
+
+	/**
+	 * @return generator whose random numbers are independent of this one's
+	 */
+	public RandomVariates split() {
+		return new RandomVariates(mix(nextSeed()));
+	}
+
+	private long nextSeed() {
+		seed += GOLDEN_GAMMA;
+		return seed;
+	}
+
+	private static long mix(long z0) {
+		long z = (z0 ^ (z0 >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * @return random number from [0, 1)
+	 */
+	public double nextDouble() {
+		return (mix(nextSeed()) >>> 11) * DOUBLE_UNIT;
+	}
+
+	/**
+	 * @param values output: random numbers from the uniform distribution on [a, b]
+	 * @param a lower bound
+	 * @param b upper bound
+	 */
+	public void fillUniform(double[] values, double a, double b) {
+		double width = b - a;
+		for (int i = 0; i < values.length; i++) {
+			values[i] = a + nextDouble() * width;
+		}
+	}
+
+	/**
+	 * @param values output: random integers between min and max inclusive
+	 * @param min least possible value
+	 * @param max highest possible value
+	 */
+	public void fillIntegers(double[] values, int min, int max) {
+		double count = (double) max - min + 1;
+		for (int i = 0; i < values.length; i++) {
+			values[i] = min + Math.floor(nextDouble() * count);
+		}
+	}
+
+	/**
+	 * @param mean mean
+	 * @param sd standard deviation
+	 * @return random number from the normal distribution
+	 */
+	public double normal(double mean, double sd) {
+		double z = nextNormal;
+		if (Double.isNaN(z)) {
+			// polar method, generates two numbers at once
+			double v1, v2, rsq;
+			do {
+				v1 = 2 * nextDouble() - 1;
+				v2 = 2 * nextDouble() - 1;
+				rsq = v1 * v1 + v2 * v2;
+			} while (rsq >= 1 || rsq == 0);
+			double fac = Math.sqrt(-2 * Math.log(rsq) / rsq);
+			z = v1 * fac;
+			nextNormal = v2 * fac;
+		} else {
+			nextNormal = Double.NaN;
+		}
+		return mean + z * sd;
+	}
+
+	/**
+	 * @param values output: random numbers from the normal distribution
+	 * @param mean mean
+	 * @param sd standard deviation
+	 */
+	public void fillNormal(double[] values, double mean, double sd) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = normal(mean, sd);
+		}
+	}
+
+	/**
+	 * @param values output: random numbers from the binomial distribution
+	 * @param n number of trials
+	 * @param p probability of success
+	 */
+	public void fillBinomial(double[] values, int n, double p) {
+		fill(values, DiscreteDistributionTable.binomial(Math.max(n, 0), p));
+	}
+
+	/**
+	 * @param values output: random numbers from the Poisson distribution
+	 * @param lambda mean, positive
+	 */
+	public void fillPoisson(double[] values, double lambda) {
+		if (lambda <= DiscreteDistributionTable.MAX_POISSON_MEAN) {
+			fill(values, DiscreteDistributionTable.poisson(lambda));
+			return;
+		}
+		for (int i = 0; i < values.length; i++) {
+			values[i] = poissonPTRS(lambda);
+		}
+	}
+
+	private void fill(double[] values, DiscreteDistributionTable table) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = table.sample(nextDouble());
+		}
+	}
+
+	/**
+	 * Hermann, Wolfgang: The transformed rejection method for generating Poisson random
+	 * variables Algorithm PTRS
+	 * http://statmath.wu-wien.ac.at/papers/92-04-13.wh.ps.gz
+	 *
+	 * @param mu mean, at least 10
+	 * @return random number from the Poisson distribution
+	 */
+	int poissonPTRS(double mu) {
+		double b = 0.931 + 2.53 * Math.sqrt(mu);
+		double a1 = -0.059 + 0.02438 * b;
+		double vR = 0.9277 - 3.6224 / (b - 2);
+		double us = 0;
+		double v = 1;
+		while (true) {
+			int k = -1;
+			while (k < 0 || (us < 0.013 && v > us)) {
+				double u = nextDouble() - 0.5;
+				v = nextDouble();
+				us = 0.5 - Math.abs(u);
+				k = (int) Math.floor((2 * a1 / us + b) * u + mu + 0.43);
+				if (us >= 0.07 && v < vR) {
+					return k;
+				}
+			}
+			double alpha = 1.1239 + 1.1328 / (b - 3.4);
+			double lnmu = Math.log(mu);
+			if (Math.log(v * alpha / (a1 / us / us + b)) <= -mu + k * lnmu
+					- logOfKFactorial(k)) {
+				return k;
+			}
+		}
+	}
+
+	private static double logOfKFactorial(int k) {
+		if (k < 10) {
+			if (LOG_FACTORIALS[k] == 0) {
+				LOG_FACTORIALS[k] = Math.log(MyMath2.factorial(k));
+			}
+			return LOG_FACTORIALS[k];
+		}
+		// Stirling approximation
+		return HALF_LOG_2PI + (k + 0.5) * Math.log(k + 1) - (k + 1)
+				+ (1 / 12.0 - (1 / 360.0 - 1 / 1260.0 / (k + 1) / (k + 1))
+						/ (k + 1) / (k + 1)) / (k + 1);
+	}
+}
@@ -46,6 +46,9 @@ import org.geogebra.common.util.debug.Log;
  * certainly ask for this...)
  * </ul>
  * 
+ * The sums are kept between computations, when points are only appended to
+ * the list (or the list is unchanged) only the new points are added.
+ * 
  * @author Hans-Petter Ulven
  * @version 20.02.10
  */
@@ -85,6 +88,8 @@ public final class RegressionMath {
 	// For (M_T*M)*Par=(M_T*Y)
 	private double[][] marray;
 	private double[][] yarray;
+	// sums of the previous computation, updated when points are appended
+	private PolynomialNormalEquations normalEquations;
 
 	// / --- Interface --- ///
 
@@ -150,6 +155,8 @@ public final class RegressionMath {
 		if (error) {
 			return false;
 		}
+		// QR decomposition of the full matrix: normal equations would square
+		// its condition number
 		try {
 			makeMatrixArrays(degree); // make marray and yarray
 			RealMatrix M = new Array2DRowRealMatrix(marray, false);
@@ -522,39 +529,39 @@ public final class RegressionMath {
 
 	/* Do whatever sums necessary */
 	private void doSums(int degree) { // do whatever sums necessary
-		double x, y, xx, xy;
-		sigmax = sigmax2 = sigmax3 = sigmax4 = sigmax5 = sigmax6 = 0.0d;
-		sigmaxy = sigmax2y = sigmax3y = sigmay = sigmay2 = 0.0d;
-		for (int i = 0; i < size; i++) {
-			x = xlist[i];
-			y = ylist[i];
-			xx = x * x;
-			xy = x * y; // save some calculations
-			switch (degree) { // fall through switch
-			default:
-				// do nothing
-				break;
-			case 4:
-				//$FALL-THROUGH$
-			case 3:
-				sigmax3y += xx * xy;
-				sigmax5 += xx * xx * x;
-				sigmax6 += xx * xx * xx;
-				//$FALL-THROUGH$
-			case 2:
-				sigmax2y += xx * y;
-				sigmax3 += xx * x;
-				sigmax4 += xx * xx;
-				//$FALL-THROUGH$
-			case 1:
-				sigmay2 += y * y; // r only for linear
-			}
-			// always do these
-			sigmax += x;
-			sigmax2 += xx;
-			sigmaxy += xy;
-			sigmay += y;
+		PolynomialNormalEquations sums = updateNormalEquations(degree);
+		sigmax3 = sigmax4 = sigmax5 = sigmax6 = 0.0d;
+		sigmax2y = sigmax3y = sigmay2 = 0.0d;
+		switch (degree) { // fall through switch
+		default:
+			// do nothing
+			break;
+		case 3:
+			sigmax3y = sums.getMomentSum(3);
+			sigmax5 = sums.getPowerSum(5);
+			sigmax6 = sums.getPowerSum(6);
+			//$FALL-THROUGH$
+		case 2:
+			sigmax2y = sums.getMomentSum(2);
+			sigmax3 = sums.getPowerSum(3);
+			sigmax4 = sums.getPowerSum(4);
+			//$FALL-THROUGH$
+		case 1:
+			sigmay2 = sums.getSumY2();
 		}
+		// always do these
+		sigmax = sums.getPowerSum(1);
+		sigmax2 = sums.getPowerSum(2);
+		sigmaxy = sums.getMomentSum(1);
+		sigmay = sums.getMomentSum(0);
+	}
+
+	private PolynomialNormalEquations updateNormalEquations(int degree) {
+		if (normalEquations == null || normalEquations.getDegree() != degree) {
+			normalEquations = new PolynomialNormalEquations(degree);
+		}
+		normalEquations.update(xlist, ylist, size);
+		return normalEquations;
 	}
 
 	/* Get points to local array */
@@ -563,8 +570,10 @@ public final class RegressionMath {
 		double[] xy = new double[2];
 		GeoElement geoelement;
 		// GeoPoint geopoint;
-		xlist = new double[size];
-		ylist = new double[size];
+		if (xlist == null || xlist.length != size) {
+			xlist = new double[size];
+			ylist = new double[size];
+		}
 		for (int i = 0; i < size; i++) {
 			geoelement = geolist.get(i);
 			if (geoelement instanceof GeoPoint) {
@@ -587,8 +596,10 @@ public final class RegressionMath {
 			// Y:
 			yarray[i][0] = ylist[i];
 			// M:
+			double power = 1;
 			for (int j = 0; j < (degree + 1); j++) {
-				marray[i][j] = Math.pow(xlist[i], j);
+				marray[i][j] = power;
+				power *= xlist[i];
 			}
 		}
 	}
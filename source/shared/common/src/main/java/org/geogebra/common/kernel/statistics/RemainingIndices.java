@@ -0,0 +1,47 @@
+package org.geogebra.common.kernel.statistics;
+
+/**
+ * Indices 0, ..., n - 1 for drawing without replacement: the k-th of the remaining indices is
+ * found and removed in logarithmic time (using a Fenwick tree of counts), with the same result
+ * as removing the k-th element from a list of the remaining indices.
+ */
+final class RemainingIndices {
+
+	private final int[] counts;
+	private final int highestStep;
+
+	/**
+	 * @param n number of indices
+	 */
+	RemainingIndices(int n) {
+		counts = new int[n + 1];
+		for (int i = 1; i <= n; i++) {
+			counts[i]++;
+			int parent = i + (i & -i);
+			if (parent <= n) {
+				counts[parent] += counts[i];
+			}
+		}
+		highestStep = Integer.highestOneBit(Math.max(n, 1));
+	}
+
+	/**
+	 * @param k position among the remaining indices, less than their number
+	 * @return removed index
+	 */
+	int remove(int k) {
+		int pos = 0;
+		int rank = k + 1;
+		for (int step = highestStep; step > 0; step >>= 1) {
+			int next = pos + step;
+			if (next < counts.length && counts[next] < rank) {
+				pos = next;
+				rank -= counts[next];
+			}
+		}
+		for (int i = pos + 1; i < counts.length; i += i & -i) {
+			counts[i]--;
+		}
+		return pos;
+	}
+}
@@ -0,0 +1,114 @@
+package org.geogebra.common.kernel.statistics;
+
+/**
+ * Moments of paired data (x_i, y_i) for two-variable statistics and linear
+ * regression. The moments are kept between calls of
+ * {@link #setValues(double[], double[], int)}: if only a few pairs changed
+ * since the last call, they are updated (Welford) instead of being computed
+ * from scratch.
+ */
+public final class RunningCoMoments {
+
+	/** maximal number of changed pairs for an update */
+	private static final int MAX_CHANGES = 8;
+
+	private RunningMoments x = new RunningMoments();
+	private RunningMoments y = new RunningMoments();
+	private double cxy;
+	private final CompensatedSum sumXY = new CompensatedSum();
+
+	private double[] lastX = new double[0];
+	private double[] lastY = new double[0];
+	private final int[] changed = new int[MAX_CHANGES];
+
+	/**
+	 * @param xs
+	 *            x values
+	 * @param ys
+	 *            y values
+	 * @param size
+	 *            number of pairs
+	 */
+	public void setValues(double[] xs, double[] ys, int size) {
+		int changes = size == lastX.length ? countChanges(xs, ys, size)
+				: MAX_CHANGES + 1;
+		if (changes > MAX_CHANGES || !x.isFinite() || !y.isFinite()
+				|| x.getRemovals() > size / 8) {
+			x = new RunningMoments();
+			y = new RunningMoments();
+			cxy = 0;
+			sumXY.reset();
+			for (int i = 0; i < size; i++) {
+				add(xs[i], ys[i]);
+			}
+			lastX = new double[size];
+			lastY = new double[size];
+		} else {
+			for (int k = 0; k < changes; k++) {
+				int i = changed[k];
+				remove(lastX[i], lastY[i]);
+				add(xs[i], ys[i]);
+			}
+		}
+		System.arraycopy(xs, 0, lastX, 0, size);
+		System.arraycopy(ys, 0, lastY, 0, size);
+	}
+
+	private int countChanges(double[] xs, double[] ys, int size) {
+		int changes = 0;
+		for (int i = 0; i < size; i++) {
+			if (Double.compare(xs[i], lastX[i]) != 0
+					|| Double.compare(ys[i], lastY[i]) != 0) {
+				if (changes == MAX_CHANGES) {
+					return changes + 1;
+				}
+				changed[changes++] = i;
+			}
+		}
+		return changes;
+	}
+
+	private void add(double valX, double valY) {
+		double dx = valX - x.getMean();
+		x.add(valX);
+		y.add(valY);
+		cxy += dx * (valY - y.getMean());
+		sumXY.add(valX * valY);
+	}
+
+	private void remove(double valX, double valY) {
+		double dy = valY - y.getMean();
+		x.remove(valX);
+		y.remove(valY);
+		cxy = x.getCount() == 0 ? 0 : cxy - (valX - x.getMean()) * dy;
+		sumXY.add(-valX * valY);
+	}
+
+	/**
+	 * @return moments of the x values
+	 */
+	public RunningMoments getX() {
+		return x;
+	}
+
+	/**
+	 * @return moments of the y values
+	 */
+	public RunningMoments getY() {
+		return y;
+	}
+
+	/**
+	 * @return sum of (x_i - mean x) * (y_i - mean y)
+	 */
+	public double getSxy() {
+		return cxy;
+	}
+
+	/**
+	 * @return sum of x_i * y_i
+	 */
+	public double getSumXY() {
+		return sumXY.get();
+	}
+}
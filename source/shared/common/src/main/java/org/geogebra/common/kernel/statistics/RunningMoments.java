@@ -0,0 +1,152 @@
+package org.geogebra.common.kernel.statistics;
+
+/**
+ * Mean and sum of squared deviations of a sample, updated with Welford's
+ * method when values are added, removed or replaced. Unlike the textbook
+ * formula sum(x^2) - sum(x)^2 / n this doesn't lose precision for data with a
+ * large mean. Sums and sums of squares are compensated (see
+ * {@link CompensatedSum}).
+ */
+public final class RunningMoments {
+
+	private int count;
+	private double mean;
+	private double m2;
+	private int removals;
+	private final CompensatedSum sum = new CompensatedSum();
+	private final CompensatedSum sumSquares = new CompensatedSum();
+
+	/**
+	 * Empty sample.
+	 */
+	public RunningMoments() {
+		// nothing to add
+	}
+
+	/**
+	 * @param values
+	 *            values
+	 * @param size
+	 *            number of values to use (from the beginning of the array)
+	 */
+	public RunningMoments(double[] values, int size) {
+		for (int i = 0; i < size; i++) {
+			add(values[i]);
+		}
+	}
+
+	/**
+	 * @param other
+	 *            moments to copy
+	 */
+	public RunningMoments(RunningMoments other) {
+		count = other.count;
+		mean = other.mean;
+		m2 = other.m2;
+		removals = other.removals;
+		sum.set(other.sum);
+		sumSquares.set(other.sumSquares);
+	}
+
+	/**
+	 * @param value
+	 *            new value
+	 */
+	public void add(double value) {
+		count++;
+		double delta = value - mean;
+		mean += delta / count;
+		m2 += delta * (value - mean);
+		sum.add(value);
+		sumSquares.add(value * value);
+	}
+
+	/**
+	 * @param value
+	 *            value which is no longer part of the sample
+	 */
+	public void remove(double value) {
+		if (count <= 1) {
+			count = 0;
+			mean = 0;
+			m2 = 0;
+			sum.reset();
+			sumSquares.reset();
+			return;
+		}
+		double delta = value - mean;
+		count--;
+		mean -= delta / count;
+		m2 = Math.max(0, m2 - delta * (value - mean));
+		sum.add(-value);
+		sumSquares.add(-value * value);
+		removals++;
+	}
+
+	/**
+	 * @param oldValue
+	 *            value to remove
+	 * @param newValue
+	 *            value to add instead
+	 */
+	public void replace(double oldValue, double newValue) {
+		remove(oldValue);
+		add(newValue);
+	}
+
+	/**
+	 * @return number of values
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * @return mean
+	 */
+	public double getMean() {
+		return mean;
+	}
+
+	/**
+	 * @return sum of values
+	 */
+	public double getSum() {
+		return sum.get();
+	}
+
+	/**
+	 * @return sum of squares of values
+	 */
+	public double getSumSquares() {
+		return sumSquares.get();
+	}
+
+	/**
+	 * @return sum of squared deviations from the mean (Sxx)
+	 */
+	public double getSumSquaredDeviations() {
+		return m2;
+	}
+
+	/**
+	 * Rounding errors add up with each removed value, so callers should start
+	 * over after many updates (e.g. when this exceeds an eighth of the
+	 * count).
+	 *
+	 * @return number of removed values since the moments were computed from
+	 *         scratch
+	 */
+	public int getRemovals() {
+		return removals;
+	}
+
+	/**
+	 * @return whether values can still be removed; false once an infinite or
+	 *         undefined value was added
+	 */
+	public boolean isFinite() {
+		return !Double.isNaN(m2) && !Double.isInfinite(m2)
+				&& !Double.isInfinite(mean);
+	}
+}
@@ -0,0 +1,86 @@
+package org.geogebra.common.kernel.statistics;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.apache.commons.math3.distribution.IntegerDistribution;
+
+/**
+ * Probabilities of an integer distribution for consecutive values from a fixed first value,
+ * kept as long as the type and parameters of the distribution stay the same. Asking for more
+ * values (e.g. when the visible range of a bar chart grows) only computes the new ones.
+ */
+public final class TabulatedIntegerDistribution {
+
+	private double[] key;
+	private IntegerDistribution distribution;
+	private int first;
+	private double[] probabilities = new double[0];
+	private double[] cumulative = new double[0];
+	private int size = 0;
+
+	/**
+	 * Sets the distribution; the table is only cleared if the type, parameters or first value
+	 * changed.
+	 *
+	 * @param factory creates the distribution (may throw for invalid parameters)
+	 * @param type distribution type
+	 * @param firstValue first tabulated value
+	 * @param parameters distribution parameters
+	 */
+	public void setDistribution(Supplier<IntegerDistribution> factory, int type,
+			int firstValue, double... parameters) {
+		double[] newKey = new double[parameters.length + 2];
+		newKey[0] = type;
+		newKey[1] = firstValue;
+		System.arraycopy(parameters, 0, newKey, 2, parameters.length);
+		if (!Arrays.equals(newKey, key)) {
+			// don't keep the old table if the factory throws
+			key = null;
+			distribution = factory.get();
+			first = firstValue;
+			size = 0;
+			key = newKey;
+		}
+	}
+
+	/**
+	 * Makes sure the values from the first value to the given one are tabulated.
+	 *
+	 * @param last last needed value
+	 */
+	public void ensureTabulated(int last) {
+		int needed = last - first + 1;
+		if (needed <= size) {
+			return;
+		}
+		if (needed > probabilities.length) {
+			int capacity = Math.max(needed, 2 * probabilities.length);
+			probabilities = Arrays.copyOf(probabilities, capacity);
+			cumulative = Arrays.copyOf(cumulative, capacity);
+		}
+		double sum = size == 0 ? 0 : cumulative[size - 1];
+		for (int i = size; i < needed; i++) {
+			probabilities[i] = distribution.probability(first + i);
+			sum += probabilities[i];
+			cumulative[i] = sum;
+		}
+		size = needed;
+	}
+
+	/**
+	 * @param k value, between the first value and the last tabulated one
+	 * @return P(X = k)
+	 */
+	public double probability(int k) {
+		return probabilities[k - first];
+	}
+
+	/**
+	 * @param k value, between the first value and the last tabulated one
+	 * @return sum of the probabilities from the first value to k
+	 */
+	public double cumulativeProbability(int k) {
+		return cumulative[k - first];
+	}
+}
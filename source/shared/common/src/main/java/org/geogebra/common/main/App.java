@@ -141,6 +141,7 @@ import org.geogebra.common.util.DoubleUtil;
 import org.geogebra.common.util.LowerCaseDictionary;
 import org.geogebra.common.util.MD5Checksum;
 import org.geogebra.common.util.NormalizerMinimal;
+import org.geogebra.common.util.StreamExport;
 import org.geogebra.common.util.StringUtil;
 import org.geogebra.common.util.SyntaxAdapterImpl;
 import org.geogebra.common.util.ToStringConverter;
@@ -4716,6 +4717,21 @@ public abstract class App implements UpdateSelection, AppInterface, EuclidianHos
 		// needs to be implemented in subclasses
 	}
 
+	/**
+	 * Export to file while content is produced, so that the whole content
+	 * doesn't need to be kept in memory.
+	 *
+	 * @param ext - extension
+	 * @param export - writes contents of file
+	 * @param showDialog - whether should show dialog
+	 * @return false if not supported, {@link #exportStringToFile} should be
+	 *         used instead
+	 */
+	public boolean exportStreamToFile(String ext, StreamExport export,
+			boolean showDialog) {
+		return false;
+	}
+
 	/**
 	 * handle image as appropriate
 	 * web: show in lightbox
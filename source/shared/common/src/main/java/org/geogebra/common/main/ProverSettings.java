@@ -52,6 +52,25 @@ public final class ProverSettings {
 	 */
 	public boolean captionAlgebra = false;
 
+	/**
+	 * Try to compute Groebner bases in GeoGebra before asking the CAS. Used by
+	 * Botana's and Recio's prover and by LocusEquation at the moment.
+	 */
+	public boolean nativeGroebner = true;
+
+	/**
+	 * Check independent candidates (test points of Recio's method, NDG
+	 * candidates of Botana's method) on several threads. Has no effect on
+	 * platforms without threads.
+	 */
+	public boolean parallel = false;
+
+	/**
+	 * Time budget for one parallel search in seconds, 0 means the prover
+	 * timeout. Used only if {@link #parallel} is set.
+	 */
+	public int parallelTimeout = 0;
+
 	private ProverSettings() {
 		// singleton constructor
 	}
@@ -2,6 +2,7 @@ package org.geogebra.common.plugin;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.TreeSet;
 import java.util.function.Consumer;
@@ -10,6 +11,7 @@ import java.util.function.Function;
 import org.geogebra.common.GeoGebraConstants;
 import org.geogebra.common.awt.GColor;
 import org.geogebra.common.awt.GFont;
+import org.geogebra.common.cas.CASProfiler;
 import org.geogebra.common.euclidian.EuclidianView;
 import org.geogebra.common.euclidian.EuclidianViewInterfaceCommon;
 import org.geogebra.common.euclidian3D.EuclidianView3DInterface;
@@ -193,6 +195,73 @@ public abstract class GgbAPI implements JavaScriptAPI {
 		return ret;
 	}
 
+	/**
+	 * Evaluates the given strings as if they were entered into GeoGebra's CAS
+	 * View; the CAS evaluates all of them together. Assignments, references to
+	 * CAS rows and inputs with Numeric or ScientificText are evaluated one by
+	 * one as in
+	 * {@link #evalCommandCAS(String, String)}.
+	 * 
+	 * @param cmdStrings
+	 *            inputs to CAS
+	 * @param rounding
+	 *            rounding for the outputs
+	 * @return outputs from CAS, in the same order
+	 */
+	@Override
+	public synchronized String[] evalCommandCASBatch(String[] cmdStrings,
+			String rounding) {
+		String[] ret = new String[cmdStrings.length];
+		if (!app.getSettings().getCasSettings().isEnabled()) {
+			Arrays.fill(ret, "?");
+			return ret;
+		}
+		ArrayList<String> batch = new ArrayList<>(cmdStrings.length);
+		ArrayList<Integer> batchIndices = new ArrayList<>(cmdStrings.length);
+		for (int i = 0; i < cmdStrings.length; i++) {
+			if (isBatchEvaluable(cmdStrings[i])) {
+				batch.add(cmdStrings[i]);
+				batchIndices.add(i);
+			} else {
+				ret[i] = evalCommandCAS(cmdStrings[i], rounding);
+			}
+		}
+		if (!batch.isEmpty()) {
+			StringTemplate tpl = StringUtil.empty(rounding)
+					? StringTemplate.numericDefault
+					: StringTemplate.printDecimals(
+							ExpressionNodeConstants.StringType.GEOGEBRA,
+							Integer.parseInt(rounding), false);
+			List<String> results = kernel.getGeoGebraCAS()
+					.evaluateGeoGebraCAS(batch, tpl, kernel);
+			for (int i = 0; i < results.size(); i++) {
+				ret[batchIndices.get(i)] = results.get(i);
+			}
+		}
+		return ret;
+	}
+
+	private static boolean isBatchEvaluable(String cmdString) {
+		return !cmdString.contains("$") && !cmdString.contains(":=")
+				&& cmdString.indexOf(Unicode.ASSIGN_STRING) < 0
+				&& !cmdString.contains("Numeric")
+				&& !cmdString.contains("ScientificText");
+	}
+
+	@Override
+	public String getCASProfile() {
+		CASProfiler profiler = kernel.getGeoGebraCAS().getProfiler();
+		return profiler == null ? "" : profiler.getReport();
+	}
+
+	@Override
+	public void resetCASProfile() {
+		CASProfiler profiler = kernel.getGeoGebraCAS().getProfiler();
+		if (profiler != null) {
+			profiler.reset();
+		}
+	}
+
 	private String getCasCellValue(GeoCasCell f, String rounding) {
 		StringTemplate valueTemplate = StringTemplate.numericDefault;
 		if (!StringUtil.empty(rounding)) {
@@ -105,6 +105,28 @@ public interface JavaScriptAPI {
 	 */
 	String evalCommandCAS(String cmdString, String rounding);
 
+	/**
+	 * Runs several commands in CAS without checking GeoGebra variables; the CAS
+	 * evaluates them together
+	 * 
+	 * @param cmdStrings
+	 *            CAS commands
+	 * @param rounding
+	 *            rounding for the results
+	 * @return CAS results, in the same order
+	 */
+	String[] evalCommandCASBatch(String[] cmdStrings, String rounding);
+
+	/**
+	 * @return CAS timings, cache hits and the slowest CAS inputs, as text
+	 */
+	String getCASProfile();
+
+	/**
+	 * Clears CAS timings, cache hits and the slowest CAS inputs
+	 */
+	void resetCASProfile();
+
 	/**
 	 * Runs command in CAS, all variables are substituted by GeoGebra objects
 	 * 
@@ -228,10 +228,12 @@ public final class Spreadsheet implements TabularDataChangeListener {
 		for (int column = portion.fromColumn; column <= portion.toColumn; column++) {
 			for (int row = portion.fromRow; row <= portion.toRow; row++) {
 				renderer.drawCell(row, column, graphics,
-						controller.contentAt(row, column), controller.hasError(row, column));
+						controller.renderableContentAt(row, column),
+						controller.hasError(row, column));
 			}
 		}
 		graphics.translate(offsetX, offsetY);
+		renderer.evictInvisible(portion);
 	}
 
 	private void setHeaderColor(GGraphics2D graphics, boolean isSelected) {
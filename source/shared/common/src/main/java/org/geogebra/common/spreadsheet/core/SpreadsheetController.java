@@ -107,6 +107,10 @@ public final class SpreadsheetController {
 		return tabularData.contentAt(row, column);
 	}
 
+	Object renderableContentAt(int row, int column) {
+		return tabularData.renderableContentAt(row, column);
+	}
+
 	/**
 	 * Inserts a row at a given index
 	 * @param row Index of where to insert the row
@@ -811,6 +815,7 @@ public final class SpreadsheetController {
 		}
 		cellDragPasteHandler.pasteToDestination();
 		cellDragPasteHandler.setRangeToCopy(null);
+		storeUndoInfo();
 		TabularRange mergedRange = lastSelection.getRange().getRectangularUnion(destinationRange);
 		if (mergedRange != null) {
 			select(mergedRange, false, true);
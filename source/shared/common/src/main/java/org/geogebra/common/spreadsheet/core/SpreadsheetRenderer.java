@@ -1,8 +1,6 @@
 package org.geogebra.common.spreadsheet.core;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -28,6 +26,9 @@ import org.geogebra.common.util.shape.Rectangle;
  * Renders global parts of spreadsheet (column headers, row headers, grid, cell backgrounds)
  * to a graphics object, delegates rendering of individual cells to respective {@link CellRenderer}
  * implementations.
+ * <p>
+ * Only visible cells and headers are rendered; renderables of cells and headers that were
+ * scrolled out of view are dropped, so memory doesn't depend on the size of the table.
  */
 public final class SpreadsheetRenderer {
 
@@ -35,8 +36,8 @@ public final class SpreadsheetRenderer {
 	private final TableLayout layout;
 	private final Map<SpreadsheetCoords, SelfRenderable> renderableCache = new HashMap<>();
 	private final StringRenderer stringRenderer = new StringRenderer();
-	private final List<SelfRenderable> rowHeaders = new ArrayList<>();
-	private final List<SelfRenderable> columnHeaders = new ArrayList<>();
+	private final Map<Integer, SelfRenderable> rowHeaders = new HashMap<>();
+	private final Map<Integer, SelfRenderable> columnHeaders = new HashMap<>();
 	private final static GBasicStroke gridStroke = AwtFactory.getPrototype().newBasicStroke(1);
 	private final static GBasicStroke dashedGridStroke = EuclidianStatic.getStroke(
 			gridStroke.getLineWidth(), EuclidianStyleConstants.LINE_TYPE_DASHED_SHORT);
@@ -46,6 +47,8 @@ public final class SpreadsheetRenderer {
 	private final static int ERROR_TRIANGLE_WIDTH = 10;
 	private final static int TEXT_PADDING = 10;
 	private final static int TEXT_HEIGHT = 16;
+	/** renderables outside of the visible area are dropped when there are more than this */
+	private final static int MAX_CACHED_RENDERABLES = 2000;
 
 	SpreadsheetRenderer(@Nonnull TableLayout layout, @Nonnull CellRenderableFactory converter,
 			@Nonnull SpreadsheetStyle style, @Nonnull TabularData tabularData) {
@@ -168,8 +171,7 @@ public final class SpreadsheetRenderer {
 
 	void drawRowHeader(int row, GGraphics2D graphics, Function<Integer, String> nameProvider) {
 		Rectangle cellBorder = layout.getRowHeaderBounds(row);
-		ensureHeaders(rowHeaders, row, nameProvider);
-		rowHeaders.get(row).draw(graphics, cellBorder);
+		getHeader(rowHeaders, row, nameProvider).draw(graphics, cellBorder);
 	}
 
 	void drawRowBorder(int row, GGraphics2D graphics) {
@@ -179,12 +181,10 @@ public final class SpreadsheetRenderer {
 						? layout.getTotalWidth() : layout.getRowHeaderWidth(), layout.getMinY(row));
 	}
 
-	private void ensureHeaders(List<SelfRenderable> rowHeaders, int row,
+	private SelfRenderable getHeader(Map<Integer, SelfRenderable> headers, int index,
 			Function<Integer, String> nameProvider) {
-		for (int i = rowHeaders.size(); i <= row; i++) {
-			rowHeaders.add(new SelfRenderable(stringRenderer, GFont.PLAIN,
-					CellFormat.ALIGN_CENTER, nameProvider.apply(i)));
-		}
+		return headers.computeIfAbsent(index, ignore -> new SelfRenderable(stringRenderer,
+				GFont.PLAIN, CellFormat.ALIGN_CENTER, nameProvider.apply(index)));
 	}
 
 	void drawColumnBorder(int column, GGraphics2D graphics) {
@@ -197,8 +197,7 @@ public final class SpreadsheetRenderer {
 	void drawColumnHeader(int column, GGraphics2D graphics,
 			Function<Integer, String> nameProvider) {
 		Rectangle cellBorder = layout.getColumnHeaderBounds(column);
-		ensureHeaders(columnHeaders, column, nameProvider);
-		columnHeaders.get(column).draw(graphics, cellBorder);
+		getHeader(columnHeaders, column, nameProvider).draw(graphics, cellBorder);
 	}
 
 	void drawHeaderBackgroundAndOutline(GGraphics2D graphics, Rectangle rectangle) {
@@ -305,7 +304,30 @@ public final class SpreadsheetRenderer {
 	}
 
 	void invalidate(int row, int column) {
-		renderableCache.remove(new SpreadsheetCoords(row, column));
+		if (row == -1 && column == -1) {
+			renderableCache.clear();
+		} else {
+			renderableCache.remove(new SpreadsheetCoords(row, column));
+		}
+	}
+
+	/**
+	 * Drops renderables of cells and headers outside the given portion, once there are too many.
+	 * @param portion visible part of the table
+	 */
+	void evictInvisible(TableLayout.Portion portion) {
+		if (renderableCache.size() > MAX_CACHED_RENDERABLES) {
+			renderableCache.keySet().removeIf(coords -> coords.row < portion.fromRow
+					|| coords.row > portion.toRow || coords.column < portion.fromColumn
+					|| coords.column > portion.toColumn);
+		}
+		if (rowHeaders.size() > MAX_CACHED_RENDERABLES) {
+			rowHeaders.keySet().removeIf(row -> row < portion.fromRow || row > portion.toRow);
+		}
+		if (columnHeaders.size() > MAX_CACHED_RENDERABLES) {
+			columnHeaders.keySet().removeIf(column -> column < portion.fromColumn
+					|| column > portion.toColumn);
+		}
 	}
 
 	void drawDraggingDot(Point location, GGraphics2D graphics) {
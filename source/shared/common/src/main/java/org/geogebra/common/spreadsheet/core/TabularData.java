@@ -143,6 +143,17 @@ public interface TabularData<T> extends HasTabularValues<T> {
 	 */
 	@Nonnull String serializeContentAt(int row, int column);
 
+	/**
+	 * Content to be rendered. Unlike {@link #contentAt(int, int)}, this should not create
+	 * objects for cells that only hold plain values, so that drawing large tables stays cheap.
+	 * @param row Row index of cell.
+	 * @param column Column index of cell.
+	 * @return Content of given cell for rendering, or {@code null} for empty cells.
+	 */
+	default @CheckForNull Object renderableContentAt(int row, int column) {
+		return contentAt(row, column);
+	}
+
 	/**
 	 * @return The (cell value) alignment for the given cell. One of {@link CellFormat}'s
 	 * {@link CellFormat#ALIGN_LEFT ALIGN_LEFT}, {@link CellFormat#ALIGN_CENTER ALIGN_CENTER}, or
@@ -82,12 +82,15 @@ public class KernelCellDragPasteHandler implements CellDragPasteHandler {
 			return;
 		}
 		setPasteDirection();
+		relativeCopy.beginRangeFill();
 		try {
 			kernel.getConstruction().startCollectingRedefineCalls();
 			pasteToCorrectDirection();
 			kernel.getConstruction().processCollectedRedefineCalls();
 		} catch (CircularDefinitionException | ParseException | XMLParseException e) {
 			Log.error(e);
+		} finally {
+			relativeCopy.endRangeFill();
 		}
 	}
 
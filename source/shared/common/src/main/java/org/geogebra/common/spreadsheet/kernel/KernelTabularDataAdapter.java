@@ -9,12 +9,17 @@ import java.util.Map;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
+import org.geogebra.common.gui.view.spreadsheet.DataColumn;
+import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.Kernel;
 import org.geogebra.common.kernel.ModeSetter;
+import org.geogebra.common.kernel.PlainSpreadsheetCells;
+import org.geogebra.common.kernel.StringTemplate;
 import org.geogebra.common.kernel.UpdateLocationView;
 import org.geogebra.common.kernel.geos.GProperty;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoElementSpreadsheet;
+import org.geogebra.common.kernel.geos.GeoNumeric;
 import org.geogebra.common.kernel.geos.GeoSymbolic;
 import org.geogebra.common.kernel.geos.GeoText;
 import org.geogebra.common.kernel.kernelND.GeoElementND;
@@ -27,14 +32,26 @@ import org.geogebra.common.spreadsheet.core.TabularData;
 import org.geogebra.common.spreadsheet.core.TabularDataChangeListener;
 import org.geogebra.common.spreadsheet.core.TabularDataPasteInterface;
 import org.geogebra.common.spreadsheet.style.CellFormat;
+import org.geogebra.common.util.StringUtil;
 
 /**
  * Listens to changes of spreadsheet data (=GeoElements) in Kernel and passes
  * relevant notifications to Spreadsheet component.
+ * <p>
+ * Cells may also hold plain values (numbers, texts, e.g. from imported data) without a
+ * GeoElement; the element is only created when the cell is referenced (by a formula, the
+ * cell editor, clipboard, ...). Rendering uses the plain values directly, and the values are
+ * saved and restored (undo, reload) as plain values as well.
  */
-public final class KernelTabularDataAdapter implements UpdateLocationView, TabularData<GeoElement> {
+public final class KernelTabularDataAdapter implements UpdateLocationView, TabularData<GeoElement>,
+		PlainSpreadsheetCells {
 	private final Map<Integer, Map<Integer, GeoElement>> data = new HashMap<>();
+	private final SparseCellStore plainCells = new SparseCellStore();
+	private GeoNumeric renderedNumber;
+	private GeoText renderedText;
 	private final List<TabularDataChangeListener> changeListeners = new ArrayList<>();
+	private int batchUpdateDepth = 0;
+	private boolean changedInBatch = false;
 	private final CellFormat cellFormat = new CellFormat(null);
 	private final @Nonnull KernelTabularDataProcessor processor;
 	private final @Nonnull SpreadsheetSettings spreadsheetSettings;
@@ -56,6 +73,16 @@ public final class KernelTabularDataAdapter implements UpdateLocationView, Tabul
 		});
 		this.processor = new KernelTabularDataProcessor(this);
 		this.cellProcessor = new DefaultSpreadsheetCellProcessor(kernel.getAlgebraProcessor());
+		// cells saved as plain values are restored into this spreadsheet
+		kernel.getConstruction().setPlainSpreadsheetCells(this);
+	}
+
+	private void notifyCellChanged(int row, int column) {
+		if (batchUpdateDepth > 0) {
+			changedInBatch = true;
+			return;
+		}
+		changeListeners.forEach(listener -> listener.tabularDataDidChange(row, column));
 	}
 
 	private void notifySizeChanged(SpreadsheetSettings spreadsheetSettings) {
@@ -83,7 +110,7 @@ public final class KernelTabularDataAdapter implements UpdateLocationView, Tabul
 		SpreadsheetCoords pt = GeoElementSpreadsheet.spreadsheetIndices(labelSimple);
 		if (pt != null && pt.column != -1) {
 			setContent(pt.row, pt.column, null);
-			changeListeners.forEach(listener -> listener.tabularDataDidChange(pt.row, pt.column));
+			notifyCellChanged(pt.row, pt.column);
 		}
 	}
 
@@ -98,7 +125,7 @@ public final class KernelTabularDataAdapter implements UpdateLocationView, Tabul
 		SpreadsheetCoords pt = GeoElementSpreadsheet.spreadsheetIndices(geo.getLabelSimple());
 		if (pt.column != -1) {
 			setContent(pt.row, pt.column, geo);
-			changeListeners.forEach(listener -> listener.tabularDataDidChange(pt.row, pt.column));
+			notifyCellChanged(pt.row, pt.column);
 		}
 	}
 
@@ -135,7 +162,8 @@ public final class KernelTabularDataAdapter implements UpdateLocationView, Tabul
 	@Override
 	public void clearView() {
 		data.clear();
-		changeListeners.forEach(listener -> listener.tabularDataDidChange(-1, -1));
+		plainCells.clear();
+		notifyCellChanged(-1, -1);
 	}
 
 	@Override
@@ -155,12 +183,19 @@ public final class KernelTabularDataAdapter implements UpdateLocationView, Tabul
 
 	@Override
 	public void startBatchUpdate() {
-		// TODO
+		batchUpdateDepth++;
 	}
 
 	@Override
 	public void endBatchUpdate() {
-		// TODO
+		if (batchUpdateDepth == 0) {
+			return;
+		}
+		batchUpdateDepth--;
+		if (batchUpdateDepth == 0 && changedInBatch) {
+			changedInBatch = false;
+			changeListeners.forEach(listener -> listener.tabularDataDidChange(-1, -1));
+		}
 	}
 
 	@Override
@@ -182,42 +217,200 @@ public final class KernelTabularDataAdapter implements UpdateLocationView, Tabul
 	public void insertRowAt(int row) {
 		spreadsheetSettings.setRowsNoFire(numberOfRows() + 1);
 		processor.insertRowAt(row);
+		plainCells.insertRowAt(row);
 	}
 
 	@Override
 	public void deleteRowAt(int row) {
 		spreadsheetSettings.setRowsNoFire(numberOfRows() - 1);
 		processor.deleteRowAt(row);
+		plainCells.deleteRowAt(row);
 	}
 
 	@Override
 	public void insertColumnAt(int column) {
 		spreadsheetSettings.setColumnsNoFire(numberOfColumns() + 1);
 		processor.insertColumnAt(column);
+		plainCells.insertColumnAt(column);
 	}
 
 	@Override
 	public void deleteColumnAt(int column) {
 		spreadsheetSettings.setColumnsNoFire(numberOfColumns() - 1);
 		processor.deleteColumnAt(column);
+		plainCells.deleteColumnAt(column);
 	}
 
 	@Override
 	public void setContent(int row, int column, Object content) {
+		plainCells.remove(row, column);
 		if (content != null) {
 			GeoElement geo = (GeoElement) content;
 			unfixSymbolic(geo);
 			setLabel(geo, row, column);
 			data.computeIfAbsent(row, ignore -> new HashMap<>()).put(column, geo);
-			if (numberOfRows() <= row) {
-				spreadsheetSettings.setRowsNoFire(row + 1);
+			ensureSize(row, column);
+		} else {
+			data.computeIfAbsent(row, ignore -> new HashMap<>()).put(column, null);
+		}
+	}
+
+	private void ensureSize(int row, int column) {
+		if (numberOfRows() <= row) {
+			spreadsheetSettings.setRowsNoFire(row + 1);
+		}
+		if (numberOfColumns() <= column) {
+			spreadsheetSettings.setColumnsNoFire(column + 1);
+		}
+	}
+
+	/**
+	 * Sets a plain number, no GeoElement is created for the cell until it is referenced.
+	 * @param row row
+	 * @param column column
+	 * @param value number
+	 */
+	public void setPlainContent(int row, int column, double value) {
+		removeGeoAt(row, column);
+		plainCells.setNumber(row, column, value);
+		ensureSize(row, column);
+		kernel.getConstruction().setPlainSpreadsheetCells(this);
+	}
+
+	/**
+	 * Sets a plain text, no GeoElement is created for the cell until it is referenced.
+	 * @param row row
+	 * @param column column
+	 * @param text text
+	 */
+	public void setPlainContent(int row, int column, @Nonnull String text) {
+		removeGeoAt(row, column);
+		plainCells.setText(row, column, text);
+		ensureSize(row, column);
+		kernel.getConstruction().setPlainSpreadsheetCells(this);
+	}
+
+	/**
+	 * Fills a column with imported data (header in the first row if present) without creating
+	 * GeoElements.
+	 * @param column column
+	 * @param values imported column
+	 */
+	public void importColumn(int column, @Nonnull DataColumn values) {
+		int row = 0;
+		if (values.getName() != null) {
+			setPlainContent(row++, column, values.getName());
+		}
+		for (int i = 0; i < values.size(); i++, row++) {
+			String text = values.getText(i);
+			if (text != null) {
+				setPlainContent(row, column, text);
+			} else if (!values.isEmpty(i)) {
+				setPlainContent(row, column, values.getValue(i));
 			}
-			if (numberOfColumns() <= column) {
-				spreadsheetSettings.setColumnsNoFire(column + 1);
+		}
+		notifySizeChanged(spreadsheetSettings);
+		changeListeners.forEach(listener -> listener.tabularDataDidChange(-1, -1));
+	}
+
+	private void removeGeoAt(int row, int column) {
+		GeoElement geo = geoAt(row, column);
+		if (geo != null) {
+			geo.remove();
+		}
+	}
+
+	/**
+	 * @param row row
+	 * @param column column
+	 * @return element in the cell, null if the cell is empty or only has a plain value
+	 */
+	@CheckForNull GeoElement geoAt(int row, int column) {
+		Map<Integer, GeoElement> rowData = data.get(row);
+		return rowData != null ? rowData.get(column) : null;
+	}
+
+	@Override
+	public @CheckForNull GeoElement createElement(String label) {
+		SpreadsheetCoords pt = GeoElementSpreadsheet.spreadsheetIndices(label);
+		if (pt == null || pt.column < 0 || pt.row < 0
+				|| !plainCells.contains(pt.row, pt.column)) {
+			return null;
+		}
+		GeoElement geo = createPlainElement(pt.row, pt.column);
+		plainCells.remove(pt.row, pt.column);
+		setEuclidianVisibilityAndAuxiliaryFlag(geo);
+		Construction cons = kernel.getConstruction();
+		// make sure that label creation is turned on
+		boolean oldSuppressLabelsActive = cons.isSuppressLabelsActive();
+		cons.setSuppressLabelCreation(false);
+		geo.setLabel(label);
+		cons.setSuppressLabelCreation(oldSuppressLabelsActive);
+		return geo;
+	}
+
+	private GeoElement createPlainElement(int row, int column) {
+		String text = plainCells.getText(row, column);
+		return text != null ? new GeoText(kernel.getConstruction(), text)
+				: new GeoNumeric(kernel.getConstruction(), plainCells.getNumber(row, column));
+	}
+
+	@Override
+	public void getXML(StringBuilder sb) {
+		plainCells.forEach((row, column, value, text) -> {
+			sb.append("<spreadsheetCell label=\"")
+					.append(GeoElementSpreadsheet.getSpreadsheetCellName(column, row));
+			if (text != null) {
+				sb.append("\" text=\"");
+				StringUtil.encodeXML(sb, text);
+			} else {
+				sb.append("\" value=\"").append(value);
 			}
+			sb.append("\"/>\n");
+		});
+	}
+
+	@Override
+	public boolean restoreCell(String label, double value, @CheckForNull String text) {
+		SpreadsheetCoords pt = GeoElementSpreadsheet.spreadsheetIndices(label);
+		if (pt == null || pt.column < 0 || pt.row < 0) {
+			return false;
+		}
+		if (text != null) {
+			setPlainContent(pt.row, pt.column, text);
 		} else {
-			data.computeIfAbsent(row, ignore -> new HashMap<>()).put(column, null);
+			setPlainContent(pt.row, pt.column, value);
 		}
+		notifyCellChanged(pt.row, pt.column);
+		return true;
+	}
+
+	/**
+	 * Content for rendering: cells with plain values are represented by a shared element, so
+	 * no element is created per cell.
+	 * @param row row
+	 * @param column column
+	 * @return element or shared element with the plain value, null for empty cells
+	 */
+	@Override
+	public @CheckForNull Object renderableContentAt(int row, int column) {
+		GeoElement geo = geoAt(row, column);
+		if (geo != null || !plainCells.contains(row, column)) {
+			return geo;
+		}
+		String text = plainCells.getText(row, column);
+		if (text != null) {
+			if (renderedText == null) {
+				renderedText = new GeoText(kernel.getConstruction());
+			}
+			renderedText.setTextString(text);
+			return renderedText;
+		}
+		if (renderedNumber == null) {
+			renderedNumber = new GeoNumeric(kernel.getConstruction());
+		}
+		renderedNumber.setValue(plainCells.getNumber(row, column));
+		return renderedNumber;
 	}
 
 	@Override
@@ -228,6 +421,11 @@ public final class KernelTabularDataAdapter implements UpdateLocationView, Tabul
 
 	@Override
 	public @Nonnull String serializeContentAt(int row, int column) {
+		if (plainCells.contains(row, column)) {
+			String text = plainCells.getText(row, column);
+			return text != null ? text
+					: kernel.format(plainCells.getNumber(row, column), StringTemplate.maxPrecision);
+		}
 		GeoElement geoElement = contentAt(row, column);
 		return geoElement == null ? ""
 				: geoElement.getRedefineString(true, false);
@@ -262,7 +460,10 @@ public final class KernelTabularDataAdapter implements UpdateLocationView, Tabul
 
 	@Override
 	public @CheckForNull GeoElement contentAt(int row, int column) {
-		return data.get(row) != null ? data.get(row).get(column) : null;
+		if (plainCells.contains(row, column)) {
+			return createElement(GeoElementSpreadsheet.getSpreadsheetCellName(column, row));
+		}
+		return geoAt(row, column);
 	}
 
 	@Override
@@ -282,7 +483,8 @@ public final class KernelTabularDataAdapter implements UpdateLocationView, Tabul
 
 	@Override
 	public int getAlignment(int row, int column) {
-		return cellFormat.getAlignment(column, row, contentAt(row, column) instanceof GeoText);
+		return cellFormat.getAlignment(column, row, geoAt(row, column) instanceof GeoText
+				|| plainCells.getText(row, column) != null);
 	}
 
 	@Override
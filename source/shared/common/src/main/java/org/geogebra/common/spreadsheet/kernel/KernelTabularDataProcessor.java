@@ -43,7 +43,7 @@ final class KernelTabularDataProcessor {
 	}
 
 	private void renameCellGeo(int sourceRow, int sourceColumn, int targetRow, int targetColumn) {
-		GeoElement geo = adapter.contentAt(sourceRow, sourceColumn);
+		GeoElement geo = adapter.geoAt(sourceRow, sourceColumn);
 		if (geo == null) {
 			return;
 		}
@@ -72,7 +72,7 @@ final class KernelTabularDataProcessor {
 	}
 
 	void removeContentAt(int row, int column) {
-		GeoElement geo = adapter.contentAt(row, column);
+		GeoElement geo = adapter.geoAt(row, column);
 		if (geo != null) {
 			geo.remove();
 		}
@@ -0,0 +1,251 @@
+package org.geogebra.common.spreadsheet.kernel;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.CheckForNull;
+
+/**
+ * Plain values (numbers and texts) of spreadsheet cells which don't need a GeoElement.
+ * Each column keeps the indices of its non-empty rows sorted in an array next to the values,
+ * so filling a column from top to bottom (e.g. when importing data) only appends to arrays,
+ * and a million numbers take about 12 bytes each.
+ */
+final class SparseCellStore {
+
+	private Map<Integer, Column> columns = new HashMap<>();
+	private int size = 0;
+
+	/**
+	 * Receives the cells of the store.
+	 */
+	interface CellConsumer {
+		/**
+		 * @param row row
+		 * @param column column
+		 * @param value number, NaN for text cells
+		 * @param text text, null for number cells
+		 */
+		void accept(int row, int column, double value, @CheckForNull String text);
+	}
+
+	private static final class Column {
+		private int[] rows = new int[8];
+		private double[] values = new double[8];
+		private String[] texts;
+		private int size = 0;
+
+		private int indexOf(int row) {
+			if (size > 0 && rows[size - 1] < row) {
+				return -size - 1;
+			}
+			return Arrays.binarySearch(rows, 0, size, row);
+		}
+
+		private boolean set(int row, double value, String text) {
+			int index = indexOf(row);
+			boolean added = index < 0;
+			if (added) {
+				index = -index - 1;
+				if (size == rows.length) {
+					rows = Arrays.copyOf(rows, 2 * size);
+					values = Arrays.copyOf(values, 2 * size);
+					if (texts != null) {
+						texts = Arrays.copyOf(texts, 2 * size);
+					}
+				}
+				System.arraycopy(rows, index, rows, index + 1, size - index);
+				System.arraycopy(values, index, values, index + 1, size - index);
+				if (texts != null) {
+					System.arraycopy(texts, index, texts, index + 1, size - index);
+				}
+				size++;
+			}
+			rows[index] = row;
+			values[index] = value;
+			if (text != null && texts == null) {
+				texts = new String[rows.length];
+			}
+			if (texts != null) {
+				texts[index] = text;
+			}
+			return added;
+		}
+
+		private boolean remove(int row) {
+			int index = indexOf(row);
+			if (index < 0) {
+				return false;
+			}
+			size--;
+			System.arraycopy(rows, index + 1, rows, index, size - index);
+			System.arraycopy(values, index + 1, values, index, size - index);
+			if (texts != null) {
+				System.arraycopy(texts, index + 1, texts, index, size - index);
+				texts[size] = null;
+			}
+			return true;
+		}
+
+		private void shiftRows(int fromRow, int delta) {
+			int index = indexOf(fromRow);
+			for (int i = index < 0 ? -index - 1 : index; i < size; i++) {
+				rows[i] += delta;
+			}
+		}
+	}
+
+	/**
+	 * @param row row
+	 * @param column column
+	 * @param value number
+	 */
+	void setNumber(int row, int column, double value) {
+		set(row, column, value, null);
+	}
+
+	/**
+	 * @param row row
+	 * @param column column
+	 * @param text text
+	 */
+	void setText(int row, int column, String text) {
+		set(row, column, Double.NaN, text);
+	}
+
+	private void set(int row, int column, double value, String text) {
+		if (columns.computeIfAbsent(column, ignore -> new Column()).set(row, value, text)) {
+			size++;
+		}
+	}
+
+	/**
+	 * @param row row
+	 * @param column column
+	 * @return whether the cell has a plain value
+	 */
+	boolean contains(int row, int column) {
+		Column col = columns.get(column);
+		return col != null && col.indexOf(row) >= 0;
+	}
+
+	/**
+	 * @param row row
+	 * @param column column
+	 * @return text of the cell, null for number or empty cells
+	 */
+	@CheckForNull String getText(int row, int column) {
+		Column col = columns.get(column);
+		if (col == null || col.texts == null) {
+			return null;
+		}
+		int index = col.indexOf(row);
+		return index < 0 ? null : col.texts[index];
+	}
+
+	/**
+	 * @param row row
+	 * @param column column
+	 * @return number in the cell, NaN for text or empty cells
+	 */
+	double getNumber(int row, int column) {
+		Column col = columns.get(column);
+		int index = col == null ? -1 : col.indexOf(row);
+		return index < 0 ? Double.NaN : col.values[index];
+	}
+
+	/**
+	 * @param row row
+	 * @param column column
+	 * @return whether there was a value in the cell
+	 */
+	boolean remove(int row, int column) {
+		Column col = columns.get(column);
+		if (col != null && col.remove(row)) {
+			size--;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Shifts rows starting at the given one down by one.
+	 * @param row inserted row
+	 */
+	void insertRowAt(int row) {
+		for (Column col : columns.values()) {
+			col.shiftRows(row, 1);
+		}
+	}
+
+	/**
+	 * Removes a row and shifts the rows below it up by one.
+	 * @param row deleted row
+	 */
+	void deleteRowAt(int row) {
+		for (int column : columns.keySet()) {
+			remove(row, column);
+		}
+		for (Column col : columns.values()) {
+			col.shiftRows(row + 1, -1);
+		}
+	}
+
+	/**
+	 * Shifts columns starting at the given one right by one.
+	 * @param column inserted column
+	 */
+	void insertColumnAt(int column) {
+		shiftColumns(column, 1);
+	}
+
+	/**
+	 * Removes a column and shifts the columns to the right of it left by one.
+	 * @param column deleted column
+	 */
+	void deleteColumnAt(int column) {
+		Column removed = columns.remove(column);
+		if (removed != null) {
+			size -= removed.size;
+		}
+		shiftColumns(column + 1, -1);
+	}
+
+	private void shiftColumns(int fromColumn, int delta) {
+		Map<Integer, Column> shifted = new HashMap<>();
+		for (Map.Entry<Integer, Column> entry : columns.entrySet()) {
+			int column = entry.getKey();
+			shifted.put(column >= fromColumn ? column + delta : column, entry.getValue());
+		}
+		columns = shifted;
+	}
+
+	/**
+	 * Removes all values.
+	 */
+	void clear() {
+		columns.clear();
+		size = 0;
+	}
+
+	/**
+	 * @return number of cells with values
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @param consumer receives all cells, column by column
+	 */
+	void forEach(CellConsumer consumer) {
+		for (Map.Entry<Integer, Column> entry : columns.entrySet()) {
+			Column col = entry.getValue();
+			for (int i = 0; i < col.size; i++) {
+				consumer.accept(col.rows[i], entry.getKey(), col.values[i],
+						col.texts == null ? null : col.texts[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package org.geogebra.common.util;
+
+/**
+ * Runs data-parallel work split into index ranges. Platforms without threads (web) use the
+ * serial implementation; JRE platforms register a multi-threaded prototype.
+ */
+public abstract class ParallelExecutor {
+
+	private static volatile ParallelExecutor prototype;
+
+	private static final Object lock = new Object();
+
+	private static final ParallelExecutor SERIAL = new ParallelExecutor() {
+		@Override
+		public int getParallelism() {
+			return 1;
+		}
+
+		@Override
+		public void forEachChunk(int count, int minChunkSize, ChunkTask task) {
+			if (count > 0) {
+				task.run(0, 0, count);
+			}
+		}
+	};
+
+	/**
+	 * Task for a chunk of an index range.
+	 */
+	public interface ChunkTask {
+		/**
+		 * @param chunk index of the chunk, between 0 and number of chunks (exclusive)
+		 * @param from first index of the chunk (inclusive)
+		 * @param to last index of the chunk (exclusive)
+		 */
+		void run(int chunk, int from, int to);
+	}
+
+	/**
+	 * @return registered executor, or the serial one if none was registered
+	 */
+	public static ParallelExecutor getPrototype() {
+		ParallelExecutor executor = prototype;
+		return executor == null ? SERIAL : executor;
+	}
+
+	/**
+	 * @param p
+	 *            prototype
+	 */
+	public static void setPrototypeIfNull(ParallelExecutor p) {
+		synchronized (lock) {
+			if (prototype == null) {
+				prototype = p;
+			}
+		}
+	}
+
+	/**
+	 * @return executor running everything on the calling thread
+	 */
+	public static ParallelExecutor serial() {
+		return SERIAL;
+	}
+
+	/**
+	 * @return maximal number of chunks processed at the same time
+	 */
+	public abstract int getParallelism();
+
+	/**
+	 * @param count number of items
+	 * @param minChunkSize minimal number of items worth a separate chunk
+	 * @return number of chunks {@link #forEachChunk(int, int, ChunkTask)} will use
+	 */
+	public int getChunkCount(int count, int minChunkSize) {
+		if (count <= 0) {
+			return 0;
+		}
+		int byMinSize = count / Math.max(1, minChunkSize);
+		return Math.max(1, Math.min(getParallelism(), byMinSize));
+	}
+
+	/**
+	 * Splits [0, count) into consecutive chunks and runs the task for each of them; returns
+	 * when all chunks are done. Exceptions thrown by the task are rethrown to the caller.
+	 * @param count number of items
+	 * @param minChunkSize minimal number of items worth a separate chunk
+	 * @param task task to run for each chunk
+	 */
+	public abstract void forEachChunk(int count, int minChunkSize, ChunkTask task);
+}
@@ -0,0 +1,19 @@
+package org.geogebra.common.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Export that writes its content to a stream.
+ */
+public interface StreamExport {
+	/**
+	 * @param out
+	 *            output stream (not closed)
+	 * @return bytes to write again at the start of the output once the export
+	 *         is done, or null
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	byte[] write(OutputStream out) throws IOException;
+}
@@ -137,6 +137,19 @@ public class DefaultExportedApi implements ExportedApi {
 				Js.isTruthy(rounding) ? rounding : null);
 	}
 
+	public String[] evalCommandCASBatch(String[] cmdStrings, String rounding) {
+		return getGgbAPI().evalCommandCASBatch(cmdStrings,
+				Js.isTruthy(rounding) ? rounding : null);
+	}
+
+	public String getCASProfile() {
+		return getGgbAPI().getCASProfile();
+	}
+
+	public void resetCASProfile() {
+		getGgbAPI().resetCASProfile();
+	}
+
 	public String evalGeoGebraCAS(String cmdString) {
 		return getGgbAPI().evalGeoGebraCAS(cmdString + "");
 	}
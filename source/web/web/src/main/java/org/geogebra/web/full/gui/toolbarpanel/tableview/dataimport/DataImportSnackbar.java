@@ -118,6 +118,13 @@ public class DataImportSnackbar extends FlowPanel {
 		add(errorHolder);
 	}
 
+	/**
+	 * @param title - new title, e.g. with progress of the import
+	 */
+	public void setTitle(String title) {
+		titleLbl.setText(title);
+	}
+
 	/**
 	 * Hide the snackbar.
 	 */
@@ -224,6 +224,8 @@ public class AppWFull extends AppW implements HasKeyboard, MenuViewListener {
 	private final static int AUTO_SAVE_PERIOD = 2000;
 	// NB this needs to be adjusted in app-release if we change it here
 	private static final int MIN_SIZE_FOR_PICKER = 650;
+	/** larger CSV files are imported as lists rather than into cells */
+	private static final int MAX_CSV_LENGTH_FOR_CELLS = 1 << 20;
 
 	private GuiManagerW guiManager = null;
 
@@ -724,6 +726,10 @@ public class AppWFull extends AppW implements HasKeyboard, MenuViewListener {
 
 	@Override
 	public final void openCSV(String csv) {
+		if (csv.length() > MAX_CSV_LENGTH_FOR_CELLS) {
+			new LargeCsvImport(this, csv, this::onOpenFile).start();
+			return;
+		}
 		String[][] data = DataImport.parseExternalData(this, csv, true);
 		CopyPasteCut cpc = getGuiManager().getSpreadsheetView()
 				.getSpreadsheetTable().getCopyPasteCut();
@@ -0,0 +1,100 @@
+package org.geogebra.web.full.main;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geogebra.common.gui.view.spreadsheet.DataColumn;
+import org.geogebra.common.gui.view.spreadsheet.StreamingDataImport;
+import org.geogebra.common.kernel.Construction;
+import org.geogebra.common.kernel.PlainSpreadsheetCells;
+import org.geogebra.common.kernel.geos.GeoElementSpreadsheet;
+import org.geogebra.common.main.Localization;
+import org.geogebra.common.spreadsheet.kernel.KernelTabularDataAdapter;
+import org.geogebra.web.full.gui.toolbarpanel.tableview.dataimport.DataImportSnackbar;
+import org.geogebra.web.html5.gui.tooltip.ToolTip;
+import org.gwtproject.core.client.Scheduler;
+
+/**
+ * Imports CSV data that is too large for spreadsheet elements in chunks, so
+ * that the progress can be shown while importing. The data goes into plain
+ * spreadsheet cells if the spreadsheet supports them, into lists otherwise.
+ */
+class LargeCsvImport {
+
+	private static final int CHUNK_LENGTH = 1 << 16;
+
+	private final AppWFull app;
+	private final String csv;
+	private final StreamingDataImport dataImport;
+	private final DataImportSnackbar snackbar;
+	private final Runnable onImported;
+	private int start = 0;
+
+	/**
+	 * @param app application
+	 * @param csv CSV or tab separated data
+	 * @param onImported called after the data was added
+	 */
+	LargeCsvImport(AppWFull app, String csv, Runnable onImported) {
+		this.app = app;
+		this.csv = csv;
+		this.onImported = onImported;
+		Localization loc = app.getLocalization();
+		snackbar = new DataImportSnackbar(app, loc.getMenu("Import"));
+		dataImport = new StreamingDataImport(csv.length(),
+				(rows, fraction) -> snackbar.setTitle(loc.getPlainDefault(
+						"ImportedRowsAPercentB", "%0 rows (%1%)",
+						String.valueOf(rows),
+						String.valueOf(Math.round(100 * fraction)))));
+	}
+
+	/**
+	 * Starts the import, each chunk is parsed in a separate event.
+	 */
+	void start() {
+		Scheduler.get().scheduleDeferred(this::importChunk);
+	}
+
+	private void importChunk() {
+		if (start < csv.length()) {
+			int end = Math.min(csv.length(), start + CHUNK_LENGTH);
+			dataImport.append(csv.substring(start, end));
+			start = end;
+			Scheduler.get().scheduleDeferred(this::importChunk);
+			return;
+		}
+		dataImport.finish();
+		snackbar.hide();
+		addData();
+		onImported.run();
+	}
+
+	private void addData() {
+		Construction cons = app.getKernel().getConstruction();
+		List<DataColumn> columns = dataImport.getColumns();
+		PlainSpreadsheetCells cells = cons.getPlainSpreadsheetCells();
+		if (cells instanceof KernelTabularDataAdapter) {
+			for (int col = 0; col < columns.size(); col++) {
+				((KernelTabularDataAdapter) cells).importColumn(col,
+						columns.get(col));
+			}
+			return;
+		}
+		dataImport.createLists(cons);
+		ArrayList<String> textColumns = new ArrayList<>();
+		for (int col = 0; col < columns.size(); col++) {
+			if (columns.get(col).hasTexts()) {
+				String name = columns.get(col).getName();
+				textColumns.add(name != null ? name
+						: GeoElementSpreadsheet.getSpreadsheetColumnName(col));
+			}
+		}
+		if (!textColumns.isEmpty()) {
+			app.getToolTipManager().showBottomMessage(
+					app.getLocalization().getPlainDefault("ImportedTextColumnsA",
+							"Columns with text were imported as lists of texts: %0",
+							String.join(", ", textColumns)),
+					app, ToolTip.Role.ALERT);
+		}
+	}
+}
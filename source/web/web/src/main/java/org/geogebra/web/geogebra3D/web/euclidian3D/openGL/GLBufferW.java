@@ -1,8 +1,7 @@
 package org.geogebra.web.geogebra3D.web.euclidian3D.openGL;
 
-import java.util.ArrayList;
-
 import org.geogebra.common.geogebra3D.euclidian3D.openGL.GLBuffer;
+import org.geogebra.common.geogebra3D.euclidian3D.openGL.ReusableFloatArray;
 
 import elemental2.core.Float32Array;
 import jsinterop.base.Js;
@@ -77,40 +76,44 @@ public class GLBufferW implements GLBuffer {
 	}
 
 	@Override
-	public void set(ArrayList<Double> array, int length) {
+	public void set(ReusableFloatArray array, int length) {
 
 		allocate(length);
 		if (impl == null) {
 			return;
 		}
+		float[] values = array.getArray();
 		for (int i = 0; i < length; i++) {
-			impl.setAt(i, array.get(i));
+			impl.setAt(i, (double) values[i]);
 		}
 
 		setLimit(length);
 	}
 
 	@Override
-	public void set(ArrayList<Double> array, int offset, int length) {
+	public void set(ReusableFloatArray array, int offset, int length) {
+		float[] values = array.getArray();
 		for (int i = 0; i < length; i++) {
-			impl.setAt(i + offset, array.get(i));
+			impl.setAt(i + offset, (double) values[i]);
 		}
 	}
 
 	@Override
-	public void set(ArrayList<Double> array, int arrayOffset, int offset,
+	public void set(ReusableFloatArray array, int arrayOffset, int offset,
 			int length) {
+		float[] values = array.getArray();
 		for (int i = 0; i < length; i++) {
-			impl.setAt(i + offset, array.get(arrayOffset + i));
+			impl.setAt(i + offset, (double) values[arrayOffset + i]);
 		}
 	}
 
 	@Override
-	public void set(ArrayList<Double> array, float[] translate, float scale,
+	public void set(ReusableFloatArray array, float[] translate, float scale,
 			int offset, int length) {
+		float[] values = array.getArray();
 		for (int i = 0; i < length; i++) {
 			impl.setAt(i + offset,
-					(double) (array.get(i).floatValue() * scale + translate[i % 3]));
+					(double) (values[i] * scale + translate[i % 3]));
 		}
 	}
 